@@ -0,0 +1,265 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.client;
+
+import com.google.common.annotations.Beta;
+import io.pravega.schemaregistry.contract.data.CodecType;
+import io.pravega.schemaregistry.contract.data.Compatibility;
+import io.pravega.schemaregistry.contract.data.EncodingId;
+import io.pravega.schemaregistry.contract.data.EncodingInfo;
+import io.pravega.schemaregistry.contract.data.GroupHistoryRecord;
+import io.pravega.schemaregistry.contract.data.GroupProperties;
+import io.pravega.schemaregistry.contract.data.SchemaInfo;
+import io.pravega.schemaregistry.contract.data.SchemaWithVersion;
+import io.pravega.schemaregistry.contract.data.VersionInfo;
+
+import javax.annotation.Nullable;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Asynchronous variant of {@link SchemaRegistryClient}.
+ * Every method returns immediately with a future that is completed once the service has responded, so the calling thread
+ * is never blocked on the service. The futures are completed exceptionally with the same exceptions that the
+ * corresponding method of {@link SchemaRegistryClient} throws.
+ * The implementation of this interface should provide read-after-write-consistency guarantees for all the methods.
+ */
+@Beta
+public interface AsyncSchemaRegistryClient extends AutoCloseable {
+    /**
+     * See {@link SchemaRegistryClient#addGroup}.
+     *
+     * @param groupId Id for the group that uniquely identifies the group.
+     * @param groupProperties groupProperties Group properties for the group.
+     * @return CompletableFuture which when completed holds true if the group was added, false if it exists.
+     */
+    CompletableFuture<Boolean> addGroup(String groupId, GroupProperties groupProperties);
+
+    /**
+     * See {@link SchemaRegistryClient#removeGroup}.
+     *
+     * @param groupId Id for the group that uniquely identifies the group.
+     * @return CompletableFuture which is completed when the group has been removed.
+     */
+    CompletableFuture<Void> removeGroup(String groupId);
+
+    /**
+     * Lists all groups that the user is authorized on. See {@link SchemaRegistryClient#listGroups}.
+     * All pages of groups are fetched before the returned future is completed.
+     *
+     * @return CompletableFuture which when completed holds the list of names of groups with their group properties.
+     */
+    CompletableFuture<List<Map.Entry<String, GroupProperties>>> listGroups();
+
+    /**
+     * See {@link SchemaRegistryClient#getGroupProperties}.
+     *
+     * @param groupId Id for the group.
+     * @return CompletableFuture which when completed holds the group properties.
+     */
+    CompletableFuture<GroupProperties> getGroupProperties(String groupId);
+
+    /**
+     * See {@link SchemaRegistryClient#getGroupIncarnation}.
+     *
+     * @param groupId Id for the group.
+     * @return CompletableFuture which when completed holds the incarnation id of the group.
+     */
+    CompletableFuture<String> getGroupIncarnation(String groupId);
+
+    /**
+     * See {@link SchemaRegistryClient#updateCompatibility}.
+     *
+     * @param groupId Id for the group.
+     * @param compatibility New Compatibility for the group.
+     * @param previous Previous compatibility.
+     * @return CompletableFuture which when completed holds true if the update was accepted by the service, false if it
+     * was rejected because of precondition failure.
+     */
+    CompletableFuture<Boolean> updateCompatibility(String groupId, Compatibility compatibility, @Nullable Compatibility previous);
+
+    /**
+     * See {@link SchemaRegistryClient#getSchemas}.
+     *
+     * @param groupId Id for the group.
+     * @return CompletableFuture which when completed holds the latest schemas for each type within the group.
+     */
+    CompletableFuture<List<SchemaWithVersion>> getSchemas(String groupId);
+
+    /**
+     * See {@link SchemaRegistryClient#addSchema}.
+     *
+     * @param groupId Id for the group.
+     * @param schemaInfo Schema to add.
+     * @return CompletableFuture which when completed holds the version of the schema.
+     */
+    CompletableFuture<VersionInfo> addSchema(String groupId, SchemaInfo schemaInfo);
+
+    /**
+     * See {@link SchemaRegistryClient#addSchemas}.
+     *
+     * @param groupId Id for the group.
+     * @param schemaInfos Schemas to add.
+     * @return CompletableFuture which when completed holds the versions of the schemas in the order of the supplied schemas.
+     */
+    CompletableFuture<List<VersionInfo>> addSchemas(String groupId, List<SchemaInfo> schemaInfos);
+
+    /**
+     * See {@link SchemaRegistryClient#deleteSchemaVersion}.
+     *
+     * @param groupId Id for the group.
+     * @param versionInfo Version which uniquely identifies schema within a group.
+     * @return CompletableFuture which is completed when the schema version has been deleted.
+     */
+    CompletableFuture<Void> deleteSchemaVersion(String groupId, VersionInfo versionInfo);
+
+    /**
+     * See {@link SchemaRegistryClient#getSchemaForVersion}.
+     *
+     * @param groupId Id for the group.
+     * @param versionInfo Version which uniquely identifies schema within a group.
+     * @return CompletableFuture which when completed holds the schema for the version.
+     */
+    CompletableFuture<SchemaInfo> getSchemaForVersion(String groupId, VersionInfo versionInfo);
+
+    /**
+     * See {@link SchemaRegistryClient#getEncodingInfo}.
+     *
+     * @param groupId Id for the group.
+     * @param encodingId Encoding id that uniquely identifies a schema within a group.
+     * @return CompletableFuture which when completed holds the encoding info for the encoding id.
+     */
+    CompletableFuture<EncodingInfo> getEncodingInfo(String groupId, EncodingId encodingId);
+
+    /**
+     * See {@link SchemaRegistryClient#getEncodingInfos}.
+     *
+     * @param groupId Id for the group.
+     * @param fromId First encoding id to return.
+     * @param limit Maximum number of encoding infos to return.
+     * @return CompletableFuture which when completed holds the encoding infos in the order of their encoding ids.
+     */
+    CompletableFuture<List<EncodingInfo>> getEncodingInfos(String groupId, int fromId, int limit);
+
+    /**
+     * See {@link SchemaRegistryClient#getEncodingId}.
+     *
+     * @param groupId Id for the group.
+     * @param versionInfo version of schema
+     * @param codecType codec type
+     * @return CompletableFuture which when completed holds the encoding id for the pair of version and codec type.
+     */
+    CompletableFuture<EncodingId> getEncodingId(String groupId, VersionInfo versionInfo, String codecType);
+
+    /**
+     * See {@link SchemaRegistryClient#getEncodingIds}.
+     *
+     * @param groupId Id for the group.
+     * @param encodings list of pairs of version and codec type.
+     * @return CompletableFuture which when completed holds the encoding ids in the order of the supplied pairs.
+     */
+    CompletableFuture<List<EncodingId>> getEncodingIds(String groupId, List<Map.Entry<VersionInfo, String>> encodings);
+
+    /**
+     * See {@link SchemaRegistryClient#addSchemaAndGetEncodingId}.
+     *
+     * @param groupId Id for the group.
+     * @param schemaInfo Schema to add.
+     * @param codecType codec type
+     * @return CompletableFuture which when completed holds the encoding id for the pair of the schema's version and codec type.
+     */
+    CompletableFuture<EncodingId> addSchemaAndGetEncodingId(String groupId, SchemaInfo schemaInfo, String codecType);
+
+    /**
+     * See {@link SchemaRegistryClient#getLatestSchemaVersion}.
+     *
+     * @param groupId Id for the group.
+     * @param schemaType Type of object identified by {@link SchemaInfo#getType()}.
+     * @return CompletableFuture which when completed holds the last schema that was added to the group (or type).
+     */
+    CompletableFuture<SchemaWithVersion> getLatestSchemaVersion(String groupId, @Nullable String schemaType);
+
+    /**
+     * See {@link SchemaRegistryClient#getVersionForSchema}.
+     *
+     * @param groupId Id for the group.
+     * @param schemaInfo Schema to find the version for.
+     * @return CompletableFuture which when completed holds the version of the schema.
+     */
+    CompletableFuture<VersionInfo> getVersionForSchema(String groupId, SchemaInfo schemaInfo);
+
+    /**
+     * See {@link SchemaRegistryClient#getSchemaVersions}.
+     *
+     * @param groupId Id for the group.
+     * @param schemaType type of object identified by {@link SchemaInfo#getType()}.
+     * @return CompletableFuture which when completed holds the ordered list of schemas with versions.
+     */
+    CompletableFuture<List<SchemaWithVersion>> getSchemaVersions(String groupId, @Nullable String schemaType);
+
+    /**
+     * See {@link SchemaRegistryClient#validateSchema}.
+     *
+     * @param groupId Id for the group.
+     * @param schemaInfo Schema to validate.
+     * @return CompletableFuture which when completed holds true if the schema is valid for the group.
+     */
+    CompletableFuture<Boolean> validateSchema(String groupId, SchemaInfo schemaInfo);
+
+    /**
+     * See {@link SchemaRegistryClient#canReadUsing}.
+     *
+     * @param groupId Id for the group.
+     * @param schemaInfo Schema to use for reading.
+     * @return CompletableFuture which when completed holds true if the schema can be used to read the group's data.
+     */
+    CompletableFuture<Boolean> canReadUsing(String groupId, SchemaInfo schemaInfo);
+
+    /**
+     * See {@link SchemaRegistryClient#getCodecTypes}.
+     *
+     * @param groupId Id for the group.
+     * @return CompletableFuture which when completed holds the codec types registered for the group.
+     */
+    CompletableFuture<List<CodecType>> getCodecTypes(String groupId);
+
+    /**
+     * See {@link SchemaRegistryClient#addCodecType}.
+     *
+     * @param groupId Id for the group.
+     * @param codecType codec type.
+     * @return CompletableFuture which is completed when the codec type has been added.
+     */
+    CompletableFuture<Void> addCodecType(String groupId, CodecType codecType);
+
+    /**
+     * See {@link SchemaRegistryClient#getGroupHistory}.
+     *
+     * @param groupId Id of group.
+     * @return CompletableFuture which when completed holds the history of schemas added to the group.
+     */
+    CompletableFuture<List<GroupHistoryRecord>> getGroupHistory(String groupId);
+
+    /**
+     * See {@link SchemaRegistryClient#getSchemaReferences}.
+     *
+     * @param schemaInfo Schema info to find references for.
+     * @return CompletableFuture which when completed holds the map of group id to version of the schema in that group.
+     */
+    CompletableFuture<Map<String, VersionInfo>> getSchemaReferences(SchemaInfo schemaInfo);
+
+    /**
+     * The Namespace which is used for making all client requests to registry service.
+     *
+     * @return Namespace used for the client.
+     */
+    String getNamespace();
+}
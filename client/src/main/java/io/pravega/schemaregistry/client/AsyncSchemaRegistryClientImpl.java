@@ -0,0 +1,328 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.client;
+
+import com.google.common.annotations.VisibleForTesting;
+import io.pravega.common.Exceptions;
+import io.pravega.common.concurrent.ExecutorServiceHelpers;
+import io.pravega.common.util.Retry;
+import io.pravega.schemaregistry.contract.data.CodecType;
+import io.pravega.schemaregistry.contract.data.Compatibility;
+import io.pravega.schemaregistry.contract.data.EncodingId;
+import io.pravega.schemaregistry.contract.data.EncodingInfo;
+import io.pravega.schemaregistry.contract.data.GroupHistoryRecord;
+import io.pravega.schemaregistry.contract.data.GroupProperties;
+import io.pravega.schemaregistry.contract.data.SchemaInfo;
+import io.pravega.schemaregistry.contract.data.SchemaWithVersion;
+import io.pravega.schemaregistry.contract.data.VersionInfo;
+import io.pravega.schemaregistry.contract.generated.rest.model.ValidateRequest;
+import io.pravega.schemaregistry.contract.transform.ModelHelper;
+import io.pravega.schemaregistry.contract.v1.ApiV1;
+import lombok.Getter;
+
+import javax.annotation.Nullable;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.core.Response;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static io.pravega.schemaregistry.client.exceptions.RegistryExceptions.ConnectionException;
+import static io.pravega.schemaregistry.client.exceptions.RegistryExceptions.ServiceUnavailableException;
+
+/**
+ * Asynchronous registry client.
+ * Requests are sent with the asynchronous invoker of the http client, whose connector pools at most
+ * {@link SchemaRegistryClientConfig#getMaxConnections()} connections to the service. Callers are handed a future and
+ * are never blocked. Responses are handled in the same way as {@link SchemaRegistryClientImpl} handles them.
+ * Requests that fail with {@link ConnectionException} or {@link ServiceUnavailableException} are retried with exponential backoff without holding on to a thread
+ * while waiting for the next attempt.
+ */
+public class AsyncSchemaRegistryClientImpl implements AsyncSchemaRegistryClient {
+    private static final Retry.RetryAndThrowConditionally RETRY = Retry
+            .withExpBackoff(100, 2, 10, 1000)
+            .retryWhen(x -> Exceptions.unwrap(x) instanceof ConnectionException 
+                    || Exceptions.unwrap(x) instanceof ServiceUnavailableException);
+
+    private final AsyncWebResource<ApiV1.GroupsApi> groupResource;
+    private final AsyncWebResource<ApiV1.SchemasApi> schemaResource;
+    @Getter
+    private final String namespace;
+    private final Client client;
+    /**
+     * Used to schedule the retries of failed requests.
+     */
+    private final ScheduledExecutorService executor;
+    /**
+     * Services that predate {@link #addSchemaAndGetEncodingId} are detected on first use, after which the schema is
+     * added and the encoding id is fetched with separate requests.
+     */
+    private volatile boolean addSchemaAndGetEncodingIdSupported = true;
+
+    AsyncSchemaRegistryClientImpl(SchemaRegistryClientConfig config, String namespace) {
+        this.client = SchemaRegistryClientImpl.createClient(config);
+        this.groupResource = new AsyncWebResource<>(ApiV1.GroupsApi.class, client.target(config.getSchemaRegistryUri()));
+        this.schemaResource = new AsyncWebResource<>(ApiV1.SchemasApi.class, client.target(config.getSchemaRegistryUri()));
+        this.namespace = namespace;
+        this.executor = ExecutorServiceHelpers.newScheduledThreadPool(1, "schema-registry-client-retry");
+    }
+
+    @VisibleForTesting
+    AsyncSchemaRegistryClientImpl(AsyncWebResource<ApiV1.GroupsApi> groupResource, AsyncWebResource<ApiV1.SchemasApi> schemaResource,
+                                  ScheduledExecutorService executor) {
+        this.client = null;
+        this.groupResource = groupResource;
+        this.schemaResource = schemaResource;
+        this.namespace = null;
+        this.executor = executor;
+    }
+
+    @Override
+    public CompletableFuture<Boolean> addGroup(String groupId, GroupProperties groupProperties) {
+        return withRetry(() -> groupResource.invoke(api -> api.createGroup(namespace,
+                SchemaRegistryClientImpl.createGroupRequest(groupId, groupProperties))),
+                SchemaRegistryClientImpl::handleAddGroup);
+    }
+
+    @Override
+    public CompletableFuture<Void> removeGroup(String groupId) {
+        return withRetry(() -> groupResource.invoke(api -> api.deleteGroup(namespace, groupId)), response -> {
+            SchemaRegistryClientImpl.handleRemoveGroup(response);
+            return null;
+        });
+    }
+
+    @Override
+    public CompletableFuture<List<Map.Entry<String, GroupProperties>>> listGroups() {
+        List<Map.Entry<String, GroupProperties>> result = new ArrayList<>();
+        return listGroups(null, result).thenApply(v -> result);
+    }
+
+    private CompletableFuture<Void> listGroups(String continuationToken, List<Map.Entry<String, GroupProperties>> result) {
+        return withRetry(() -> groupResource.invoke(api -> api.listGroups(namespace, continuationToken, SchemaRegistryClientImpl.GROUP_LIMIT)),
+                SchemaRegistryClientImpl::handleListGroups)
+                .thenCompose(page -> {
+                    if (page.getValue().isEmpty()) {
+                        return CompletableFuture.completedFuture(null);
+                    }
+                    result.addAll(page.getValue());
+                    return listGroups(page.getKey(), result);
+                });
+    }
+
+    @Override
+    public CompletableFuture<GroupProperties> getGroupProperties(String groupId) {
+        return withRetry(() -> groupResource.invoke(api -> api.getGroupProperties(namespace, groupId)),
+                SchemaRegistryClientImpl::handleGetGroupProperties);
+    }
+
+    @Override
+    public CompletableFuture<String> getGroupIncarnation(String groupId) {
+        return withRetry(() -> groupResource.invoke(api -> api.getGroupIncarnation(namespace, groupId)),
+                SchemaRegistryClientImpl::handleGetGroupIncarnation);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> updateCompatibility(String groupId, Compatibility compatibility, @Nullable Compatibility previous) {
+        return withRetry(() -> groupResource.invoke(api -> api.updateCompatibility(namespace, groupId,
+                SchemaRegistryClientImpl.updateCompatibilityRequest(compatibility, previous))),
+                SchemaRegistryClientImpl::handleUpdateCompatibility);
+    }
+
+    @Override
+    public CompletableFuture<List<SchemaWithVersion>> getSchemas(String groupId) {
+        return latestSchemas(groupId, null);
+    }
+
+    private CompletableFuture<List<SchemaWithVersion>> latestSchemas(String groupId, String type) {
+        return withRetry(() -> groupResource.invoke(api -> api.getSchemas(namespace, groupId, type)),
+                SchemaRegistryClientImpl::handleLatestSchemas);
+    }
+
+    @Override
+    public CompletableFuture<VersionInfo> addSchema(String groupId, SchemaInfo schemaInfo) {
+        return withRetry(() -> groupResource.invoke(api -> api.addSchema(namespace, groupId, ModelHelper.encode(schemaInfo))),
+                SchemaRegistryClientImpl::handleAddSchema);
+    }
+
+    @Override
+    public CompletableFuture<List<VersionInfo>> addSchemas(String groupId, List<SchemaInfo> schemaInfos) {
+        return withRetry(() -> groupResource.invoke(api -> api.addSchemas(namespace, groupId,
+                SchemaRegistryClientImpl.addSchemasRequest(schemaInfos))),
+                SchemaRegistryClientImpl::handleAddSchemas);
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteSchemaVersion(String groupId, VersionInfo versionInfo) {
+        return withRetry(() -> groupResource.invoke(api -> api.deleteSchemaForId(namespace, groupId, versionInfo.getId())), response -> {
+            SchemaRegistryClientImpl.handleDeleteSchemaVersion(response);
+            return null;
+        });
+    }
+
+    @Override
+    public CompletableFuture<SchemaInfo> getSchemaForVersion(String groupId, VersionInfo versionInfo) {
+        return withRetry(() -> groupResource.invoke(api -> api.getSchemaForId(namespace, groupId, versionInfo.getId())),
+                SchemaRegistryClientImpl::handleGetSchemaForVersion);
+    }
+
+    @Override
+    public CompletableFuture<EncodingInfo> getEncodingInfo(String groupId, EncodingId encodingId) {
+        return withRetry(() -> groupResource.invoke(api -> api.getEncodingInfo(namespace, groupId, encodingId.getId())),
+                SchemaRegistryClientImpl::handleGetEncodingInfo);
+    }
+
+    @Override
+    public CompletableFuture<List<EncodingInfo>> getEncodingInfos(String groupId, int fromId, int limit) {
+        return withRetry(() -> groupResource.invoke(api -> api.getEncodingInfos(namespace, groupId, fromId, limit)),
+                SchemaRegistryClientImpl::handleGetEncodingInfos);
+    }
+
+    @Override
+    public CompletableFuture<EncodingId> getEncodingId(String groupId, VersionInfo versionInfo, String codecType) {
+        return withRetry(() -> groupResource.invoke(api -> api.getEncodingId(namespace, groupId,
+                SchemaRegistryClientImpl.getEncodingIdRequest(versionInfo, codecType))),
+                response -> SchemaRegistryClientImpl.handleGetEncodingId(response, codecType));
+    }
+
+    @Override
+    public CompletableFuture<List<EncodingId>> getEncodingIds(String groupId, List<Map.Entry<VersionInfo, String>> encodings) {
+        return withRetry(() -> groupResource.invoke(api -> api.getEncodingIds(namespace, groupId,
+                SchemaRegistryClientImpl.getEncodingIdsRequest(encodings))),
+                SchemaRegistryClientImpl::handleGetEncodingIds);
+    }
+
+    @Override
+    public CompletableFuture<EncodingId> addSchemaAndGetEncodingId(String groupId, SchemaInfo schemaInfo, String codecType) {
+        if (!addSchemaAndGetEncodingIdSupported) {
+            return addSchema(groupId, schemaInfo).thenCompose(versionInfo -> getEncodingId(groupId, versionInfo, codecType));
+        }
+        return withRetry(() -> groupResource.invoke(api -> api.addSchemaAndGetEncodingId(namespace, groupId,
+                SchemaRegistryClientImpl.addSchemaAndGetEncodingIdRequest(schemaInfo, codecType))),
+                response -> SchemaRegistryClientImpl.handleAddSchemaAndGetEncodingId(response, codecType))
+                .thenCompose(encodingId -> {
+                    if (encodingId != null) {
+                        return CompletableFuture.completedFuture(encodingId);
+                    }
+                    // adding the schema fails with resource not found if the group does not exist. If it succeeds,
+                    // the service does not support the single request.
+                    return addSchema(groupId, schemaInfo).thenCompose(versionInfo -> {
+                        addSchemaAndGetEncodingIdSupported = false;
+                        return getEncodingId(groupId, versionInfo, codecType);
+                    });
+                });
+    }
+
+    @Override
+    public CompletableFuture<SchemaWithVersion> getLatestSchemaVersion(String groupId, @Nullable String schemaType) {
+        return latestSchemas(groupId, schemaType).thenApply(list -> SchemaRegistryClientImpl.latestSchemaVersion(list, schemaType));
+    }
+
+    @Override
+    public CompletableFuture<VersionInfo> getVersionForSchema(String groupId, SchemaInfo schemaInfo) {
+        return withRetry(() -> groupResource.invoke(api -> api.getSchemaVersion(namespace, groupId, ModelHelper.encode(schemaInfo))),
+                SchemaRegistryClientImpl::handleGetVersionForSchema);
+    }
+
+    @Override
+    public CompletableFuture<List<SchemaWithVersion>> getSchemaVersions(String groupId, @Nullable String schemaType) {
+        List<SchemaWithVersion> result = new ArrayList<>();
+        return getSchemaVersions(groupId, schemaType, null, result).thenApply(v -> result);
+    }
+
+    private CompletableFuture<Void> getSchemaVersions(String groupId, @Nullable String schemaType, String continuationToken,
+                                                      List<SchemaWithVersion> result) {
+        return withRetry(() -> groupResource.invoke(api -> api.getSchemaVersions(namespace, groupId, schemaType, continuationToken,
+                SchemaRegistryClientImpl.HISTORY_LIMIT)),
+                SchemaRegistryClientImpl::handleGetSchemaVersions)
+                .thenCompose(page -> {
+                    page.getSchemas().forEach(x -> result.add(ModelHelper.decode(x)));
+                    // the continuation token is not set by services that do not support pagination.
+                    if (page.getSchemas().isEmpty() || page.getContinuationToken() == null) {
+                        return CompletableFuture.completedFuture(null);
+                    }
+                    return getSchemaVersions(groupId, schemaType, page.getContinuationToken(), result);
+                });
+    }
+
+    @Override
+    public CompletableFuture<Boolean> validateSchema(String groupId, SchemaInfo schemaInfo) {
+        return withRetry(() -> groupResource.invoke(api -> api.validate(namespace, groupId,
+                new ValidateRequest().schemaInfo(ModelHelper.encode(schemaInfo)))),
+                SchemaRegistryClientImpl::handleValidateSchema);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> canReadUsing(String groupId, SchemaInfo schemaInfo) {
+        return withRetry(() -> groupResource.invoke(api -> api.canRead(namespace, groupId, ModelHelper.encode(schemaInfo))),
+                SchemaRegistryClientImpl::handleCanReadUsing);
+    }
+
+    @Override
+    public CompletableFuture<List<CodecType>> getCodecTypes(String groupId) {
+        return withRetry(() -> groupResource.invoke(api -> api.getCodecTypesList(namespace, groupId)),
+                SchemaRegistryClientImpl::handleGetCodecTypes);
+    }
+
+    @Override
+    public CompletableFuture<Void> addCodecType(String groupId, CodecType codecType) {
+        return withRetry(() -> groupResource.invoke(api -> api.addCodecType(namespace, groupId, ModelHelper.encode(codecType))), response -> {
+            SchemaRegistryClientImpl.handleAddCodecType(response);
+            return null;
+        });
+    }
+
+    @Override
+    public CompletableFuture<List<GroupHistoryRecord>> getGroupHistory(String groupId) {
+        List<GroupHistoryRecord> result = new ArrayList<>();
+        return getGroupHistory(groupId, null, result).thenApply(v -> result);
+    }
+
+    private CompletableFuture<Void> getGroupHistory(String groupId, String continuationToken, List<GroupHistoryRecord> result) {
+        return withRetry(() -> groupResource.invoke(api -> api.getGroupHistory(namespace, groupId, continuationToken,
+                SchemaRegistryClientImpl.HISTORY_LIMIT)),
+                SchemaRegistryClientImpl::handleGetGroupHistory)
+                .thenCompose(page -> {
+                    page.getHistory().forEach(x -> result.add(ModelHelper.decode(x)));
+                    // the continuation token is not set by services that do not support pagination.
+                    if (page.getHistory().isEmpty() || page.getContinuationToken() == null) {
+                        return CompletableFuture.completedFuture(null);
+                    }
+                    return getGroupHistory(groupId, page.getContinuationToken(), result);
+                });
+    }
+
+    @Override
+    public CompletableFuture<Map<String, VersionInfo>> getSchemaReferences(SchemaInfo schemaInfo) {
+        return withRetry(() -> schemaResource.invoke(api -> api.getSchemaReferences(ModelHelper.encode(schemaInfo), namespace)),
+                SchemaRegistryClientImpl::handleGetSchemaReferences);
+    }
+
+    /**
+     * Sends the request and handles its response. The request is sent again with exponential backoff if either the
+     * request or the handling of its response fails with a retryable error.
+     */
+    private <T> CompletableFuture<T> withRetry(Supplier<CompletableFuture<Response>> request, Function<Response, T> handler) {
+        return RETRY.runAsync(() -> request.get().thenApply(response -> SchemaRegistryClientImpl.handleAndClose(response, handler)), 
+                executor);
+    }
+
+    @Override
+    public void close() throws Exception {
+        ExecutorServiceHelpers.shutdown(executor);
+        if (client != null) {
+            client.close();
+        }
+    }
+}
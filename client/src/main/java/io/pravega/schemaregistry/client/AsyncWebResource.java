@@ -0,0 +1,136 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.client;
+
+import com.google.common.base.Preconditions;
+
+import javax.ws.rs.Consumes;
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.client.InvocationCallback;
+import javax.ws.rs.client.WebTarget;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Sends the requests of a JAX-RS resource interface with the asynchronous invoker of the client.
+ * The request is described by calling a method of the resource interface, see {@link #invoke}, and is built from the
+ * annotations of the method in the same way as the proxies of {@link org.glassfish.jersey.client.proxy.WebResourceFactory}
+ * build synchronous requests. The caller is not blocked while the request is outstanding. Note that the connector of 
+ * the client sends asynchronous requests with blocking calls on the threads of its async executor 
+ * ({@link org.glassfish.jersey.client.ClientProperties#ASYNC_THREADPOOL_SIZE}), so each outstanding request holds one of 
+ * those threads until its response is received.
+ *
+ * @param <T> Type of resource interface.
+ */
+class AsyncWebResource<T> {
+    private final Class<T> resource;
+    private final WebTarget target;
+
+    AsyncWebResource(Class<T> resource, WebTarget target) {
+        this.resource = resource;
+        this.target = withPath(target, resource.getAnnotation(Path.class));
+    }
+
+    /**
+     * Sends the request that the supplied function makes on the resource interface. The function is called with a
+     * proxy that only records the method and its arguments, so the function should make exactly one call on the
+     * proxy and not use its return value.
+     *
+     * @param request function that calls the method of the resource with the arguments of the request.
+     * @return Future which is completed with the response of the service.
+     */
+    CompletableFuture<Response> invoke(Function<T, Response> request) {
+        AtomicReference<Method> method = new AtomicReference<>();
+        AtomicReference<Object[]> args = new AtomicReference<>();
+        @SuppressWarnings("unchecked")
+        T recorder = (T) Proxy.newProxyInstance(resource.getClassLoader(), new Class<?>[]{resource}, (proxy, m, a) -> {
+            method.set(m);
+            args.set(a == null ? new Object[0] : a);
+            return null;
+        });
+        request.apply(recorder);
+        Preconditions.checkState(method.get() != null, "No method of %s was called.", resource.getName());
+        return invoke(method.get(), args.get());
+    }
+
+    private CompletableFuture<Response> invoke(Method method, Object[] args) {
+        WebTarget requestTarget = withPath(target, method.getAnnotation(Path.class));
+        Object entity = null;
+        Annotation[][] parameterAnnotations = method.getParameterAnnotations();
+        for (int i = 0; i < args.length; i++) {
+            PathParam pathParam = getAnnotation(parameterAnnotations[i], PathParam.class);
+            QueryParam queryParam = getAnnotation(parameterAnnotations[i], QueryParam.class);
+            if (pathParam != null) {
+                requestTarget = requestTarget.resolveTemplate(pathParam.value(), args[i]);
+            } else if (queryParam != null) {
+                if (args[i] != null) {
+                    requestTarget = requestTarget.queryParam(queryParam.value(), args[i]);
+                }
+            } else {
+                entity = args[i];
+            }
+        }
+        Produces produces = method.getAnnotation(Produces.class);
+        Consumes consumes = method.getAnnotation(Consumes.class);
+        String[] accepted = produces == null ? new String[]{MediaType.WILDCARD} : produces.value();
+        String contentType = consumes == null ? MediaType.APPLICATION_JSON : consumes.value()[0];
+        Entity<?> requestEntity = entity == null ? null : Entity.entity(entity, contentType);
+
+        CompletableFuture<Response> result = new CompletableFuture<>();
+        requestTarget.request(accepted)
+                     .async()
+                     .method(getHttpMethod(method), requestEntity, new InvocationCallback<Response>() {
+                         @Override
+                         public void completed(Response response) {
+                             result.complete(response);
+                         }
+
+                         @Override
+                         public void failed(Throwable throwable) {
+                             result.completeExceptionally(throwable);
+                         }
+                     });
+        return result;
+    }
+
+    private static WebTarget withPath(WebTarget target, Path path) {
+        return path == null ? target : target.path(path.value());
+    }
+
+    private static String getHttpMethod(Method method) {
+        for (Annotation annotation : method.getAnnotations()) {
+            HttpMethod httpMethod = annotation.annotationType().getAnnotation(HttpMethod.class);
+            if (httpMethod != null) {
+                return httpMethod.value();
+            }
+        }
+        throw new IllegalArgumentException(String.format("%s is not a resource method.", method.getName()));
+    }
+
+    private static <A extends Annotation> A getAnnotation(Annotation[] annotations, Class<A> type) {
+        for (Annotation annotation : annotations) {
+            if (type.isInstance(annotation)) {
+                return type.cast(annotation);
+            }
+        }
+        return null;
+    }
+}
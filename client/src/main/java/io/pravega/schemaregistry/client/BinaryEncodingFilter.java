@@ -0,0 +1,53 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.client;
+
+import com.google.common.annotations.VisibleForTesting;
+import io.pravega.schemaregistry.contract.v1.SmileProvider;
+
+import javax.ws.rs.client.ClientRequestContext;
+import javax.ws.rs.client.ClientRequestFilter;
+import javax.ws.rs.client.ClientResponseContext;
+import javax.ws.rs.client.ClientResponseFilter;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+
+/**
+ * Content negotiation filter for the client. This intercepts requests and asks for the binary encoding of the response 
+ * while still accepting json with a lower preference. 
+ * Services that predate the binary encoding reject request entities they cannot read. So json request entities are 
+ * only sent using the binary encoding once the service has responded with the binary encoding. 
+ */
+public class BinaryEncodingFilter implements ClientRequestFilter, ClientResponseFilter {
+    private static final String ACCEPT = SmileProvider.APPLICATION_SMILE + ", " + MediaType.APPLICATION_JSON + ";q=0.5";
+    private static final MediaType APPLICATION_SMILE_TYPE = MediaType.valueOf(SmileProvider.APPLICATION_SMILE);
+
+    private volatile boolean binaryEncodingSupported = false;
+
+    @Override
+    public void filter(ClientRequestContext context) {
+        context.getHeaders().putSingle(HttpHeaders.ACCEPT, ACCEPT);
+        if (binaryEncodingSupported && context.hasEntity() && MediaType.APPLICATION_JSON_TYPE.isCompatible(context.getMediaType())) {
+            context.getHeaders().putSingle(HttpHeaders.CONTENT_TYPE, SmileProvider.APPLICATION_SMILE);
+        }
+    }
+
+    @Override
+    public void filter(ClientRequestContext requestContext, ClientResponseContext responseContext) {
+        if (!binaryEncodingSupported && APPLICATION_SMILE_TYPE.isCompatible(responseContext.getMediaType())) {
+            binaryEncodingSupported = true;
+        }
+    }
+
+    @VisibleForTesting
+    boolean isBinaryEncodingSupported() {
+        return binaryEncodingSupported;
+    }
+}
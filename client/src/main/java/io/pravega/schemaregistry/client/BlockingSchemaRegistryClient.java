@@ -0,0 +1,174 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.client;
+
+import io.pravega.common.concurrent.Futures;
+import io.pravega.schemaregistry.contract.data.CodecType;
+import io.pravega.schemaregistry.contract.data.Compatibility;
+import io.pravega.schemaregistry.contract.data.EncodingId;
+import io.pravega.schemaregistry.contract.data.EncodingInfo;
+import io.pravega.schemaregistry.contract.data.GroupHistoryRecord;
+import io.pravega.schemaregistry.contract.data.GroupProperties;
+import io.pravega.schemaregistry.contract.data.SchemaInfo;
+import io.pravega.schemaregistry.contract.data.SchemaWithVersion;
+import io.pravega.schemaregistry.contract.data.VersionInfo;
+
+import javax.annotation.Nullable;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link SchemaRegistryClient} that waits for the results of an {@link AsyncSchemaRegistryClient}. This allows
+ * components that require a {@link SchemaRegistryClient}, like serializers, to share an asynchronous client with
+ * the rest of the application.
+ */
+class BlockingSchemaRegistryClient implements SchemaRegistryClient {
+    private final AsyncSchemaRegistryClient client;
+
+    BlockingSchemaRegistryClient(AsyncSchemaRegistryClient client) {
+        this.client = client;
+    }
+
+    @Override
+    public boolean addGroup(String groupId, GroupProperties groupProperties) {
+        return Futures.getThrowingException(client.addGroup(groupId, groupProperties));
+    }
+
+    @Override
+    public void removeGroup(String groupId) {
+        Futures.getThrowingException(client.removeGroup(groupId));
+    }
+
+    @Override
+    public Iterator<Map.Entry<String, GroupProperties>> listGroups() {
+        return Futures.getThrowingException(client.listGroups()).iterator();
+    }
+
+    @Override
+    public GroupProperties getGroupProperties(String groupId) {
+        return Futures.getThrowingException(client.getGroupProperties(groupId));
+    }
+
+    @Override
+    public String getGroupIncarnation(String groupId) {
+        return Futures.getThrowingException(client.getGroupIncarnation(groupId));
+    }
+
+    @Override
+    public boolean updateCompatibility(String groupId, Compatibility compatibility, @Nullable Compatibility previous) {
+        return Futures.getThrowingException(client.updateCompatibility(groupId, compatibility, previous));
+    }
+
+    @Override
+    public List<SchemaWithVersion> getSchemas(String groupId) {
+        return Futures.getThrowingException(client.getSchemas(groupId));
+    }
+
+    @Override
+    public VersionInfo addSchema(String groupId, SchemaInfo schemaInfo) {
+        return Futures.getThrowingException(client.addSchema(groupId, schemaInfo));
+    }
+
+    @Override
+    public List<VersionInfo> addSchemas(String groupId, List<SchemaInfo> schemaInfos) {
+        return Futures.getThrowingException(client.addSchemas(groupId, schemaInfos));
+    }
+
+    @Override
+    public void deleteSchemaVersion(String groupId, VersionInfo versionInfo) {
+        Futures.getThrowingException(client.deleteSchemaVersion(groupId, versionInfo));
+    }
+
+    @Override
+    public SchemaInfo getSchemaForVersion(String groupId, VersionInfo versionInfo) {
+        return Futures.getThrowingException(client.getSchemaForVersion(groupId, versionInfo));
+    }
+
+    @Override
+    public EncodingInfo getEncodingInfo(String groupId, EncodingId encodingId) {
+        return Futures.getThrowingException(client.getEncodingInfo(groupId, encodingId));
+    }
+
+    @Override
+    public List<EncodingInfo> getEncodingInfos(String groupId, int fromId, int limit) {
+        return Futures.getThrowingException(client.getEncodingInfos(groupId, fromId, limit));
+    }
+
+    @Override
+    public EncodingId getEncodingId(String groupId, VersionInfo versionInfo, String codecType) {
+        return Futures.getThrowingException(client.getEncodingId(groupId, versionInfo, codecType));
+    }
+
+    @Override
+    public List<EncodingId> getEncodingIds(String groupId, List<Map.Entry<VersionInfo, String>> encodings) {
+        return Futures.getThrowingException(client.getEncodingIds(groupId, encodings));
+    }
+
+    @Override
+    public EncodingId addSchemaAndGetEncodingId(String groupId, SchemaInfo schemaInfo, String codecType) {
+        return Futures.getThrowingException(client.addSchemaAndGetEncodingId(groupId, schemaInfo, codecType));
+    }
+
+    @Override
+    public SchemaWithVersion getLatestSchemaVersion(String groupId, @Nullable String schemaType) {
+        return Futures.getThrowingException(client.getLatestSchemaVersion(groupId, schemaType));
+    }
+
+    @Override
+    public VersionInfo getVersionForSchema(String groupId, SchemaInfo schemaInfo) {
+        return Futures.getThrowingException(client.getVersionForSchema(groupId, schemaInfo));
+    }
+
+    @Override
+    public List<SchemaWithVersion> getSchemaVersions(String groupId, @Nullable String schemaType) {
+        return Futures.getThrowingException(client.getSchemaVersions(groupId, schemaType));
+    }
+
+    @Override
+    public boolean validateSchema(String groupId, SchemaInfo schemaInfo) {
+        return Futures.getThrowingException(client.validateSchema(groupId, schemaInfo));
+    }
+
+    @Override
+    public boolean canReadUsing(String groupId, SchemaInfo schemaInfo) {
+        return Futures.getThrowingException(client.canReadUsing(groupId, schemaInfo));
+    }
+
+    @Override
+    public List<CodecType> getCodecTypes(String groupId) {
+        return Futures.getThrowingException(client.getCodecTypes(groupId));
+    }
+
+    @Override
+    public void addCodecType(String groupId, CodecType codecType) {
+        Futures.getThrowingException(client.addCodecType(groupId, codecType));
+    }
+
+    @Override
+    public List<GroupHistoryRecord> getGroupHistory(String groupId) {
+        return Futures.getThrowingException(client.getGroupHistory(groupId));
+    }
+
+    @Override
+    public Map<String, VersionInfo> getSchemaReferences(SchemaInfo schemaInfo) {
+        return Futures.getThrowingException(client.getSchemaReferences(schemaInfo));
+    }
+
+    @Override
+    public String getNamespace() {
+        return client.getNamespace();
+    }
+
+    @Override
+    public void close() throws Exception {
+        client.close();
+    }
+}
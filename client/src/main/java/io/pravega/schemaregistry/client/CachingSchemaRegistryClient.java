@@ -0,0 +1,308 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.client;
+
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import io.pravega.schemaregistry.contract.data.CodecType;
+import io.pravega.schemaregistry.contract.data.Compatibility;
+import io.pravega.schemaregistry.contract.data.EncodingId;
+import io.pravega.schemaregistry.contract.data.EncodingInfo;
+import io.pravega.schemaregistry.contract.data.GroupHistoryRecord;
+import io.pravega.schemaregistry.contract.data.GroupProperties;
+import io.pravega.schemaregistry.contract.data.SchemaInfo;
+import io.pravega.schemaregistry.contract.data.SchemaWithVersion;
+import io.pravega.schemaregistry.contract.data.VersionInfo;
+import lombok.Data;
+
+import javax.annotation.Nullable;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Schema registry client that caches the responses of the wrapped client.
+ * Responses that never change once they exist, like the schema for a version or the encoding info for an encoding id,
+ * are cached until they are evicted to keep the size of each cache bounded.
+ * Responses that may change, like the latest schema or the codec types of a group, are cached for a short duration.
+ * The client is thread safe and is meant to be shared by all serializers in the process so that they share a single
+ * copy of the cached responses.
+ * Calls to modify the group made through this client invalidate the affected entries. Modifications made through other
+ * clients are observed by the time bounded caches once their entries expire.
+ */
+public class CachingSchemaRegistryClient implements SchemaRegistryClient {
+    private static final int MAXIMUM_SIZE = 10000;
+    private static final Duration TTL = Duration.ofSeconds(10);
+
+    private final SchemaRegistryClient client;
+    private final Cache<EncodingIdKey, EncodingInfo> encodingInfos;
+    private final Cache<VersionKey, SchemaInfo> schemas;
+    private final Cache<SchemaKey, VersionInfo> versions;
+    private final Cache<EncodingKey, EncodingId> encodingIds;
+    private final Cache<SchemaTypeKey, Optional<SchemaWithVersion>> latestSchemas;
+    private final Cache<String, List<CodecType>> codecTypes;
+
+    CachingSchemaRegistryClient(SchemaRegistryClient client) {
+        this(client, MAXIMUM_SIZE, TTL);
+    }
+
+    CachingSchemaRegistryClient(SchemaRegistryClient client, int maximumSize, Duration ttl) {
+        Preconditions.checkArgument(maximumSize > 0, "maximumSize should be a positive integer");
+        Preconditions.checkArgument(!ttl.isNegative(), "ttl should not be negative");
+        this.client = client;
+        this.encodingInfos = CacheBuilder.newBuilder().maximumSize(maximumSize).recordStats().build();
+        this.schemas = CacheBuilder.newBuilder().maximumSize(maximumSize).recordStats().build();
+        this.versions = CacheBuilder.newBuilder().maximumSize(maximumSize).recordStats().build();
+        this.encodingIds = CacheBuilder.newBuilder().maximumSize(maximumSize).recordStats().build();
+        this.latestSchemas = CacheBuilder.newBuilder().maximumSize(maximumSize).recordStats()
+                                         .expireAfterWrite(ttl.toMillis(), TimeUnit.MILLISECONDS).build();
+        this.codecTypes = CacheBuilder.newBuilder().maximumSize(maximumSize).recordStats()
+                                      .expireAfterWrite(ttl.toMillis(), TimeUnit.MILLISECONDS).build();
+    }
+
+    @Override
+    public boolean addGroup(String groupId, GroupProperties groupProperties) {
+        return client.addGroup(groupId, groupProperties);
+    }
+
+    @Override
+    public void removeGroup(String groupId) {
+        client.removeGroup(groupId);
+        invalidate(groupId);
+    }
+
+    @Override
+    public Iterator<Map.Entry<String, GroupProperties>> listGroups() {
+        return client.listGroups();
+    }
+
+    @Override
+    public GroupProperties getGroupProperties(String groupId) {
+        return client.getGroupProperties(groupId);
+    }
+
+    @Override
+    public String getGroupIncarnation(String groupId) {
+        return client.getGroupIncarnation(groupId);
+    }
+
+    @Override
+    public boolean updateCompatibility(String groupId, Compatibility compatibility, @Nullable Compatibility previous) {
+        return client.updateCompatibility(groupId, compatibility, previous);
+    }
+
+    @Override
+    public List<SchemaWithVersion> getSchemas(String groupId) {
+        return client.getSchemas(groupId);
+    }
+
+    @Override
+    public VersionInfo addSchema(String groupId, SchemaInfo schemaInfo) {
+        VersionInfo versionInfo = client.addSchema(groupId, schemaInfo);
+        versions.put(new SchemaKey(groupId, schemaInfo), versionInfo);
+        invalidateLatestSchemas(groupId);
+        return versionInfo;
+    }
+
+    @Override
+    public List<VersionInfo> addSchemas(String groupId, List<SchemaInfo> schemaInfos) {
+        List<VersionInfo> versionInfos = client.addSchemas(groupId, schemaInfos);
+        for (int i = 0; i < schemaInfos.size(); i++) {
+            versions.put(new SchemaKey(groupId, schemaInfos.get(i)), versionInfos.get(i));
+        }
+        invalidateLatestSchemas(groupId);
+        return versionInfos;
+    }
+
+    @Override
+    public void deleteSchemaVersion(String groupId, VersionInfo versionInfo) {
+        client.deleteSchemaVersion(groupId, versionInfo);
+        schemas.invalidate(new VersionKey(groupId, versionInfo));
+        versions.asMap().entrySet().removeIf(x -> x.getKey().getGroupId().equals(groupId) && x.getValue().equals(versionInfo));
+        invalidateLatestSchemas(groupId);
+    }
+
+    @Override
+    public SchemaInfo getSchemaForVersion(String groupId, VersionInfo versionInfo) {
+        return get(schemas, new VersionKey(groupId, versionInfo), () -> client.getSchemaForVersion(groupId, versionInfo));
+    }
+
+    @Override
+    public EncodingInfo getEncodingInfo(String groupId, EncodingId encodingId) {
+        return get(encodingInfos, new EncodingIdKey(groupId, encodingId), () -> client.getEncodingInfo(groupId, encodingId));
+    }
+
+    @Override
+    public List<EncodingInfo> getEncodingInfos(String groupId, int fromId, int limit) {
+        List<EncodingInfo> result = client.getEncodingInfos(groupId, fromId, limit);
+        for (int i = 0; i < result.size(); i++) {
+            encodingInfos.put(new EncodingIdKey(groupId, new EncodingId(fromId + i)), result.get(i));
+        }
+        return result;
+    }
+
+    @Override
+    public EncodingId getEncodingId(String groupId, VersionInfo versionInfo, String codecType) {
+        return get(encodingIds, new EncodingKey(groupId, versionInfo, codecType),
+                () -> client.getEncodingId(groupId, versionInfo, codecType));
+    }
+
+    @Override
+    public List<EncodingId> getEncodingIds(String groupId, List<Map.Entry<VersionInfo, String>> encodings) {
+        List<EncodingId> result = client.getEncodingIds(groupId, encodings);
+        for (int i = 0; i < encodings.size(); i++) {
+            Map.Entry<VersionInfo, String> encoding = encodings.get(i);
+            encodingIds.put(new EncodingKey(groupId, encoding.getKey(), encoding.getValue()), result.get(i));
+        }
+        return result;
+    }
+
+    @Override
+    public EncodingId addSchemaAndGetEncodingId(String groupId, SchemaInfo schemaInfo, String codecType) {
+        EncodingId encodingId = client.addSchemaAndGetEncodingId(groupId, schemaInfo, codecType);
+        invalidateLatestSchemas(groupId);
+        return encodingId;
+    }
+
+    @Override
+    public SchemaWithVersion getLatestSchemaVersion(String groupId, @Nullable String schemaType) {
+        return get(latestSchemas, new SchemaTypeKey(groupId, schemaType),
+                () -> Optional.ofNullable(client.getLatestSchemaVersion(groupId, schemaType))).orElse(null);
+    }
+
+    @Override
+    public VersionInfo getVersionForSchema(String groupId, SchemaInfo schemaInfo) {
+        return get(versions, new SchemaKey(groupId, schemaInfo), () -> client.getVersionForSchema(groupId, schemaInfo));
+    }
+
+    @Override
+    public List<SchemaWithVersion> getSchemaVersions(String groupId, @Nullable String schemaType) {
+        return client.getSchemaVersions(groupId, schemaType);
+    }
+
+    @Override
+    public boolean validateSchema(String groupId, SchemaInfo schemaInfo) {
+        return client.validateSchema(groupId, schemaInfo);
+    }
+
+    @Override
+    public boolean canReadUsing(String groupId, SchemaInfo schemaInfo) {
+        return client.canReadUsing(groupId, schemaInfo);
+    }
+
+    @Override
+    public List<CodecType> getCodecTypes(String groupId) {
+        return get(codecTypes, groupId, () -> client.getCodecTypes(groupId));
+    }
+
+    @Override
+    public void addCodecType(String groupId, CodecType codecType) {
+        client.addCodecType(groupId, codecType);
+        codecTypes.invalidate(groupId);
+    }
+
+    @Override
+    public List<GroupHistoryRecord> getGroupHistory(String groupId) {
+        return client.getGroupHistory(groupId);
+    }
+
+    @Override
+    public Map<String, VersionInfo> getSchemaReferences(SchemaInfo schemaInfo) {
+        return client.getSchemaReferences(schemaInfo);
+    }
+
+    @Override
+    public String getNamespace() {
+        return client.getNamespace();
+    }
+
+    /**
+     * Statistics for all caches of this client combined.
+     *
+     * @return Hit and miss counts of the caches.
+     */
+    public CacheStats getStats() {
+        return encodingInfos.stats()
+                            .plus(schemas.stats())
+                            .plus(versions.stats())
+                            .plus(encodingIds.stats())
+                            .plus(latestSchemas.stats())
+                            .plus(codecTypes.stats());
+    }
+
+    @Override
+    public void close() throws Exception {
+        client.close();
+    }
+
+    private void invalidate(String groupId) {
+        encodingInfos.asMap().keySet().removeIf(x -> x.getGroupId().equals(groupId));
+        schemas.asMap().keySet().removeIf(x -> x.getGroupId().equals(groupId));
+        versions.asMap().keySet().removeIf(x -> x.getGroupId().equals(groupId));
+        encodingIds.asMap().keySet().removeIf(x -> x.getGroupId().equals(groupId));
+        invalidateLatestSchemas(groupId);
+        codecTypes.invalidate(groupId);
+    }
+
+    private void invalidateLatestSchemas(String groupId) {
+        latestSchemas.asMap().keySet().removeIf(x -> x.getGroupId().equals(groupId));
+    }
+
+    private <K, V> V get(Cache<K, V> cache, K key, Callable<V> loader) {
+        try {
+            return cache.get(key, loader);
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            } else {
+                throw new RuntimeException(e.getCause());
+            }
+        }
+    }
+
+    @Data
+    private static class EncodingIdKey {
+        private final String groupId;
+        private final EncodingId encodingId;
+    }
+
+    @Data
+    private static class VersionKey {
+        private final String groupId;
+        private final VersionInfo versionInfo;
+    }
+
+    @Data
+    private static class SchemaKey {
+        private final String groupId;
+        private final SchemaInfo schemaInfo;
+    }
+
+    @Data
+    private static class EncodingKey {
+        private final String groupId;
+        private final VersionInfo versionInfo;
+        private final String codecType;
+    }
+
+    @Data
+    private static class SchemaTypeKey {
+        private final String groupId;
+        private final String schemaType;
+    }
+}
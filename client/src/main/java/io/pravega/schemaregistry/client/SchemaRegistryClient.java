@@ -98,6 +98,21 @@ public interface SchemaRegistryClient extends AutoCloseable {
      */
     GroupProperties getGroupProperties(String groupId) throws ResourceNotFoundException, UnauthorizedException;
 
+    /**
+     * Gets the id of the current incarnation of the group. 
+     * A group that is deleted and recreated with the same name is a new incarnation of the group with its own id. 
+     * Encoding ids and schema versions of the new incarnation are assigned afresh and may identify different schemas 
+     * than the same encoding ids and versions of the deleted group. Callers that keep encoding ids beyond the lifetime 
+     * of a client, for example in a file, can use the incarnation id to detect that the group was recreated. 
+     * Incarnation ids are unique across groups and registry services. 
+     * 
+     * @param groupId Id for the group.
+     * @return Id of the incarnation of the group. 
+     * @throws ResourceNotFoundException if group is not found.
+     * @throws UnauthorizedException if the user is unauthorized.
+     */
+    String getGroupIncarnation(String groupId) throws ResourceNotFoundException, UnauthorizedException;
+
     /**
      * Update group's schema validation policy. If previous compatibility policy are not supplied, then the update to the policy will be
      * performed unconditionally. However, if previous compatibility policy are supplied, then the update will be performed if and only if
@@ -152,6 +167,26 @@ public interface SchemaRegistryClient extends AutoCloseable {
     VersionInfo addSchema(String groupId, SchemaInfo schemaInfo) throws SchemaValidationFailedException, SerializationMismatchException, 
             MalformedSchemaException, ResourceNotFoundException, UnauthorizedException;
 
+    /**
+     * Registers multiple schemas to the group with a single call. Schemas are validated in the order in which they are 
+     * supplied, each against the existing schemas in the group and the schemas that precede it in the list. 
+     * All schemas are added atomically. If any schema fails validation, none of the schemas are added. 
+     * Schemas that are already registered are not added again and their existing version infos are returned.
+     * Implementation of this method is expected to be idempotent.
+     * 
+     * @param groupId Id for the group. 
+     * @param schemaInfos Schemas to add. 
+     * @return versionInfos which uniquely identify where the schemas are added in the group, in the same order as schemaInfos.
+     * @throws SchemaValidationFailedException if any of the schemas is deemed invalid by applying compatibility.
+     * @throws SerializationMismatchException if serialization format of any of the schemas does not match the group's 
+     * configured serialization format.
+     * @throws MalformedSchemaException for known serialization formats, if the service is unable to parse any of the schemas.
+     * @throws ResourceNotFoundException if group is not found.
+     * @throws UnauthorizedException if the user is unauthorized.
+     */
+    List<VersionInfo> addSchemas(String groupId, List<SchemaInfo> schemaInfos) throws SchemaValidationFailedException, 
+            SerializationMismatchException, MalformedSchemaException, ResourceNotFoundException, UnauthorizedException;
+
     /**
      * Deletes the schema associated to the given version. Users should be very careful while using this API in production, 
      * esp if the schema has already been used to write the data. 
@@ -201,6 +236,21 @@ public interface SchemaRegistryClient extends AutoCloseable {
      */
     EncodingInfo getEncodingInfo(String groupId, EncodingId encodingId) throws ResourceNotFoundException, UnauthorizedException;
 
+    /**
+     * Gets encoding infos for consecutive encoding ids starting at fromId with a single call. Encoding ids are generated 
+     * sequentially starting from 0, so this can be used to load all encodings of a group in pages. 
+     * The result stops at the first encoding id that has not been generated yet, and the service may return fewer 
+     * encodings than the limit. An empty list means there are no encodings at or beyond fromId. 
+     * 
+     * @param groupId Id for the group. 
+     * @param fromId First encoding id to return. 
+     * @param limit Maximum number of encoding infos to return. 
+     * @return Encoding infos in the order of their encoding ids. 
+     * @throws ResourceNotFoundException if group is not found. 
+     * @throws UnauthorizedException if the user is unauthorized.
+     */
+    List<EncodingInfo> getEncodingInfos(String groupId, int fromId, int limit) throws ResourceNotFoundException, UnauthorizedException;
+
     /**
      * Gets an encoding id that uniquely identifies a combination of Schema version and codec type. 
      * This encoding id is a 4 byte integer and it can be used to tag the data which is serialized and encoded using the
@@ -224,6 +274,45 @@ public interface SchemaRegistryClient extends AutoCloseable {
     EncodingId getEncodingId(String groupId, VersionInfo versionInfo, String codecType) 
             throws CodecTypeNotRegisteredException, ResourceNotFoundException, UnauthorizedException;
 
+    /**
+     * Gets encoding ids for multiple combinations of Schema version and codec type with a single call. 
+     * Encoding ids that were not generated yet are generated together. This is otherwise identical to calling 
+     * {@link SchemaRegistryClient#getEncodingId} for each pair.
+     * 
+     * @param groupId Id for the group. 
+     * @param encodings List of pairs of version of schema and codec type.
+     * @return Encoding ids in the same order as the pairs of version and codec type.
+     * @throws CodecTypeNotRegisteredException if any codectype is not registered with the group. Use {@link SchemaRegistryClient#addCodecType} 
+     * @throws ResourceNotFoundException if group or any version info is not found. 
+     * @throws UnauthorizedException if the user is unauthorized.
+     */
+    List<EncodingId> getEncodingIds(String groupId, List<Map.Entry<VersionInfo, String>> encodings) 
+            throws CodecTypeNotRegisteredException, ResourceNotFoundException, UnauthorizedException;
+
+    /**
+     * Adds the schema to the group if it is not already added and gets the encoding id for the combination of the 
+     * schema's version and the codec type. 
+     * This is equivalent to calling {@link SchemaRegistryClient#addSchema} followed by 
+     * {@link SchemaRegistryClient#getEncodingId} but allows implementations to complete both with a single call to the 
+     * service. 
+     * 
+     * @param groupId Id for the group. 
+     * @param schemaInfo Schema to add. 
+     * @param codecType codec type
+     * @return Encoding id for the pair of the schema's version and codec type.
+     * @throws SchemaValidationFailedException if the schema is deemed invalid by applying compatibility.
+     * @throws SerializationMismatchException if serialization format does not match the group's configured serialization format.
+     * @throws MalformedSchemaException for known serialization formats, if the service is unable to parse the schema binary.
+     * @throws CodecTypeNotRegisteredException if codectype is not registered with the group. Use {@link SchemaRegistryClient#addCodecType} 
+     * @throws ResourceNotFoundException if group is not found.
+     * @throws UnauthorizedException if the user is unauthorized.
+     */
+    default EncodingId addSchemaAndGetEncodingId(String groupId, SchemaInfo schemaInfo, String codecType) 
+            throws SchemaValidationFailedException, SerializationMismatchException, MalformedSchemaException, 
+            CodecTypeNotRegisteredException, ResourceNotFoundException, UnauthorizedException {
+        return getEncodingId(groupId, addSchema(groupId, schemaInfo), codecType);
+    }
+
     /**
      * Gets latest schema and version for the group (or type, if specified). 
      * To get latest schema version for a specific type identified by {@link SchemaInfo#getType()}, provide the type. 
@@ -9,6 +9,7 @@
  */
 package io.pravega.schemaregistry.client;
 
+import com.google.common.base.Preconditions;
 import io.pravega.schemaregistry.common.CredentialProvider;
 import lombok.Builder;
 import lombok.Data;
@@ -62,9 +63,24 @@ public class SchemaRegistryClientConfig {
      */
     private final boolean validateHostName;
 
+    /**
+     * Flag to indicate whether client should exchange requests and responses with the service using the binary 
+     * encoding instead of json. Defaults to true. Request entities are sent as json until the service has responded with 
+     * the binary encoding, so services that only support json keep working with the flag enabled. 
+     */
+    private final boolean binaryEncoding;
+
+    /**
+     * Maximum number of connections that a client pools to the service, which is also the maximum number of requests 
+     * that an {@link AsyncSchemaRegistryClient} has outstanding with the service at any time. Further requests are queued 
+     * until an outstanding request completes and fail if no connection is released within 30 seconds. Defaults to 10. 
+     */
+    private final int maxConnections;
+
     private SchemaRegistryClientConfig(URI schemaRegistryUri, boolean authEnabled, CredentialProvider credentialProvider,
                                        String trustStore, String trustStoreType, String trustStorePassword, 
-                                       String certificate, boolean validateHostName) {
+                                       String certificate, boolean validateHostName, boolean binaryEncoding, int maxConnections) {
+        Preconditions.checkArgument(maxConnections > 0, "maxConnections should be a positive integer");
         this.schemaRegistryUri = schemaRegistryUri;
         this.authEnabled = authEnabled;
         this.credentialProvider = credentialProvider;
@@ -73,11 +89,15 @@ public class SchemaRegistryClientConfig {
         this.trustStoreType = trustStoreType;
         this.trustStorePassword = trustStorePassword;
         this.validateHostName = validateHostName;
+        this.binaryEncoding = binaryEncoding;
+        this.maxConnections = maxConnections;
     }
 
     public static final class SchemaRegistryClientConfigBuilder {
         private boolean authEnabled = false;
         private boolean validateHostName = false;
+        private boolean binaryEncoding = true;
+        private int maxConnections = 10;
         private String trustStore = null;
         private String trustStoreType = null;
         private String trustStorePassword = null;
@@ -9,6 +9,8 @@
  */
 package io.pravega.schemaregistry.client;
 
+import java.time.Duration;
+
 /**
  * Factory class for creating Schema Registry client. 
  */
@@ -35,4 +37,60 @@ public class SchemaRegistryClientFactory {
     public static SchemaRegistryClient withNamespace(String namespace, SchemaRegistryClientConfig config) {
         return new SchemaRegistryClientImpl(config, namespace);
     }
+
+    /**
+     * Factory method to create an asynchronous Schema Registry Client with default namespace.
+     * 
+     * @param config Configuration for creating registry client. 
+     * @return Asynchronous SchemaRegistry client implementation
+     */
+    public static AsyncSchemaRegistryClient asyncWithDefaultNamespace(SchemaRegistryClientConfig config) {
+        return new AsyncSchemaRegistryClientImpl(config, null);
+    }
+
+    /**
+     * Factory method to create an asynchronous Schema Registry Client with namespace. 
+     * 
+     * @param config Configuration for creating registry client. 
+     * @param namespace Namespace 
+     * @return Asynchronous SchemaRegistry client implementation
+     */
+    public static AsyncSchemaRegistryClient asyncWithNamespace(String namespace, SchemaRegistryClientConfig config) {
+        return new AsyncSchemaRegistryClientImpl(config, namespace);
+    }
+
+    /**
+     * Creates a Schema Registry Client that makes its calls using the supplied asynchronous client and waits for them 
+     * to complete. Closing the returned client closes the asynchronous client. 
+     * 
+     * @param client Asynchronous client.
+     * @return SchemaRegistry client implementation
+     */
+    public static SchemaRegistryClient fromAsyncClient(AsyncSchemaRegistryClient client) {
+        return new BlockingSchemaRegistryClient(client);
+    }
+
+    /**
+     * Creates a Schema Registry Client that caches the responses of the supplied client. The returned client is thread 
+     * safe and can be shared by all serializers in the process. Closing the returned client closes the supplied client. 
+     * 
+     * @param client Client to make the calls to the registry service with. 
+     * @return Caching SchemaRegistry client implementation
+     */
+    public static CachingSchemaRegistryClient withCache(SchemaRegistryClient client) {
+        return new CachingSchemaRegistryClient(client);
+    }
+
+    /**
+     * Creates a Schema Registry Client that caches the responses of the supplied client. The returned client is thread 
+     * safe and can be shared by all serializers in the process. Closing the returned client closes the supplied client. 
+     * 
+     * @param client Client to make the calls to the registry service with. 
+     * @param maximumSize Maximum number of entries in each of the caches. 
+     * @param ttl Duration for which responses that may change, like the latest schema of a group, are cached. 
+     * @return Caching SchemaRegistry client implementation
+     */
+    public static CachingSchemaRegistryClient withCache(SchemaRegistryClient client, int maximumSize, Duration ttl) {
+        return new CachingSchemaRegistryClient(client, maximumSize, ttl);
+    }
 }
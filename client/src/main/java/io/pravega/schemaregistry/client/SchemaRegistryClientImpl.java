@@ -24,10 +24,18 @@ import io.pravega.schemaregistry.contract.data.GroupProperties;
 import io.pravega.schemaregistry.contract.data.SchemaInfo;
 import io.pravega.schemaregistry.contract.data.SchemaWithVersion;
 import io.pravega.schemaregistry.contract.data.VersionInfo;
+import io.pravega.schemaregistry.contract.generated.rest.model.AddSchemaAndGetEncodingIdRequest;
+import io.pravega.schemaregistry.contract.generated.rest.model.AddSchemasRequest;
+import io.pravega.schemaregistry.contract.generated.rest.model.AddSchemasResponse;
 import io.pravega.schemaregistry.contract.generated.rest.model.CanRead;
 import io.pravega.schemaregistry.contract.generated.rest.model.CodecTypes;
 import io.pravega.schemaregistry.contract.generated.rest.model.CreateGroupRequest;
+import io.pravega.schemaregistry.contract.generated.rest.model.EncodingIds;
+import io.pravega.schemaregistry.contract.generated.rest.model.EncodingInfoList;
 import io.pravega.schemaregistry.contract.generated.rest.model.GetEncodingIdRequest;
+import io.pravega.schemaregistry.contract.generated.rest.model.GetEncodingIdsRequest;
+import io.pravega.schemaregistry.contract.generated.rest.model.GroupHistory;
+import io.pravega.schemaregistry.contract.generated.rest.model.GroupIncarnation;
 import io.pravega.schemaregistry.contract.generated.rest.model.ListGroupsResponse;
 import io.pravega.schemaregistry.contract.generated.rest.model.SchemaVersionsList;
 import io.pravega.schemaregistry.contract.generated.rest.model.UpdateCompatibilityRequest;
@@ -35,12 +43,23 @@ import io.pravega.schemaregistry.contract.generated.rest.model.Valid;
 import io.pravega.schemaregistry.contract.generated.rest.model.ValidateRequest;
 import io.pravega.schemaregistry.contract.transform.ModelHelper;
 import io.pravega.schemaregistry.contract.v1.ApiV1;
+import io.pravega.schemaregistry.contract.v1.SmileProvider;
 import lombok.Getter;
 import lombok.SneakyThrows;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.glassfish.jersey.apache.connector.ApacheClientProperties;
+import org.glassfish.jersey.apache.connector.ApacheConnectorProvider;
 import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.client.ClientProperties;
 import org.glassfish.jersey.client.proxy.WebResourceFactory;
 
 import javax.annotation.Nullable;
+import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.TrustManagerFactory;
 import javax.ws.rs.client.Client;
@@ -54,6 +73,7 @@ import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
 import java.security.cert.CertificateException;
 import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.Iterator;
@@ -73,36 +93,32 @@ import static io.pravega.schemaregistry.client.exceptions.RegistryExceptions.Cod
 import static io.pravega.schemaregistry.client.exceptions.RegistryExceptions.MalformedSchemaException;
 import static io.pravega.schemaregistry.client.exceptions.RegistryExceptions.ConnectionException;
 import static io.pravega.schemaregistry.client.exceptions.RegistryExceptions.InternalServerError;
+import static io.pravega.schemaregistry.client.exceptions.RegistryExceptions.ServiceUnavailableException;
 
 public class SchemaRegistryClientImpl implements SchemaRegistryClient {
     private static final Retry.RetryAndThrowConditionally RETRY = Retry
             .withExpBackoff(100, 2, 10, 1000)
-            .retryWhen(x -> Exceptions.unwrap(x) instanceof ConnectionException);
-    private static final int GROUP_LIMIT = 100;
+            .retryWhen(x -> Exceptions.unwrap(x) instanceof ConnectionException 
+                    || Exceptions.unwrap(x) instanceof ServiceUnavailableException);
+    static final int GROUP_LIMIT = 100;
+    static final int HISTORY_LIMIT = 100;
     private static final String HTTPS = "https";
     private static final String TLS = "TLS";
+    private static final int CONNECTION_REQUEST_TIMEOUT_MILLIS = 30000;
 
     private final ApiV1.GroupsApi groupProxy;
     private final ApiV1.SchemasApi schemaProxy;
     @Getter
     private final String namespace;
     private final Client client;
+    /**
+     * Services that predate {@link #addSchemaAndGetEncodingId} are detected on first use, after which the schema is 
+     * added and the encoding id is fetched with separate requests.
+     */
+    private volatile boolean addSchemaAndGetEncodingIdSupported = true;
     
     SchemaRegistryClientImpl(SchemaRegistryClientConfig config, String namespace) {
-        Preconditions.checkNotNull(config);
-        Preconditions.checkNotNull(config.getSchemaRegistryUri());
-        ClientBuilder clientBuilder = ClientBuilder.newBuilder().withConfig(new ClientConfig());
-        if (HTTPS.equalsIgnoreCase(config.getSchemaRegistryUri().getScheme())) {
-            clientBuilder = clientBuilder.sslContext(getSSLContext(config));
-            if (!config.isValidateHostName()) {
-                // host name verification is done by default. To disable it we will add an always true verifier
-                clientBuilder.hostnameVerifier((a, b) -> true);
-            }
-        }
-        this.client = clientBuilder.build();
-        if (config.isAuthEnabled()) {
-            this.client.register(new AuthFilter(config.getCredentialProvider()));
-        }
+        this.client = createClient(config);
         this.namespace = namespace;
         this.groupProxy = WebResourceFactory.newResource(ApiV1.GroupsApi.class, client.target(config.getSchemaRegistryUri()));
         this.schemaProxy = WebResourceFactory.newResource(ApiV1.SchemasApi.class, client.target(config.getSchemaRegistryUri()));
@@ -121,103 +137,190 @@ public class SchemaRegistryClientImpl implements SchemaRegistryClient {
         this.client = null;
     }
 
+    /**
+     * Creates the http client for the service. Connections to the service are pooled by the connector and at most 
+     * {@link SchemaRegistryClientConfig#getMaxConnections()} requests are sent concurrently. A request that does not get 
+     * a connection from the pool within {@link #CONNECTION_REQUEST_TIMEOUT_MILLIS} fails instead of waiting indefinitely.
+     * 
+     * @param config client config. 
+     * @return http client. 
+     */
+    static Client createClient(SchemaRegistryClientConfig config) {
+        Preconditions.checkNotNull(config);
+        Preconditions.checkNotNull(config.getSchemaRegistryUri());
+        RegistryBuilder<ConnectionSocketFactory> socketFactories = RegistryBuilder.<ConnectionSocketFactory>create()
+                .register("http", PlainConnectionSocketFactory.getSocketFactory());
+        ClientBuilder clientBuilder = ClientBuilder.newBuilder();
+        if (HTTPS.equalsIgnoreCase(config.getSchemaRegistryUri().getScheme())) {
+            SSLContext sslContext = getSSLContext(config);
+            clientBuilder = clientBuilder.sslContext(sslContext);
+            HostnameVerifier hostnameVerifier = SSLConnectionSocketFactory.getDefaultHostnameVerifier();
+            if (!config.isValidateHostName()) {
+                // host name verification is done by default. To disable it we will add an always true verifier
+                hostnameVerifier = (a, b) -> true;
+                clientBuilder.hostnameVerifier(hostnameVerifier);
+            }
+            // the connector uses the socket factories of the connection manager rather than the ssl settings of the client.
+            socketFactories.register(HTTPS, new SSLConnectionSocketFactory(sslContext, hostnameVerifier));
+        }
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(socketFactories.build());
+        connectionManager.setMaxTotal(config.getMaxConnections());
+        connectionManager.setDefaultMaxPerRoute(config.getMaxConnections());
+        ClientConfig clientConfig = new ClientConfig()
+                .connectorProvider(new ApacheConnectorProvider())
+                .property(ApacheClientProperties.CONNECTION_MANAGER, connectionManager)
+                .property(ApacheClientProperties.REQUEST_CONFIG, RequestConfig.custom()
+                                                                               .setConnectionRequestTimeout(CONNECTION_REQUEST_TIMEOUT_MILLIS)
+                                                                               .build())
+                .property(ClientProperties.ASYNC_THREADPOOL_SIZE, config.getMaxConnections());
+        Client client = clientBuilder.withConfig(clientConfig).build();
+        if (config.isAuthEnabled()) {
+            client.register(new AuthFilter(config.getCredentialProvider()));
+        }
+        client.register(new SmileProvider());
+        if (config.isBinaryEncoding()) {
+            client.register(new BinaryEncodingFilter());
+        }
+        return client;
+    }
+
     @Override
     public boolean addGroup(String groupId, GroupProperties groupProperties) {
-        return withRetry(() -> {
-            CreateGroupRequest request = new CreateGroupRequest().groupName(groupId).groupProperties(ModelHelper.encode(groupProperties));
-            Response response = groupProxy.createGroup(namespace, request);
-            Response.Status status = Response.Status.fromStatusCode(response.getStatus());
-            switch (status) {
-                case CREATED:
-                    return true;
-                case CONFLICT:
-                    return false;
-                case BAD_REQUEST:
-                    throw new BadArgumentException("Group properties invalid.");
-                default:
-                    return handleResponse(status, "Internal Service error. Failed to add the group.");
-            }
-        });
+        CreateGroupRequest request = createGroupRequest(groupId, groupProperties);
+        return withRetry(() -> groupProxy.createGroup(namespace, request),
+                SchemaRegistryClientImpl::handleAddGroup);
+    }
+
+    static CreateGroupRequest createGroupRequest(String groupId, GroupProperties groupProperties) {
+        return new CreateGroupRequest().groupName(groupId).groupProperties(ModelHelper.encode(groupProperties));
+    }
+
+    static boolean handleAddGroup(Response response) {
+        Response.Status status = Response.Status.fromStatusCode(response.getStatus());
+        switch (status) {
+            case CREATED:
+                return true;
+            case CONFLICT:
+                return false;
+            case BAD_REQUEST:
+                throw new BadArgumentException("Group properties invalid.");
+            default:
+                return handleResponse(status, "Internal Service error. Failed to add the group.");
+        }
     }
 
     @Override
     public void removeGroup(String groupId) {
-        withRetry(() -> {
-            Response response = groupProxy.deleteGroup(namespace, groupId);
-            switch (Response.Status.fromStatusCode(response.getStatus())) {
-                case NO_CONTENT:
-                    return;
-                default:
-                    handleResponse(Response.Status.fromStatusCode(response.getStatus()), "Internal Service error. Failed to remove the group.");
-            }
+        withRetry(() -> groupProxy.deleteGroup(namespace, groupId), response -> {
+            handleRemoveGroup(response);
+            return null;
         });
     }
 
+    static void handleRemoveGroup(Response response) {
+        switch (Response.Status.fromStatusCode(response.getStatus())) {
+            case NO_CONTENT:
+                return;
+            default:
+                handleResponse(Response.Status.fromStatusCode(response.getStatus()), "Internal Service error. Failed to remove the group.");
+        }
+    }
+
     @Override
     public Iterator<Map.Entry<String, GroupProperties>> listGroups() {
-        final Function<String, Map.Entry<String, Collection<Map.Entry<String, GroupProperties>>>> function =
-                continuationToken -> {
-                    ListGroupsResponse entity = getListGroupsResponse(continuationToken);
-                    List<Map.Entry<String, GroupProperties>> map = new LinkedList<>();
-                    for (Map.Entry<String, io.pravega.schemaregistry.contract.generated.rest.model.GroupProperties> entry : entity.getGroups().entrySet()) {
-                        ModelHelper.decode(entry.getValue().getSerializationFormat());
-                        map.add(new AbstractMap.SimpleEntry<>(entry.getKey(), ModelHelper.decode(entry.getValue())));
-                    }
-                    return new AbstractMap.SimpleEntry<>(entity.getContinuationToken(), map);
-                };
+        final Function<String, Map.Entry<String, Collection<Map.Entry<String, GroupProperties>>>> function = this::listGroupsPage;
 
         return new ContinuationTokenIterator<>(function, null);
     }
 
-    private ListGroupsResponse getListGroupsResponse(String continuationToken) {
-        return withRetry(() -> {
-            Response response = groupProxy.listGroups(namespace, continuationToken, GROUP_LIMIT);
-            switch (Response.Status.fromStatusCode(response.getStatus())) {
-                case OK:
-                    return response.readEntity(ListGroupsResponse.class);
-                default:
-                    return handleResponse(Response.Status.fromStatusCode(response.getStatus()), "Internal Service error. Failed to list groups.");
-            }
-        });
+    /**
+     * Gets a page of groups starting from the continuation token. 
+     * 
+     * @param continuationToken continuation token. 
+     * @return Pair of continuation token for the next page and the groups in this page. 
+     */
+    Map.Entry<String, Collection<Map.Entry<String, GroupProperties>>> listGroupsPage(String continuationToken) {
+        return withRetry(() -> groupProxy.listGroups(namespace, continuationToken, GROUP_LIMIT),
+                SchemaRegistryClientImpl::handleListGroups);
+    }
+
+    static Map.Entry<String, Collection<Map.Entry<String, GroupProperties>>> handleListGroups(Response response) {
+        switch (Response.Status.fromStatusCode(response.getStatus())) {
+            case OK:
+                ListGroupsResponse entity = response.readEntity(ListGroupsResponse.class);
+                List<Map.Entry<String, GroupProperties>> map = new LinkedList<>();
+                for (Map.Entry<String, io.pravega.schemaregistry.contract.generated.rest.model.GroupProperties> entry : entity.getGroups().entrySet()) {
+                    ModelHelper.decode(entry.getValue().getSerializationFormat());
+                    map.add(new AbstractMap.SimpleEntry<>(entry.getKey(), ModelHelper.decode(entry.getValue())));
+                }
+                return new AbstractMap.SimpleEntry<>(entity.getContinuationToken(), map);
+            default:
+                return handleResponse(Response.Status.fromStatusCode(response.getStatus()), "Internal Service error. Failed to list groups.");
+        }
     }
 
     @Override
     public GroupProperties getGroupProperties(String groupId) {
-        return withRetry(() -> {
-            Response response = groupProxy.getGroupProperties(namespace, groupId);
-            switch (Response.Status.fromStatusCode(response.getStatus())) {
-                case OK:
-                    return ModelHelper.decode(response.readEntity(io.pravega.schemaregistry.contract.generated.rest.model.GroupProperties.class));
-                case NOT_FOUND:
-                    throw new ResourceNotFoundException("Group not found.");
-                default:
-                    return handleResponse(Response.Status.fromStatusCode(response.getStatus()), "Internal Service error. Failed to list groups.");
-            }
-        });
+        return withRetry(() -> groupProxy.getGroupProperties(namespace, groupId),
+                SchemaRegistryClientImpl::handleGetGroupProperties);
+    }
+
+    static GroupProperties handleGetGroupProperties(Response response) {
+        switch (Response.Status.fromStatusCode(response.getStatus())) {
+            case OK:
+                return ModelHelper.decode(response.readEntity(io.pravega.schemaregistry.contract.generated.rest.model.GroupProperties.class));
+            case NOT_FOUND:
+                throw new ResourceNotFoundException("Group not found.");
+            default:
+                return handleResponse(Response.Status.fromStatusCode(response.getStatus()), "Internal Service error. Failed to list groups.");
+        }
+    }
+
+    @Override
+    public String getGroupIncarnation(String groupId) {
+        return withRetry(() -> groupProxy.getGroupIncarnation(namespace, groupId),
+                SchemaRegistryClientImpl::handleGetGroupIncarnation);
+    }
+
+    static String handleGetGroupIncarnation(Response response) {
+        switch (Response.Status.fromStatusCode(response.getStatus())) {
+            case OK:
+                return response.readEntity(GroupIncarnation.class).getIncarnationId();
+            case NOT_FOUND:
+                throw new ResourceNotFoundException("Group not found.");
+            default:
+                return handleResponse(Response.Status.fromStatusCode(response.getStatus()), "Internal Service error. Failed to get group incarnation.");
+        }
     }
 
     @Override
     public boolean updateCompatibility(String groupId, Compatibility compatibility, @Nullable Compatibility previous) {
-        return withRetry(() -> {
-            UpdateCompatibilityRequest request = new UpdateCompatibilityRequest()
-                    .compatibility(ModelHelper.encode(compatibility));
-            if (previous != null) {
-                request.setPreviousCompatibility(ModelHelper.encode(previous));
-            }
+        UpdateCompatibilityRequest request = updateCompatibilityRequest(compatibility, previous);
+        return withRetry(() -> groupProxy.updateCompatibility(namespace, groupId, request),
+                SchemaRegistryClientImpl::handleUpdateCompatibility);
+    }
 
-            Response response = groupProxy.updateCompatibility(namespace, groupId, request);
-            switch (Response.Status.fromStatusCode(response.getStatus())) {
-                case CONFLICT:
-                    return false;
-                case NOT_FOUND:
-                    throw new ResourceNotFoundException("Group not found.");
-                case OK:
-                    return true;
-                default:
-                    return handleResponse(Response.Status.fromStatusCode(response.getStatus()),
-                            "Internal Service error. Failed to update compatibility.");
-            }
-        });
+    static UpdateCompatibilityRequest updateCompatibilityRequest(Compatibility compatibility, @Nullable Compatibility previous) {
+        UpdateCompatibilityRequest request = new UpdateCompatibilityRequest()
+                .compatibility(ModelHelper.encode(compatibility));
+        if (previous != null) {
+            request.setPreviousCompatibility(ModelHelper.encode(previous));
+        }
+        return request;
+    }
+
+    static boolean handleUpdateCompatibility(Response response) {
+        switch (Response.Status.fromStatusCode(response.getStatus())) {
+            case CONFLICT:
+                return false;
+            case NOT_FOUND:
+                throw new ResourceNotFoundException("Group not found.");
+            case OK:
+                return true;
+            default:
+                return handleResponse(Response.Status.fromStatusCode(response.getStatus()),
+                        "Internal Service error. Failed to update compatibility.");
+        }
     }
 
     @Override
@@ -226,112 +329,262 @@ public class SchemaRegistryClientImpl implements SchemaRegistryClient {
     }
 
     private List<SchemaWithVersion> latestSchemas(String groupId, String type) {
-        return withRetry(() -> {
-            Response response = groupProxy.getSchemas(namespace, groupId, type);
-            switch (Response.Status.fromStatusCode(response.getStatus())) {
-                case OK:
-                    SchemaVersionsList objectsList = response.readEntity(SchemaVersionsList.class);
-                    return objectsList.getSchemas().stream().map(ModelHelper::decode).collect(Collectors.toList());
-                case NOT_FOUND:
-                    throw new ResourceNotFoundException("Group not found.");
-                default:
-                    return handleResponse(Response.Status.fromStatusCode(response.getStatus()),
-                            "Internal Service error. Failed to get object types.");
-            }
-        });
+        return withRetry(() -> groupProxy.getSchemas(namespace, groupId, type),
+                SchemaRegistryClientImpl::handleLatestSchemas);
+    }
+
+    static List<SchemaWithVersion> handleLatestSchemas(Response response) {
+        switch (Response.Status.fromStatusCode(response.getStatus())) {
+            case OK:
+                SchemaVersionsList objectsList = response.readEntity(SchemaVersionsList.class);
+                return objectsList.getSchemas().stream().map(ModelHelper::decode).collect(Collectors.toList());
+            case NOT_FOUND:
+                throw new ResourceNotFoundException("Group not found.");
+            default:
+                return handleResponse(Response.Status.fromStatusCode(response.getStatus()),
+                        "Internal Service error. Failed to get object types.");
+        }
     }
 
     @Override
     public VersionInfo addSchema(String groupId, SchemaInfo schemaInfo) {
-        return withRetry(() -> {
-            Response response = groupProxy.addSchema(namespace, groupId, ModelHelper.encode(schemaInfo));
-            switch (Response.Status.fromStatusCode(response.getStatus())) {
-                case CREATED:
-                    return ModelHelper.decode(response.readEntity(io.pravega.schemaregistry.contract.generated.rest.model.VersionInfo.class));
-                case NOT_FOUND:
-                    throw new ResourceNotFoundException("Group not found.");
-                case CONFLICT:
-                    throw new SchemaValidationFailedException("Schema is incompatible.");
-                case EXPECTATION_FAILED:
-                    throw new SerializationMismatchException("Serialization format disallowed.");
-                case BAD_REQUEST:
-                    throw new MalformedSchemaException("Schema is malformed. Verify the schema data and type");
-                default:
-                    return handleResponse(Response.Status.fromStatusCode(response.getStatus()),
-                            "Internal Service error. Failed to addSchema.");
-            }
-        });
+        return withRetry(() -> groupProxy.addSchema(namespace, groupId, ModelHelper.encode(schemaInfo)),
+                SchemaRegistryClientImpl::handleAddSchema);
+    }
+
+    static VersionInfo handleAddSchema(Response response) {
+        switch (Response.Status.fromStatusCode(response.getStatus())) {
+            case CREATED:
+                return ModelHelper.decode(response.readEntity(io.pravega.schemaregistry.contract.generated.rest.model.VersionInfo.class));
+            case NOT_FOUND:
+                throw new ResourceNotFoundException("Group not found.");
+            case CONFLICT:
+                throw new SchemaValidationFailedException("Schema is incompatible.");
+            case EXPECTATION_FAILED:
+                throw new SerializationMismatchException("Serialization format disallowed.");
+            case BAD_REQUEST:
+                throw new MalformedSchemaException("Schema is malformed. Verify the schema data and type");
+            default:
+                return handleResponse(Response.Status.fromStatusCode(response.getStatus()),
+                        "Internal Service error. Failed to addSchema.");
+        }
     }
 
     @Override
-    public void deleteSchemaVersion(String groupId, VersionInfo versionInfo) {
-        withRetry(() -> {
-            Response response = groupProxy.deleteSchemaForId(namespace, groupId, versionInfo.getId());
-            if (response.getStatus() == Response.Status.NOT_FOUND.getStatusCode()) {
+    public List<VersionInfo> addSchemas(String groupId, List<SchemaInfo> schemaInfos) {
+        AddSchemasRequest request = addSchemasRequest(schemaInfos);
+        return withRetry(() -> groupProxy.addSchemas(namespace, groupId, request),
+                SchemaRegistryClientImpl::handleAddSchemas);
+    }
+
+    static AddSchemasRequest addSchemasRequest(List<SchemaInfo> schemaInfos) {
+        return new AddSchemasRequest()
+                .schemas(schemaInfos.stream().map(ModelHelper::encode).collect(Collectors.toList()));
+    }
+
+    static List<VersionInfo> handleAddSchemas(Response response) {
+        switch (Response.Status.fromStatusCode(response.getStatus())) {
+            case CREATED:
+                AddSchemasResponse versions = response.readEntity(AddSchemasResponse.class);
+                return versions.getVersions().stream().map(ModelHelper::decode).collect(Collectors.toList());
+            case NOT_FOUND:
                 throw new ResourceNotFoundException("Group not found.");
-            } else if (response.getStatus() != Response.Status.NO_CONTENT.getStatusCode()) {
-                handleResponse(Response.Status.fromStatusCode(response.getStatus()),
-                        "Internal Service error. Failed to get schema.");
-            }
+            case CONFLICT:
+                throw new SchemaValidationFailedException("Schema is incompatible.");
+            case EXPECTATION_FAILED:
+                throw new SerializationMismatchException("Serialization format disallowed.");
+            case BAD_REQUEST:
+                throw new MalformedSchemaException("Schema is malformed. Verify the schema data and type");
+            default:
+                return handleResponse(Response.Status.fromStatusCode(response.getStatus()),
+                        "Internal Service error. Failed to addSchemas.");
+        }
+    }
+
+    @Override
+    public void deleteSchemaVersion(String groupId, VersionInfo versionInfo) {
+        withRetry(() -> groupProxy.deleteSchemaForId(namespace, groupId, versionInfo.getId()), response -> {
+            handleDeleteSchemaVersion(response);
+            return null;
         });
     }
 
+    static void handleDeleteSchemaVersion(Response response) {
+        if (response.getStatus() == Response.Status.NOT_FOUND.getStatusCode()) {
+            throw new ResourceNotFoundException("Group not found.");
+        } else if (response.getStatus() != Response.Status.NO_CONTENT.getStatusCode()) {
+            handleResponse(Response.Status.fromStatusCode(response.getStatus()),
+                    "Internal Service error. Failed to get schema.");
+        }
+    }
+
     @Override
     public SchemaInfo getSchemaForVersion(String groupId, VersionInfo versionInfo) {
-        return withRetry(() -> {
-            Response response = groupProxy.getSchemaForId(namespace, groupId, versionInfo.getId());
-            switch (Response.Status.fromStatusCode(response.getStatus())) {
-                case OK:
-                    return ModelHelper.decode(response.readEntity(io.pravega.schemaregistry.contract.generated.rest.model.SchemaInfo.class));
-                case NOT_FOUND:
-                    throw new ResourceNotFoundException("Schema not found.");
-                default:
-                    return handleResponse(Response.Status.fromStatusCode(response.getStatus()),
-                            "Internal Service error. Failed to get schema.");
-            }
-        });
+        return withRetry(() -> groupProxy.getSchemaForId(namespace, groupId, versionInfo.getId()),
+                SchemaRegistryClientImpl::handleGetSchemaForVersion);
+    }
+
+    static SchemaInfo handleGetSchemaForVersion(Response response) {
+        switch (Response.Status.fromStatusCode(response.getStatus())) {
+            case OK:
+                return ModelHelper.decode(response.readEntity(io.pravega.schemaregistry.contract.generated.rest.model.SchemaInfo.class));
+            case NOT_FOUND:
+                throw new ResourceNotFoundException("Schema not found.");
+            default:
+                return handleResponse(Response.Status.fromStatusCode(response.getStatus()),
+                        "Internal Service error. Failed to get schema.");
+        }
     }
 
     @Override
     public EncodingInfo getEncodingInfo(String groupId, EncodingId encodingId) {
-        return withRetry(() -> {
-            Response response = groupProxy.getEncodingInfo(namespace, groupId, encodingId.getId());
-            switch (Response.Status.fromStatusCode(response.getStatus())) {
-                case OK:
-                    return ModelHelper.decode(response.readEntity(io.pravega.schemaregistry.contract.generated.rest.model.EncodingInfo.class));
-                case NOT_FOUND:
-                    throw new ResourceNotFoundException("Encoding not found.");
-                default:
-                    return handleResponse(Response.Status.fromStatusCode(response.getStatus()),
-                            "Internal Service error. Failed to get encoding info.");
-            }
-        });
+        return withRetry(() -> groupProxy.getEncodingInfo(namespace, groupId, encodingId.getId()),
+                SchemaRegistryClientImpl::handleGetEncodingInfo);
+    }
+
+    static EncodingInfo handleGetEncodingInfo(Response response) {
+        switch (Response.Status.fromStatusCode(response.getStatus())) {
+            case OK:
+                return ModelHelper.decode(response.readEntity(io.pravega.schemaregistry.contract.generated.rest.model.EncodingInfo.class));
+            case NOT_FOUND:
+                throw new ResourceNotFoundException("Encoding not found.");
+            default:
+                return handleResponse(Response.Status.fromStatusCode(response.getStatus()),
+                        "Internal Service error. Failed to get encoding info.");
+        }
+    }
+
+    @Override
+    public List<EncodingInfo> getEncodingInfos(String groupId, int fromId, int limit) {
+        return withRetry(() -> groupProxy.getEncodingInfos(namespace, groupId, fromId, limit),
+                SchemaRegistryClientImpl::handleGetEncodingInfos);
+    }
+
+    static List<EncodingInfo> handleGetEncodingInfos(Response response) {
+        switch (Response.Status.fromStatusCode(response.getStatus())) {
+            case OK:
+                EncodingInfoList list = response.readEntity(EncodingInfoList.class);
+                return list.getEncodingInfos().stream().map(ModelHelper::decode).collect(Collectors.toList());
+            case NOT_FOUND:
+                throw new ResourceNotFoundException("Group not found.");
+            default:
+                return handleResponse(Response.Status.fromStatusCode(response.getStatus()),
+                        "Internal Service error. Failed to get encoding infos.");
+        }
     }
 
     @Override
     public EncodingId getEncodingId(String groupId, VersionInfo versionInfo, String codecType) {
-        return withRetry(() -> {
-            GetEncodingIdRequest getEncodingIdRequest = new GetEncodingIdRequest();
-            getEncodingIdRequest.codecType(codecType)
-                                .versionInfo(ModelHelper.encode(versionInfo));
-            Response response = groupProxy.getEncodingId(namespace, groupId, getEncodingIdRequest);
-            switch (Response.Status.fromStatusCode(response.getStatus())) {
-                case OK:
-                    return ModelHelper.decode(response.readEntity(io.pravega.schemaregistry.contract.generated.rest.model.EncodingId.class));
-                case NOT_FOUND:
-                    throw new ResourceNotFoundException("getEncodingId failed. Either Group or Version does not exist.");
-                case PRECONDITION_FAILED:
-                    throw new CodecTypeNotRegisteredException(String.format("Codec type %s not registered.", codecType));
-                default:
-                    return handleResponse(Response.Status.fromStatusCode(response.getStatus()),
-                            "Internal Service error. Failed to get encoding info.");
-            }
-        });
+        GetEncodingIdRequest request = getEncodingIdRequest(versionInfo, codecType);
+        return withRetry(() -> groupProxy.getEncodingId(namespace, groupId, request),
+                response -> handleGetEncodingId(response, codecType));
+    }
+
+    static GetEncodingIdRequest getEncodingIdRequest(VersionInfo versionInfo, String codecType) {
+        return new GetEncodingIdRequest().codecType(codecType)
+                                         .versionInfo(ModelHelper.encode(versionInfo));
+    }
+
+    static EncodingId handleGetEncodingId(Response response, String codecType) {
+        switch (Response.Status.fromStatusCode(response.getStatus())) {
+            case OK:
+                return readEncodingId(response);
+            case NOT_FOUND:
+                throw new ResourceNotFoundException("getEncodingId failed. Either Group or Version does not exist.");
+            case PRECONDITION_FAILED:
+                throw new CodecTypeNotRegisteredException(String.format("Codec type %s not registered.", codecType));
+            default:
+                return handleResponse(Response.Status.fromStatusCode(response.getStatus()),
+                        "Internal Service error. Failed to get encoding info.");
+        }
+    }
+
+    @Override
+    public List<EncodingId> getEncodingIds(String groupId, List<Map.Entry<VersionInfo, String>> encodings) {
+        GetEncodingIdsRequest request = getEncodingIdsRequest(encodings);
+        return withRetry(() -> groupProxy.getEncodingIds(namespace, groupId, request),
+                SchemaRegistryClientImpl::handleGetEncodingIds);
+    }
+
+    static GetEncodingIdsRequest getEncodingIdsRequest(List<Map.Entry<VersionInfo, String>> encodings) {
+        return new GetEncodingIdsRequest()
+                .requests(encodings.stream().map(x -> getEncodingIdRequest(x.getKey(), x.getValue()))
+                                   .collect(Collectors.toList()));
+    }
+
+    static List<EncodingId> handleGetEncodingIds(Response response) {
+        switch (Response.Status.fromStatusCode(response.getStatus())) {
+            case OK:
+                EncodingIds encodingIds = response.readEntity(EncodingIds.class);
+                return encodingIds.getEncodingIds().stream().map(ModelHelper::decode).collect(Collectors.toList());
+            case NOT_FOUND:
+                throw new ResourceNotFoundException("getEncodingIds failed. Either Group or Version does not exist.");
+            case PRECONDITION_FAILED:
+                throw new CodecTypeNotRegisteredException("Codec type not registered.");
+            default:
+                return handleResponse(Response.Status.fromStatusCode(response.getStatus()),
+                        "Internal Service error. Failed to get encoding ids.");
+        }
+    }
+
+    @Override
+    public EncodingId addSchemaAndGetEncodingId(String groupId, SchemaInfo schemaInfo, String codecType) {
+        if (!addSchemaAndGetEncodingIdSupported) {
+            return SchemaRegistryClient.super.addSchemaAndGetEncodingId(groupId, schemaInfo, codecType);
+        }
+        AddSchemaAndGetEncodingIdRequest request = addSchemaAndGetEncodingIdRequest(schemaInfo, codecType);
+        EncodingId encodingId = withRetry(() -> groupProxy.addSchemaAndGetEncodingId(namespace, groupId, request),
+                response -> handleAddSchemaAndGetEncodingId(response, codecType));
+        if (encodingId != null) {
+            return encodingId;
+        }
+        // adding the schema fails with resource not found if the group does not exist. If it succeeds, the service does 
+        // not support the single request and the schema and encoding id are requested separately from now on.
+        VersionInfo versionInfo = addSchema(groupId, schemaInfo);
+        addSchemaAndGetEncodingIdSupported = false;
+        return getEncodingId(groupId, versionInfo, codecType);
+    }
+
+    static AddSchemaAndGetEncodingIdRequest addSchemaAndGetEncodingIdRequest(SchemaInfo schemaInfo, String codecType) {
+        return new AddSchemaAndGetEncodingIdRequest().schemaInfo(ModelHelper.encode(schemaInfo)).codecType(codecType);
+    }
+
+    /**
+     * Reads the encoding id from the response. Returns null if either the group does not exist or the service predates 
+     * the request. 
+     */
+    static EncodingId handleAddSchemaAndGetEncodingId(Response response, String codecType) {
+        switch (Response.Status.fromStatusCode(response.getStatus())) {
+            case OK:
+                return readEncodingId(response);
+            case NOT_FOUND:
+            case METHOD_NOT_ALLOWED:
+                // either the group does not exist or the service predates this request.
+                return null;
+            case CONFLICT:
+                throw new SchemaValidationFailedException("Schema is incompatible.");
+            case PRECONDITION_FAILED:
+                throw new CodecTypeNotRegisteredException(String.format("Codec type %s not registered.", codecType));
+            case EXPECTATION_FAILED:
+                throw new SerializationMismatchException("Serialization format disallowed.");
+            case BAD_REQUEST:
+                throw new MalformedSchemaException("Schema is malformed. Verify the schema data and type");
+            default:
+                return handleResponse(Response.Status.fromStatusCode(response.getStatus()),
+                        "Internal Service error. Failed to add schema and get encoding id.");
+        }
+    }
+
+    private static EncodingId readEncodingId(Response response) {
+        return ModelHelper.decode(response.readEntity(io.pravega.schemaregistry.contract.generated.rest.model.EncodingId.class));
     }
 
     @Override
     public SchemaWithVersion getLatestSchemaVersion(String groupId, @Nullable String schemaType) {
-        List<SchemaWithVersion> list = latestSchemas(groupId, schemaType);
+        return latestSchemaVersion(latestSchemas(groupId, schemaType), schemaType);
+    }
+
+    static SchemaWithVersion latestSchemaVersion(List<SchemaWithVersion> list, @Nullable String schemaType) {
         if (schemaType == null) {
             return list.stream().max(Comparator.comparingInt(x -> x.getVersionInfo().getId())).orElse(null);
         } else {
@@ -341,159 +594,212 @@ public class SchemaRegistryClientImpl implements SchemaRegistryClient {
 
     @Override
     public List<SchemaWithVersion> getSchemaVersions(String groupId, @Nullable String schemaType) {
-        return withRetry(() -> {
-            Response response = groupProxy.getSchemaVersions(namespace, groupId, schemaType);
-            switch (Response.Status.fromStatusCode(response.getStatus())) {
-                case OK:
-                    SchemaVersionsList schemaList = response.readEntity(SchemaVersionsList.class);
-                    return schemaList.getSchemas().stream().map(ModelHelper::decode).collect(Collectors.toList());
-                case NOT_FOUND:
-                    throw new ResourceNotFoundException("getSchemaVersions failed. Group does not exist.");
-                default:
-                    return handleResponse(Response.Status.fromStatusCode(response.getStatus()),
-                            "Internal Service error. Failed to get schema versions for group.");
-            }
-        });
+        List<SchemaWithVersion> result = new ArrayList<>();
+        String continuationToken = null;
+        do {
+            SchemaVersionsList page = getSchemaVersionsPage(groupId, schemaType, continuationToken);
+            page.getSchemas().forEach(x -> result.add(ModelHelper.decode(x)));
+            continuationToken = page.getSchemas().isEmpty() ? null : page.getContinuationToken();
+        } while (continuationToken != null);
+        return result;
+    }
+
+    /**
+     * Gets a page of schema versions. The continuation token is not set in the response of a service that does not 
+     * support pagination, in which case the page contains all schema versions. 
+     */
+    private SchemaVersionsList getSchemaVersionsPage(String groupId, @Nullable String schemaType, String continuationToken) {
+        return withRetry(() -> groupProxy.getSchemaVersions(namespace, groupId, schemaType, continuationToken, HISTORY_LIMIT),
+                SchemaRegistryClientImpl::handleGetSchemaVersions);
+    }
+
+    static SchemaVersionsList handleGetSchemaVersions(Response response) {
+        switch (Response.Status.fromStatusCode(response.getStatus())) {
+            case OK:
+                return response.readEntity(SchemaVersionsList.class);
+            case NOT_FOUND:
+                throw new ResourceNotFoundException("getSchemaVersions failed. Group does not exist.");
+            default:
+                return handleResponse(Response.Status.fromStatusCode(response.getStatus()),
+                        "Internal Service error. Failed to get schema versions for group.");
+        }
     }
 
     @Override
     public List<GroupHistoryRecord> getGroupHistory(String groupId) {
-        return withRetry(() -> {
-            Response response = groupProxy.getGroupHistory(namespace, groupId);
-            switch (Response.Status.fromStatusCode(response.getStatus())) {
-                case OK:
-                    io.pravega.schemaregistry.contract.generated.rest.model.GroupHistory history = response.readEntity(io.pravega.schemaregistry.contract.generated.rest.model.GroupHistory.class);
-                    return history.getHistory().stream().map(ModelHelper::decode).collect(Collectors.toList());
-                case NOT_FOUND:
-                    throw new ResourceNotFoundException("getGroupHistory failed. Either Group or Version does not exist.");
-                default:
-                    return handleResponse(Response.Status.fromStatusCode(response.getStatus()),
-                            "Internal Service error. Failed to get schema evolution history for group.");
-            }
-        });
+        List<GroupHistoryRecord> result = new ArrayList<>();
+        String continuationToken = null;
+        do {
+            GroupHistory page = getGroupHistoryPage(groupId, continuationToken);
+            page.getHistory().forEach(x -> result.add(ModelHelper.decode(x)));
+            continuationToken = page.getHistory().isEmpty() ? null : page.getContinuationToken();
+        } while (continuationToken != null);
+        return result;
+    }
+
+    /**
+     * Gets a page of group history. The continuation token is not set in the response of a service that does not 
+     * support pagination, in which case the page contains the entire history. 
+     */
+    private GroupHistory getGroupHistoryPage(String groupId, String continuationToken) {
+        return withRetry(() -> groupProxy.getGroupHistory(namespace, groupId, continuationToken, HISTORY_LIMIT),
+                SchemaRegistryClientImpl::handleGetGroupHistory);
+    }
+
+    static GroupHistory handleGetGroupHistory(Response response) {
+        switch (Response.Status.fromStatusCode(response.getStatus())) {
+            case OK:
+                return response.readEntity(GroupHistory.class);
+            case NOT_FOUND:
+                throw new ResourceNotFoundException("getGroupHistory failed. Either Group or Version does not exist.");
+            default:
+                return handleResponse(Response.Status.fromStatusCode(response.getStatus()),
+                        "Internal Service error. Failed to get schema evolution history for group.");
+        }
     }
 
     @Override
     public Map<String, VersionInfo> getSchemaReferences(SchemaInfo schemaInfo) throws ResourceNotFoundException, UnauthorizedException {
-        return withRetry(() -> {
-            Response response = schemaProxy.getSchemaReferences(ModelHelper.encode(schemaInfo), namespace);
-            switch (Response.Status.fromStatusCode(response.getStatus())) {
-                case OK:
-                    io.pravega.schemaregistry.contract.generated.rest.model.AddedTo addedTo = response
-                            .readEntity(io.pravega.schemaregistry.contract.generated.rest.model.AddedTo.class);
-                    return addedTo.getGroups().entrySet().stream().collect(Collectors.toMap(Map.Entry::getKey, x -> ModelHelper.decode(x.getValue())));
-                case NOT_FOUND:
-                    throw new ResourceNotFoundException("getSchemaReferences failed. Either Group or Version does not exist.");
-                default:
-                    return handleResponse(Response.Status.fromStatusCode(response.getStatus()),
-                            "Internal Service error. Failed to get schema evolution history for group.");
-            }
-        });
+        return withRetry(() -> schemaProxy.getSchemaReferences(ModelHelper.encode(schemaInfo), namespace),
+                SchemaRegistryClientImpl::handleGetSchemaReferences);
+    }
+
+    static Map<String, VersionInfo> handleGetSchemaReferences(Response response) {
+        switch (Response.Status.fromStatusCode(response.getStatus())) {
+            case OK:
+                io.pravega.schemaregistry.contract.generated.rest.model.AddedTo addedTo = response
+                        .readEntity(io.pravega.schemaregistry.contract.generated.rest.model.AddedTo.class);
+                return addedTo.getGroups().entrySet().stream().collect(Collectors.toMap(Map.Entry::getKey, x -> ModelHelper.decode(x.getValue())));
+            case NOT_FOUND:
+                throw new ResourceNotFoundException("getSchemaReferences failed. Either Group or Version does not exist.");
+            default:
+                return handleResponse(Response.Status.fromStatusCode(response.getStatus()),
+                        "Internal Service error. Failed to get schema evolution history for group.");
+        }
     }
 
     @Override
     public VersionInfo getVersionForSchema(String groupId, SchemaInfo schema) {
-        return withRetry(() -> {
-            io.pravega.schemaregistry.contract.generated.rest.model.SchemaInfo schemaInfo = ModelHelper.encode(schema);
-
-            Response response = groupProxy.getSchemaVersion(namespace, groupId, schemaInfo);
-            switch (Response.Status.fromStatusCode(response.getStatus())) {
-                case OK:
-                    return ModelHelper.decode(response.readEntity(io.pravega.schemaregistry.contract.generated.rest.model.VersionInfo.class));
-                case NOT_FOUND:
-                    throw new ResourceNotFoundException("Schema not registered.");
-                default:
-                    return handleResponse(Response.Status.fromStatusCode(response.getStatus()),
-                            "Internal Service error. Failed to get schema version.");
-            }
-        });
+        return withRetry(() -> groupProxy.getSchemaVersion(namespace, groupId, ModelHelper.encode(schema)),
+                SchemaRegistryClientImpl::handleGetVersionForSchema);
+    }
+
+    static VersionInfo handleGetVersionForSchema(Response response) {
+        switch (Response.Status.fromStatusCode(response.getStatus())) {
+            case OK:
+                return ModelHelper.decode(response.readEntity(io.pravega.schemaregistry.contract.generated.rest.model.VersionInfo.class));
+            case NOT_FOUND:
+                throw new ResourceNotFoundException("Schema not registered.");
+            default:
+                return handleResponse(Response.Status.fromStatusCode(response.getStatus()),
+                        "Internal Service error. Failed to get schema version.");
+        }
     }
 
     @Override
     public boolean validateSchema(String groupId, SchemaInfo schemaInfo) {
-        return withRetry(() -> {
-            ValidateRequest validateRequest = new ValidateRequest()
-                    .schemaInfo(ModelHelper.encode(schemaInfo));
-            Response response = groupProxy.validate(namespace, groupId, validateRequest);
-            switch (Response.Status.fromStatusCode(response.getStatus())) {
-                case OK:
-                    return response.readEntity(Valid.class).isValid();
-                case NOT_FOUND:
-                    throw new ResourceNotFoundException("Group not found.");
-                default:
-                    return handleResponse(Response.Status.fromStatusCode(response.getStatus()),
-                            "Internal Service error.");
-            }
-        });
+        ValidateRequest request = new ValidateRequest().schemaInfo(ModelHelper.encode(schemaInfo));
+        return withRetry(() -> groupProxy.validate(namespace, groupId, request),
+                SchemaRegistryClientImpl::handleValidateSchema);
+    }
+
+    static boolean handleValidateSchema(Response response) {
+        switch (Response.Status.fromStatusCode(response.getStatus())) {
+            case OK:
+                return response.readEntity(Valid.class).isValid();
+            case NOT_FOUND:
+                throw new ResourceNotFoundException("Group not found.");
+            default:
+                return handleResponse(Response.Status.fromStatusCode(response.getStatus()),
+                        "Internal Service error.");
+        }
     }
 
     @Override
     public boolean canReadUsing(String groupId, SchemaInfo schemaInfo) {
-        return withRetry(() -> {
-            io.pravega.schemaregistry.contract.generated.rest.model.SchemaInfo request = ModelHelper.encode(schemaInfo);
-            Response response = groupProxy.canRead(namespace, groupId, request);
-            switch (Response.Status.fromStatusCode(response.getStatus())) {
-                case OK:
-                    return response.readEntity(CanRead.class).isCompatible();
-                case NOT_FOUND:
-                    throw new ResourceNotFoundException("Schema not found.");
-                default:
-                    return handleResponse(Response.Status.fromStatusCode(response.getStatus()),
-                            "Internal Service error.");
-            }
-        });
+        return withRetry(() -> groupProxy.canRead(namespace, groupId, ModelHelper.encode(schemaInfo)),
+                SchemaRegistryClientImpl::handleCanReadUsing);
+    }
+
+    static boolean handleCanReadUsing(Response response) {
+        switch (Response.Status.fromStatusCode(response.getStatus())) {
+            case OK:
+                return response.readEntity(CanRead.class).isCompatible();
+            case NOT_FOUND:
+                throw new ResourceNotFoundException("Schema not found.");
+            default:
+                return handleResponse(Response.Status.fromStatusCode(response.getStatus()),
+                        "Internal Service error.");
+        }
     }
 
     @Override
     public List<CodecType> getCodecTypes(String groupId) {
-        return withRetry(() -> {
-            Response response = groupProxy.getCodecTypesList(namespace, groupId);
-            switch (Response.Status.fromStatusCode(response.getStatus())) {
-                case OK:
-                    CodecTypes list = response.readEntity(CodecTypes.class);
-                    return list.getCodecTypes().stream().map(ModelHelper::decode).collect(Collectors.toList());
-                case NOT_FOUND:
-                    throw new ResourceNotFoundException("Group not found.");
-                default:
-                    return handleResponse(Response.Status.fromStatusCode(response.getStatus()),
-                            "Failed to get codecTypes. Internal server error.");
-            }
-        });
+        return withRetry(() -> groupProxy.getCodecTypesList(namespace, groupId),
+                SchemaRegistryClientImpl::handleGetCodecTypes);
+    }
+
+    static List<CodecType> handleGetCodecTypes(Response response) {
+        switch (Response.Status.fromStatusCode(response.getStatus())) {
+            case OK:
+                CodecTypes list = response.readEntity(CodecTypes.class);
+                return list.getCodecTypes().stream().map(ModelHelper::decode).collect(Collectors.toList());
+            case NOT_FOUND:
+                throw new ResourceNotFoundException("Group not found.");
+            default:
+                return handleResponse(Response.Status.fromStatusCode(response.getStatus()),
+                        "Failed to get codecTypes. Internal server error.");
+        }
     }
 
     @Override
     public void addCodecType(String groupId, CodecType codecType) {
-        withRetry(() -> {
-            Response response = groupProxy.addCodecType(namespace, groupId, ModelHelper.encode(codecType));
-
-            switch (Response.Status.fromStatusCode(response.getStatus())) {
-                case CREATED:
-                    return;
-                case NOT_FOUND:
-                    throw new ResourceNotFoundException("Group not found.");
-                default:
-                    handleResponse(Response.Status.fromStatusCode(response.getStatus()),
-                            "Failed to add codec type. Internal server error.");
-            }
+        withRetry(() -> groupProxy.addCodecType(namespace, groupId, ModelHelper.encode(codecType)), response -> {
+            handleAddCodecType(response);
+            return null;
         });
     }
 
-    private <T> T withRetry(Supplier<T> supplier) {
-        return RETRY.run(supplier::get);
+    static void handleAddCodecType(Response response) {
+        switch (Response.Status.fromStatusCode(response.getStatus())) {
+            case CREATED:
+                return;
+            case NOT_FOUND:
+                throw new ResourceNotFoundException("Group not found.");
+            default:
+                handleResponse(Response.Status.fromStatusCode(response.getStatus()),
+                        "Failed to add codec type. Internal server error.");
+        }
     }
 
-    private void withRetry(Runnable runnable) {
-        RETRY.run(() -> {
-            runnable.run();
-            return null;
-        });
+    private <T> T withRetry(Supplier<Response> request, Function<Response, T> handler) {
+        return RETRY.run(() -> handleAndClose(request.get(), handler));
+    }
+
+    /**
+     * Handles the response and closes it, which releases its connection back to the pool of the connector. A response 
+     * that is not closed holds on to its connection. 
+     * 
+     * @param response response of the service. 
+     * @param handler handler for the response. 
+     * @param <T> Type of result. 
+     * @return result of the handler. 
+     */
+    static <T> T handleAndClose(Response response, Function<Response, T> handler) {
+        try {
+            return handler.apply(response);
+        } finally {
+            response.close();
+        }
     }
 
-    private <T> T handleResponse(Response.Status status, String errorMessage) {
+    private static <T> T handleResponse(Response.Status status, String errorMessage) {
         switch (status) {
             case UNAUTHORIZED:
             case FORBIDDEN:
                 throw new UnauthorizedException("User not authorized.");
+            case SERVICE_UNAVAILABLE:
+                throw new ServiceUnavailableException(errorMessage);
             default:
                 throw new InternalServerError(errorMessage);
         }
@@ -507,7 +813,7 @@ public class SchemaRegistryClientImpl implements SchemaRegistryClient {
     }
 
     @SneakyThrows(IOException.class)
-    private SSLContext getSSLContext(SchemaRegistryClientConfig config) {
+    private static SSLContext getSSLContext(SchemaRegistryClientConfig config) {
         try {
             // If trust store is specified, use it. 
             // Else check if certificate is provided. 
@@ -531,7 +837,7 @@ public class SchemaRegistryClientImpl implements SchemaRegistryClient {
         } 
     }
 
-    private KeyStore getTrustStore(SchemaRegistryClientConfig config) throws KeyStoreException, 
+    private static KeyStore getTrustStore(SchemaRegistryClientConfig config) throws KeyStoreException, 
             IOException, NoSuchAlgorithmException, CertificateException {
         KeyStore trustStore;
         trustStore = KeyStore.getInstance(config.getTrustStoreType());
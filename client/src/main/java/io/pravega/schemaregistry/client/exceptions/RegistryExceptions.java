@@ -31,6 +31,7 @@ public class RegistryExceptions extends RuntimeException {
         RESOURCE_NOT_FOUND,
         SERIALIZATION_FORMAT_MISMATCH,
         CONNECTION_ERROR,
+        SERVICE_UNAVAILABLE,
         INTERNAL_SERVER_ERROR
     }
 
@@ -85,6 +86,9 @@ public class RegistryExceptions extends RuntimeException {
             case CONNECTION_ERROR:
                 exception = new ConnectionException(errorMessage);
                 break;
+            case SERVICE_UNAVAILABLE:
+                exception = new ServiceUnavailableException(errorMessage);
+                break;
             case INTERNAL_SERVER_ERROR:
                 exception = new InternalServerError(errorMessage);
                 break;
@@ -176,6 +180,16 @@ public class RegistryExceptions extends RuntimeException {
         }
     }
 
+    /**
+     * The service could not process the request at this time, for example because of concurrent writes to the group. 
+     * The request can be sent again. 
+     */
+    public static class ServiceUnavailableException extends RegistryExceptions implements RetryableException {
+        public ServiceUnavailableException(String errorMessage) {
+            super(errorMessage);
+        }
+    }
+
     /**
      * The request processing failed on the service.
      */
@@ -0,0 +1,79 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.client;
+
+import io.pravega.schemaregistry.contract.generated.rest.model.CreateGroupRequest;
+import io.pravega.schemaregistry.contract.v1.ApiV1;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.ClientBuilder;
+import javax.ws.rs.client.ClientRequestContext;
+import javax.ws.rs.client.ClientRequestFilter;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class AsyncWebResourceTest {
+    private static final String URI = "http://localhost:9092";
+
+    private Client client;
+    private AtomicReference<ClientRequestContext> lastRequest;
+    private AsyncWebResource<ApiV1.GroupsApi> resource;
+
+    @Before
+    public void setUp() {
+        lastRequest = new AtomicReference<>();
+        client = ClientBuilder.newClient();
+        // requests are answered by the filter without being sent to a service.
+        client.register((ClientRequestFilter) context -> {
+            lastRequest.set(context);
+            context.abortWith(Response.status(Response.Status.CREATED).build());
+        });
+        resource = new AsyncWebResource<>(ApiV1.GroupsApi.class, client.target(URI));
+    }
+
+    @After
+    public void tearDown() {
+        client.close();
+    }
+
+    @Test
+    public void testRequestIsBuiltFromAnnotations() {
+        CreateGroupRequest createGroupRequest = new CreateGroupRequest().groupName("grp");
+        Response response = resource.invoke(api -> api.createGroup("ns", createGroupRequest)).join();
+        assertEquals(Response.Status.CREATED.getStatusCode(), response.getStatus());
+        ClientRequestContext request = lastRequest.get();
+        assertEquals("POST", request.getMethod());
+        assertEquals(URI + "/v1/groups?namespace=ns", request.getUri().toString());
+        assertSame(createGroupRequest, request.getEntity());
+        assertEquals(MediaType.APPLICATION_JSON_TYPE, request.getMediaType());
+
+        // path parameters are resolved and query parameters without value are skipped.
+        resource.invoke(api -> api.getSchemaVersions(null, "grp", "type", null, 10)).join();
+        request = lastRequest.get();
+        assertEquals("GET", request.getMethod());
+        assertEquals(URI + "/v1/groups/grp/schemas/versions?type=type&limit=10", request.getUri().toString());
+        assertFalse(request.hasEntity());
+
+        resource.invoke(api -> api.deleteSchemaForId(null, "grp", 1)).join();
+        request = lastRequest.get();
+        assertEquals("DELETE", request.getMethod());
+        assertEquals(URI + "/v1/groups/grp/schemas/schema/1", request.getUri().toString());
+        assertNull(request.getEntity());
+    }
+}
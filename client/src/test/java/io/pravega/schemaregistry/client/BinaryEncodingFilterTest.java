@@ -0,0 +1,66 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.client;
+
+import io.pravega.schemaregistry.contract.v1.SmileProvider;
+import org.junit.Test;
+
+import javax.ws.rs.client.ClientRequestContext;
+import javax.ws.rs.client.ClientResponseContext;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+public class BinaryEncodingFilterTest {
+    @Test
+    public void testRequestEntityEncoding() {
+        BinaryEncodingFilter filter = new BinaryEncodingFilter();
+
+        // request entities are sent as json until the service responds with the binary encoding.
+        MultivaluedMap<String, Object> headers = filter(filter);
+        assertTrue(headers.getFirst(HttpHeaders.ACCEPT).toString().startsWith(SmileProvider.APPLICATION_SMILE));
+        assertNull(headers.getFirst(HttpHeaders.CONTENT_TYPE));
+
+        // a json response, for example from a service that only supports json, does not change the encoding.
+        respond(filter, MediaType.APPLICATION_JSON_TYPE);
+        assertFalse(filter.isBinaryEncodingSupported());
+        assertNull(filter(filter).getFirst(HttpHeaders.CONTENT_TYPE));
+
+        respond(filter, MediaType.valueOf(SmileProvider.APPLICATION_SMILE));
+        assertTrue(filter.isBinaryEncodingSupported());
+        headers = filter(filter);
+        assertEquals(SmileProvider.APPLICATION_SMILE, headers.getFirst(HttpHeaders.CONTENT_TYPE));
+        assertTrue(headers.getFirst(HttpHeaders.ACCEPT).toString().startsWith(SmileProvider.APPLICATION_SMILE));
+    }
+
+    private MultivaluedMap<String, Object> filter(BinaryEncodingFilter filter) {
+        MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+        ClientRequestContext request = mock(ClientRequestContext.class);
+        doReturn(headers).when(request).getHeaders();
+        doReturn(true).when(request).hasEntity();
+        doReturn(MediaType.APPLICATION_JSON_TYPE).when(request).getMediaType();
+        filter.filter(request);
+        return headers;
+    }
+
+    private void respond(BinaryEncodingFilter filter, MediaType mediaType) {
+        ClientResponseContext response = mock(ClientResponseContext.class);
+        doReturn(mediaType).when(response).getMediaType();
+        filter.filter(mock(ClientRequestContext.class), response);
+    }
+}
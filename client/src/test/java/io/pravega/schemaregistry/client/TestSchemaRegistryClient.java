@@ -11,6 +11,7 @@ package io.pravega.schemaregistry.client;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
+import io.pravega.common.concurrent.ExecutorServiceHelpers;
 import io.pravega.schemaregistry.contract.data.CodecType;
 import io.pravega.schemaregistry.contract.data.Compatibility;
 import io.pravega.schemaregistry.contract.data.EncodingId;
@@ -19,10 +20,14 @@ import io.pravega.schemaregistry.contract.data.SchemaInfo;
 import io.pravega.schemaregistry.contract.data.SchemaWithVersion;
 import io.pravega.schemaregistry.contract.data.SerializationFormat;
 import io.pravega.schemaregistry.contract.data.VersionInfo;
+import io.pravega.schemaregistry.contract.generated.rest.model.AddSchemasResponse;
 import io.pravega.schemaregistry.contract.generated.rest.model.CanRead;
 import io.pravega.schemaregistry.contract.generated.rest.model.CodecTypes;
+import io.pravega.schemaregistry.contract.generated.rest.model.EncodingIds;
+import io.pravega.schemaregistry.contract.generated.rest.model.EncodingInfoList;
 import io.pravega.schemaregistry.contract.generated.rest.model.GroupHistory;
 import io.pravega.schemaregistry.contract.generated.rest.model.GroupHistoryRecord;
+import io.pravega.schemaregistry.contract.generated.rest.model.GroupIncarnation;
 import io.pravega.schemaregistry.contract.generated.rest.model.GroupProperties;
 import io.pravega.schemaregistry.contract.generated.rest.model.ListGroupsResponse;
 import io.pravega.schemaregistry.contract.generated.rest.model.SchemaVersionsList;
@@ -35,9 +40,15 @@ import org.junit.Test;
 
 import javax.ws.rs.core.Response;
 import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.AbstractMap;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 import static io.pravega.schemaregistry.client.exceptions.RegistryExceptions.*;
 import static org.junit.Assert.*;
@@ -97,6 +108,33 @@ public class TestSchemaRegistryClient {
         reset(response);
     }
 
+    @Test
+    public void testServiceUnavailableIsRetried() {
+        ApiV1.GroupsApi proxy = mock(ApiV1.GroupsApi.class);
+        SchemaRegistryClientImpl client = new SchemaRegistryClientImpl(proxy);
+        io.pravega.schemaregistry.contract.data.GroupProperties groupProperties = new io.pravega.schemaregistry.contract.data.GroupProperties(
+                SerializationFormat.Avro, Compatibility.backward(), true);
+        Response unavailable = mock(Response.class);
+        doReturn(Response.Status.SERVICE_UNAVAILABLE.getStatusCode()).when(unavailable).getStatus();
+        Response created = mock(Response.class);
+        doReturn(Response.Status.CREATED.getStatusCode()).when(created).getStatus();
+        Response conflict = mock(Response.class);
+        doReturn(Response.Status.CONFLICT.getStatusCode()).when(conflict).getStatus();
+
+        // a write that failed because of concurrent writes is sent again
+        doReturn(unavailable, created).when(proxy).createGroup(any(), any());
+        assertTrue(client.addGroup("grp1", groupProperties));
+        verify(proxy, times(2)).createGroup(any(), any());
+        // the responses of all attempts are closed
+        verify(unavailable, times(1)).close();
+        verify(created, times(1)).close();
+
+        // a conflict is not retried
+        doReturn(conflict).when(proxy).createGroup(any(), any());
+        assertFalse(client.addGroup("grp1", groupProperties));
+        verify(proxy, times(3)).createGroup(any(), any());
+    }
+
     @Test
     public void testListGroup() {
         ApiV1.GroupsApi proxy = mock(ApiV1.GroupsApi.class);
@@ -177,6 +215,22 @@ public class TestSchemaRegistryClient {
                 "mygroup"), e -> e instanceof InternalServerError);
     }
 
+    @Test
+    public void testGetGroupIncarnation() {
+        ApiV1.GroupsApi proxy = mock(ApiV1.GroupsApi.class);
+        SchemaRegistryClientImpl client = new SchemaRegistryClientImpl(proxy);
+        Response response = mock(Response.class);
+        doReturn(response).when(proxy).getGroupIncarnation(any(), anyString());
+
+        doReturn(Response.Status.OK.getStatusCode()).when(response).getStatus();
+        doReturn(new GroupIncarnation().incarnationId("incarnation")).when(response).readEntity(eq(GroupIncarnation.class));
+        assertEquals("incarnation", client.getGroupIncarnation("mygroup"));
+        // ResourceNotFoundException
+        doReturn(Response.Status.NOT_FOUND.getStatusCode()).when(response).getStatus();
+        AssertExtensions.assertThrows("An exception should have been thrown", () -> client.getGroupIncarnation(
+                "mygroup"), e -> e instanceof ResourceNotFoundException);
+    }
+
     @Test
     public void testUpdateCompatibility() {
         ApiV1.GroupsApi proxy = mock(ApiV1.GroupsApi.class);
@@ -271,6 +325,44 @@ public class TestSchemaRegistryClient {
                 () -> client.addSchema("mygroup", schemaInfo), e -> e instanceof InternalServerError);
     }
 
+    @Test
+    public void testAddSchemas() {
+        ApiV1.GroupsApi proxy = mock(ApiV1.GroupsApi.class);
+        SchemaRegistryClientImpl client = new SchemaRegistryClientImpl(proxy);
+        Response response = mock(Response.class);
+        doReturn(response).when(proxy).addSchemas(any(), anyString(), any());
+        doReturn(Response.Status.CREATED.getStatusCode()).when(response).getStatus();
+        SerializationFormat serializationFormat = SerializationFormat.custom("custom");
+        ByteBuffer schemaData = ByteBuffer.wrap(new byte[0]);
+        SchemaInfo schemaInfo1 = new SchemaInfo("schema1", serializationFormat, schemaData, ImmutableMap.of());
+        SchemaInfo schemaInfo2 = new SchemaInfo("schema2", serializationFormat, schemaData, ImmutableMap.of());
+        List<SchemaInfo> schemas = Lists.newArrayList(schemaInfo1, schemaInfo2);
+        AddSchemasResponse versions = new AddSchemasResponse()
+                .addVersionsItem(new io.pravega.schemaregistry.contract.generated.rest.model.VersionInfo()
+                        .serializationFormat("custom").version(0).type("schema1").id(0))
+                .addVersionsItem(new io.pravega.schemaregistry.contract.generated.rest.model.VersionInfo()
+                        .serializationFormat("custom").version(0).type("schema2").id(1));
+        doReturn(versions).when(response).readEntity(AddSchemasResponse.class);
+        List<VersionInfo> versionInfos = client.addSchemas("mygroup", schemas);
+        assertEquals(2, versionInfos.size());
+        assertEquals("schema1", versionInfos.get(0).getType());
+        assertEquals(0, versionInfos.get(0).getId());
+        assertEquals("schema2", versionInfos.get(1).getType());
+        assertEquals(1, versionInfos.get(1).getId());
+        // NotFound Exception
+        doReturn(Response.Status.NOT_FOUND.getStatusCode()).when(response).getStatus();
+        AssertExtensions.assertThrows("An exception should have been thrown",
+                () -> client.addSchemas("mygroup", schemas), e -> e instanceof ResourceNotFoundException);
+        // SchemaIncompatible exception
+        doReturn(Response.Status.CONFLICT.getStatusCode()).when(response).getStatus();
+        AssertExtensions.assertThrows("An exception should have been thrown",
+                () -> client.addSchemas("mygroup", schemas), e -> e instanceof SchemaValidationFailedException);
+        // SerializationFormatInvalid Exception
+        doReturn(Response.Status.EXPECTATION_FAILED.getStatusCode()).when(response).getStatus();
+        AssertExtensions.assertThrows("An exception should have been thrown",
+                () -> client.addSchemas("mygroup", schemas), e -> e instanceof SerializationMismatchException);
+    }
+
     @Test
     public void testGetSchema() {
         ApiV1.GroupsApi proxy = mock(ApiV1.GroupsApi.class);
@@ -331,6 +423,35 @@ public class TestSchemaRegistryClient {
                 () -> client.getEncodingInfo("mygroup", encodingId), e -> e instanceof InternalServerError);
     }
 
+    @Test
+    public void testGetEncodingInfos() {
+        ApiV1.GroupsApi proxy = mock(ApiV1.GroupsApi.class);
+        SchemaRegistryClientImpl client = new SchemaRegistryClientImpl(proxy);
+        Response response = mock(Response.class);
+        doReturn(response).when(proxy).getEncodingInfos(any(), anyString(), anyInt(), anyInt());
+
+        doReturn(Response.Status.OK.getStatusCode()).when(response).getStatus();
+        SerializationFormat serializationFormat = SerializationFormat.custom("custom");
+        VersionInfo versionInfo = new VersionInfo("schema2", serializationFormat.getFullTypeName(), 5, 5);
+        SchemaInfo schemaInfo = new SchemaInfo("schema1", serializationFormat, ByteBuffer.wrap(new byte[0]), ImmutableMap.of());
+        EncodingInfo encodingInfo = new EncodingInfo(versionInfo, schemaInfo, new CodecType("gzip"));
+        EncodingInfo encodingInfo2 = new EncodingInfo(versionInfo, schemaInfo, new CodecType("snappy"));
+        doReturn(new EncodingInfoList().encodingInfos(Lists.newArrayList(ModelHelper.encode(encodingInfo), ModelHelper.encode(encodingInfo2))))
+                .when(response).readEntity(EncodingInfoList.class);
+        List<EncodingInfo> encodingInfos = client.getEncodingInfos("mygroup", 3, 10);
+        assertEquals(Lists.newArrayList(encodingInfo, encodingInfo2), encodingInfos);
+        verify(proxy).getEncodingInfos(any(), eq("mygroup"), eq(3), eq(10));
+        verify(response).close();
+        // NotFound exception
+        doReturn(Response.Status.NOT_FOUND.getStatusCode()).when(response).getStatus();
+        AssertExtensions.assertThrows("An exception should have been thrown",
+                () -> client.getEncodingInfos("mygroup", 3, 10), e -> e instanceof ResourceNotFoundException);
+        // Runtime Exception
+        doReturn(Response.Status.CONFLICT.getStatusCode()).when(response).getStatus();
+        AssertExtensions.assertThrows("An exception should have been thrown",
+                () -> client.getEncodingInfos("mygroup", 3, 10), e -> e instanceof InternalServerError);
+    }
+
     @Test
     public void testGetEncodingId() {
         ApiV1.GroupsApi proxy = mock(ApiV1.GroupsApi.class);
@@ -360,6 +481,113 @@ public class TestSchemaRegistryClient {
                 () -> client.getEncodingId("mygroup", versionInfo, codecType), e -> e instanceof InternalServerError);
     }
 
+    @Test
+    public void testGetEncodingIds() {
+        ApiV1.GroupsApi proxy = mock(ApiV1.GroupsApi.class);
+        SchemaRegistryClientImpl client = new SchemaRegistryClientImpl(proxy);
+        Response response = mock(Response.class);
+        doReturn(response).when(proxy).getEncodingIds(any(), anyString(), any());
+
+        doReturn(Response.Status.OK.getStatusCode()).when(response).getStatus();
+        VersionInfo versionInfo = new VersionInfo("schema2", "a", 5, 5);
+        List<Map.Entry<VersionInfo, String>> encodings = Lists.newArrayList(new AbstractMap.SimpleEntry<>(versionInfo, "gzip"), 
+                new AbstractMap.SimpleEntry<>(versionInfo, ""));
+        EncodingIds encodingIds = new EncodingIds().encodingIds(Lists.newArrayList(ModelHelper.encode(new EncodingId(5)), 
+                ModelHelper.encode(new EncodingId(6))));
+        doReturn(encodingIds).when(response).readEntity(EncodingIds.class);
+        List<EncodingId> output = client.getEncodingIds("mygroup", encodings);
+        assertEquals(Lists.newArrayList(new EncodingId(5), new EncodingId(6)), output);
+        // NotFound Exception
+        doReturn(Response.Status.NOT_FOUND.getStatusCode()).when(response).getStatus();
+        AssertExtensions.assertThrows("An exception should have been thrown",
+                () -> client.getEncodingIds("mygroup", encodings), e -> e instanceof ResourceNotFoundException);
+        // CodecTypeNotRegistered Exception
+        doReturn(Response.Status.PRECONDITION_FAILED.getStatusCode()).when(response).getStatus();
+        AssertExtensions.assertThrows("An exception should have been thrown",
+                () -> client.getEncodingIds("mygroup", encodings), e -> e instanceof CodecTypeNotRegisteredException);
+    }
+
+    @Test
+    public void testAddSchemaAndGetEncodingId() {
+        ApiV1.GroupsApi proxy = mock(ApiV1.GroupsApi.class);
+        SchemaRegistryClientImpl client = new SchemaRegistryClientImpl(proxy);
+        Response response = mock(Response.class);
+        doReturn(response).when(proxy).addSchemaAndGetEncodingId(any(), anyString(), any());
+
+        doReturn(Response.Status.OK.getStatusCode()).when(response).getStatus();
+        SchemaInfo schemaInfo = new SchemaInfo("schema1", SerializationFormat.custom("custom"), ByteBuffer.wrap(new byte[0]), 
+                ImmutableMap.of());
+        doReturn(ModelHelper.encode(new EncodingId(5))).when(response).readEntity(
+                io.pravega.schemaregistry.contract.generated.rest.model.EncodingId.class);
+        assertEquals(new EncodingId(5), client.addSchemaAndGetEncodingId("mygroup", schemaInfo, "gzip"));
+        // the schema and the encoding id are obtained with a single call
+        verify(proxy, times(1)).addSchemaAndGetEncodingId(any(), anyString(), any());
+        verify(proxy, never()).addSchema(any(), anyString(), any());
+        verify(proxy, never()).getEncodingId(any(), anyString(), any());
+        // Conflict Exception
+        doReturn(Response.Status.CONFLICT.getStatusCode()).when(response).getStatus();
+        AssertExtensions.assertThrows("An exception should have been thrown",
+                () -> client.addSchemaAndGetEncodingId("mygroup", schemaInfo, "gzip"), 
+                e -> e instanceof SchemaValidationFailedException);
+        // CodecTypeNotRegistered Exception
+        doReturn(Response.Status.PRECONDITION_FAILED.getStatusCode()).when(response).getStatus();
+        AssertExtensions.assertThrows("An exception should have been thrown",
+                () -> client.addSchemaAndGetEncodingId("mygroup", schemaInfo, "gzip"), 
+                e -> e instanceof CodecTypeNotRegisteredException);
+    }
+
+    @Test
+    public void testAddSchemaAndGetEncodingIdWithOlderService() {
+        ApiV1.GroupsApi proxy = mock(ApiV1.GroupsApi.class);
+        SchemaRegistryClientImpl client = new SchemaRegistryClientImpl(proxy);
+        SchemaInfo schemaInfo = new SchemaInfo("schema1", SerializationFormat.custom("custom"), ByteBuffer.wrap(new byte[0]), 
+                ImmutableMap.of());
+        // a service that predates the combined request does not know the path.
+        Response notFound = mock(Response.class);
+        doReturn(Response.Status.NOT_FOUND.getStatusCode()).when(notFound).getStatus();
+        doReturn(notFound).when(proxy).addSchemaAndGetEncodingId(any(), anyString(), any());
+        Response addSchemaResponse = mock(Response.class);
+        doReturn(Response.Status.CREATED.getStatusCode()).when(addSchemaResponse).getStatus();
+        doReturn(ModelHelper.encode(new VersionInfo("schema1", "custom", 0, 0))).when(addSchemaResponse).readEntity(
+                io.pravega.schemaregistry.contract.generated.rest.model.VersionInfo.class);
+        doReturn(addSchemaResponse).when(proxy).addSchema(any(), anyString(), any());
+        Response encodingIdResponse = mock(Response.class);
+        doReturn(Response.Status.OK.getStatusCode()).when(encodingIdResponse).getStatus();
+        doReturn(ModelHelper.encode(new EncodingId(5))).when(encodingIdResponse).readEntity(
+                io.pravega.schemaregistry.contract.generated.rest.model.EncodingId.class);
+        doReturn(encodingIdResponse).when(proxy).getEncodingId(any(), anyString(), any());
+
+        assertEquals(new EncodingId(5), client.addSchemaAndGetEncodingId("mygroup", schemaInfo, "gzip"));
+        verify(proxy, times(1)).addSchemaAndGetEncodingId(any(), anyString(), any());
+        verify(proxy, times(1)).addSchema(any(), anyString(), any());
+        verify(proxy, times(1)).getEncodingId(any(), anyString(), any());
+        // once the service is known not to support the combined request, it is not attempted again.
+        assertEquals(new EncodingId(5), client.addSchemaAndGetEncodingId("mygroup", schemaInfo, "gzip"));
+        verify(proxy, times(1)).addSchemaAndGetEncodingId(any(), anyString(), any());
+        verify(proxy, times(2)).addSchema(any(), anyString(), any());
+        verify(proxy, times(2)).getEncodingId(any(), anyString(), any());
+    }
+
+    @Test
+    public void testAddSchemaAndGetEncodingIdGroupNotFound() {
+        ApiV1.GroupsApi proxy = mock(ApiV1.GroupsApi.class);
+        SchemaRegistryClientImpl client = new SchemaRegistryClientImpl(proxy);
+        SchemaInfo schemaInfo = new SchemaInfo("schema1", SerializationFormat.custom("custom"), ByteBuffer.wrap(new byte[0]), 
+                ImmutableMap.of());
+        Response notFound = mock(Response.class);
+        doReturn(Response.Status.NOT_FOUND.getStatusCode()).when(notFound).getStatus();
+        doReturn(notFound).when(proxy).addSchemaAndGetEncodingId(any(), anyString(), any());
+        doReturn(notFound).when(proxy).addSchema(any(), anyString(), any());
+        AssertExtensions.assertThrows("An exception should have been thrown",
+                () -> client.addSchemaAndGetEncodingId("mygroup", schemaInfo, "gzip"), 
+                e -> e instanceof ResourceNotFoundException);
+        // the group was missing, so the combined request is still used.
+        AssertExtensions.assertThrows("An exception should have been thrown",
+                () -> client.addSchemaAndGetEncodingId("mygroup", schemaInfo, "gzip"), 
+                e -> e instanceof ResourceNotFoundException);
+        verify(proxy, times(2)).addSchemaAndGetEncodingId(any(), anyString(), any());
+    }
+
     @Test
     public void testGetLatestSchemaForGroup() {
         ApiV1.GroupsApi proxy = mock(ApiV1.GroupsApi.class);
@@ -418,7 +646,7 @@ public class TestSchemaRegistryClient {
         ApiV1.GroupsApi proxy = mock(ApiV1.GroupsApi.class);
         SchemaRegistryClientImpl client = new SchemaRegistryClientImpl(proxy);
         Response response = mock(Response.class);
-        doReturn(response).when(proxy).getGroupHistory(any(), anyString());
+        doReturn(response).when(proxy).getGroupHistory(any(), anyString(), any(), any());
 
         doReturn(Response.Status.OK.getStatusCode()).when(response).getStatus();
         SerializationFormat serializationFormat = SerializationFormat.custom("custom");
@@ -447,6 +675,21 @@ public class TestSchemaRegistryClient {
         doReturn(Response.Status.CONFLICT.getStatusCode()).when(response).getStatus();
         AssertExtensions.assertThrows("An exception should have been thrown",
                 () -> client.getGroupHistory("mygroup"), e -> e instanceof InternalServerError);
+        
+        // paginated history is fetched until an empty page is returned.
+        Response page1 = mock(Response.class);
+        doReturn(Response.Status.OK.getStatusCode()).when(page1).getStatus();
+        doReturn(new GroupHistory().history(Collections.singletonList(groupHistoryRecord)).continuationToken("1"))
+                .when(page1).readEntity(GroupHistory.class);
+        Response page2 = mock(Response.class);
+        doReturn(Response.Status.OK.getStatusCode()).when(page2).getStatus();
+        doReturn(new GroupHistory().history(Collections.emptyList()).continuationToken("1"))
+                .when(page2).readEntity(GroupHistory.class);
+        doReturn(page1).when(proxy).getGroupHistory(any(), anyString(), isNull(), any());
+        doReturn(page2).when(proxy).getGroupHistory(any(), anyString(), eq("1"), any());
+        groupHistoryList = client.getGroupHistory("mygroup");
+        assertEquals(1, groupHistoryList.size());
+        verify(proxy).getGroupHistory(any(), anyString(), eq("1"), any());
     }
 
     @Test
@@ -481,7 +724,7 @@ public class TestSchemaRegistryClient {
         ApiV1.GroupsApi proxy = mock(ApiV1.GroupsApi.class);
         SchemaRegistryClientImpl client = new SchemaRegistryClientImpl(proxy);
         Response response = mock(Response.class);
-        doReturn(response).when(proxy).getSchemaVersions(any(), anyString(), any());
+        doReturn(response).when(proxy).getSchemaVersions(any(), anyString(), any(), any(), any());
 
         doReturn(Response.Status.OK.getStatusCode()).when(response).getStatus();
         SerializationFormat serializationFormat = SerializationFormat.custom("custom");
@@ -613,4 +856,136 @@ public class TestSchemaRegistryClient {
         AssertExtensions.assertThrows("An exception should have been thrown",
                 () -> client.addCodecType("mygroup", codecType), e -> e instanceof InternalServerError);
     }
+
+    @Test
+    public void testAsyncClient() throws Exception {
+        ApiV1.GroupsApi proxy = mock(ApiV1.GroupsApi.class);
+        @SuppressWarnings("unchecked")
+        AsyncWebResource<ApiV1.GroupsApi> groupResource = mock(AsyncWebResource.class);
+        AtomicInteger connectionFailures = new AtomicInteger(0);
+        doAnswer(x -> {
+            if (connectionFailures.getAndUpdate(i -> Math.max(0, i - 1)) > 0) {
+                CompletableFuture<Response> failed = new CompletableFuture<>();
+                failed.completeExceptionally(new ConnectionException("connection refused"));
+                return failed;
+            }
+            Function<ApiV1.GroupsApi, Response> request = x.getArgument(0);
+            return CompletableFuture.completedFuture(request.apply(proxy));
+        }).when(groupResource).invoke(any());
+        ScheduledExecutorService executor = ExecutorServiceHelpers.newScheduledThreadPool(2, "test");
+        @SuppressWarnings("unchecked")
+        AsyncSchemaRegistryClientImpl asyncClient = new AsyncSchemaRegistryClientImpl(groupResource, mock(AsyncWebResource.class), executor);
+        io.pravega.schemaregistry.contract.data.GroupProperties groupProperties = new io.pravega.schemaregistry.contract.data.GroupProperties(
+                SerializationFormat.Avro, Compatibility.backward(), true);
+        Response response = mock(Response.class);
+        doReturn(response).when(proxy).getGroupProperties(null, "grp1");
+        doReturn(Response.Status.OK.getStatusCode()).when(response).getStatus();
+        doReturn(ModelHelper.encode(groupProperties)).when(response).readEntity(eq(GroupProperties.class));
+
+        // connection failures are retried
+        connectionFailures.set(1);
+        assertEquals(groupProperties, asyncClient.getGroupProperties("grp1").join());
+        verify(groupResource, times(2)).invoke(any());
+        verify(proxy, times(1)).getGroupProperties(null, "grp1");
+
+        // other failures are surfaced to the caller
+        Response notFound = mock(Response.class);
+        doReturn(Response.Status.NOT_FOUND.getStatusCode()).when(notFound).getStatus();
+        doReturn(notFound).when(proxy).getGroupProperties(null, "grp2");
+        AssertExtensions.assertFutureThrows("Exception should have been thrown",
+                asyncClient.getGroupProperties("grp2"),
+                e -> e instanceof ResourceNotFoundException);
+        verify(proxy, times(1)).getGroupProperties(null, "grp2");
+        verify(notFound, times(1)).close();
+
+        // all pages of groups are listed
+        Response page1 = mock(Response.class);
+        Response page2 = mock(Response.class);
+        doReturn(page1).when(proxy).listGroups(null, null, 100);
+        doReturn(page2).when(proxy).listGroups(null, "token1", 100);
+        doReturn(Response.Status.OK.getStatusCode()).when(page1).getStatus();
+        doReturn(Response.Status.OK.getStatusCode()).when(page2).getStatus();
+        doReturn(new ListGroupsResponse().groups(Collections.singletonMap("grp1", ModelHelper.encode(groupProperties))).continuationToken("token1"))
+                .when(page1).readEntity(eq(ListGroupsResponse.class));
+        doReturn(new ListGroupsResponse().groups(Collections.emptyMap()).continuationToken("token2"))
+                .when(page2).readEntity(eq(ListGroupsResponse.class));
+        List<Map.Entry<String, io.pravega.schemaregistry.contract.data.GroupProperties>> groups = asyncClient.listGroups().join();
+        assertEquals(1, groups.size());
+        assertEquals("grp1", groups.get(0).getKey());
+
+        // blocking adapter
+        SchemaRegistryClient blockingClient = SchemaRegistryClientFactory.fromAsyncClient(asyncClient);
+        assertEquals(groupProperties, blockingClient.getGroupProperties("grp1"));
+        AssertExtensions.assertThrows("Exception should have been thrown",
+                () -> blockingClient.getGroupProperties("grp2"),
+                e -> e instanceof ResourceNotFoundException);
+        
+        blockingClient.close();
+        assertTrue(executor.isShutdown());
+    }
+
+    @Test
+    public void testCachingClient() throws Exception {
+        SchemaRegistryClient client = mock(SchemaRegistryClient.class);
+        CachingSchemaRegistryClient cachingClient = SchemaRegistryClientFactory.withCache(client);
+        SchemaInfo schemaInfo = new SchemaInfo("name", SerializationFormat.Avro, ByteBuffer.wrap(new byte[0]), ImmutableMap.of());
+        VersionInfo versionInfo = new VersionInfo("name", SerializationFormat.Avro.getFullTypeName(), 0, 0);
+        EncodingId encodingId = new EncodingId(0);
+        EncodingInfo encodingInfo = new EncodingInfo(versionInfo, schemaInfo, CodecType.NONE);
+        
+        // immutable responses are fetched once
+        doReturn(encodingInfo).when(client).getEncodingInfo("grp", encodingId);
+        assertEquals(encodingInfo, cachingClient.getEncodingInfo("grp", encodingId));
+        assertEquals(encodingInfo, cachingClient.getEncodingInfo("grp", encodingId));
+        verify(client, times(1)).getEncodingInfo("grp", encodingId);
+        assertEquals(1, cachingClient.getStats().hitCount());
+        assertEquals(1, cachingClient.getStats().missCount());
+
+        // encoding infos fetched in bulk are cached by their encoding ids
+        EncodingId encodingId2 = new EncodingId(1);
+        doReturn(Lists.newArrayList(encodingInfo, encodingInfo)).when(client).getEncodingInfos("grp2", 0, 10);
+        assertEquals(2, cachingClient.getEncodingInfos("grp2", 0, 10).size());
+        assertEquals(encodingInfo, cachingClient.getEncodingInfo("grp2", encodingId2));
+        verify(client, never()).getEncodingInfo("grp2", encodingId2);
+
+        doReturn(schemaInfo).when(client).getSchemaForVersion("grp", versionInfo);
+        assertEquals(schemaInfo, cachingClient.getSchemaForVersion("grp", versionInfo));
+        assertEquals(schemaInfo, cachingClient.getSchemaForVersion("grp", versionInfo));
+        verify(client, times(1)).getSchemaForVersion("grp", versionInfo);
+
+        // failures are not cached
+        doThrow(new ResourceNotFoundException("not found")).when(client).getVersionForSchema("grp", schemaInfo);
+        AssertExtensions.assertThrows("Exception should have been thrown",
+                () -> cachingClient.getVersionForSchema("grp", schemaInfo),
+                e -> e instanceof ResourceNotFoundException);
+        doReturn(versionInfo).when(client).addSchema("grp", schemaInfo);
+        assertEquals(versionInfo, cachingClient.addSchema("grp", schemaInfo));
+        assertEquals(versionInfo, cachingClient.getVersionForSchema("grp", schemaInfo));
+        verify(client, times(1)).getVersionForSchema("grp", schemaInfo);
+
+        // mutable responses are invalidated on updates through the client
+        doReturn(Collections.emptyList()).when(client).getCodecTypes("grp");
+        assertTrue(cachingClient.getCodecTypes("grp").isEmpty());
+        assertTrue(cachingClient.getCodecTypes("grp").isEmpty());
+        verify(client, times(1)).getCodecTypes("grp");
+        CodecType codecType = new CodecType("mycodec");
+        cachingClient.addCodecType("grp", codecType);
+        doReturn(Collections.singletonList(codecType)).when(client).getCodecTypes("grp");
+        assertEquals(Collections.singletonList(codecType), cachingClient.getCodecTypes("grp"));
+        verify(client, times(2)).getCodecTypes("grp");
+
+        // latest schema may be absent 
+        assertNull(cachingClient.getLatestSchemaVersion("grp", null));
+        assertNull(cachingClient.getLatestSchemaVersion("grp", null));
+        verify(client, times(1)).getLatestSchemaVersion("grp", null);
+
+        // mutable responses expire
+        CachingSchemaRegistryClient expiringClient = SchemaRegistryClientFactory.withCache(client, 10, Duration.ZERO);
+        expiringClient.getCodecTypes("grp");
+        expiringClient.getCodecTypes("grp");
+        verify(client, times(4)).getCodecTypes("grp");
+        
+        cachingClient.close();
+        verify(client, times(1)).close();
+    }
 }
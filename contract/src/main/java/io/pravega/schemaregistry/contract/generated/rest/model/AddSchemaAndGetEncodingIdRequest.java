@@ -0,0 +1,117 @@
+/*
+ * Pravega Schema Registry APIs
+ * REST APIs for Pravega Schema Registry.
+ *
+ * OpenAPI spec version: 0.0.1
+ * 
+ *
+ * NOTE: This class is auto generated by the swagger code generator program.
+ * https://github.com/swagger-api/swagger-codegen.git
+ * Do not edit the class manually.
+ */
+
+
+package io.pravega.schemaregistry.contract.generated.rest.model;
+
+import java.util.Objects;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import io.pravega.schemaregistry.contract.generated.rest.model.SchemaInfo;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import javax.validation.constraints.*;
+
+/**
+ * AddSchemaAndGetEncodingIdRequest
+ */
+
+public class AddSchemaAndGetEncodingIdRequest   {
+  @JsonProperty("schemaInfo")
+  private SchemaInfo schemaInfo = null;
+
+  @JsonProperty("codecType")
+  private String codecType = null;
+
+  public AddSchemaAndGetEncodingIdRequest schemaInfo(SchemaInfo schemaInfo) {
+    this.schemaInfo = schemaInfo;
+    return this;
+  }
+
+  /**
+   * Get schemaInfo
+   * @return schemaInfo
+   **/
+  @JsonProperty("schemaInfo")
+  @ApiModelProperty(required = true, value = "")
+  @NotNull
+  public SchemaInfo getSchemaInfo() {
+    return schemaInfo;
+  }
+
+  public void setSchemaInfo(SchemaInfo schemaInfo) {
+    this.schemaInfo = schemaInfo;
+  }
+
+  public AddSchemaAndGetEncodingIdRequest codecType(String codecType) {
+    this.codecType = codecType;
+    return this;
+  }
+
+  /**
+   * Get codecType
+   * @return codecType
+   **/
+  @JsonProperty("codecType")
+  @ApiModelProperty(required = true, value = "")
+  @NotNull
+  public String getCodecType() {
+    return codecType;
+  }
+
+  public void setCodecType(String codecType) {
+    this.codecType = codecType;
+  }
+
+
+  @Override
+  public boolean equals(java.lang.Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    AddSchemaAndGetEncodingIdRequest addSchemaAndGetEncodingIdRequest = (AddSchemaAndGetEncodingIdRequest) o;
+    return Objects.equals(this.schemaInfo, addSchemaAndGetEncodingIdRequest.schemaInfo) &&
+        Objects.equals(this.codecType, addSchemaAndGetEncodingIdRequest.codecType);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(schemaInfo, codecType);
+  }
+
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class AddSchemaAndGetEncodingIdRequest {\n");
+    
+    sb.append("    schemaInfo: ").append(toIndentedString(schemaInfo)).append("\n");
+    sb.append("    codecType: ").append(toIndentedString(codecType)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(java.lang.Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+}
+
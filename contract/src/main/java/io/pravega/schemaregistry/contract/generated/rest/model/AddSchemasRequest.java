@@ -0,0 +1,98 @@
+/*
+ * Pravega Schema Registry APIs
+ * REST APIs for Pravega Schema Registry.
+ *
+ * OpenAPI spec version: 0.0.1
+ * 
+ *
+ * NOTE: This class is auto generated by the swagger code generator program.
+ * https://github.com/swagger-api/swagger-codegen.git
+ * Do not edit the class manually.
+ */
+
+
+package io.pravega.schemaregistry.contract.generated.rest.model;
+
+import java.util.Objects;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import io.pravega.schemaregistry.contract.generated.rest.model.SchemaInfo;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import java.util.ArrayList;
+import java.util.List;
+import javax.validation.constraints.*;
+
+/**
+ * AddSchemasRequest
+ */
+
+public class AddSchemasRequest   {
+  @JsonProperty("schemas")
+  private List<SchemaInfo> schemas = new ArrayList<SchemaInfo>();
+
+  public AddSchemasRequest schemas(List<SchemaInfo> schemas) {
+    this.schemas = schemas;
+    return this;
+  }
+
+  public AddSchemasRequest addSchemasItem(SchemaInfo schemasItem) {
+    this.schemas.add(schemasItem);
+    return this;
+  }
+
+  /**
+   * Schemas to add in the order in which they should be added.
+   * @return schemas
+   **/
+  @JsonProperty("schemas")
+  @ApiModelProperty(required = true, value = "Schemas to add in the order in which they should be added.")
+  @NotNull
+  public List<SchemaInfo> getSchemas() {
+    return schemas;
+  }
+
+  public void setSchemas(List<SchemaInfo> schemas) {
+    this.schemas = schemas;
+  }
+
+
+  @Override
+  public boolean equals(java.lang.Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    AddSchemasRequest addSchemasRequest = (AddSchemasRequest) o;
+    return Objects.equals(this.schemas, addSchemasRequest.schemas);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(schemas);
+  }
+
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class AddSchemasRequest {\n");
+    
+    sb.append("    schemas: ").append(toIndentedString(schemas)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(java.lang.Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+}
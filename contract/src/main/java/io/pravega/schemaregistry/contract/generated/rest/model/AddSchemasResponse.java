@@ -0,0 +1,99 @@
+/*
+ * Pravega Schema Registry APIs
+ * REST APIs for Pravega Schema Registry.
+ *
+ * OpenAPI spec version: 0.0.1
+ * 
+ *
+ * NOTE: This class is auto generated by the swagger code generator program.
+ * https://github.com/swagger-api/swagger-codegen.git
+ * Do not edit the class manually.
+ */
+
+
+package io.pravega.schemaregistry.contract.generated.rest.model;
+
+import java.util.Objects;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import io.pravega.schemaregistry.contract.generated.rest.model.VersionInfo;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import java.util.ArrayList;
+import java.util.List;
+import javax.validation.constraints.*;
+
+/**
+ * Response object for addSchemas api.
+ */
+@ApiModel(description = "Response object for addSchemas api.")
+
+public class AddSchemasResponse   {
+  @JsonProperty("versions")
+  private List<VersionInfo> versions = new ArrayList<VersionInfo>();
+
+  public AddSchemasResponse versions(List<VersionInfo> versions) {
+    this.versions = versions;
+    return this;
+  }
+
+  public AddSchemasResponse addVersionsItem(VersionInfo versionsItem) {
+    this.versions.add(versionsItem);
+    return this;
+  }
+
+  /**
+   * Versions of the schemas in the same order as the schemas in the request.
+   * @return versions
+   **/
+  @JsonProperty("versions")
+  @ApiModelProperty(required = true, value = "Versions of the schemas in the same order as the schemas in the request.")
+  @NotNull
+  public List<VersionInfo> getVersions() {
+    return versions;
+  }
+
+  public void setVersions(List<VersionInfo> versions) {
+    this.versions = versions;
+  }
+
+
+  @Override
+  public boolean equals(java.lang.Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    AddSchemasResponse addSchemasResponse = (AddSchemasResponse) o;
+    return Objects.equals(this.versions, addSchemasResponse.versions);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(versions);
+  }
+
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class AddSchemasResponse {\n");
+    
+    sb.append("    versions: ").append(toIndentedString(versions)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(java.lang.Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * Pravega Schema Registry APIs
+ * REST APIs for Pravega Schema Registry.
+ *
+ * OpenAPI spec version: 0.0.1
+ * 
+ *
+ * NOTE: This class is auto generated by the swagger code generator program.
+ * https://github.com/swagger-api/swagger-codegen.git
+ * Do not edit the class manually.
+ */
+
+
+package io.pravega.schemaregistry.contract.generated.rest.model;
+
+import java.util.Objects;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import io.pravega.schemaregistry.contract.generated.rest.model.EncodingId;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import java.util.ArrayList;
+import java.util.List;
+import javax.validation.constraints.*;
+
+/**
+ * List of encoding ids.
+ */
+@ApiModel(description = "List of encoding ids.")
+
+public class EncodingIds   {
+  @JsonProperty("encodingIds")
+  private List<EncodingId> encodingIds = new ArrayList<EncodingId>();
+
+  public EncodingIds encodingIds(List<EncodingId> encodingIds) {
+    this.encodingIds = encodingIds;
+    return this;
+  }
+
+  public EncodingIds addEncodingIdsItem(EncodingId encodingIdsItem) {
+    this.encodingIds.add(encodingIdsItem);
+    return this;
+  }
+
+  /**
+   * Encoding ids in the same order as the pairs of schema version and codec type in the request.
+   * @return encodingIds
+   **/
+  @JsonProperty("encodingIds")
+  @ApiModelProperty(required = true, value = "Encoding ids in the same order as the pairs of schema version and codec type in the request.")
+  @NotNull
+  public List<EncodingId> getEncodingIds() {
+    return encodingIds;
+  }
+
+  public void setEncodingIds(List<EncodingId> encodingIds) {
+    this.encodingIds = encodingIds;
+  }
+
+
+  @Override
+  public boolean equals(java.lang.Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    EncodingIds encodingIds = (EncodingIds) o;
+    return Objects.equals(this.encodingIds, encodingIds.encodingIds);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(encodingIds);
+  }
+
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class EncodingIds {\n");
+    
+    sb.append("    encodingIds: ").append(toIndentedString(encodingIds)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(java.lang.Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * Pravega Schema Registry APIs
+ * REST APIs for Pravega Schema Registry.
+ *
+ * OpenAPI spec version: 0.0.1
+ * 
+ *
+ * NOTE: This class is auto generated by the swagger code generator program.
+ * https://github.com/swagger-api/swagger-codegen.git
+ * Do not edit the class manually.
+ */
+
+
+package io.pravega.schemaregistry.contract.generated.rest.model;
+
+import java.util.Objects;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import io.pravega.schemaregistry.contract.generated.rest.model.EncodingInfo;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import java.util.ArrayList;
+import java.util.List;
+import javax.validation.constraints.*;
+
+/**
+ * Encoding information of consecutive encoding ids.
+ */
+@ApiModel(description = "Encoding information of consecutive encoding ids.")
+
+public class EncodingInfoList   {
+  @JsonProperty("encodingInfos")
+  private List<EncodingInfo> encodingInfos = new ArrayList<EncodingInfo>();
+
+  public EncodingInfoList encodingInfos(List<EncodingInfo> encodingInfos) {
+    this.encodingInfos = encodingInfos;
+    return this;
+  }
+
+  public EncodingInfoList addEncodingInfosItem(EncodingInfo encodingInfosItem) {
+    this.encodingInfos.add(encodingInfosItem);
+    return this;
+  }
+
+  /**
+   * Encoding information of the encoding ids fromId, fromId + 1 and so on.
+   * @return encodingInfos
+   **/
+  @JsonProperty("encodingInfos")
+  @ApiModelProperty(required = true, value = "Encoding information of the encoding ids fromId, fromId + 1 and so on.")
+  @NotNull
+  public List<EncodingInfo> getEncodingInfos() {
+    return encodingInfos;
+  }
+
+  public void setEncodingInfos(List<EncodingInfo> encodingInfos) {
+    this.encodingInfos = encodingInfos;
+  }
+
+
+  @Override
+  public boolean equals(java.lang.Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    EncodingInfoList encodingInfoList = (EncodingInfoList) o;
+    return Objects.equals(this.encodingInfos, encodingInfoList.encodingInfos);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(encodingInfos);
+  }
+
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class EncodingInfoList {\n");
+    
+    sb.append("    encodingInfos: ").append(toIndentedString(encodingInfos)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(java.lang.Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+}
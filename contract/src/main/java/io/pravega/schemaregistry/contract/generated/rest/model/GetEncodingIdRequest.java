@@ -22,8 +22,9 @@ import io.swagger.annotations.ApiModelProperty;
 import javax.validation.constraints.*;
 
 /**
- * GetEncodingIdRequest
+ * Schema version and codec type pair.
  */
+@ApiModel(description = "Schema version and codec type pair.")
 
 public class GetEncodingIdRequest   {
   @JsonProperty("versionInfo")
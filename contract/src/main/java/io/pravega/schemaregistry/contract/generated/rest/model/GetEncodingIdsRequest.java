@@ -0,0 +1,98 @@
+/*
+ * Pravega Schema Registry APIs
+ * REST APIs for Pravega Schema Registry.
+ *
+ * OpenAPI spec version: 0.0.1
+ * 
+ *
+ * NOTE: This class is auto generated by the swagger code generator program.
+ * https://github.com/swagger-api/swagger-codegen.git
+ * Do not edit the class manually.
+ */
+
+
+package io.pravega.schemaregistry.contract.generated.rest.model;
+
+import java.util.Objects;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import io.pravega.schemaregistry.contract.generated.rest.model.GetEncodingIdRequest;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import java.util.ArrayList;
+import java.util.List;
+import javax.validation.constraints.*;
+
+/**
+ * GetEncodingIdsRequest
+ */
+
+public class GetEncodingIdsRequest   {
+  @JsonProperty("requests")
+  private List<GetEncodingIdRequest> requests = new ArrayList<GetEncodingIdRequest>();
+
+  public GetEncodingIdsRequest requests(List<GetEncodingIdRequest> requests) {
+    this.requests = requests;
+    return this;
+  }
+
+  public GetEncodingIdsRequest addRequestsItem(GetEncodingIdRequest requestsItem) {
+    this.requests.add(requestsItem);
+    return this;
+  }
+
+  /**
+   * Pairs of schema version and codec type to get encoding ids for.
+   * @return requests
+   **/
+  @JsonProperty("requests")
+  @ApiModelProperty(required = true, value = "Pairs of schema version and codec type to get encoding ids for.")
+  @NotNull
+  public List<GetEncodingIdRequest> getRequests() {
+    return requests;
+  }
+
+  public void setRequests(List<GetEncodingIdRequest> requests) {
+    this.requests = requests;
+  }
+
+
+  @Override
+  public boolean equals(java.lang.Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    GetEncodingIdsRequest getEncodingIdsRequest = (GetEncodingIdsRequest) o;
+    return Objects.equals(this.requests, getEncodingIdsRequest.requests);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(requests);
+  }
+
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class GetEncodingIdsRequest {\n");
+    
+    sb.append("    requests: ").append(toIndentedString(requests)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(java.lang.Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+}
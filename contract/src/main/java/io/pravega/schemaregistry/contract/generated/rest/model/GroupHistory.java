@@ -31,6 +31,9 @@ public class GroupHistory   {
   @JsonProperty("history")
   private List<GroupHistoryRecord> history = null;
 
+  @JsonProperty("continuationToken")
+  private String continuationToken = null;
+
   public GroupHistory history(List<GroupHistoryRecord> history) {
     this.history = history;
     return this;
@@ -58,6 +61,25 @@ public class GroupHistory   {
     this.history = history;
   }
 
+  public GroupHistory continuationToken(String continuationToken) {
+    this.continuationToken = continuationToken;
+    return this;
+  }
+
+  /**
+   * Continuation token to identify the position of last record in the response. Set only for paginated responses.
+   * @return continuationToken
+   **/
+  @JsonProperty("continuationToken")
+  @ApiModelProperty(value = "Continuation token to identify the position of last record in the response. Set only for paginated responses.")
+  public String getContinuationToken() {
+    return continuationToken;
+  }
+
+  public void setContinuationToken(String continuationToken) {
+    this.continuationToken = continuationToken;
+  }
+
 
   @Override
   public boolean equals(java.lang.Object o) {
@@ -68,12 +90,13 @@ public class GroupHistory   {
       return false;
     }
     GroupHistory groupHistory = (GroupHistory) o;
-    return Objects.equals(this.history, groupHistory.history);
+    return Objects.equals(this.history, groupHistory.history) &&
+        Objects.equals(this.continuationToken, groupHistory.continuationToken);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(history);
+    return Objects.hash(history, continuationToken);
   }
 
 
@@ -83,6 +106,7 @@ public class GroupHistory   {
     sb.append("class GroupHistory {\n");
     
     sb.append("    history: ").append(toIndentedString(history)).append("\n");
+    sb.append("    continuationToken: ").append(toIndentedString(continuationToken)).append("\n");
     sb.append("}");
     return sb.toString();
   }
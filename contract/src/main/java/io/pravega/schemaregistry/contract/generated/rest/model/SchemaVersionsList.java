@@ -32,6 +32,9 @@ public class SchemaVersionsList   {
   @JsonProperty("schemas")
   private List<SchemaWithVersion> schemas = null;
 
+  @JsonProperty("continuationToken")
+  private String continuationToken = null;
+
   public SchemaVersionsList schemas(List<SchemaWithVersion> schemas) {
     this.schemas = schemas;
     return this;
@@ -59,6 +62,25 @@ public class SchemaVersionsList   {
     this.schemas = schemas;
   }
 
+  public SchemaVersionsList continuationToken(String continuationToken) {
+    this.continuationToken = continuationToken;
+    return this;
+  }
+
+  /**
+   * Continuation token to identify the position of last schema in the response. Set only for paginated responses.
+   * @return continuationToken
+   **/
+  @JsonProperty("continuationToken")
+  @ApiModelProperty(value = "Continuation token to identify the position of last schema in the response. Set only for paginated responses.")
+  public String getContinuationToken() {
+    return continuationToken;
+  }
+
+  public void setContinuationToken(String continuationToken) {
+    this.continuationToken = continuationToken;
+  }
+
 
   @Override
   public boolean equals(java.lang.Object o) {
@@ -69,12 +91,13 @@ public class SchemaVersionsList   {
       return false;
     }
     SchemaVersionsList schemaVersionsList = (SchemaVersionsList) o;
-    return Objects.equals(this.schemas, schemaVersionsList.schemas);
+    return Objects.equals(this.schemas, schemaVersionsList.schemas) &&
+        Objects.equals(this.continuationToken, schemaVersionsList.continuationToken);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(schemas);
+    return Objects.hash(schemas, continuationToken);
   }
 
 
@@ -84,6 +107,7 @@ public class SchemaVersionsList   {
     sb.append("class SchemaVersionsList {\n");
     
     sb.append("    schemas: ").append(toIndentedString(schemas)).append("\n");
+    sb.append("    continuationToken: ").append(toIndentedString(continuationToken)).append("\n");
     sb.append("}");
     return sb.toString();
   }
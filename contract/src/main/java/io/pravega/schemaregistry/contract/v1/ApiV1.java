@@ -10,15 +10,22 @@
 package io.pravega.schemaregistry.contract.v1;
 
 import com.google.common.annotations.Beta;
+import io.pravega.schemaregistry.contract.generated.rest.model.AddSchemaAndGetEncodingIdRequest;
+import io.pravega.schemaregistry.contract.generated.rest.model.AddSchemasRequest;
+import io.pravega.schemaregistry.contract.generated.rest.model.AddSchemasResponse;
 import io.pravega.schemaregistry.contract.generated.rest.model.AddedTo;
 import io.pravega.schemaregistry.contract.generated.rest.model.CanRead;
 import io.pravega.schemaregistry.contract.generated.rest.model.CodecType;
 import io.pravega.schemaregistry.contract.generated.rest.model.CodecTypes;
 import io.pravega.schemaregistry.contract.generated.rest.model.CreateGroupRequest;
 import io.pravega.schemaregistry.contract.generated.rest.model.EncodingId;
+import io.pravega.schemaregistry.contract.generated.rest.model.EncodingIds;
 import io.pravega.schemaregistry.contract.generated.rest.model.EncodingInfo;
+import io.pravega.schemaregistry.contract.generated.rest.model.EncodingInfoList;
 import io.pravega.schemaregistry.contract.generated.rest.model.GetEncodingIdRequest;
+import io.pravega.schemaregistry.contract.generated.rest.model.GetEncodingIdsRequest;
 import io.pravega.schemaregistry.contract.generated.rest.model.GroupHistory;
+import io.pravega.schemaregistry.contract.generated.rest.model.GroupIncarnation;
 import io.pravega.schemaregistry.contract.generated.rest.model.GroupProperties;
 import io.pravega.schemaregistry.contract.generated.rest.model.ListGroupsResponse;
 import io.pravega.schemaregistry.contract.generated.rest.model.SchemaInfo;
@@ -61,7 +68,7 @@ public class ApiV1 {
     public interface GroupsApi {
         @POST
         @Path("/{groupName}/codecTypes")
-        @Consumes({"application/json"})
+        @Consumes({"application/json", "application/x-jackson-smile"})
         @io.swagger.annotations.ApiOperation(value = "", notes = "Adds a new codecType to the group.", response = Void.class, tags = {"Group", })
         @io.swagger.annotations.ApiResponses(value = {
                 @io.swagger.annotations.ApiResponse(code = 201, message = "Successfully added codecType to group", response = Void.class),
@@ -73,8 +80,8 @@ public class ApiV1 {
 
         @POST
         @Path("/{groupName}/schemas")
-        @Consumes({"application/json"})
-        @Produces({"application/json"})
+        @Consumes({"application/json", "application/x-jackson-smile"})
+        @Produces({"application/json", "application/x-jackson-smile"})
         @io.swagger.annotations.ApiOperation(value = "", notes = "Adds a new schema to the group", response = VersionInfo.class, tags = {"Group", })
         @io.swagger.annotations.ApiResponses(value = {
                 @io.swagger.annotations.ApiResponse(code = 201, message = "Successfully added schema to the group", response = VersionInfo.class),
@@ -86,10 +93,25 @@ public class ApiV1 {
                            @ApiParam(value = "Group name", required = true) @PathParam("groupName") String groupName,
                            @ApiParam(value = "Add new schema to group", required = true) SchemaInfo schemaInfo);
 
+        @POST
+        @Path("/{groupName}/schemas/batch")
+        @Consumes({"application/json", "application/x-jackson-smile"})
+        @Produces({"application/json", "application/x-jackson-smile"})
+        @io.swagger.annotations.ApiOperation(value = "", notes = "Adds new schemas to the group atomically. Either all schemas are added or none are.", response = AddSchemasResponse.class, tags = {"Group", })
+        @io.swagger.annotations.ApiResponses(value = {
+                @io.swagger.annotations.ApiResponse(code = 201, message = "Successfully added schemas to the group", response = AddSchemasResponse.class),
+                @io.swagger.annotations.ApiResponse(code = 404, message = "Group not found", response = Void.class),
+                @io.swagger.annotations.ApiResponse(code = 409, message = "Incompatible schema", response = Void.class),
+                @io.swagger.annotations.ApiResponse(code = 417, message = "Invalid serialization format", response = Void.class),
+                @io.swagger.annotations.ApiResponse(code = 500, message = "Internal server error while adding schemas to group", response = Void.class)})
+        Response addSchemas(@ApiParam(value = "namespace") @QueryParam("namespace") String namespace,
+                            @ApiParam(value = "Group name", required = true) @PathParam("groupName") String groupName,
+                            @ApiParam(value = "Add new schemas to group", required = true) AddSchemasRequest addSchemasRequest);
+
         @POST
         @Path("/{groupName}/schemas/versions/canRead")
-        @Consumes({"application/json"})
-        @Produces({"application/json"})
+        @Consumes({"application/json", "application/x-jackson-smile"})
+        @Produces({"application/json", "application/x-jackson-smile"})
         @io.swagger.annotations.ApiOperation(value = "", notes = "Checks if given schema can be used for reads subject to compatibility policy in the compatibility.", response = CanRead.class, tags = {"Group", })
         @io.swagger.annotations.ApiResponses(value = {
                 @io.swagger.annotations.ApiResponse(code = 200, message = "Response to tell whether schema can be used to read existing schemas", response = CanRead.class),
@@ -100,7 +122,7 @@ public class ApiV1 {
                          @ApiParam(value = "Checks if schema can be used to read the data in the stream based on compatibility policy.", required = true) SchemaInfo schemaInfo);
 
         @POST
-        @Consumes({"application/json"})
+        @Consumes({"application/json", "application/x-jackson-smile"})
         @io.swagger.annotations.ApiOperation(value = "", notes = "Create a new Group", response = Void.class, tags = {"Group", })
         @io.swagger.annotations.ApiResponses(value = {
                 @io.swagger.annotations.ApiResponse(code = 201, message = "Successfully added group", response = Void.class),
@@ -120,7 +142,7 @@ public class ApiV1 {
 
         @GET
         @Path("/{groupName}/codecTypes")
-        @Produces({"application/json"})
+        @Produces({"application/json", "application/x-jackson-smile"})
         @io.swagger.annotations.ApiOperation(value = "", notes = "Get codecTypes for the group.", response = CodecTypes.class, tags = {"Group", })
         @io.swagger.annotations.ApiResponses(value = {
                 @io.swagger.annotations.ApiResponse(code = 200, message = "Found CodecTypes", response = CodecTypes.class),
@@ -131,7 +153,7 @@ public class ApiV1 {
 
         @GET
         @Path("/{groupName}/encodings/{encodingId}")
-        @Produces({"application/json"})
+        @Produces({"application/json", "application/x-jackson-smile"})
         @io.swagger.annotations.ApiOperation(value = "", notes = "Get the encoding information corresponding to the encoding id.", response = EncodingInfo.class, tags = {"Group", })
         @io.swagger.annotations.ApiResponses(value = {
                 @io.swagger.annotations.ApiResponse(code = 200, message = "Found Encoding", response = EncodingInfo.class),
@@ -141,9 +163,23 @@ public class ApiV1 {
                                  @ApiParam(value = "Group name", required = true) @PathParam("groupName") String groupName,
                                  @ApiParam(value = "Encoding id that identifies a unique combination of schema and codecType", required = true) @PathParam("encodingId") Integer encodingId);
 
+        @GET
+        @Path("/{groupName}/encodings")
+        @Produces({"application/json", "application/x-jackson-smile"})
+        @io.swagger.annotations.ApiOperation(value = "", notes = "Get the encoding information of consecutive encoding ids starting at fromId.", response = EncodingInfoList.class, tags = {"Group", })
+        @io.swagger.annotations.ApiResponses(value = {
+                @io.swagger.annotations.ApiResponse(code = 200, message = "Found Encodings", response = EncodingInfoList.class),
+                @io.swagger.annotations.ApiResponse(code = 400, message = "Bad arguments", response = Void.class),
+                @io.swagger.annotations.ApiResponse(code = 404, message = "Group with given name not found", response = Void.class),
+                @io.swagger.annotations.ApiResponse(code = 500, message = "Internal server error while getting encoding infos", response = Void.class)})
+        Response getEncodingInfos(@ApiParam(value = "namespace") @QueryParam("namespace") String namespace,
+                                  @ApiParam(value = "Group name", required = true) @PathParam("groupName") String groupName,
+                                  @ApiParam(value = "First encoding id to return") @QueryParam("fromId") Integer fromId,
+                                  @ApiParam(value = "The maximum number of encoding ids to return") @QueryParam("limit") Integer limit);
+
         @GET
         @Path("/{groupName}")
-        @Produces({"application/json"})
+        @Produces({"application/json", "application/x-jackson-smile"})
         @io.swagger.annotations.ApiOperation(value = "", notes = "Fetch the properties of an existing Group", response = GroupProperties.class, tags = {"Group", })
         @io.swagger.annotations.ApiResponses(value = {
                 @io.swagger.annotations.ApiResponse(code = 200, message = "Found Group properties", response = GroupProperties.class),
@@ -152,20 +188,33 @@ public class ApiV1 {
         Response getGroupProperties(@ApiParam(value = "namespace") @QueryParam("namespace") String namespace,
                                     @ApiParam(value = "Group name", required = true) @PathParam("groupName") String groupName);
 
+        @GET
+        @Path("/{groupName}/incarnation")
+        @Produces({"application/json", "application/x-jackson-smile"})
+        @io.swagger.annotations.ApiOperation(value = "", notes = "Fetch the id of the incarnation of an existing Group", response = GroupIncarnation.class, tags = {"Group", })
+        @io.swagger.annotations.ApiResponses(value = {
+                @io.swagger.annotations.ApiResponse(code = 200, message = "Found Group incarnation", response = GroupIncarnation.class),
+                @io.swagger.annotations.ApiResponse(code = 404, message = "Group with given name not found", response = Void.class),
+                @io.swagger.annotations.ApiResponse(code = 500, message = "Internal server error while fetching Group incarnation", response = Void.class)})
+        Response getGroupIncarnation(@ApiParam(value = "namespace") @QueryParam("namespace") String namespace,
+                                     @ApiParam(value = "Group name", required = true) @PathParam("groupName") String groupName);
+
         @GET
         @Path("/{groupName}/history")
-        @Produces({"application/json"})
+        @Produces({"application/json", "application/x-jackson-smile"})
         @io.swagger.annotations.ApiOperation(value = "", notes = "Fetch the history of schema evolution of a Group", response = GroupHistory.class, tags = {"Group", })
         @io.swagger.annotations.ApiResponses(value = {
                 @io.swagger.annotations.ApiResponse(code = 200, message = "Found Group history", response = GroupHistory.class),
                 @io.swagger.annotations.ApiResponse(code = 404, message = "Group with given name not found", response = Void.class),
                 @io.swagger.annotations.ApiResponse(code = 500, message = "Internal server error while fetching Group history", response = Void.class)})
         Response getGroupHistory(@ApiParam(value = "namespace") @QueryParam("namespace") String namespace,
-                                 @ApiParam(value = "Group name", required = true) @PathParam("groupName") String groupName);
+                                 @ApiParam(value = "Group name", required = true) @PathParam("groupName") String groupName,
+                                 @ApiParam(value = "Continuation token") @QueryParam("continuationToken") String continuationToken,
+                                 @ApiParam(value = "The numbers of items to return") @QueryParam("limit") Integer limit);
 
         @GET
         @Path("/{groupName}/schemas/versions")
-        @Produces({"application/json"})
+        @Produces({"application/json", "application/x-jackson-smile"})
         @io.swagger.annotations.ApiOperation(value = "", notes = "Get all schema versions for the group", response = SchemaVersionsList.class, tags = {"Schema", })
         @io.swagger.annotations.ApiResponses(value = {
                 @io.swagger.annotations.ApiResponse(code = 200, message = "Versioned history of schemas registered under the group", response = SchemaVersionsList.class),
@@ -173,11 +222,13 @@ public class ApiV1 {
                 @io.swagger.annotations.ApiResponse(code = 500, message = "Internal server error while fetching Group details", response = Void.class)})
         Response getSchemaVersions(@ApiParam(value = "namespace") @QueryParam("namespace") String namespace,
                                    @ApiParam(value = "Group name", required = true) @PathParam("groupName") String groupName,
-                                   @ApiParam(value = "Type") @QueryParam("type") String type);
+                                   @ApiParam(value = "Type") @QueryParam("type") String type,
+                                   @ApiParam(value = "Continuation token") @QueryParam("continuationToken") String continuationToken,
+                                   @ApiParam(value = "The numbers of items to return") @QueryParam("limit") Integer limit);
 
         @GET
         @Path("/{groupName}/schemas")
-        @Produces({"application/json"})
+        @Produces({"application/json", "application/x-jackson-smile"})
         @io.swagger.annotations.ApiOperation(value = "", notes = "Fetch latest schema versions for all objects identified by SchemaInfo#getType() under a Group. If query param type is specified then latest schema for the type is returned.", response = SchemaVersionsList.class, tags = {"Schema", })
         @io.swagger.annotations.ApiResponses(value = {
                 @io.swagger.annotations.ApiResponse(code = 200, message = "Latest schemas for all objects identified by SchemaInfo#getType() under the group", response = SchemaVersionsList.class),
@@ -189,8 +240,8 @@ public class ApiV1 {
 
         @PUT
         @Path("/{groupName}/encodings")
-        @Consumes({"application/json"})
-        @Produces({"application/json"})
+        @Consumes({"application/json", "application/x-jackson-smile"})
+        @Produces({"application/json", "application/x-jackson-smile"})
         @io.swagger.annotations.ApiOperation(value = "", notes = "Get an encoding id that uniquely identifies a schema version and codec type pair.", response = EncodingId.class, tags = {"Group", })
         @io.swagger.annotations.ApiResponses(value = {
                 @io.swagger.annotations.ApiResponse(code = 200, message = "Found Encoding", response = EncodingId.class),
@@ -201,9 +252,39 @@ public class ApiV1 {
                                @ApiParam(value = "Group name", required = true) @PathParam("groupName") String groupName,
                                @ApiParam(value = "Get schema corresponding to the version", required = true) GetEncodingIdRequest getEncodingIdRequest);
 
+        @PUT
+        @Path("/{groupName}/encodings/batch")
+        @Consumes({"application/json", "application/x-jackson-smile"})
+        @Produces({"application/json", "application/x-jackson-smile"})
+        @io.swagger.annotations.ApiOperation(value = "", notes = "Get encoding ids for a list of schema version and codec type pairs. Encoding ids that do not exist are generated.", response = EncodingIds.class, tags = {"Group", })
+        @io.swagger.annotations.ApiResponses(value = {
+                @io.swagger.annotations.ApiResponse(code = 200, message = "Found Encodings", response = EncodingIds.class),
+                @io.swagger.annotations.ApiResponse(code = 404, message = "Group with given name or version not found", response = Void.class),
+                @io.swagger.annotations.ApiResponse(code = 412, message = "Codec type not registered", response = Void.class),
+                @io.swagger.annotations.ApiResponse(code = 500, message = "Internal server error while getting encoding ids", response = Void.class)})
+        Response getEncodingIds(@ApiParam(value = "namespace") @QueryParam("namespace") String namespace,
+                                @ApiParam(value = "Group name", required = true) @PathParam("groupName") String groupName,
+                                @ApiParam(value = "Schema version and codec type pairs", required = true) GetEncodingIdsRequest getEncodingIdsRequest);
+
+        @POST
+        @Path("/{groupName}/schemas/encodings")
+        @Consumes({"application/json", "application/x-jackson-smile"})
+        @Produces({"application/json", "application/x-jackson-smile"})
+        @io.swagger.annotations.ApiOperation(value = "", notes = "Adds schema to the group if it is not already added and gets the encoding id for the schema version and codec type pair.", response = EncodingId.class, tags = {"Group", })
+        @io.swagger.annotations.ApiResponses(value = {
+                @io.swagger.annotations.ApiResponse(code = 200, message = "Found Encoding", response = EncodingId.class),
+                @io.swagger.annotations.ApiResponse(code = 404, message = "Group not found", response = Void.class),
+                @io.swagger.annotations.ApiResponse(code = 409, message = "Incompatible schema", response = Void.class),
+                @io.swagger.annotations.ApiResponse(code = 412, message = "Codec type not registered", response = Void.class),
+                @io.swagger.annotations.ApiResponse(code = 417, message = "Invalid serialization format", response = Void.class),
+                @io.swagger.annotations.ApiResponse(code = 500, message = "Internal server error while adding schema and getting encoding id", response = Void.class)})
+        Response addSchemaAndGetEncodingId(@ApiParam(value = "namespace") @QueryParam("namespace") String namespace,
+                                           @ApiParam(value = "Group name", required = true) @PathParam("groupName") String groupName,
+                                           @ApiParam(value = "Schema to add and codec type", required = true) AddSchemaAndGetEncodingIdRequest addSchemaAndGetEncodingIdRequest);
+
         @DELETE
         @Path("/{groupName}/schemas/schema/{schemaId}")
-        @Produces({"application/json"})
+        @Produces({"application/json", "application/x-jackson-smile"})
         @io.swagger.annotations.ApiOperation(value = "", notes = "Delete schema version from the group.", response = Void.class, tags = {"Group", })
         @io.swagger.annotations.ApiResponses(value = {
                 @io.swagger.annotations.ApiResponse(code = 204, message = "Schema corresponding to the version deleted", response = Void.class),
@@ -215,7 +296,7 @@ public class ApiV1 {
 
         @GET
         @Path("/{groupName}/schemas/schema/{schemaId}")
-        @Produces({"application/json"})
+        @Produces({"application/json", "application/x-jackson-smile"})
         @io.swagger.annotations.ApiOperation(value = "", notes = "Get schema from the version id that uniquely identifies the schema in the group.", response = SchemaInfo.class, tags = {"Group", })
         @io.swagger.annotations.ApiResponses(value = {
                 @io.swagger.annotations.ApiResponse(code = 200, message = "Schema corresponding to the version", response = SchemaInfo.class),
@@ -227,7 +308,7 @@ public class ApiV1 {
 
         @GET
         @Path("/{groupName}/schemas/format/{serializationFormat}/type/{type}/versions/{version}")
-        @Produces({"application/json"})
+        @Produces({"application/json", "application/x-jackson-smile"})
         @io.swagger.annotations.ApiOperation(value = "", notes = "Get schema from the version id that uniquely identifies the schema in the group.", response = SchemaInfo.class, tags = {"Group", })
         @io.swagger.annotations.ApiResponses(value = {
                 @io.swagger.annotations.ApiResponse(code = 200, message = "Schema corresponding to the version", response = SchemaInfo.class),
@@ -241,7 +322,7 @@ public class ApiV1 {
 
         @DELETE
         @Path("/{groupName}/schemas/format/{serializationFormat}/type/{type}/versions/{version}")
-        @Produces({"application/json"})
+        @Produces({"application/json", "application/x-jackson-smile"})
         @io.swagger.annotations.ApiOperation(value = "", notes = "Delete schema version from the group.", response = Void.class, tags = {"Group", })
         @io.swagger.annotations.ApiResponses(value = {
                 @io.swagger.annotations.ApiResponse(code = 204, message = "Schema corresponding to the version", response = Void.class),
@@ -255,8 +336,8 @@ public class ApiV1 {
 
         @POST
         @Path("/{groupName}/schemas/versions/find")
-        @Consumes({"application/json"})
-        @Produces({"application/json"})
+        @Consumes({"application/json", "application/x-jackson-smile"})
+        @Produces({"application/json", "application/x-jackson-smile"})
         @io.swagger.annotations.ApiOperation(value = "", notes = "Get the version for the schema if it is registered.", response = VersionInfo.class, tags = {"Schema", })
         @io.swagger.annotations.ApiResponses(value = {
                 @io.swagger.annotations.ApiResponse(code = 200, message = "Schema version", response = VersionInfo.class),
@@ -267,7 +348,7 @@ public class ApiV1 {
                                   @ApiParam(value = "Get schema corresponding to the version", required = true) SchemaInfo schemaInfo);
 
         @GET
-        @Produces({"application/json"})
+        @Produces({"application/json", "application/x-jackson-smile"})
         @io.swagger.annotations.ApiOperation(value = "", notes = "List all groups", response = ListGroupsResponse.class, tags = {"Group", })
         @io.swagger.annotations.ApiResponses(value = {
                 @io.swagger.annotations.ApiResponse(code = 200, message = "List of all groups", response = ListGroupsResponse.class),
@@ -278,7 +359,7 @@ public class ApiV1 {
 
         @PUT
         @Path("/{groupName}/compatibility")
-        @Consumes({"application/json"})
+        @Consumes({"application/json", "application/x-jackson-smile"})
         @io.swagger.annotations.ApiOperation(value = "", notes = "update compatibility of an existing Group", response = Void.class, tags = {"Group", })
         @io.swagger.annotations.ApiResponses(value = {
                 @io.swagger.annotations.ApiResponse(code = 200, message = "Updated schema compatibility policy", response = Void.class),
@@ -291,8 +372,8 @@ public class ApiV1 {
 
         @POST
         @Path("/{groupName}/schemas/versions/validate")
-        @Consumes({"application/json"})
-        @Produces({"application/json"})
+        @Consumes({"application/json", "application/x-jackson-smile"})
+        @Produces({"application/json", "application/x-jackson-smile"})
         @io.swagger.annotations.ApiOperation(value = "", notes = "Checks if given schema is compatible with schemas in the registry for current policy setting.", response = Valid.class, tags = {"Group", })
         @io.swagger.annotations.ApiResponses(value = {
                 @io.swagger.annotations.ApiResponse(code = 200, message = "Schema validation response", response = Valid.class),
@@ -313,7 +394,7 @@ public class ApiV1 {
     public interface GroupsApiAsync {
         @POST
         @Path("/{groupName}/codecTypes")
-        @Consumes({"application/json"})
+        @Consumes({"application/json", "application/x-jackson-smile"})
         @io.swagger.annotations.ApiOperation(value = "", notes = "Adds a new codecType to the group.", response = Void.class, tags = {"Group", })
         @io.swagger.annotations.ApiResponses(value = {
                 @io.swagger.annotations.ApiResponse(code = 201, message = "Successfully added codecType to group", response = Void.class),
@@ -326,8 +407,8 @@ public class ApiV1 {
 
         @POST
         @Path("/{groupName}/schemas")
-        @Consumes({"application/json"})
-        @Produces({"application/json"})
+        @Consumes({"application/json", "application/x-jackson-smile"})
+        @Produces({"application/json", "application/x-jackson-smile"})
         @io.swagger.annotations.ApiOperation(value = "", notes = "Adds a new schema to the group", response = VersionInfo.class, tags = {"Group", })
         @io.swagger.annotations.ApiResponses(value = {
                 @io.swagger.annotations.ApiResponse(code = 201, message = "Successfully added schema to the group", response = VersionInfo.class),
@@ -340,10 +421,26 @@ public class ApiV1 {
                        @ApiParam(value = "Add new schema to group", required = true) SchemaInfo schemaInfo,
                        @Context SecurityContext securityContext, @Suspended AsyncResponse asyncResponse);
 
+        @POST
+        @Path("/{groupName}/schemas/batch")
+        @Consumes({"application/json", "application/x-jackson-smile"})
+        @Produces({"application/json", "application/x-jackson-smile"})
+        @io.swagger.annotations.ApiOperation(value = "", notes = "Adds new schemas to the group atomically. Either all schemas are added or none are.", response = AddSchemasResponse.class, tags = {"Group", })
+        @io.swagger.annotations.ApiResponses(value = {
+                @io.swagger.annotations.ApiResponse(code = 201, message = "Successfully added schemas to the group", response = AddSchemasResponse.class),
+                @io.swagger.annotations.ApiResponse(code = 404, message = "Group not found", response = Void.class),
+                @io.swagger.annotations.ApiResponse(code = 409, message = "Incompatible schema", response = Void.class),
+                @io.swagger.annotations.ApiResponse(code = 417, message = "Invalid serialization format", response = Void.class),
+                @io.swagger.annotations.ApiResponse(code = 500, message = "Internal server error while adding schemas", response = Void.class)})
+        void addSchemas(@ApiParam(value = "namespace") @QueryParam("namespace") String namespace,
+                        @ApiParam(value = "Group name", required = true) @PathParam("groupName") String groupName,
+                        @ApiParam(value = "Add new schemas to group", required = true) AddSchemasRequest addSchemasRequest,
+                        @Context SecurityContext securityContext, @Suspended AsyncResponse asyncResponse);
+
         @POST
         @Path("/{groupName}/schemas/versions/canRead")
-        @Consumes({"application/json"})
-        @Produces({"application/json"})
+        @Consumes({"application/json", "application/x-jackson-smile"})
+        @Produces({"application/json", "application/x-jackson-smile"})
         @io.swagger.annotations.ApiOperation(value = "", notes = "Checks if given schema can be used for reads subject to compatibility policy in the compatibility.", response = CanRead.class, tags = {"Group", })
         @io.swagger.annotations.ApiResponses(value = {
                 @io.swagger.annotations.ApiResponse(code = 200, message = "Response to tell whether schema can be used to read existing schemas", response = CanRead.class),
@@ -355,7 +452,7 @@ public class ApiV1 {
                      @Context SecurityContext securityContext, @Suspended AsyncResponse asyncResponse);
 
         @POST
-        @Consumes({"application/json"})
+        @Consumes({"application/json", "application/x-jackson-smile"})
         @io.swagger.annotations.ApiOperation(value = "", notes = "Create a new Group", response = Void.class, tags = {"Group", })
         @io.swagger.annotations.ApiResponses(value = {
                 @io.swagger.annotations.ApiResponse(code = 201, message = "Successfully added group", response = Void.class),
@@ -377,7 +474,7 @@ public class ApiV1 {
 
         @GET
         @Path("/{groupName}/codecTypes")
-        @Produces({"application/json"})
+        @Produces({"application/json", "application/x-jackson-smile"})
         @io.swagger.annotations.ApiOperation(value = "", notes = "Get codecTypes for the group.", response = CodecTypes.class, tags = {"Group", })
         @io.swagger.annotations.ApiResponses(value = {
                 @io.swagger.annotations.ApiResponse(code = 200, message = "Found CodecTypes", response = CodecTypes.class),
@@ -389,7 +486,7 @@ public class ApiV1 {
 
         @GET
         @Path("/{groupName}/encodings/{encodingId}")
-        @Produces({"application/json"})
+        @Produces({"application/json", "application/x-jackson-smile"})
         @io.swagger.annotations.ApiOperation(value = "", notes = "Get the encoding information corresponding to the encoding id.", response = EncodingInfo.class, tags = {"Group", })
         @io.swagger.annotations.ApiResponses(value = {
                 @io.swagger.annotations.ApiResponse(code = 200, message = "Found Encoding", response = EncodingInfo.class),
@@ -400,9 +497,24 @@ public class ApiV1 {
                              @ApiParam(value = "Encoding id that identifies a unique combination of schema and codecType", required = true) @PathParam("encodingId") Integer encodingId,
                              @Context SecurityContext securityContext, @Suspended AsyncResponse asyncResponse);
 
+        @GET
+        @Path("/{groupName}/encodings")
+        @Produces({"application/json", "application/x-jackson-smile"})
+        @io.swagger.annotations.ApiOperation(value = "", notes = "Get the encoding information of consecutive encoding ids starting at fromId.", response = EncodingInfoList.class, tags = {"Group", })
+        @io.swagger.annotations.ApiResponses(value = {
+                @io.swagger.annotations.ApiResponse(code = 200, message = "Found Encodings", response = EncodingInfoList.class),
+                @io.swagger.annotations.ApiResponse(code = 400, message = "Bad arguments", response = Void.class),
+                @io.swagger.annotations.ApiResponse(code = 404, message = "Group with given name not found", response = Void.class),
+                @io.swagger.annotations.ApiResponse(code = 500, message = "Internal server error while getting encoding infos", response = Void.class)})
+        void getEncodingInfos(@ApiParam(value = "namespace") @QueryParam("namespace") String namespace,
+                              @ApiParam(value = "Group name", required = true) @PathParam("groupName") String groupName,
+                              @ApiParam(value = "First encoding id to return") @QueryParam("fromId") Integer fromId,
+                              @ApiParam(value = "The maximum number of encoding ids to return") @QueryParam("limit") Integer limit,
+                              @Context SecurityContext securityContext, @Suspended AsyncResponse asyncResponse);
+
         @GET
         @Path("/{groupName}")
-        @Produces({"application/json"})
+        @Produces({"application/json", "application/x-jackson-smile"})
         @io.swagger.annotations.ApiOperation(value = "", notes = "Fetch the properties of an existing Group", response = GroupProperties.class, tags = {"Group", })
         @io.swagger.annotations.ApiResponses(value = {
                 @io.swagger.annotations.ApiResponse(code = 200, message = "Found Group properties", response = GroupProperties.class),
@@ -412,9 +524,21 @@ public class ApiV1 {
                                 @ApiParam(value = "Group name", required = true) @PathParam("groupName") String groupName,
                                 @Context SecurityContext securityContext, @Suspended AsyncResponse asyncResponse);
 
+        @GET
+        @Path("/{groupName}/incarnation")
+        @Produces({"application/json", "application/x-jackson-smile"})
+        @io.swagger.annotations.ApiOperation(value = "", notes = "Fetch the id of the incarnation of an existing Group", response = GroupIncarnation.class, tags = {"Group", })
+        @io.swagger.annotations.ApiResponses(value = {
+                @io.swagger.annotations.ApiResponse(code = 200, message = "Found Group incarnation", response = GroupIncarnation.class),
+                @io.swagger.annotations.ApiResponse(code = 404, message = "Group with given name not found", response = Void.class),
+                @io.swagger.annotations.ApiResponse(code = 500, message = "Internal server error while fetching Group incarnation", response = Void.class)})
+        void getGroupIncarnation(@ApiParam(value = "namespace") @QueryParam("namespace") String namespace,
+                                 @ApiParam(value = "Group name", required = true) @PathParam("groupName") String groupName,
+                                 @Context SecurityContext securityContext, @Suspended AsyncResponse asyncResponse);
+
         @GET
         @Path("/{groupName}/history")
-        @Produces({"application/json"})
+        @Produces({"application/json", "application/x-jackson-smile"})
         @io.swagger.annotations.ApiOperation(value = "", notes = "Fetch the history of schema evolution of a Group", response = GroupHistory.class, tags = {"Group", })
         @io.swagger.annotations.ApiResponses(value = {
                 @io.swagger.annotations.ApiResponse(code = 200, message = "Found Group history", response = GroupHistory.class),
@@ -422,11 +546,13 @@ public class ApiV1 {
                 @io.swagger.annotations.ApiResponse(code = 500, message = "Internal server error while fetching Group history", response = Void.class)})
         void getGroupHistory(@ApiParam(value = "namespace") @QueryParam("namespace") String namespace,
                              @ApiParam(value = "Group name", required = true) @PathParam("groupName") String groupName,
+                             @ApiParam(value = "Continuation token") @QueryParam("continuationToken") String continuationToken,
+                             @ApiParam(value = "The numbers of items to return") @QueryParam("limit") Integer limit,
                              @Context SecurityContext securityContext, @Suspended AsyncResponse asyncResponse);
 
         @GET
         @Path("/{groupName}/schemas/versions")
-        @Produces({"application/json"})
+        @Produces({"application/json", "application/x-jackson-smile"})
         @io.swagger.annotations.ApiOperation(value = "", notes = "Get all schema versions for the group.", response = SchemaVersionsList.class, tags = {"Schema", })
         @io.swagger.annotations.ApiResponses(value = {
                 @io.swagger.annotations.ApiResponse(code = 200, message = "Versioned history of schemas registered under the group", response = SchemaVersionsList.class),
@@ -435,11 +561,13 @@ public class ApiV1 {
         void getSchemaVersions(@ApiParam(value = "namespace") @QueryParam("namespace") String namespace,
                                @ApiParam(value = "Group name", required = true) @PathParam("groupName") String groupName,
                                @ApiParam(value = "Type") @QueryParam("type") String type,
+                               @ApiParam(value = "Continuation token") @QueryParam("continuationToken") String continuationToken,
+                               @ApiParam(value = "The numbers of items to return") @QueryParam("limit") Integer limit,
                                @Context SecurityContext securityContext, @Suspended AsyncResponse asyncResponse);
 
         @GET
         @Path("/{groupName}/schemas")
-        @Produces({"application/json"})
+        @Produces({"application/json", "application/x-jackson-smile"})
         @io.swagger.annotations.ApiOperation(value = "", notes = "Fetch latest schema versions for all objects identified by SchemaInfo#getType() under a Group. If query param type is specified then latest schema for the type is returned.", response = SchemaVersionsList.class, tags = {"Group", })
         @io.swagger.annotations.ApiResponses(value = {
                 @io.swagger.annotations.ApiResponse(code = 200, message = "Latest schemas for all objects identified by SchemaInfo#getType() under the group", response = SchemaVersionsList.class),
@@ -452,8 +580,8 @@ public class ApiV1 {
 
         @PUT
         @Path("/{groupName}/encodings")
-        @Consumes({"application/json"})
-        @Produces({"application/json"})
+        @Consumes({"application/json", "application/x-jackson-smile"})
+        @Produces({"application/json", "application/x-jackson-smile"})
         @io.swagger.annotations.ApiOperation(value = "", notes = "Get an encoding id that uniquely identifies a schema version and codec type pair.", response = EncodingId.class, tags = {"Group", })
         @io.swagger.annotations.ApiResponses(value = {
                 @io.swagger.annotations.ApiResponse(code = 200, message = "Found Encoding", response = EncodingId.class),
@@ -465,9 +593,41 @@ public class ApiV1 {
                            @ApiParam(value = "Get schema corresponding to the version", required = true) GetEncodingIdRequest getEncodingIdRequest,
                            @Context SecurityContext securityContext, @Suspended AsyncResponse asyncResponse);
 
+        @PUT
+        @Path("/{groupName}/encodings/batch")
+        @Consumes({"application/json", "application/x-jackson-smile"})
+        @Produces({"application/json", "application/x-jackson-smile"})
+        @io.swagger.annotations.ApiOperation(value = "", notes = "Get encoding ids for a list of schema version and codec type pairs. Encoding ids that do not exist are generated.", response = EncodingIds.class, tags = {"Group", })
+        @io.swagger.annotations.ApiResponses(value = {
+                @io.swagger.annotations.ApiResponse(code = 200, message = "Found Encodings", response = EncodingIds.class),
+                @io.swagger.annotations.ApiResponse(code = 404, message = "Group with given name or version not found", response = Void.class),
+                @io.swagger.annotations.ApiResponse(code = 412, message = "Codec type not registered", response = Void.class),
+                @io.swagger.annotations.ApiResponse(code = 500, message = "Internal server error while getting encoding ids", response = Void.class)})
+        void getEncodingIds(@ApiParam(value = "namespace") @QueryParam("namespace") String namespace,
+                            @ApiParam(value = "Group name", required = true) @PathParam("groupName") String groupName,
+                            @ApiParam(value = "Schema version and codec type pairs", required = true) GetEncodingIdsRequest getEncodingIdsRequest,
+                            @Context SecurityContext securityContext, @Suspended AsyncResponse asyncResponse);
+
+        @POST
+        @Path("/{groupName}/schemas/encodings")
+        @Consumes({"application/json", "application/x-jackson-smile"})
+        @Produces({"application/json", "application/x-jackson-smile"})
+        @io.swagger.annotations.ApiOperation(value = "", notes = "Adds schema to the group if it is not already added and gets the encoding id for the schema version and codec type pair.", response = EncodingId.class, tags = {"Group", })
+        @io.swagger.annotations.ApiResponses(value = {
+                @io.swagger.annotations.ApiResponse(code = 200, message = "Found Encoding", response = EncodingId.class),
+                @io.swagger.annotations.ApiResponse(code = 404, message = "Group not found", response = Void.class),
+                @io.swagger.annotations.ApiResponse(code = 409, message = "Incompatible schema", response = Void.class),
+                @io.swagger.annotations.ApiResponse(code = 412, message = "Codec type not registered", response = Void.class),
+                @io.swagger.annotations.ApiResponse(code = 417, message = "Invalid serialization format", response = Void.class),
+                @io.swagger.annotations.ApiResponse(code = 500, message = "Internal server error while adding schema and getting encoding id", response = Void.class)})
+        void addSchemaAndGetEncodingId(@ApiParam(value = "namespace") @QueryParam("namespace") String namespace,
+                                       @ApiParam(value = "Group name", required = true) @PathParam("groupName") String groupName,
+                                       @ApiParam(value = "Schema to add and codec type", required = true) AddSchemaAndGetEncodingIdRequest addSchemaAndGetEncodingIdRequest,
+                                       @Context SecurityContext securityContext, @Suspended AsyncResponse asyncResponse);
+
         @GET
         @Path("/{groupName}/schemas/schema/{schemaId}")
-        @Produces({"application/json"})
+        @Produces({"application/json", "application/x-jackson-smile"})
         @io.swagger.annotations.ApiOperation(value = "", notes = "Get schema from the version id that uniquely identifies the schema in the group.", response = SchemaInfo.class, tags = {"Group", })
         @io.swagger.annotations.ApiResponses(value = {
                 @io.swagger.annotations.ApiResponse(code = 200, message = "Schema corresponding to the version", response = SchemaInfo.class),
@@ -480,7 +640,7 @@ public class ApiV1 {
 
         @DELETE
         @Path("/{groupName}/schemas/schema/{schemaId}")
-        @Produces({"application/json"})
+        @Produces({"application/json", "application/x-jackson-smile"})
         @io.swagger.annotations.ApiOperation(value = "", notes = "Delete schema version from the group.", response = Void.class, tags = {"Group", })
         @io.swagger.annotations.ApiResponses(value = {
                 @io.swagger.annotations.ApiResponse(code = 204, message = "Schema corresponding to the version", response = Void.class),
@@ -493,7 +653,7 @@ public class ApiV1 {
 
         @GET
         @Path("/{groupName}/schemas/format/{serializationFormat}/type/{type}/versions/{version}")
-        @Produces({"application/json"})
+        @Produces({"application/json", "application/x-jackson-smile"})
         @io.swagger.annotations.ApiOperation(value = "", notes = "Get schema from the version id that uniquely identifies the schema in the group.", response = SchemaInfo.class, tags = {"Group", })
         @io.swagger.annotations.ApiResponses(value = {
                 @io.swagger.annotations.ApiResponse(code = 200, message = "Schema corresponding to the version", response = SchemaInfo.class),
@@ -508,7 +668,7 @@ public class ApiV1 {
 
         @DELETE
         @Path("/{groupName}/schemas/format/{serializationFormat}/type/{type}/versions/{version}")
-        @Produces({"application/json"})
+        @Produces({"application/json", "application/x-jackson-smile"})
         @io.swagger.annotations.ApiOperation(value = "", notes = "Delete schema version from the group.", response = Void.class, tags = {"Group", })
         @io.swagger.annotations.ApiResponses(value = {
                 @io.swagger.annotations.ApiResponse(code = 204, message = "Schema corresponding to the version", response = Void.class),
@@ -523,8 +683,8 @@ public class ApiV1 {
 
         @POST
         @Path("/{groupName}/schemas/versions/find")
-        @Consumes({"application/json"})
-        @Produces({"application/json"})
+        @Consumes({"application/json", "application/x-jackson-smile"})
+        @Produces({"application/json", "application/x-jackson-smile"})
         @io.swagger.annotations.ApiOperation(value = "", notes = "Get the version for the schema if it is registered.", response = VersionInfo.class, tags = {"Schema", })
         @io.swagger.annotations.ApiResponses(value = {
                 @io.swagger.annotations.ApiResponse(code = 200, message = "Schema version", response = VersionInfo.class),
@@ -536,7 +696,7 @@ public class ApiV1 {
                               @Context SecurityContext securityContext, @Suspended AsyncResponse asyncResponse);
 
         @GET
-        @Produces({"application/json"})
+        @Produces({"application/json", "application/x-jackson-smile"})
         @io.swagger.annotations.ApiOperation(value = "", notes = "List all groups", response = ListGroupsResponse.class, tags = {"Group", })
         @io.swagger.annotations.ApiResponses(value = {
                 @io.swagger.annotations.ApiResponse(code = 200, message = "List of all groups", response = ListGroupsResponse.class),
@@ -548,7 +708,7 @@ public class ApiV1 {
 
         @PUT
         @Path("/{groupName}/compatibility")
-        @Consumes({"application/json"})
+        @Consumes({"application/json", "application/x-jackson-smile"})
         @io.swagger.annotations.ApiOperation(value = "", notes = "update compatibility of an existing Group", response = Void.class, tags = {"Group", })
         @io.swagger.annotations.ApiResponses(value = {
                 @io.swagger.annotations.ApiResponse(code = 200, message = "Updated schema compatibility policy", response = Void.class),
@@ -562,8 +722,8 @@ public class ApiV1 {
 
         @POST
         @Path("/{groupName}/schemas/versions/validate")
-        @Consumes({"application/json"})
-        @Produces({"application/json"})
+        @Consumes({"application/json", "application/x-jackson-smile"})
+        @Produces({"application/json", "application/x-jackson-smile"})
         @io.swagger.annotations.ApiOperation(value = "", notes = "Checks if given schema is compatible with schemas in the registry for current policy setting.", response = Valid.class, tags = {"Group", })
         @io.swagger.annotations.ApiResponses(value = {
                 @io.swagger.annotations.ApiResponse(code = 200, message = "Schema validation response", response = Valid.class),
@@ -585,8 +745,8 @@ public class ApiV1 {
     public interface SchemasApi {
         @POST
         @Path("/addedTo")
-        @Consumes({"application/json"})
-        @Produces({"application/json"})
+        @Consumes({"application/json", "application/x-jackson-smile"})
+        @Produces({"application/json", "application/x-jackson-smile"})
         @io.swagger.annotations.ApiOperation(value = "", notes = "Gets a map of groups to version info where the schema if it is registered. SchemaInfo#properties is ignored while comparing the schema.", response = AddedTo.class, tags = {"Schema", })
         @io.swagger.annotations.ApiResponses(value = {
                 @io.swagger.annotations.ApiResponse(code = 200, message = "Schema version", response = AddedTo.class),
@@ -606,8 +766,8 @@ public class ApiV1 {
     public interface SchemasApiAsync {
         @POST
         @Path("/addedTo")
-        @Consumes({"application/json"})
-        @Produces({"application/json"})
+        @Consumes({"application/json", "application/x-jackson-smile"})
+        @Produces({"application/json", "application/x-jackson-smile"})
         @io.swagger.annotations.ApiOperation(value = "", notes = "Gets a map of groups to version info where the schema if it is registered. SchemaInfo#properties is ignored while comparing the schema.", response = AddedTo.class, tags = {"Schema", })
         @io.swagger.annotations.ApiResponses(value = {
                 @io.swagger.annotations.ApiResponse(code = 200, message = "Schema version", response = AddedTo.class),
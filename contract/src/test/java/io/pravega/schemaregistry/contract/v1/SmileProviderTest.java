@@ -0,0 +1,56 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.contract.v1;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.pravega.schemaregistry.contract.generated.rest.model.SchemaInfo;
+import io.pravega.schemaregistry.contract.generated.rest.model.SerializationFormat;
+import org.junit.Test;
+
+import javax.ws.rs.core.MediaType;
+import java.io.IOException;
+import java.util.Collections;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SmileProviderTest {
+    @Test
+    public void testBinaryIsWrittenRaw() throws IOException {
+        ObjectMapper mapper = new SmileProvider().locateMapper(SchemaInfo.class, MediaType.valueOf(SmileProvider.APPLICATION_SMILE));
+        byte[] schemaData = new byte[256];
+        for (int i = 0; i < schemaData.length; i++) {
+            schemaData[i] = (byte) i;
+        }
+        SchemaInfo schemaInfo = new SchemaInfo().type("type").schemaData(schemaData).properties(Collections.emptyMap())
+                .serializationFormat(new SerializationFormat().serializationFormat(SerializationFormat.SerializationFormatEnum.AVRO));
+
+        byte[] payload = mapper.writeValueAsBytes(schemaInfo);
+        // the schema data appears in the payload unchanged rather than re-encoded in 7 bit units.
+        assertTrue(indexOf(payload, schemaData) >= 0);
+        SchemaInfo read = mapper.readValue(payload, SchemaInfo.class);
+        assertArrayEquals(schemaData, read.getSchemaData());
+        assertEquals(schemaInfo, read);
+    }
+
+    private static int indexOf(byte[] array, byte[] target) {
+        for (int i = 0; i + target.length <= array.length; i++) {
+            boolean found = true;
+            for (int j = 0; j < target.length && found; j++) {
+                found = array[i + j] == target[j];
+            }
+            if (found) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
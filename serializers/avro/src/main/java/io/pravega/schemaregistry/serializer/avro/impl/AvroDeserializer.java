@@ -17,11 +17,12 @@ import io.pravega.schemaregistry.client.SchemaRegistryClient;
 import io.pravega.schemaregistry.contract.data.SchemaInfo;
 import io.pravega.schemaregistry.serializer.shared.impl.AbstractDeserializer;
 import io.pravega.schemaregistry.serializer.shared.impl.EncodingCache;
+import io.pravega.schemaregistry.serializer.shared.impl.EncodingHandle;
+import io.pravega.schemaregistry.serializer.shared.impl.ReaderSlots;
 import io.pravega.schemaregistry.serializer.shared.impl.SerializerConfig;
 import org.apache.avro.Schema;
 import org.apache.avro.io.BinaryDecoder;
 import org.apache.avro.io.DatumReader;
-import org.apache.avro.io.DecoderFactory;
 import org.apache.avro.reflect.ReflectDatumReader;
 import org.apache.avro.specific.SpecificDatumReader;
 import org.apache.avro.specific.SpecificRecordBase;
@@ -33,6 +34,7 @@ import java.util.concurrent.ConcurrentHashMap;
 
 class AvroDeserializer<T> extends AbstractDeserializer<T> {
     private final ConcurrentHashMap<ByteBuffer, DatumReader<T>> knownSchemaReaders;
+    private final ReaderSlots<DatumReader<T>> readers;
     private final boolean specific;
     private final Schema readerSchema;
 
@@ -42,6 +44,7 @@ class AvroDeserializer<T> extends AbstractDeserializer<T> {
         super(groupId, client, schema, false, decoder, encodingCache, true);
         Preconditions.checkNotNull(schema);
         this.knownSchemaReaders = new ConcurrentHashMap<>();
+        this.readers = new ReaderSlots<>();
         specific = SpecificRecordBase.class.isAssignableFrom(schema.getTClass());
         readerSchema = schema.getSchema();
         ByteBuffer schemaData = schema.getSchemaInfo().getSchemaData();
@@ -51,12 +54,25 @@ class AvroDeserializer<T> extends AbstractDeserializer<T> {
     @Override
     public final T deserialize(InputStream inputStream, SchemaInfo writerSchemaInfo, SchemaInfo readerSchemaInfo) throws IOException {
         Preconditions.checkNotNull(writerSchemaInfo);
+        return read(inputStream, getDatumReader(writerSchemaInfo));
+    }
+
+    @Override
+    public final T deserialize(InputStream inputStream, EncodingHandle writer, SchemaInfo readerSchemaInfo) throws IOException {
+        Preconditions.checkNotNull(writer);
+        return read(inputStream, readers.get(writer, this::getDatumReader));
+    }
+
+    private DatumReader<T> getDatumReader(SchemaInfo writerSchemaInfo) {
         final ByteBuffer writerSchemaData = writerSchemaInfo.getSchemaData();
-        DatumReader<T> datumReader = knownSchemaReaders.computeIfAbsent(writerSchemaData, key -> {
+        return knownSchemaReaders.computeIfAbsent(writerSchemaData, key -> {
             Schema writerSchema = AvroSchema.from(writerSchemaInfo).getSchema();
             return createDatumReader(writerSchema, this.readerSchema, specific);
         });
-        BinaryDecoder decoder = DecoderFactory.get().binaryDecoder(inputStream, null);
+    }
+
+    private T read(InputStream inputStream, DatumReader<T> datumReader) throws IOException {
+        BinaryDecoder decoder = BinaryDecoders.get(inputStream);
         return datumReader.read(null, decoder);
     }
 
@@ -17,11 +17,12 @@ import io.pravega.schemaregistry.contract.data.SchemaInfo;
 import io.pravega.schemaregistry.serializer.avro.schemas.AvroSchema;
 import io.pravega.schemaregistry.serializer.shared.impl.AbstractDeserializer;
 import io.pravega.schemaregistry.serializer.shared.impl.EncodingCache;
+import io.pravega.schemaregistry.serializer.shared.impl.EncodingHandle;
+import io.pravega.schemaregistry.serializer.shared.impl.ReaderSlots;
 import io.pravega.schemaregistry.serializer.shared.impl.SerializerConfig;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericDatumReader;
 import org.apache.avro.io.BinaryDecoder;
-import org.apache.avro.io.DecoderFactory;
 import org.apache.commons.lang3.tuple.Pair;
 import javax.annotation.Nullable;
 import java.io.IOException;
@@ -30,23 +31,45 @@ import java.util.concurrent.ConcurrentHashMap;
 
 public class AvroGenericDeserializer extends AbstractDeserializer<Object> {
     private final ConcurrentHashMap<Pair<SchemaInfo, SchemaInfo>, GenericDatumReader<Object>> knownSchemaReaders;
+    private final ReaderSlots<GenericDatumReader<Object>> readers;
+    private final SchemaInfo readerSchemaInfo;
 
     public AvroGenericDeserializer(String groupId, SchemaRegistryClient client, @Nullable AvroSchema<Object> schema,
                             SerializerConfig.Decoders decoder, EncodingCache encodingCache) {
         super(groupId, client, schema, false, decoder, encodingCache, true);
         this.knownSchemaReaders = new ConcurrentHashMap<>();
+        this.readers = new ReaderSlots<>();
+        this.readerSchemaInfo = schema == null ? null : schema.getSchemaInfo();
     }
 
     @Override
     public final Object deserialize(InputStream inputStream, SchemaInfo writerSchemaInfo, SchemaInfo readerSchemaInfo) throws IOException {
         Preconditions.checkNotNull(writerSchemaInfo);
+        return read(inputStream, getDatumReader(writerSchemaInfo, readerSchemaInfo));
+    }
+
+    @Override
+    public final Object deserialize(InputStream inputStream, EncodingHandle writer, SchemaInfo readerSchemaInfo) throws IOException {
+        Preconditions.checkNotNull(writer);
+        SchemaInfo schemaToRead = this.readerSchemaInfo == null ? writer.getSchemaInfo() : this.readerSchemaInfo;
+        if (readerSchemaInfo != schemaToRead) {
+            // the slots hold readers into this deserializer's own reader schema.
+            return deserialize(inputStream, writer.getSchemaInfo(), readerSchemaInfo);
+        }
+        return read(inputStream, readers.get(writer, x -> getDatumReader(x, schemaToRead)));
+    }
+
+    private GenericDatumReader<Object> getDatumReader(SchemaInfo writerSchemaInfo, SchemaInfo readerSchemaInfo) {
         final Pair<SchemaInfo, SchemaInfo> keyPair = Pair.of(writerSchemaInfo, readerSchemaInfo);
-        GenericDatumReader<Object> genericDatumReader = knownSchemaReaders.computeIfAbsent(keyPair, key -> {
+        return knownSchemaReaders.computeIfAbsent(keyPair, key -> {
             Schema writerSchema = AvroSchema.from(writerSchemaInfo).getSchema();
             Schema readerSchema = AvroSchema.from(readerSchemaInfo).getSchema();
             return new GenericDatumReader<>(writerSchema, readerSchema);
         });
-        BinaryDecoder decoder = DecoderFactory.get().binaryDecoder(inputStream, null);
+    }
+
+    private Object read(InputStream inputStream, GenericDatumReader<Object> genericDatumReader) throws IOException {
+        BinaryDecoder decoder = BinaryDecoders.get(inputStream);
         return genericDatumReader.read(null, decoder);
     }
 
@@ -27,6 +27,10 @@ import java.io.IOException;
 import java.io.OutputStream;
 
 public class AvroSerializer<T> extends AbstractSerializer<T> {
+    // binary encoders are reused across events on the same thread by pointing them at the next output stream.
+    // An encoder is only kept for reuse once an event was written completely, as an encoder that failed while writing
+    // an event still buffers bytes of that event that would be flushed when it is reused.
+    private static final ThreadLocal<BinaryEncoder> ENCODERS = new ThreadLocal<>();
 
     private final SpecificDatumWriter<T> specificDatumWriter;
     private final GenericDatumWriter<T> genericDatumWriter;
@@ -43,7 +47,8 @@ public class AvroSerializer<T> extends AbstractSerializer<T> {
 
     @Override
     protected void serialize(T var, SchemaInfo schemaInfo, OutputStream outputStream) throws IOException {
-        BinaryEncoder encoder = EncoderFactory.get().binaryEncoder(outputStream, null);
+        BinaryEncoder encoder = EncoderFactory.get().binaryEncoder(outputStream, ENCODERS.get());
+        ENCODERS.remove();
 
         if (SpecificRecord.class.isAssignableFrom(var.getClass())) {
             specificDatumWriter.write(var, encoder);
@@ -55,5 +60,6 @@ public class AvroSerializer<T> extends AbstractSerializer<T> {
 
         encoder.flush();
         outputStream.flush();
+        ENCODERS.set(encoder);
     }
 }
\ No newline at end of file
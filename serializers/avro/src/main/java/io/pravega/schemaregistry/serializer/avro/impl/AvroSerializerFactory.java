@@ -77,7 +77,7 @@ public class AvroSerializerFactory {
         SchemaRegistryClient schemaRegistryClient = initForDeserializer(config);
         String groupId = config.getGroupId();
 
-        EncodingCache encodingCache = new EncodingCache(groupId, schemaRegistryClient);
+        EncodingCache encodingCache = new EncodingCache(config, schemaRegistryClient);
 
         return new AvroDeserializer<>(groupId, schemaRegistryClient, schema, config.getDecoders(), encodingCache);
     }
@@ -98,7 +98,7 @@ public class AvroSerializerFactory {
         Preconditions.checkArgument(config.isWriteEncodingHeader(), "Events should be tagged with encoding ids.");
         String groupId = config.getGroupId();
         SchemaRegistryClient schemaRegistryClient = initForDeserializer(config);
-        EncodingCache encodingCache = new EncodingCache(groupId, schemaRegistryClient);
+        EncodingCache encodingCache = new EncodingCache(config, schemaRegistryClient);
 
         return new AvroGenericDeserializer(groupId, schemaRegistryClient, schema, config.getDecoders(), encodingCache);
     }
@@ -144,7 +144,7 @@ public class AvroSerializerFactory {
 
         String groupId = config.getGroupId();
         SchemaRegistryClient schemaRegistryClient = initForDeserializer(config);
-        EncodingCache encodingCache = new EncodingCache(groupId, schemaRegistryClient);
+        EncodingCache encodingCache = new EncodingCache(config, schemaRegistryClient);
 
         Map<String, AbstractDeserializer<T>> deserializerMap = getDeserializerMap(config, schemas, groupId, schemaRegistryClient, encodingCache);
         return new MultiplexedDeserializer<>(groupId, schemaRegistryClient, deserializerMap, config.getDecoders(),
@@ -176,7 +176,7 @@ public class AvroSerializerFactory {
         String groupId = config.getGroupId();
         SchemaRegistryClient schemaRegistryClient = initForDeserializer(config);
 
-        EncodingCache encodingCache = new EncodingCache(groupId, schemaRegistryClient);
+        EncodingCache encodingCache = new EncodingCache(config, schemaRegistryClient);
 
         Map<String, AbstractDeserializer<T>> deserializerMap = getDeserializerMap(config, schemas, groupId, schemaRegistryClient, encodingCache);
         AbstractDeserializer<Object> genericDeserializer = new AvroGenericDeserializer(groupId, schemaRegistryClient,
@@ -0,0 +1,48 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.serializer.avro.impl;
+
+import io.pravega.schemaregistry.serializer.shared.impl.ByteBufferInputStream;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.DecoderFactory;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Hands out binary decoders that are reused across events on the same thread.
+ */
+final class BinaryDecoders {
+    private static final ThreadLocal<BinaryDecoder> DECODERS = new ThreadLocal<>();
+
+    private BinaryDecoders() {
+    }
+
+    /**
+     * Returns the calling thread's decoder configured to read from the input stream. Payloads in heap buffers are 
+     * decoded straight from the backing array. 
+     * The decoder is only valid until the next call to this method on the same thread.
+     *
+     * @param inputStream Stream to read from.
+     * @return Decoder for the stream.
+     */
+    static BinaryDecoder get(InputStream inputStream) {
+        BinaryDecoder decoder;
+        if (inputStream instanceof ByteBufferInputStream && ((ByteBufferInputStream) inputStream).getBuffer().hasArray()) {
+            ByteBuffer buffer = ((ByteBufferInputStream) inputStream).getBuffer();
+            decoder = DecoderFactory.get().binaryDecoder(buffer.array(), buffer.arrayOffset() + buffer.position(),
+                    buffer.remaining(), DECODERS.get());
+        } else {
+            decoder = DecoderFactory.get().binaryDecoder(inputStream, DECODERS.get());
+        }
+        DECODERS.set(decoder);
+        return decoder;
+    }
+}
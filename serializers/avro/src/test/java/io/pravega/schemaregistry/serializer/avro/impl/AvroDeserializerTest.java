@@ -31,6 +31,7 @@ import java.nio.charset.StandardCharsets;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.mock;
 
 @Slf4j
@@ -49,6 +50,7 @@ public class AvroDeserializerTest {
         SchemaRegistryClient client = mock(SchemaRegistryClient.class);
         doAnswer(x -> true).when(client).canReadUsing(anyString(), any());
         doAnswer(x -> new EncodingId(0)).when(client).getEncodingId(anyString(), any(), any());
+        doCallRealMethod().when(client).addSchemaAndGetEncodingId(anyString(), any(), anyString());
         doAnswer(x -> new EncodingInfo(versionInfo1, userAvroSchema.getSchemaInfo(), Codecs.None.getCodec().getCodecType())).when(client).getEncodingInfo(anyString(), eq(new EncodingId(0)));
         SerializerConfig serializerConfig = SerializerConfig.builder().registryClient(client).groupId("avroUser1")
                 .createGroup(SerializationFormat.Avro).registerSchema(true).build();
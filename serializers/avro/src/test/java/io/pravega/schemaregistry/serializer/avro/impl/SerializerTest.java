@@ -11,6 +11,7 @@ package io.pravega.schemaregistry.serializer.avro.impl;
 
 
 import io.pravega.client.stream.Serializer;
+import io.pravega.test.common.AssertExtensions;
 import io.pravega.schemaregistry.serializer.avro.schemas.AvroSchema;
 import io.pravega.schemaregistry.client.SchemaRegistryClient;
 import io.pravega.schemaregistry.serializer.shared.codec.Codecs;
@@ -32,6 +33,7 @@ import org.apache.avro.generic.GenericRecord;
 import org.apache.avro.specific.SpecificRecordBase;
 import org.junit.Test;
 
+import java.nio.BufferOverflowException;
 import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
@@ -45,6 +47,104 @@ import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 
 public class SerializerTest {
+    @Test
+    public void testSerializeIntoBuffer() {
+        SchemaRegistryClient client = mock(SchemaRegistryClient.class);
+        AvroSchema<Test1> schema1 = AvroSchema.of(Test1.class);
+        VersionInfo versionInfo1 = new VersionInfo("name", SerializationFormat.Avro.getFullTypeName(), 0, 0);
+        doAnswer(x -> versionInfo1).when(client).getVersionForSchema(anyString(), eq(schema1.getSchemaInfo()));
+        doAnswer(x -> new EncodingId(0)).when(client).getEncodingId(anyString(), eq(versionInfo1), any());
+
+        for (Codecs codec : Codecs.values()) {
+            AvroSerializer<Test1> serializer = new AvroSerializer<>("groupId", client, schema1, codec.getCodec(), false);
+            Test1 test1 = new Test1("name", 1);
+            ByteBuffer serialized = serializer.serialize(test1);
+            // serializing again on the same thread reuses the buffers and yields the same bytes
+            assertEquals(serialized, serializer.serialize(test1));
+
+            ByteBuffer target = ByteBuffer.allocate(serialized.remaining() + 10);
+            target.position(5);
+            int written = serializer.serialize(test1, target);
+            assertEquals(serialized.remaining(), written);
+            assertEquals(5 + written, target.position());
+            target.flip().position(5);
+            assertEquals(serialized, target);
+
+            ByteBuffer small = ByteBuffer.allocate(serialized.remaining() - 1);
+            AssertExtensions.assertThrows("Exception should have been thrown",
+                    () -> serializer.serialize(test1, small),
+                    e -> e instanceof BufferOverflowException);
+        }
+    }
+
+    @Test
+    public void testDeserializeInPlace() {
+        SchemaRegistryClient client = mock(SchemaRegistryClient.class);
+        SerializerConfig config = SerializerConfig.builder().registryClient(client).groupId("groupId").build();
+        AvroSchema<Test1> schema1 = AvroSchema.of(Test1.class);
+        VersionInfo versionInfo1 = new VersionInfo("name", SerializationFormat.Avro.getFullTypeName(), 0, 0);
+        doAnswer(x -> GroupProperties.builder().serializationFormat(SerializationFormat.Any).build())
+                .when(client).getGroupProperties(anyString());
+        doAnswer(x -> versionInfo1).when(client).getVersionForSchema(anyString(), eq(schema1.getSchemaInfo()));
+        doAnswer(x -> new EncodingId(0)).when(client).getEncodingId(anyString(), eq(versionInfo1), any());
+        doAnswer(x -> new EncodingInfo(versionInfo1, schema1.getSchemaInfo(), Codecs.None.getCodec().getCodecType())).when(client).getEncodingInfo(anyString(), eq(new EncodingId(0)));
+        doAnswer(x -> true).when(client).canReadUsing(anyString(), any());
+
+        AvroSerializer<Test1> serializer = new AvroSerializer<>("groupId", client, schema1, Codecs.None.getCodec(), false);
+        Serializer<Test1> deserializer = AvroSerializerFactory.deserializer(config, schema1);
+        Serializer<Object> genericDeserializer = AvroSerializerFactory.genericDeserializer(config, null);
+        Test1 test1 = new Test1("name", 1);
+        
+        // direct buffer with the payload after other data
+        ByteBuffer direct = ByteBuffer.allocateDirect(100);
+        direct.position(10);
+        serializer.serialize(test1, direct);
+        direct.flip().position(10);
+        assertEquals(test1, deserializer.deserialize(direct.duplicate()));
+        Object generic = genericDeserializer.deserialize(direct.duplicate());
+        assertEquals("name", ((GenericRecord) generic).get("name").toString());
+        
+        // heap buffer that is a slice of a larger array
+        ByteBuffer heap = ByteBuffer.allocate(100);
+        heap.position(10);
+        serializer.serialize(test1, heap);
+        heap.flip().position(10);
+        assertEquals(test1, deserializer.deserialize(heap.slice()));
+        assertEquals(test1, deserializer.deserialize(heap.duplicate()));
+    }
+
+    @Test
+    public void testFailedEventDoesNotAffectNextEvent() {
+        SchemaRegistryClient client = mock(SchemaRegistryClient.class);
+        SerializerConfig config = SerializerConfig.builder().registryClient(client).groupId("groupId").build();
+        AvroSchema<Test2> schema2 = AvroSchema.of(Test2.class);
+        VersionInfo versionInfo2 = new VersionInfo("name", SerializationFormat.Avro.getFullTypeName(), 0, 0);
+        doAnswer(x -> GroupProperties.builder().serializationFormat(SerializationFormat.Any).build())
+                .when(client).getGroupProperties(anyString());
+        doAnswer(x -> versionInfo2).when(client).getVersionForSchema(anyString(), eq(schema2.getSchemaInfo()));
+        doAnswer(x -> new EncodingId(0)).when(client).getEncodingId(anyString(), eq(versionInfo2), any());
+        doAnswer(x -> new EncodingInfo(versionInfo2, schema2.getSchemaInfo(), Codecs.None.getCodec().getCodecType())).when(client).getEncodingInfo(anyString(), eq(new EncodingId(0)));
+        doAnswer(x -> true).when(client).canReadUsing(anyString(), any());
+
+        AvroSerializer<Test2> serializer = new AvroSerializer<>("groupId", client, schema2, Codecs.None.getCodec(), false);
+        Serializer<Test2> deserializer = AvroSerializerFactory.deserializer(config, schema2);
+        Test2 good = new Test2("name", 1, "2");
+
+        // the last field is not nullable, so the event fails after its other fields were buffered by the encoder.
+        Test2 bad = new Test2("bad", 2, null);
+        AssertExtensions.assertThrows("Exception should have been thrown",
+                () -> serializer.serialize(bad),
+                e -> e instanceof NullPointerException);
+        assertEquals(good, deserializer.deserialize(serializer.serialize(good)));
+
+        // the event does not fit into the buffer after the header was written.
+        ByteBuffer small = ByteBuffer.allocate(6);
+        AssertExtensions.assertThrows("Exception should have been thrown",
+                () -> serializer.serialize(good, small),
+                e -> e instanceof BufferOverflowException);
+        assertEquals(good, deserializer.deserialize(serializer.serialize(good)));
+    }
+
     @Test
     public void testAvroSerializers() {
         SchemaRegistryClient client = mock(SchemaRegistryClient.class);
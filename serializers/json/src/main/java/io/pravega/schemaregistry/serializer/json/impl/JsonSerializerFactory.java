@@ -75,7 +75,7 @@ public class JsonSerializerFactory {
         String groupId = config.getGroupId();
         SchemaRegistryClient schemaRegistryClient = initForDeserializer(config);
 
-        EncodingCache encodingCache = new EncodingCache(groupId, schemaRegistryClient);
+        EncodingCache encodingCache = new EncodingCache(config, schemaRegistryClient);
 
         // schema can be null in which case deserialization will happen into dynamic message
         return new JsonDeserializer<>(groupId, schemaRegistryClient, schema, config.getDecoders(), encodingCache, 
@@ -96,7 +96,7 @@ public class JsonSerializerFactory {
 
         String groupId = config.getGroupId();
 
-        EncodingCache encodingCache = new EncodingCache(groupId, schemaRegistryClient);
+        EncodingCache encodingCache = new EncodingCache(config, schemaRegistryClient);
 
         return new JsonGenericDeserializer(groupId, schemaRegistryClient, config.getDecoders(),
                 encodingCache, config.isWriteEncodingHeader());
@@ -116,7 +116,7 @@ public class JsonSerializerFactory {
 
         String groupId = config.getGroupId();
 
-        EncodingCache encodingCache = new EncodingCache(groupId, schemaRegistryClient);
+        EncodingCache encodingCache = new EncodingCache(config, schemaRegistryClient);
 
         return new JsonStringDeserializer(groupId, schemaRegistryClient, config.getDecoders(), encodingCache, config.isWriteEncodingHeader());
     }
@@ -160,7 +160,7 @@ public class JsonSerializerFactory {
         Preconditions.checkArgument(config.isWriteEncodingHeader(), "Events should be tagged with encoding ids.");
         String groupId = config.getGroupId();
         SchemaRegistryClient schemaRegistryClient = initForDeserializer(config);
-        EncodingCache encodingCache = new EncodingCache(groupId, schemaRegistryClient);
+        EncodingCache encodingCache = new EncodingCache(config, schemaRegistryClient);
 
         Map<String, AbstractDeserializer<T>> deserializerMap = getDeserializerMap(config, schemas, groupId, schemaRegistryClient, encodingCache);
         return new MultiplexedDeserializer<>(groupId, schemaRegistryClient,
@@ -189,7 +189,7 @@ public class JsonSerializerFactory {
         Preconditions.checkArgument(config.isWriteEncodingHeader(), "Events should be tagged with encoding ids.");
         String groupId = config.getGroupId();
         SchemaRegistryClient schemaRegistryClient = initForDeserializer(config);
-        EncodingCache encodingCache = new EncodingCache(groupId, schemaRegistryClient);
+        EncodingCache encodingCache = new EncodingCache(config, schemaRegistryClient);
 
         Map<String, AbstractDeserializer<T>> deserializerMap = getDeserializerMap(config, schemas, groupId, schemaRegistryClient, encodingCache);
         JsonGenericDeserializer genericDeserializer = new JsonGenericDeserializer(groupId, schemaRegistryClient, config.getDecoders(),
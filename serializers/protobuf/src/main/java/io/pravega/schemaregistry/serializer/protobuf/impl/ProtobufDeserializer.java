@@ -16,6 +16,7 @@ import io.pravega.schemaregistry.client.SchemaRegistryClient;
 import io.pravega.schemaregistry.contract.data.SchemaInfo;
 import io.pravega.schemaregistry.serializer.protobuf.schemas.ProtobufSchema;
 import io.pravega.schemaregistry.serializer.shared.impl.AbstractDeserializer;
+import io.pravega.schemaregistry.serializer.shared.impl.ByteBufferInputStream;
 import io.pravega.schemaregistry.serializer.shared.impl.EncodingCache;
 import io.pravega.schemaregistry.serializer.shared.impl.SerializerConfig;
 
@@ -35,6 +36,10 @@ public class ProtobufDeserializer<T extends GeneratedMessageV3> extends Abstract
     @Override
     public final T deserialize(InputStream inputStream, SchemaInfo writerSchemaInfo, SchemaInfo readerSchemaInfo) throws IOException {
         try {
+            if (inputStream instanceof ByteBufferInputStream) {
+                // parse the payload in place rather than through the stream
+                return protobufSchema.getParser().parseFrom(((ByteBufferInputStream) inputStream).getBuffer());
+            }
             return protobufSchema.getParser().parseFrom(inputStream);
         } catch (InvalidProtocolBufferException e) {
             throw new IOException("Invalid protobuffer serialized bytes", e);
@@ -11,6 +11,7 @@ package io.pravega.schemaregistry.serializer.protobuf.impl;
 
 import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
+import com.google.protobuf.CodedInputStream;
 import com.google.protobuf.DescriptorProtos;
 import com.google.protobuf.Descriptors;
 import com.google.protobuf.DynamicMessage;
@@ -19,7 +20,10 @@ import io.pravega.schemaregistry.common.NameUtil;
 import io.pravega.schemaregistry.contract.data.SchemaInfo;
 import io.pravega.schemaregistry.serializer.protobuf.schemas.ProtobufSchema;
 import io.pravega.schemaregistry.serializer.shared.impl.AbstractDeserializer;
+import io.pravega.schemaregistry.serializer.shared.impl.ByteBufferInputStream;
 import io.pravega.schemaregistry.serializer.shared.impl.EncodingCache;
+import io.pravega.schemaregistry.serializer.shared.impl.EncodingHandle;
+import io.pravega.schemaregistry.serializer.shared.impl.ReaderSlots;
 import io.pravega.schemaregistry.serializer.shared.impl.SerializerConfig;
 import org.apache.commons.lang3.SerializationException;
 
@@ -30,12 +34,16 @@ import java.util.concurrent.ConcurrentHashMap;
 
 public class ProtobufGenericDeserializer extends AbstractDeserializer<DynamicMessage> {
     private final ConcurrentHashMap<SchemaInfo, Descriptors.Descriptor> knownSchemas;
+    private final ReaderSlots<Descriptors.Descriptor> descriptors;
+    private final SchemaInfo readerSchemaInfo;
 
     public ProtobufGenericDeserializer(String groupId, SchemaRegistryClient client, @Nullable ProtobufSchema<DynamicMessage> schema,
                                 SerializerConfig.Decoders decoder, EncodingCache encodingCache, boolean encodeHeader) {
         super(groupId, client, schema, false, decoder, encodingCache, encodeHeader);
         Preconditions.checkArgument(isEncodeHeader() || schema != null);
         knownSchemas = new ConcurrentHashMap<>();
+        descriptors = new ReaderSlots<>();
+        readerSchemaInfo = schema == null ? null : schema.getSchemaInfo();
     }
 
     @Override
@@ -43,8 +51,27 @@ public class ProtobufGenericDeserializer extends AbstractDeserializer<DynamicMes
         Preconditions.checkArgument(writerSchemaInfo != null || readerSchemaInfo != null);
 
         SchemaInfo schemaToUse = readerSchemaInfo == null ? writerSchemaInfo : readerSchemaInfo;
-        Descriptors.Descriptor messageType = knownSchemas.computeIfAbsent(schemaToUse, this::parseSchema);
+        return parse(inputStream, knownSchemas.computeIfAbsent(schemaToUse, this::parseSchema));
+    }
 
+    @Override
+    public final DynamicMessage deserialize(InputStream inputStream, EncodingHandle writer, SchemaInfo readerSchemaInfo) throws IOException {
+        if (writer == null) {
+            return deserialize(inputStream, (SchemaInfo) null, readerSchemaInfo);
+        }
+        SchemaInfo schemaToUse = readerSchemaInfo == null ? writer.getSchemaInfo() : readerSchemaInfo;
+        if (schemaToUse != (this.readerSchemaInfo == null ? writer.getSchemaInfo() : this.readerSchemaInfo)) {
+            // the slots hold descriptors for this deserializer's own reader schema.
+            return deserialize(inputStream, writer.getSchemaInfo(), readerSchemaInfo);
+        }
+        return parse(inputStream, descriptors.get(writer, x -> knownSchemas.computeIfAbsent(schemaToUse, this::parseSchema)));
+    }
+
+    private DynamicMessage parse(InputStream inputStream, Descriptors.Descriptor messageType) throws IOException {
+        if (inputStream instanceof ByteBufferInputStream) {
+            // parse the payload in place rather than through the stream
+            return DynamicMessage.parseFrom(messageType, CodedInputStream.newInstance(((ByteBufferInputStream) inputStream).getBuffer()));
+        }
         return DynamicMessage.parseFrom(messageType, inputStream);
     }
 
@@ -80,7 +80,7 @@ public class ProtobufSerializerFactory {
         String groupId = config.getGroupId();
         SchemaRegistryClient schemaRegistryClient = initForDeserializer(config);
 
-        EncodingCache encodingCache = new EncodingCache(groupId, schemaRegistryClient);
+        EncodingCache encodingCache = new EncodingCache(config, schemaRegistryClient);
 
         // schema can be null in which case deserialization will happen into dynamic message
         return new ProtobufDeserializer<>(groupId, schemaRegistryClient, schema, config.getDecoders(), encodingCache,
@@ -104,7 +104,7 @@ public class ProtobufSerializerFactory {
         SchemaRegistryClient schemaRegistryClient = initForDeserializer(config);
 
         String groupId = config.getGroupId();
-        EncodingCache encodingCache = new EncodingCache(groupId, schemaRegistryClient);
+        EncodingCache encodingCache = new EncodingCache(config, schemaRegistryClient);
 
         return new ProtobufGenericDeserializer(groupId, schemaRegistryClient, schema, config.getDecoders(), encodingCache,
                 config.isWriteEncodingHeader());
@@ -151,7 +151,7 @@ public class ProtobufSerializerFactory {
         String groupId = config.getGroupId();
         SchemaRegistryClient schemaRegistryClient = initForDeserializer(config);
 
-        EncodingCache encodingCache = new EncodingCache(groupId, schemaRegistryClient);
+        EncodingCache encodingCache = new EncodingCache(config, schemaRegistryClient);
 
         Map<String, AbstractDeserializer<T>> deserializerMap = getDeserializerMap(config, schemas, groupId, schemaRegistryClient, encodingCache);
         return new MultiplexedDeserializer<>(groupId, schemaRegistryClient, deserializerMap, config.getDecoders(), encodingCache);
@@ -172,7 +172,7 @@ public class ProtobufSerializerFactory {
         String groupId = config.getGroupId();
         SchemaRegistryClient schemaRegistryClient = initForDeserializer(config);
 
-        EncodingCache encodingCache = new EncodingCache(groupId, schemaRegistryClient);
+        EncodingCache encodingCache = new EncodingCache(config, schemaRegistryClient);
 
         Map<String, AbstractDeserializer<T>> deserializerMap = getDeserializerMap(config, schemas, groupId, schemaRegistryClient, encodingCache);
         ProtobufGenericDeserializer genericDeserializer = new ProtobufGenericDeserializer(groupId, schemaRegistryClient, null,
@@ -11,15 +11,12 @@ package io.pravega.schemaregistry.serializer.shared.impl;
 
 import com.google.common.base.Preconditions;
 import io.pravega.schemaregistry.client.SchemaRegistryClient;
-import io.pravega.schemaregistry.contract.data.EncodingId;
-import io.pravega.schemaregistry.contract.data.EncodingInfo;
 import io.pravega.schemaregistry.contract.data.SchemaInfo;
 import io.pravega.schemaregistry.serializer.shared.schemas.Schema;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 
 import javax.annotation.Nullable;
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
@@ -75,54 +72,61 @@ public abstract class AbstractDeserializer<T> extends BaseDeserializer<T> {
     @SneakyThrows(IOException.class)
     @Override
     public T deserialize(ByteBuffer data) {
-        int start = data.hasArray() ? data.arrayOffset() + data.position() : data.position();
-        ByteArrayInputStream inputStream;
-        SchemaInfo writerSchema;
+        ByteBuffer payload;
+        EncodingHandle writer;
         SchemaInfo readerSchema;
         if (this.encodeHeader) {
-            ByteBuffer decodedBytes;
             if (skipHeaders) {
-                data.position(HEADER_SIZE);
-                decodedBytes = data;
-                writerSchema = null;
+                data.position(data.position() + HEADER_SIZE);
+                payload = data;
+                writer = null;
             } else {
                 byte protocol = data.get();
-                EncodingId encodingId = new EncodingId(data.getInt());
-                EncodingInfo encodingInfo = encodingCache.getGroupEncodingInfo(encodingId);
-                writerSchema = encodingInfo.getSchemaInfo();
-                decodedBytes = decoders.decode(encodingInfo.getCodecType(), data);
+                // the encoding id is looked up as a primitive to avoid allocating an EncodingId per event.
+                writer = encodingCache.getEncoding(data.getInt());
+                payload = decoders.decode(writer.getEncodingInfo().getCodecType(), data);
             }
 
-            byte[] b;
-            if (decodedBytes.hasArray()) {
-                b = decodedBytes.array();
-                start = decodedBytes.arrayOffset() + decodedBytes.position();
-            } else {
-                b = new byte[decodedBytes.remaining()];
-                decodedBytes.get(b);
-                start = decodedBytes.position();
-            }
-
-            inputStream = new ByteArrayInputStream(b, start, decodedBytes.remaining());
             // pass writer schema for schema to be read into
-            readerSchema = schemaInfo != null ? schemaInfo : writerSchema;
+            readerSchema = schemaInfo != null ? schemaInfo : (writer == null ? null : writer.getSchemaInfo());
         } else {
-            byte[] b;
-            if (data.hasArray()) {
-                b = data.array();
-            } else {
-                b = new byte[data.remaining()];
-                data.get(b);
-            }
-            writerSchema = null;
-            readerSchema = schemaInfo;
+            payload = data;
+            writer = null;
             // pass reader schema for schema on read to the underlying implementation
-            inputStream = new ByteArrayInputStream(b, start, data.remaining());
+            readerSchema = schemaInfo;
         }
 
-        return deserialize(inputStream, writerSchema, readerSchema);
+        // the payload is read in place, whether it is in a heap or a direct buffer.
+        return deserialize(new ByteBufferInputStream(payload), writer, readerSchema);
+    }
+
+    /**
+     * Deserializes the payload that was written with the encoding of the supplied handle. 
+     * Deserializers that build a reader per writer schema should override this method and keep their readers in 
+     * {@link ReaderSlots}, which finds them by the schema index of the handle. By default this calls 
+     * {@link #deserialize(InputStream, SchemaInfo, SchemaInfo)} with the writer schema of the handle. 
+     * 
+     * @param inputStream Stream to read the payload from. 
+     * @param writer Handle for the encoding of the payload, if known. 
+     * @param readerSchema Schema to read the payload into, if known. 
+     * @return Deserialized object. 
+     * @throws IOException If the payload cannot be read. 
+     */
+    public T deserialize(InputStream inputStream, @Nullable EncodingHandle writer, SchemaInfo readerSchema) throws IOException {
+        return deserialize(inputStream, writer == null ? null : writer.getSchemaInfo(), readerSchema);
     }
     
+    /**
+     * Deserializes the payload that is read from the input stream. 
+     * The stream supplied by this class is a {@link ByteBufferInputStream}, so implementations may read the payload 
+     * directly from {@link ByteBufferInputStream#getBuffer()} instead. 
+     * 
+     * @param inputStream Stream to read the payload from. 
+     * @param writerSchema Schema the payload was written with, if known. 
+     * @param readerSchema Schema to read the payload into, if known. 
+     * @return Deserialized object. 
+     * @throws IOException If the payload cannot be read. 
+     */
     public abstract T deserialize(InputStream inputStream, SchemaInfo writerSchema, SchemaInfo readerSchema) throws IOException;
     
     protected boolean isEncodeHeader() {
@@ -10,7 +10,6 @@
 package io.pravega.schemaregistry.serializer.shared.impl;
 
 import com.google.common.base.Preconditions;
-import io.pravega.common.io.ByteBufferOutputStream;
 import io.pravega.schemaregistry.client.SchemaRegistryClient;
 import io.pravega.schemaregistry.serializer.shared.codec.Codecs;
 import io.pravega.schemaregistry.serializer.shared.codec.Encoder;
@@ -23,11 +22,15 @@ import lombok.SneakyThrows;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.BufferOverflowException;
 import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.concurrent.atomic.AtomicReference;
 
 public abstract class AbstractSerializer<T> extends BaseSerializer<T> {
     private static final byte PROTOCOL = 0x1;
+    private static final ThreadLocal<Deque<ReusableByteArrayOutputStream>> BUFFERS = ThreadLocal.withInitial(ArrayDeque::new);
 
     private final String groupId;
     
@@ -62,6 +65,11 @@ public abstract class AbstractSerializer<T> extends BaseSerializer<T> {
     }
     
     private void initialize() {
+        if (registerSchema && encodeHeader) {
+            // register schema and get the encoding id for it with a single call.
+            encodingId.set(client.addSchemaAndGetEncodingId(groupId, schemaInfo, encoder.getCodecType().getName()));
+            return;
+        }
         VersionInfo version;
         if (registerSchema) {
             // register schema
@@ -78,11 +86,46 @@ public abstract class AbstractSerializer<T> extends BaseSerializer<T> {
     @SneakyThrows(IOException.class)
     @Override
     public ByteBuffer serialize(T obj) {
-        ByteBufferOutputStream outStream = new ByteBufferOutputStream();
-        ByteBuffer byteBuffer;
+        ReusableByteArrayOutputStream outStream = acquire();
+        try {
+            writeTo(obj, outStream);
+            // the only allocation in the steady state is the returned buffer.
+            return ByteBuffer.wrap(outStream.toByteArray());
+        } finally {
+            release(outStream);
+        }
+    }
+
+    /**
+     * Serializes the object directly into the supplied buffer starting at its current position. The position of the
+     * buffer is advanced past the serialized bytes. 
+     * If the buffer does not have enough space remaining for the serialized object, its position is left unchanged. 
+     * 
+     * @param obj Object to serialize. 
+     * @param target Buffer to serialize the object into. 
+     * @return Number of bytes written into the buffer. 
+     * @throws BufferOverflowException If the buffer does not have enough space remaining. 
+     */
+    @SneakyThrows(IOException.class)
+    public int serialize(T obj, ByteBuffer target) {
+        int position = target.position();
+        try {
+            writeTo(obj, new ByteBufferWriter(target));
+        } catch (BufferOverflowException e) {
+            target.position(position);
+            throw e;
+        }
+        return target.position() - position;
+    }
+
+    private void writeTo(T obj, OutputStream outStream) throws IOException {
         if (this.encodeHeader) {
+            int id = encodingId.get().getId();
             outStream.write(PROTOCOL);
-            outStream.writeInt(encodingId.get().getId());
+            outStream.write(id >>> 24);
+            outStream.write(id >>> 16);
+            outStream.write(id >>> 8);
+            outStream.write(id);
         }
 
         if (!this.encodeHeader || this.encoder.equals(Codecs.None.getCodec())) {
@@ -90,16 +133,53 @@ public abstract class AbstractSerializer<T> extends BaseSerializer<T> {
             serialize(obj, schemaInfo, outStream);
         } else {
             // encode header is true and encoder is supplied, encode the data
-            ByteBufferOutputStream serializedStream = new ByteBufferOutputStream();
-
-            serialize(obj, schemaInfo, serializedStream);
-            encoder.encode(ByteBuffer.wrap(serializedStream.getData().array()), outStream);
+            ReusableByteArrayOutputStream serializedStream = acquire();
+            try {
+                serialize(obj, schemaInfo, serializedStream);
+                encoder.encode(serializedStream.asByteBuffer(), outStream);
+            } finally {
+                release(serializedStream);
+            }
         }
+    }
 
-        byteBuffer = ByteBuffer.wrap(outStream.getData().array(), 0, outStream.getData().getLength());
+    /**
+     * Takes a buffer from the calling thread's arena, which is shared by all serializers used on the thread. 
+     * Each thread holds on to at most two buffers, one for the serialized object and one for its encoded form. 
+     */
+    private ReusableByteArrayOutputStream acquire() {
+        Deque<ReusableByteArrayOutputStream> arena = BUFFERS.get();
+        ReusableByteArrayOutputStream stream = arena.poll();
+        return stream == null ? new ReusableByteArrayOutputStream() : stream;
+    }
 
-        return byteBuffer;
+    private void release(ReusableByteArrayOutputStream stream) {
+        if (stream.isRetainable()) {
+            stream.reset();
+            BUFFERS.get().push(stream);
+        }
     }
 
     protected abstract void serialize(T var, SchemaInfo schema, OutputStream outputStream) throws IOException;
+
+    /**
+     * Output stream that writes into a ByteBuffer. Closing the stream has no effect. 
+     */
+    private static final class ByteBufferWriter extends OutputStream {
+        private final ByteBuffer target;
+
+        ByteBufferWriter(ByteBuffer target) {
+            this.target = target;
+        }
+
+        @Override
+        public void write(int b) {
+            target.put((byte) b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            target.put(b, off, len);
+        }
+    }
 }
@@ -0,0 +1,64 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.serializer.shared.impl;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Input stream that reads the remaining bytes of a heap or direct ByteBuffer without copying them.
+ * Deserializers that can read from a ByteBuffer directly may use {@link #getBuffer()} instead of the stream methods.
+ */
+public final class ByteBufferInputStream extends InputStream {
+    private final ByteBuffer buffer;
+
+    public ByteBufferInputStream(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    /**
+     * The buffer this stream reads from. Its position is the position of the next byte to be read from the stream.
+     *
+     * @return Buffer backing this stream.
+     */
+    public ByteBuffer getBuffer() {
+        return buffer;
+    }
+
+    @Override
+    public int read() {
+        return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) {
+        if (len == 0) {
+            return 0;
+        }
+        if (!buffer.hasRemaining()) {
+            return -1;
+        }
+        int toRead = Math.min(len, buffer.remaining());
+        buffer.get(b, off, toRead);
+        return toRead;
+    }
+
+    @Override
+    public long skip(long n) {
+        int toSkip = (int) Math.min(Math.max(n, 0), buffer.remaining());
+        buffer.position(buffer.position() + toSkip);
+        return toSkip;
+    }
+
+    @Override
+    public int available() {
+        return buffer.remaining();
+    }
+}
@@ -65,7 +65,7 @@ public class CustomSerializerFactory {
         String groupId = config.getGroupId();
         SchemaRegistryClient schemaRegistryClient = initForDeserializer(config);
 
-        EncodingCache encodingCache = new EncodingCache(groupId, schemaRegistryClient);
+        EncodingCache encodingCache = new EncodingCache(config, schemaRegistryClient);
 
         return new AbstractDeserializer<T>(groupId, schemaRegistryClient, schema, false,
                 config.getDecoders(), encodingCache, config.isWriteEncodingHeader()) {
@@ -9,56 +9,440 @@
  */
 package io.pravega.schemaregistry.serializer.shared.impl;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.annotations.VisibleForTesting;
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
-import io.pravega.common.Exceptions;
+import com.google.common.base.Preconditions;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.pravega.schemaregistry.client.SchemaRegistryClient;
-import io.pravega.schemaregistry.client.exceptions.RegistryExceptions;
 import io.pravega.schemaregistry.contract.data.EncodingId;
 import io.pravega.schemaregistry.contract.data.EncodingInfo;
+import io.pravega.schemaregistry.contract.data.SchemaInfo;
+import io.pravega.schemaregistry.contract.transform.ModelHelper;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
-import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.ExecutionException;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
 
 /**
  * Local cache for storing schemas that are retrieved from the registry service.  
+ * Schemas are interned when they are loaded so that all encoding ids with the same schema share a single 
+ * {@link SchemaInfo} instance and schema index. A schema is released once no cached encoding id uses it, and its 
+ * index is handed out to the next new schema, so schema indexes are bounded by the maximum size of the cache. 
+ * 
+ * Encoding ids are assigned sequentially within a group, so handles for ids below {@link #MAX_DENSE_ID} are kept in an 
+ * array indexed by the id. Lookups read the array without taking a lock or boxing the id. The array is replaced 
+ * whenever an entry is added or evicted, which only happens when an encoding id is loaded from the service. 
+ * Handles for larger ids are kept in a map. 
+ * Once the cache holds its maximum number of entries, an entry is evicted to make room with the CLOCK algorithm: 
+ * lookups set the referenced bit of the handle they find, without taking a lock, and eviction walks the entries in the 
+ * order they were added, giving entries whose bit is set a second chance by clearing the bit and moving them to the 
+ * back. The first entry found without the bit is evicted, so entries that are looked up are kept over entries that 
+ * have not been looked up since the last pass, similar to least recently used eviction.
+ * 
+ * Concurrent lookups of the same encoding id share a single call to the registry service. 
+ * Encoding ids are never reused within an incarnation of a group, so loaded entries never need to be refreshed. This 
+ * allows the cache to be bootstrapped before it is used, either by prefetching the encoding ids of the group in pages 
+ * in the background or by reading the entries saved to a local file by a previous instance of the cache. 
+ * A group that is deleted and recreated with the same name, or a group with the same name on another registry service, 
+ * assigns the same encoding ids to different encodings. The file therefore records the registry service and the 
+ * incarnation of the group it was written for, and it is ignored unless both match. The incarnation is fetched in the 
+ * background, so creating the cache does not wait on the registry service, and the file is neither read nor written 
+ * until the incarnation is known. 
  */
+@Slf4j
 public class EncodingCache {
     private static final int MAXIMUM_SIZE = 1000;
-    
-    private final LoadingCache<EncodingId, EncodingInfo> encodingCache;
+    private static final int MAX_DENSE_ID = 1 << 14;
+    private static final int PREFETCH_BATCH_SIZE = 100;
+    private static final EncodingHandle[] EMPTY = new EncodingHandle[0];
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    // used by caches that are not given an executor. Lookups never wait for it. 
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(4,
+            new ThreadFactoryBuilder().setNameFormat("encoding-cache-%d").setDaemon(true).build());
+
+    private final String groupId;
+    private final SchemaRegistryClient schemaRegistryClient;
+    private final int maximumSize;
+    private volatile EncodingHandle[] dense;
+    private final ConcurrentHashMap<Integer, EncodingHandle> sparse;
+    // the clock of cached encoding ids, in the order they were added or given a second chance. Guarded by this. 
+    private final ArrayDeque<Integer> clock;
+    // interned schemas of the cached encoding ids and the schema indexes they use. Guarded by this. 
+    private final Map<SchemaInfo, InternedSchema> schemas;
+    private final BitSet schemaIndexes;
+    private final ConcurrentHashMap<Integer, CompletableFuture<EncodingHandle>> inflight;
+    // runs prefetches and reads and writes of the cache file. 
+    private final Executor executor;
+    @Nullable
+    private final Path cacheFile;
+    @Nullable
+    private final String registryUri;
+    // completes with the incarnation of the group once the cache file has been read, or with null if the file is not used. 
+    private final CompletableFuture<String> incarnationId;
+    private final AtomicBoolean saveScheduled;
+    // completes once the cache file has been read and the prefetch, if any, has finished. 
+    @VisibleForTesting
+    final CompletableFuture<Void> prefetched;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder loadSuccessCount = new LongAdder();
+    private final LongAdder loadExceptionCount = new LongAdder();
+    private final LongAdder totalLoadTime = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
     public EncodingCache(String groupId, SchemaRegistryClient schemaRegistryClient) {
         this(groupId, schemaRegistryClient, MAXIMUM_SIZE);
     }
 
+    /**
+     * Creates a cache for the group of the config, which is bootstrapped as specified by 
+     * {@link SerializerConfig#isPrefetchEncodings()} and {@link SerializerConfig#getEncodingCacheFile()}.
+     * 
+     * @param config Serializer config.
+     * @param schemaRegistryClient Client used to load encoding ids that are not in the cache.
+     */
+    public EncodingCache(SerializerConfig config, SchemaRegistryClient schemaRegistryClient) {
+        this(config.getGroupId(), schemaRegistryClient, MAXIMUM_SIZE, config.isPrefetchEncodings(), 
+                config.getEncodingCacheFile(), config.getRegistryConfigOrClient().isLeft() 
+                        ? config.getRegistryConfigOrClient().getLeft().getSchemaRegistryUri().toString() : null,
+                config.getEncodingCacheExecutor() == null ? EXECUTOR : config.getEncodingCacheExecutor());
+    }
+
     @VisibleForTesting
     EncodingCache(String groupId, SchemaRegistryClient schemaRegistryClient, int cacheSize) {
-        encodingCache = CacheBuilder.newBuilder()
-                                    .maximumSize(cacheSize)
-                                    .build(new CacheLoader<EncodingId, EncodingInfo>() {
-            @Override
-            public EncodingInfo load(EncodingId key) {
-                return schemaRegistryClient.getEncodingInfo(groupId, key);
-            }
-        });
+        this(groupId, schemaRegistryClient, cacheSize, false, null, null, EXECUTOR);
+    }
+
+    @VisibleForTesting
+    EncodingCache(String groupId, SchemaRegistryClient schemaRegistryClient, int cacheSize, boolean prefetch, 
+                  @Nullable Path cacheFile, @Nullable String registryUri, Executor executor) {
+        Preconditions.checkArgument(cacheSize > 0, "cacheSize should be a positive integer");
+        this.groupId = groupId;
+        this.schemaRegistryClient = schemaRegistryClient;
+        this.maximumSize = cacheSize;
+        this.dense = EMPTY;
+        this.sparse = new ConcurrentHashMap<>();
+        this.clock = new ArrayDeque<>();
+        this.schemas = new HashMap<>();
+        this.schemaIndexes = new BitSet();
+        this.inflight = new ConcurrentHashMap<>();
+        this.executor = executor;
+        this.registryUri = registryUri;
+        this.cacheFile = cacheFile;
+        this.saveScheduled = new AtomicBoolean();
+        // the file is read before it is written and before prefetching, so that only the encoding ids missing from it 
+        // are loaded from the service. 
+        this.incarnationId = cacheFile == null ? CompletableFuture.completedFuture(null) 
+                : CompletableFuture.supplyAsync(this::getIncarnationId, executor).thenApply(incarnation -> {
+                    if (incarnation != null) {
+                        readCacheFile(cacheFile, incarnation);
+                    }
+                    return incarnation;
+                });
+        this.prefetched = prefetch ? incarnationId.thenCompose(v -> prefetch(0)) : incarnationId.thenAccept(v -> { });
     }
     
     EncodingInfo getGroupEncodingInfo(EncodingId encodingId) {
+        return getEncoding(encodingId.getId()).getEncodingInfo();
+    }
+
+    EncodingHandle getEncoding(EncodingId encodingId) {
+        return getEncoding(encodingId.getId());
+    }
+
+    EncodingHandle getEncoding(int encodingId) {
+        EncodingHandle handle = getIfPresent(encodingId);
+        if (handle != null) {
+            handle.markReferenced();
+            hitCount.increment();
+            return handle;
+        }
+        missCount.increment();
+        // the caller's thread makes the call unless another caller is already loading the same encoding id. 
+        CompletableFuture<EncodingHandle> future = fetch(encodingId);
         try {
-            return encodingCache.get(encodingId);
-        } catch (ExecutionException e) {
-            if (e.getCause() != null && Exceptions.unwrap(e.getCause()) instanceof RegistryExceptions) {
-                throw (RegistryExceptions) e.getCause();
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            } else {
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Statistics for the lookups made on this cache. 
+     * 
+     * @return Hit, miss, load and eviction counts and the total time spent loading encoding ids in nanoseconds.
+     */
+    public CacheStats getStats() {
+        return new CacheStats(hitCount.sum(), missCount.sum(), loadSuccessCount.sum(), loadExceptionCount.sum(),
+                totalLoadTime.sum(), evictionCount.sum());
+    }
+
+    private EncodingHandle getIfPresent(int encodingId) {
+        EncodingHandle[] current = dense;
+        if (encodingId >= 0 && encodingId < current.length) {
+            return current[encodingId];
+        }
+        return isDense(encodingId) ? null : sparse.get(encodingId);
+    }
+
+    private CompletableFuture<EncodingHandle> fetch(int encodingId) {
+        CompletableFuture<EncodingHandle> future = new CompletableFuture<>();
+        CompletableFuture<EncodingHandle> existing = inflight.putIfAbsent(encodingId, future);
+        if (existing != null) {
+            return existing;
+        }
+        try {
+            // the encoding id may have been added since the caller looked it up.
+            EncodingHandle handle = getIfPresent(encodingId);
+            future.complete(handle != null ? handle : load(encodingId));
+        } catch (Throwable e) {
+            future.completeExceptionally(e);
+        } finally {
+            inflight.remove(encodingId, future);
+        }
+        return future;
+    }
+
+    /**
+     * Loads encoding ids in pages, starting at the given id, until no encoding id is returned or the cache is full. 
+     * The service assigns encoding ids of a group consecutively starting at zero. Pages whose encoding ids are all 
+     * cached already are skipped. If a page fails to load, prefetching stops and the remaining encoding ids are loaded 
+     * when they are first looked up. 
+     */
+    private CompletableFuture<Void> prefetch(int from) {
+        int limit = Math.min(PREFETCH_BATCH_SIZE, maximumSize - from);
+        if (limit <= 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+        if (IntStream.range(from, from + limit).allMatch(encodingId -> getIfPresent(encodingId) != null)) {
+            return prefetch(from + limit);
+        }
+        return CompletableFuture.supplyAsync(() -> loadAll(from, limit), executor)
+                                .handle((loaded, e) -> e == null ? loaded : 0)
+                                .thenCompose(loaded -> loaded > 0 ? prefetch(from + loaded) : CompletableFuture.completedFuture(null));
+    }
+
+    private int loadAll(int from, int limit) {
+        long start = System.nanoTime();
+        List<EncodingInfo> encodingInfos;
+        try {
+            encodingInfos = schemaRegistryClient.getEncodingInfos(groupId, from, limit);
+        } catch (RuntimeException e) {
+            loadExceptionCount.increment();
+            throw e;
+        } finally {
+            totalLoadTime.add(System.nanoTime() - start);
+        }
+        loadSuccessCount.add(encodingInfos.size());
+        for (int i = 0; i < encodingInfos.size(); i++) {
+            add(from + i, encodingInfos.get(i));
+        }
+        return encodingInfos.size();
+    }
+
+    private EncodingHandle load(int encodingId) {
+        long start = System.nanoTime();
+        EncodingInfo encodingInfo;
+        try {
+            encodingInfo = schemaRegistryClient.getEncodingInfo(groupId, new EncodingId(encodingId));
+        } catch (RuntimeException e) {
+            loadExceptionCount.increment();
+            throw e;
+        } finally {
+            totalLoadTime.add(System.nanoTime() - start);
+        }
+        loadSuccessCount.increment();
+        return add(encodingId, encodingInfo);
+    }
+
+    private synchronized EncodingHandle add(int encodingId, EncodingInfo encodingInfo) {
+        // another thread may have loaded the same encoding id concurrently. 
+        EncodingHandle existing = getIfPresent(encodingId);
+        if (existing != null) {
+            return existing;
+        }
+        EncodingHandle handle = intern(encodingId, encodingInfo);
+        if (clock.size() >= maximumSize) {
+            evict();
+        }
+        if (isDense(encodingId)) {
+            EncodingHandle[] copy = Arrays.copyOf(dense, Math.max(dense.length, Math.min(MAX_DENSE_ID, 
+                    Math.max(encodingId + 1, 2 * dense.length))));
+            copy[encodingId] = handle;
+            dense = copy;
+        } else {
+            sparse.put(encodingId, handle);
+        }
+        clock.add(encodingId);
+        if (cacheFile != null && saveScheduled.compareAndSet(false, true)) {
+            // entries added before the incarnation is known are written once it is. 
+            incarnationId.thenAcceptAsync(incarnation -> {
+                if (incarnation != null) {
+                    writeCacheFile(incarnation);
+                }
+            }, executor);
+        }
+        return handle;
+    }
+
+    /**
+     * Evicts the first entry of the clock that was not looked up since it was last passed. This terminates within 
+     * a single pass of the clock, as each pass clears the bits it finds set. 
+     */
+    private void evict() {
+        while (true) {
+            int encodingId = clock.poll();
+            if (getIfPresent(encodingId).clearReferenced()) {
+                clock.add(encodingId);
             } else {
-                throw new RuntimeException(e.getCause());
+                remove(encodingId);
+                evictionCount.increment();
+                return;
             }
         }
     }
+
+    private void remove(int encodingId) {
+        release(getIfPresent(encodingId).getSchemaInfo());
+        if (isDense(encodingId)) {
+            EncodingHandle[] copy = dense.clone();
+            copy[encodingId] = null;
+            dense = copy;
+        } else {
+            sparse.remove(encodingId);
+        }
+    }
+
+    private EncodingHandle intern(int encodingId, EncodingInfo encodingInfo) {
+        // schemas are only hashed here, when an encoding id is loaded.
+        InternedSchema schema = schemas.computeIfAbsent(encodingInfo.getSchemaInfo(), x -> {
+            int index = schemaIndexes.nextClearBit(0);
+            schemaIndexes.set(index);
+            return new InternedSchema(x, index);
+        });
+        schema.references++;
+        EncodingInfo interned = encodingInfo.getSchemaInfo() == schema.schemaInfo ? encodingInfo
+                : new EncodingInfo(encodingInfo.getVersionInfo(), schema.schemaInfo, encodingInfo.getCodecType());
+        return new EncodingHandle(encodingId, interned, schema.index);
+    }
+
+    private void release(SchemaInfo schemaInfo) {
+        InternedSchema schema = schemas.get(schemaInfo);
+        if (--schema.references == 0) {
+            schemas.remove(schemaInfo);
+            schemaIndexes.clear(schema.index);
+        }
+    }
+
+    @Nullable
+    private String getIncarnationId() {
+        try {
+            return schemaRegistryClient.getGroupIncarnation(groupId);
+        } catch (RuntimeException e) {
+            log.warn("Unable to get the incarnation of group {}, the encoding cache file is not used.", groupId, e);
+            return null;
+        }
+    }
+
+    private void readCacheFile(Path path, String incarnation) {
+        if (!Files.exists(path)) {
+            return;
+        }
+        try {
+            CacheFile file = MAPPER.readValue(path.toFile(), CacheFile.class);
+            if (!groupId.equals(file.getGroupId()) || !Objects.equals(schemaRegistryClient.getNamespace(), file.getNamespace())
+                    || !Objects.equals(registryUri, file.getRegistryUri()) || !incarnation.equals(file.getIncarnationId())) {
+                log.warn("Ignoring encoding cache file {} which was written for a different group or incarnation of the group.", path);
+                return;
+            }
+            file.getEncodings().forEach((encodingId, encodingInfo) -> add(encodingId, ModelHelper.decode(encodingInfo)));
+        } catch (IOException | RuntimeException e) {
+            log.warn("Unable to read encoding cache file {}.", path, e);
+        }
+    }
+
+    @VisibleForTesting
+    void writeCacheFile(String incarnation) {
+        saveScheduled.set(false);
+        Map<Integer, io.pravega.schemaregistry.contract.generated.rest.model.EncodingInfo> encodings = new LinkedHashMap<>();
+        synchronized (this) {
+            for (Integer encodingId : clock) {
+                encodings.put(encodingId, ModelHelper.encode(getIfPresent(encodingId).getEncodingInfo()));
+            }
+        }
+        try {
+            // write to a temporary file first so that a reader never sees a partially written file.
+            Path temp = Files.createTempFile(cacheFile.toAbsolutePath().getParent(), cacheFile.getFileName().toString(), ".tmp");
+            MAPPER.writeValue(temp.toFile(), new CacheFile(groupId, schemaRegistryClient.getNamespace(), registryUri, 
+                    incarnation, encodings));
+            Files.move(temp, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Unable to write encoding cache file {}.", cacheFile, e);
+        }
+    }
+
+    private static boolean isDense(int encodingId) {
+        return encodingId >= 0 && encodingId < MAX_DENSE_ID;
+    }
     
     @VisibleForTesting
-    ConcurrentMap<EncodingId, EncodingInfo> getMapForCache() {
-        return encodingCache.asMap();
+    synchronized Map<EncodingId, EncodingHandle> getMapForCache() {
+        Map<EncodingId, EncodingHandle> map = new HashMap<>();
+        for (Integer encodingId : clock) {
+            map.put(new EncodingId(encodingId), getIfPresent(encodingId));
+        }
+        return map;
+    }
+
+    private static class InternedSchema {
+        private final SchemaInfo schemaInfo;
+        private final int index;
+        // number of cached encoding ids with this schema. 
+        private int references;
+
+        InternedSchema(SchemaInfo schemaInfo, int index) {
+            this.schemaInfo = schemaInfo;
+            this.index = index;
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class CacheFile {
+        private String groupId;
+        private String namespace;
+        private String registryUri;
+        private String incarnationId;
+        private Map<Integer, io.pravega.schemaregistry.contract.generated.rest.model.EncodingInfo> encodings;
     }
 }
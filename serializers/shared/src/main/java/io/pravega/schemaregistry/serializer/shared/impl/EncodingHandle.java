@@ -0,0 +1,59 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.serializer.shared.impl;
+
+import io.pravega.schemaregistry.contract.data.EncodingInfo;
+import io.pravega.schemaregistry.contract.data.SchemaInfo;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * Handle for an encoding id that is handed out by {@link EncodingCache}. 
+ * All encoding ids whose schemas are equal share the same {@link SchemaInfo} instance and schema index. The schema 
+ * index is a small integer that is unique to the schema within the cache, which lets deserializers find the reader 
+ * they built for a writer schema with an array lookup rather than by hashing the schema. See {@link ReaderSlots}. 
+ */
+@Getter
+public final class EncodingHandle {
+    private final int encodingId;
+    private final EncodingInfo encodingInfo;
+    private final int schemaIndex;
+    // set when the handle is looked up and cleared by the eviction of the cache, see EncodingCache. 
+    @Getter(AccessLevel.NONE)
+    private volatile boolean referenced;
+
+    EncodingHandle(int encodingId, EncodingInfo encodingInfo, int schemaIndex) {
+        this.encodingId = encodingId;
+        this.encodingInfo = encodingInfo;
+        this.schemaIndex = schemaIndex;
+    }
+
+    public SchemaInfo getSchemaInfo() {
+        return encodingInfo.getSchemaInfo();
+    }
+
+    void markReferenced() {
+        // only written when not set already, so that lookups of hot encoding ids do not keep writing the field. 
+        if (!referenced) {
+            referenced = true;
+        }
+    }
+
+    /**
+     * Clears the referenced bit.
+     * 
+     * @return whether the handle was referenced since the bit was last cleared.
+     */
+    boolean clearReferenced() {
+        boolean wasReferenced = referenced;
+        referenced = false;
+        return wasReferenced;
+    }
+}
@@ -42,4 +42,15 @@ public class MultiplexedAndGenericDeserializer<T, G> extends AbstractDeserialize
             return Either.left(deserializer.deserialize(inputStream, writerSchema, readerSchema));
         } 
     }
+
+    @Override
+    public final Either<T, G> deserialize(InputStream inputStream, EncodingHandle writer, SchemaInfo readerSchema) throws IOException {
+        Preconditions.checkNotNull(writer);
+        AbstractDeserializer<T> deserializer = deserializers.get(writer.getSchemaInfo().getType());
+        if (deserializer == null) {
+            return Either.right(genericDeserializer.deserialize(inputStream, writer, readerSchema));
+        } else {
+            return Either.left(deserializer.deserialize(inputStream, writer, readerSchema));
+        } 
+    }
 }
\ No newline at end of file
@@ -38,10 +38,20 @@ public class MultiplexedDeserializer<T> extends AbstractDeserializer<T> {
     @Override
     public final T deserialize(InputStream inputStream, SchemaInfo writerSchema, SchemaInfo readerSchema) throws IOException {
         Preconditions.checkNotNull(writerSchema);
+        return getDeserializer(writerSchema).deserialize(inputStream, writerSchema, readerSchema);
+    }
+
+    @Override
+    public final T deserialize(InputStream inputStream, EncodingHandle writer, SchemaInfo readerSchema) throws IOException {
+        Preconditions.checkNotNull(writer);
+        return getDeserializer(writer.getSchemaInfo()).deserialize(inputStream, writer, readerSchema);
+    }
+
+    private AbstractDeserializer<T> getDeserializer(SchemaInfo writerSchema) {
         AbstractDeserializer<T> deserializer = deserializers.get(writerSchema.getType());
         if (deserializer == null) {
             throw new SerializationException("deserializer not supplied for type " + writerSchema.getType());
         }
-        return deserializer.deserialize(inputStream, writerSchema, readerSchema);
+        return deserializer;
     }
 }
\ No newline at end of file
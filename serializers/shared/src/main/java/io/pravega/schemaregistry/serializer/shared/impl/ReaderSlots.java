@@ -0,0 +1,73 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.serializer.shared.impl;
+
+import io.pravega.schemaregistry.contract.data.SchemaInfo;
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * Readers that a deserializer has built for the writer schemas it has seen, indexed by the schema index of
+ * {@link EncodingHandle}. 
+ * Lookups read a volatile array and compare the schema by reference, so they do not take a lock or hash the schema.
+ * Readers are added by copying the array, which happens once per writer schema. The encoding cache hands out the index 
+ * of a released schema to the next new schema, whose reader then replaces the reader in that slot, so the array does not 
+ * grow beyond the number of schemas the cache holds. 
+ *
+ * @param <R> Type of reader.
+ */
+public final class ReaderSlots<R> {
+    private volatile Slot<R>[] slots = newArray(0);
+
+    /**
+     * Returns the reader for the writer schema of the handle, creating it with the supplied function if this is the
+     * first time the schema is seen.
+     *
+     * @param writer Handle for the encoding id of the payload.
+     * @param factory Function to create the reader for a writer schema.
+     * @return Reader for the writer schema.
+     */
+    public R get(EncodingHandle writer, Function<SchemaInfo, R> factory) {
+        Slot<R>[] current = slots;
+        int index = writer.getSchemaIndex();
+        if (index < current.length) {
+            Slot<R> slot = current[index];
+            // handles from another encoding cache may reuse the index for a different schema. 
+            if (slot != null && slot.schemaInfo == writer.getSchemaInfo()) {
+                return slot.reader;
+            }
+        }
+        return add(writer, factory);
+    }
+
+    private synchronized R add(EncodingHandle writer, Function<SchemaInfo, R> factory) {
+        R reader = factory.apply(writer.getSchemaInfo());
+        Slot<R>[] copy = Arrays.copyOf(slots, Math.max(slots.length, writer.getSchemaIndex() + 1));
+        copy[writer.getSchemaIndex()] = new Slot<>(writer.getSchemaInfo(), reader);
+        slots = copy;
+        return reader;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <R> Slot<R>[] newArray(int size) {
+        return (Slot<R>[]) new Slot[size];
+    }
+
+    private static final class Slot<R> {
+        private final SchemaInfo schemaInfo;
+        private final R reader;
+
+        Slot(SchemaInfo schemaInfo, R reader) {
+            this.schemaInfo = schemaInfo;
+            this.reader = reader;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.serializer.shared.impl;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Byte array output stream whose backing array is retained across {@link #reset()} so that it can be reused for
+ * serializing any number of events. Streams that have grown beyond {@link #MAX_RETAINED_SIZE} should not be retained
+ * so that an occasional large event does not pin its buffer for the lifetime of the thread.
+ */
+final class ReusableByteArrayOutputStream extends ByteArrayOutputStream {
+    static final int MAX_RETAINED_SIZE = 1024 * 1024;
+    private static final int INITIAL_SIZE = 1024;
+
+    ReusableByteArrayOutputStream() {
+        super(INITIAL_SIZE);
+    }
+
+    /**
+     * Returns a view of the bytes written so far without copying them. The view is only valid until the stream is
+     * reset or written to.
+     *
+     * @return ByteBuffer over the written bytes.
+     */
+    ByteBuffer asByteBuffer() {
+        return ByteBuffer.wrap(buf, 0, count);
+    }
+
+    boolean isRetainable() {
+        return buf.length <= MAX_RETAINED_SIZE;
+    }
+}
@@ -11,8 +11,10 @@ package io.pravega.schemaregistry.serializer.shared.impl;
 
 import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
+import io.pravega.schemaregistry.client.AsyncSchemaRegistryClient;
 import io.pravega.schemaregistry.client.SchemaRegistryClient;
 import io.pravega.schemaregistry.client.SchemaRegistryClientConfig;
+import io.pravega.schemaregistry.client.SchemaRegistryClientFactory;
 import io.pravega.schemaregistry.serializer.shared.codec.Codec;
 import io.pravega.schemaregistry.serializer.shared.codec.Codecs;
 import io.pravega.schemaregistry.serializer.shared.codec.Decoder;
@@ -31,9 +33,11 @@ import lombok.NonNull;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.file.Path;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
 /**
  * Serializer Config class that is passed to {@link SerializerFactory} for creating serializer. 
@@ -117,10 +121,31 @@ public class SerializerConfig {
      * If streams can multiple formats of events, this cannot be false.
      */
     private final boolean writeEncodingHeader;
+    /**
+     * Flag to tell the deserializer to load all encoding ids of the group in the background as soon as it is created. 
+     * This spares the reader from waiting on the registry service the first time it reads an event with each encoding id.
+     * By default this is set to false. 
+     */
+    private final boolean prefetchEncodings;
+    /**
+     * Optional local file in which the deserializer saves the encoding ids that it has loaded. A deserializer created 
+     * with the same file after a restart loads its encoding ids from the file instead of the registry service. 
+     * The file is specific to the group and should not be shared by deserializers for different groups. It is only 
+     * read if it was written for the same incarnation of the group on the same registry service, so a file written 
+     * before the group was deleted and recreated is ignored. 
+     */
+    private final Path encodingCacheFile;
+    /**
+     * Optional executor on which the deserializer prefetches encoding ids and reads and writes the 
+     * {@link #encodingCacheFile}. Lookups of encoding ids never wait on it. The deserializer does not shut it down. 
+     * By default an executor with daemon threads that is shared by all deserializers is used. 
+     */
+    private final Executor encodingCacheExecutor;
 
     private SerializerConfig(String groupId, String namespace, SchemaRegistryClientConfig config, SchemaRegistryClient client,
                              boolean registerSchema, boolean registerCodec, Encoder encoder, Decoders decoders, boolean failOnCodecMismatch,
-                             GroupProperties createGroup, boolean writeEncodingHeader) {
+                             GroupProperties createGroup, boolean writeEncodingHeader, boolean prefetchEncodings, 
+                             Path encodingCacheFile, Executor encodingCacheExecutor) {
         Preconditions.checkArgument(!Strings.isNullOrEmpty(groupId), "Group id needs to be supplied");
         Preconditions.checkArgument(client != null || config != null, "Either registry client or config needs to be supplied");
         this.groupId = groupId;
@@ -134,6 +159,9 @@ public class SerializerConfig {
         this.failOnCodecMismatch = failOnCodecMismatch;
         this.createGroup = createGroup;
         this.writeEncodingHeader = writeEncodingHeader;
+        this.prefetchEncodings = prefetchEncodings;
+        this.encodingCacheFile = encodingCacheFile;
+        this.encodingCacheExecutor = encodingCacheExecutor;
     }
 
     Either<SchemaRegistryClientConfig, SchemaRegistryClient> getRegistryConfigOrClient() {
@@ -161,6 +189,9 @@ public class SerializerConfig {
         private boolean registerCodec = false;
         private boolean failOnCodecMismatch = true;
         private boolean writeEncodingHeader = true;
+        private boolean prefetchEncodings = false;
+        private Path encodingCacheFile = null;
+        private Executor encodingCacheExecutor = null;
         private SchemaRegistryClientConfig registryConfig = null;
         private SchemaRegistryClient registryClient = null;
         private String namespace = null;
@@ -240,6 +271,18 @@ public class SerializerConfig {
             return this;
         }
 
+        /**
+         * Asynchronous Schema Registry client. The serializers make their calls using this client and wait for them 
+         * to complete. Either of client or config should be supplied. 
+         *
+         * @param client Asynchronous Schema Registry client
+         * @return Builder
+         */
+        public SerializerConfigBuilder registryClient(AsyncSchemaRegistryClient client) {
+            Preconditions.checkArgument(client != null);
+            return registryClient(SchemaRegistryClientFactory.fromAsyncClient(client));
+        }
+
         /**
          * Schema Registry client config which is used to initialize the schema registry client. 
          * Either config or client should be supplied. 
@@ -9,24 +9,46 @@
  */
 package io.pravega.schemaregistry.serializer.shared.impl;
 
+import com.google.common.cache.CacheStats;
 import com.google.common.collect.ImmutableMap;
 import io.pravega.schemaregistry.client.SchemaRegistryClient;
+import io.pravega.schemaregistry.client.exceptions.RegistryExceptions;
 import io.pravega.schemaregistry.contract.data.EncodingId;
 import io.pravega.schemaregistry.contract.data.EncodingInfo;
 import io.pravega.schemaregistry.contract.data.SchemaInfo;
 import io.pravega.schemaregistry.contract.data.SerializationFormat;
 import io.pravega.schemaregistry.contract.data.VersionInfo;
 import io.pravega.schemaregistry.serializer.shared.codec.Codecs;
+import io.pravega.test.common.AssertExtensions;
 import org.junit.Test;
 
+import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 public class CacheTest {
     @Test
@@ -59,5 +81,295 @@ public class CacheTest {
         assertEquals(cache.getMapForCache().size(), 2);
         assertTrue(cache.getMapForCache().containsKey(encodingId2));
         assertTrue(cache.getMapForCache().containsKey(encodingId3));
+
+        // encoding ids that are looked up are kept over encoding ids that were loaded later but not looked up
+        assertEquals(encodingInfo2, cache.getGroupEncodingInfo(encodingId2));
+        assertEquals(encodingInfo, cache.getGroupEncodingInfo(encodingId));
+        assertTrue(cache.getMapForCache().containsKey(encodingId));
+        assertTrue(cache.getMapForCache().containsKey(encodingId2));
+        assertEquals(2, cache.getStats().evictionCount());
+        // the second chance is used up, so the entry is evicted unless it is looked up again
+        assertEquals(encodingInfo3, cache.getGroupEncodingInfo(encodingId3));
+        assertTrue(cache.getMapForCache().containsKey(encodingId3));
+        assertTrue(cache.getMapForCache().containsKey(encodingId));
+    }
+
+    @Test
+    public void testInternedHandles() {
+        SchemaRegistryClient client = mock(SchemaRegistryClient.class);
+        String groupId = "groupId";
+        SchemaInfo schema1 = new SchemaInfo("name", SerializationFormat.Avro, ByteBuffer.wrap(new byte[0]), ImmutableMap.of());
+        SchemaInfo schema2 = new SchemaInfo("name2", SerializationFormat.Avro, ByteBuffer.wrap(new byte[0]), ImmutableMap.of());
+        VersionInfo version1 = new VersionInfo("name", SerializationFormat.Avro.getFullTypeName(), 0, 0);
+        VersionInfo version2 = new VersionInfo("name2", SerializationFormat.Avro.getFullTypeName(), 0, 1);
+        // two encoding ids with equal schemas and one with a different schema
+        doAnswer(x -> new EncodingInfo(version1, new SchemaInfo("name", SerializationFormat.Avro, ByteBuffer.wrap(new byte[0]), ImmutableMap.of()),
+                Codecs.None.getCodec().getCodecType())).when(client).getEncodingInfo(eq(groupId), eq(new EncodingId(0)));
+        doAnswer(x -> new EncodingInfo(version1, new SchemaInfo("name", SerializationFormat.Avro, ByteBuffer.wrap(new byte[0]), ImmutableMap.of()),
+                Codecs.SnappyCompressor.getCodec().getCodecType())).when(client).getEncodingInfo(eq(groupId), eq(new EncodingId(1)));
+        doAnswer(x -> new EncodingInfo(version2, schema2, Codecs.None.getCodec().getCodecType()))
+                .when(client).getEncodingInfo(eq(groupId), eq(new EncodingId(2)));
+
+        EncodingCache cache = new EncodingCache(groupId, client);
+        EncodingHandle handle0 = cache.getEncoding(new EncodingId(0));
+        EncodingHandle handle1 = cache.getEncoding(new EncodingId(1));
+        EncodingHandle handle2 = cache.getEncoding(new EncodingId(2));
+        assertEquals(schema1, handle0.getSchemaInfo());
+        assertSame(handle0.getSchemaInfo(), handle1.getSchemaInfo());
+        assertEquals(handle0.getSchemaIndex(), handle1.getSchemaIndex());
+        assertNotEquals(handle0.getSchemaIndex(), handle2.getSchemaIndex());
+        assertSame(handle0, cache.getEncoding(new EncodingId(0)));
+
+        // readers are created once per schema
+        ReaderSlots<String> slots = new ReaderSlots<>();
+        AtomicInteger created = new AtomicInteger();
+        Function<SchemaInfo, String> factory = x -> {
+            created.incrementAndGet();
+            return x.getType();
+        };
+        assertEquals("name", slots.get(handle0, factory));
+        assertEquals("name", slots.get(handle1, factory));
+        assertEquals("name2", slots.get(handle2, factory));
+        assertEquals(2, created.get());
+
+        // a handle from another cache with the same index but a different schema gets its own reader
+        EncodingCache cache2 = new EncodingCache(groupId, client);
+        EncodingHandle other = cache2.getEncoding(new EncodingId(2));
+        assertEquals(handle0.getSchemaIndex(), other.getSchemaIndex());
+        assertEquals("name2", slots.get(other, factory));
+        assertEquals(3, created.get());
+    }
+
+    @Test
+    public void testEvictedSchemasAreReleased() {
+        SchemaRegistryClient client = mock(SchemaRegistryClient.class);
+        String groupId = "groupId";
+        // encoding ids 0 and 1 share a schema, every other encoding id has a schema of its own
+        doAnswer(x -> {
+            int id = ((EncodingId) x.getArgument(1)).getId();
+            String name = id <= 1 ? "name" : "name" + id;
+            return new EncodingInfo(new VersionInfo(name, SerializationFormat.Avro.getFullTypeName(), 0, id),
+                    new SchemaInfo(name, SerializationFormat.Avro, ByteBuffer.wrap(new byte[0]), ImmutableMap.of()),
+                    Codecs.None.getCodec().getCodecType());
+        }).when(client).getEncodingInfo(eq(groupId), any());
+
+        EncodingCache cache = new EncodingCache(groupId, client, 2);
+        EncodingHandle handle0 = cache.getEncoding(0);
+        EncodingHandle handle1 = cache.getEncoding(1);
+        // evicts encoding id 0, whose schema is still used by encoding id 1
+        EncodingHandle handle2 = cache.getEncoding(2);
+        assertSame(handle0.getSchemaInfo(), handle1.getSchemaInfo());
+        assertNotEquals(handle1.getSchemaIndex(), handle2.getSchemaIndex());
+        assertSame(handle1.getSchemaInfo(), cache.getEncoding(0).getSchemaInfo());
+
+        // schemas of evicted encoding ids are released and their indexes are reused
+        for (int encodingId = 3; encodingId < 100; encodingId++) {
+            EncodingHandle handle = cache.getEncoding(encodingId);
+            assertTrue(handle.getSchemaIndex() <= 2);
+        }
+        assertEquals(99, cache.getStats().evictionCount());
+    }
+
+    @Test
+    public void testSparseIdsAndStats() {
+        SchemaRegistryClient client = mock(SchemaRegistryClient.class);
+        String groupId = "groupId";
+        EncodingInfo encodingInfo = new EncodingInfo(new VersionInfo("name", SerializationFormat.Avro.getFullTypeName(), 0, 0),
+                new SchemaInfo("name", SerializationFormat.Avro, ByteBuffer.wrap(new byte[0]), ImmutableMap.of()),
+                Codecs.None.getCodec().getCodecType());
+        int sparseId = Integer.MAX_VALUE;
+        doAnswer(x -> encodingInfo).when(client).getEncodingInfo(eq(groupId), eq(new EncodingId(0)));
+        doAnswer(x -> encodingInfo).when(client).getEncodingInfo(eq(groupId), eq(new EncodingId(sparseId)));
+        doAnswer(x -> {
+            throw new RegistryExceptions.ResourceNotFoundException("not found");
+        }).when(client).getEncodingInfo(eq(groupId), eq(new EncodingId(1)));
+
+        EncodingCache cache = new EncodingCache(groupId, client, 2);
+        EncodingHandle dense = cache.getEncoding(0);
+        assertSame(dense, cache.getEncoding(0));
+        EncodingHandle sparse = cache.getEncoding(sparseId);
+        assertSame(sparse, cache.getEncoding(sparseId));
+        assertEquals(sparseId, sparse.getEncodingId());
+        assertSame(dense.getSchemaInfo(), sparse.getSchemaInfo());
+        verify(client, times(1)).getEncodingInfo(eq(groupId), eq(new EncodingId(0)));
+        verify(client, times(1)).getEncodingInfo(eq(groupId), eq(new EncodingId(sparseId)));
+
+        // failed loads are not cached
+        AssertExtensions.assertThrows(RegistryExceptions.ResourceNotFoundException.class, () -> cache.getEncoding(1));
+        AssertExtensions.assertThrows(RegistryExceptions.ResourceNotFoundException.class, () -> cache.getEncoding(1));
+        assertEquals(2, cache.getMapForCache().size());
+
+        CacheStats stats = cache.getStats();
+        assertEquals(2, stats.hitCount());
+        assertEquals(4, stats.missCount());
+        assertEquals(2, stats.loadSuccessCount());
+        assertEquals(2, stats.loadExceptionCount());
+        assertEquals(0, stats.evictionCount());
+        assertTrue(stats.totalLoadTime() > 0);
+    }
+
+    @Test
+    public void testPrefetchAndCacheFile() throws IOException {
+        SchemaRegistryClient client = mock(SchemaRegistryClient.class);
+        String groupId = "groupId";
+        // the group has encoding ids 0 to 2
+        doAnswer(x -> {
+            int id = x.<EncodingId>getArgument(1).getId();
+            if (id >= 3) {
+                throw new RegistryExceptions.ResourceNotFoundException("not found");
+            }
+            return encodingInfo(id);
+        }).when(client).getEncodingInfo(eq(groupId), any());
+        doAnswer(x -> {
+            int from = x.getArgument(1);
+            int limit = x.getArgument(2);
+            return IntStream.range(from, Math.min(3, from + limit)).mapToObj(this::encodingInfo).collect(Collectors.toList());
+        }).when(client).getEncodingInfos(eq(groupId), anyInt(), anyInt());
+        doAnswer(x -> "incarnation").when(client).getGroupIncarnation(groupId);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Path file = Files.createTempDirectory("encodingCache").resolve("cache.json");
+            EncodingCache cache = new EncodingCache(groupId, client, 1000, true, file, "uri", executor);
+            cache.prefetched.join();
+            assertEquals(3, cache.getMapForCache().size());
+            for (int i = 0; i < 3; i++) {
+                assertEquals(i, cache.getEncoding(i).getEncodingInfo().getVersionInfo().getId());
+            }
+            assertEquals(3, cache.getStats().hitCount());
+            assertEquals(0, cache.getStats().missCount());
+            assertEquals(3, cache.getStats().loadSuccessCount());
+            // the prefetch loads the encoding ids in pages and stops at the first empty page
+            verify(client, times(1)).getEncodingInfos(eq(groupId), eq(0), anyInt());
+            verify(client, times(1)).getEncodingInfos(eq(groupId), eq(3), anyInt());
+            verify(client, never()).getEncodingInfo(any(), any());
+            AssertExtensions.assertThrows(RegistryExceptions.ResourceNotFoundException.class, () -> cache.getEncoding(3));
+            cache.writeCacheFile("incarnation");
+
+            // a new cache is bootstrapped from the file without calling the service
+            SchemaRegistryClient client2 = mock(SchemaRegistryClient.class);
+            doAnswer(x -> "incarnation").when(client2).getGroupIncarnation(any());
+            EncodingCache cache2 = new EncodingCache(groupId, client2, 1000, false, file, "uri", executor);
+            cache2.prefetched.join();
+            assertEquals(3, cache2.getMapForCache().size());
+            for (int i = 0; i < 3; i++) {
+                assertEquals(cache.getEncoding(i).getEncodingInfo(), cache2.getEncoding(i).getEncodingInfo());
+            }
+            verify(client2, never()).getEncodingInfo(any(), any());
+
+            // the file is ignored by caches for other groups
+            EncodingCache cache3 = new EncodingCache("otherGroup", client2, 1000, false, file, "uri", executor);
+            cache3.prefetched.join();
+            assertEquals(0, cache3.getMapForCache().size());
+
+            // or for the same group on another registry service
+            EncodingCache cache4 = new EncodingCache(groupId, client2, 1000, false, file, "otherUri", executor);
+            cache4.prefetched.join();
+            assertEquals(0, cache4.getMapForCache().size());
+
+            // or for a group that was recreated since the file was written, whose encoding ids may identify other encodings
+            doAnswer(x -> "recreated").when(client2).getGroupIncarnation(any());
+            EncodingCache cache5 = new EncodingCache(groupId, client2, 1000, false, file, "uri", executor);
+            cache5.prefetched.join();
+            assertEquals(0, cache5.getMapForCache().size());
+
+            // the file is not used if the incarnation of the group is not known
+            doAnswer(x -> {
+                throw new RegistryExceptions.ResourceNotFoundException("not found");
+            }).when(client2).getGroupIncarnation(any());
+            EncodingCache cache6 = new EncodingCache(groupId, client2, 1000, false, file, "uri", executor);
+            cache6.prefetched.join();
+            assertEquals(0, cache6.getMapForCache().size());
+            verify(client2, never()).getEncodingInfo(any(), any());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testCacheFileDoesNotDelayCreation() throws Exception {
+        SchemaRegistryClient client = mock(SchemaRegistryClient.class);
+        String groupId = "groupId";
+        doAnswer(x -> encodingInfo(0)).when(client).getEncodingInfo(eq(groupId), eq(new EncodingId(0)));
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(x -> {
+            release.await();
+            return "incarnation";
+        }).when(client).getGroupIncarnation(groupId);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Path file = Files.createTempDirectory("encodingCache").resolve("cache.json");
+            // the cache is created and used while the incarnation of the group is still being fetched
+            EncodingCache cache = new EncodingCache(groupId, client, 1000, false, file, "uri", executor);
+            assertEquals(encodingInfo(0), cache.getEncoding(0).getEncodingInfo());
+            assertFalse(Files.exists(file));
+
+            // the entries loaded in the meantime are written once the incarnation is known
+            release.countDown();
+            cache.prefetched.join();
+            AssertExtensions.assertEventuallyEquals(true, () -> Files.exists(file), 10000);
+            SchemaRegistryClient client2 = mock(SchemaRegistryClient.class);
+            doAnswer(x -> "incarnation").when(client2).getGroupIncarnation(groupId);
+            EncodingCache cache2 = new EncodingCache(groupId, client2, 1000, false, file, "uri", executor);
+            cache2.prefetched.join();
+            assertEquals(encodingInfo(0), cache2.getEncoding(0).getEncodingInfo());
+            verify(client2, never()).getEncodingInfo(any(), any());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private EncodingInfo encodingInfo(int id) {
+        return new EncodingInfo(new VersionInfo("name", SerializationFormat.Avro.getFullTypeName(), id, id),
+                new SchemaInfo("name", SerializationFormat.Avro, ByteBuffer.wrap(new byte[id]), ImmutableMap.of()),
+                Codecs.None.getCodec().getCodecType());
+    }
+
+    @Test
+    public void testLookupDoesNotWaitForPrefetch() throws InterruptedException {
+        SchemaRegistryClient client = mock(SchemaRegistryClient.class);
+        String groupId = "groupId";
+        EncodingInfo encodingInfo = new EncodingInfo(new VersionInfo("name", SerializationFormat.Avro.getFullTypeName(), 0, 0),
+                new SchemaInfo("name", SerializationFormat.Avro, ByteBuffer.wrap(new byte[0]), ImmutableMap.of()),
+                Codecs.None.getCodec().getCodecType());
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(x -> encodingInfo).when(client).getEncodingInfo(eq(groupId), any());
+        doAnswer(x -> {
+            // the prefetch is held up, as if the shared executor was busy with the prefetches of other caches
+            release.await();
+            throw new RegistryExceptions.ResourceNotFoundException("not found");
+        }).when(client).getEncodingInfos(eq(groupId), anyInt(), anyInt());
+
+        EncodingCache cache = new EncodingCache(groupId, client, 1000, true, null, null);
+        assertEquals(encodingInfo, cache.getEncoding(0).getEncodingInfo());
+        assertEquals(1, cache.getStats().missCount());
+        release.countDown();
+        cache.prefetched.join();
+        assertSame(cache.getEncoding(0), cache.getEncoding(0));
+    }
+
+    @Test
+    public void testSingleFlight() throws InterruptedException {
+        SchemaRegistryClient client = mock(SchemaRegistryClient.class);
+        String groupId = "groupId";
+        EncodingInfo encodingInfo = new EncodingInfo(new VersionInfo("name", SerializationFormat.Avro.getFullTypeName(), 0, 0),
+                new SchemaInfo("name", SerializationFormat.Avro, ByteBuffer.wrap(new byte[0]), ImmutableMap.of()),
+                Codecs.None.getCodec().getCodecType());
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(x -> {
+            loading.countDown();
+            release.await();
+            return encodingInfo;
+        }).when(client).getEncodingInfo(eq(groupId), eq(new EncodingId(0)));
+
+        EncodingCache cache = new EncodingCache(groupId, client);
+        CompletableFuture<EncodingHandle> first = CompletableFuture.supplyAsync(() -> cache.getEncoding(0));
+        loading.await();
+        CompletableFuture<EncodingHandle> second = CompletableFuture.supplyAsync(() -> cache.getEncoding(0));
+        release.countDown();
+        assertSame(first.join(), second.join());
+        verify(client, times(1)).getEncodingInfo(eq(groupId), eq(new EncodingId(0)));
     }
 }
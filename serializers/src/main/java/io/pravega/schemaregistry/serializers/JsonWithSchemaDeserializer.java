@@ -17,24 +17,37 @@ import io.pravega.schemaregistry.client.SchemaRegistryClient;
 import io.pravega.schemaregistry.contract.data.SchemaInfo;
 import io.pravega.schemaregistry.serializer.shared.impl.AbstractDeserializer;
 import io.pravega.schemaregistry.serializer.shared.impl.EncodingCache;
+import io.pravega.schemaregistry.serializer.shared.impl.EncodingHandle;
+import io.pravega.schemaregistry.serializer.shared.impl.ReaderSlots;
 import io.pravega.schemaregistry.serializer.shared.impl.SerializerConfig;
+import io.pravega.schemaregistry.serializer.shared.schemas.Schema;
 
 import java.io.IOException;
 import java.io.InputStream;
 
 class JsonWithSchemaDeserializer extends AbstractDeserializer<WithSchema<JsonNode>> {
     private final ObjectMapper objectMapper;
+    private final ReaderSlots<Schema> schemas;
 
     JsonWithSchemaDeserializer(String groupId, SchemaRegistryClient client,
                                SerializerConfig.Decoders decoders, EncodingCache encodingCache, boolean encodeHeader) {
         super(groupId, client, null, false, decoders, encodingCache, encodeHeader);
         this.objectMapper = new ObjectMapper();
+        this.schemas = new ReaderSlots<>();
         objectMapper.setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.ANY);
     }
 
     @Override
     public final WithSchema<JsonNode> deserialize(InputStream inputStream, SchemaInfo writerSchemaInfo, SchemaInfo readerSchemaInfo) throws IOException {
         JsonNode obj = objectMapper.readTree(inputStream);
-        return new WithSchema<>(writerSchemaInfo, obj, (x, y) -> (JsonNode) y);
+        Schema schema = writerSchemaInfo == null ? null : WithSchema.convertToSchema(writerSchemaInfo);
+        return new WithSchema<>(schema, obj, (x, y) -> (JsonNode) y);
+    }
+
+    @Override
+    public final WithSchema<JsonNode> deserialize(InputStream inputStream, EncodingHandle writer, SchemaInfo readerSchemaInfo) throws IOException {
+        JsonNode obj = objectMapper.readTree(inputStream);
+        Schema schema = writer == null ? null : schemas.get(writer, WithSchema::convertToSchema);
+        return new WithSchema<>(schema, obj, (x, y) -> (JsonNode) y);
     }
 }
@@ -106,7 +106,7 @@ class MultiFormatSerializerFactory {
                                                     BiFunction<SerializationFormat, Object, T> transform) {
         String groupId = config.getGroupId();
         SchemaRegistryClient schemaRegistryClient = initForDeserializer(config);
-        EncodingCache encodingCache = new EncodingCache(groupId, schemaRegistryClient);
+        EncodingCache encodingCache = new EncodingCache(config, schemaRegistryClient);
 
         AbstractDeserializer json = new JsonGenericDeserializer(config.getGroupId(), schemaRegistryClient,
                 config.getDecoders(), encodingCache, config.isWriteEncodingHeader());
@@ -138,7 +138,7 @@ class MultiFormatSerializerFactory {
             CustomDeserializer<Object>> deserializers, BiFunction<SerializationFormat, Object, T> transform) {
         String groupId = config.getGroupId();
         SchemaRegistryClient schemaRegistryClient = initForDeserializer(config);
-        EncodingCache encodingCache = new EncodingCache(groupId, schemaRegistryClient);
+        EncodingCache encodingCache = new EncodingCache(config, schemaRegistryClient);
 
         AbstractDeserializer json = new JsonGenericDeserializer(config.getGroupId(), schemaRegistryClient,
                 config.getDecoders(), encodingCache, config.isWriteEncodingHeader());
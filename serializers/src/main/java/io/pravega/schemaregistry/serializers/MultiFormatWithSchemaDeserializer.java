@@ -15,7 +15,10 @@ import io.pravega.schemaregistry.contract.data.SchemaInfo;
 import io.pravega.schemaregistry.contract.data.SerializationFormat;
 import io.pravega.schemaregistry.serializer.shared.impl.AbstractDeserializer;
 import io.pravega.schemaregistry.serializer.shared.impl.EncodingCache;
+import io.pravega.schemaregistry.serializer.shared.impl.EncodingHandle;
+import io.pravega.schemaregistry.serializer.shared.impl.ReaderSlots;
 import io.pravega.schemaregistry.serializer.shared.impl.SerializerConfig;
+import io.pravega.schemaregistry.serializer.shared.schemas.Schema;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -25,6 +28,7 @@ import java.util.function.BiFunction;
 class MultiFormatWithSchemaDeserializer<T> extends AbstractDeserializer<WithSchema<T>> {
     private final Map<SerializationFormat, AbstractDeserializer> genericDeserializers;
     private final BiFunction<SerializationFormat, Object, T> transform;
+    private final ReaderSlots<Schema> schemas;
 
     MultiFormatWithSchemaDeserializer(String groupId, SchemaRegistryClient client,
                                       Map<SerializationFormat, AbstractDeserializer> genericDeserializers,
@@ -33,6 +37,7 @@ class MultiFormatWithSchemaDeserializer<T> extends AbstractDeserializer<WithSche
         super(groupId, client, null, false, decoders, encodingCache, true);
         this.genericDeserializers = genericDeserializers;
         this.transform = transform;
+        this.schemas = new ReaderSlots<>();
     }
 
     @Override
@@ -42,6 +47,16 @@ class MultiFormatWithSchemaDeserializer<T> extends AbstractDeserializer<WithSche
         if (obj instanceof WithSchema) {
             obj = ((WithSchema) obj).getObject();
         }
-        return new WithSchema<>(writerSchema, obj, transform);
+        return new WithSchema<>(WithSchema.convertToSchema(writerSchema), obj, transform);
+    }
+
+    @Override
+    public final WithSchema<T> deserialize(InputStream inputStream, EncodingHandle writer, SchemaInfo readerSchema) throws IOException {
+        Preconditions.checkNotNull(writer);
+        Object obj = genericDeserializers.get(writer.getSchemaInfo().getSerializationFormat()).deserialize(inputStream, writer, readerSchema);
+        if (obj instanceof WithSchema) {
+            obj = ((WithSchema) obj).getObject();
+        }
+        return new WithSchema<>(schemas.get(writer, WithSchema::convertToSchema), obj, transform);
     }
 }
\ No newline at end of file
@@ -15,6 +15,7 @@ import io.pravega.schemaregistry.contract.data.SchemaInfo;
 import io.pravega.schemaregistry.contract.data.SerializationFormat;
 import io.pravega.schemaregistry.serializer.shared.impl.AbstractDeserializer;
 import io.pravega.schemaregistry.serializer.shared.impl.EncodingCache;
+import io.pravega.schemaregistry.serializer.shared.impl.EncodingHandle;
 import io.pravega.schemaregistry.serializer.shared.impl.SerializerConfig;
 
 import java.io.IOException;
@@ -42,4 +43,11 @@ class MultipleFormatDeserializer<T> extends AbstractDeserializer<T> {
                 genericDeserializers.get(writerSchema.getSerializationFormat())
                                     .deserialize(inputStream, writerSchema, readerSchema));
     }
+
+    @Override
+    public final T deserialize(InputStream inputStream, EncodingHandle writer, SchemaInfo readerSchema) throws IOException {
+        Preconditions.checkNotNull(writer);
+        SerializationFormat format = writer.getSchemaInfo().getSerializationFormat();
+        return transform.apply(format, genericDeserializers.get(format).deserialize(inputStream, writer, readerSchema));
+    }
 }
\ No newline at end of file
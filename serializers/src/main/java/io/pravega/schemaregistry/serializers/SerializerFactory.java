@@ -288,7 +288,7 @@ public class SerializerFactory {
 
         String groupId = config.getGroupId();
 
-        EncodingCache encodingCache = new EncodingCache(groupId, schemaRegistryClient);
+        EncodingCache encodingCache = new EncodingCache(config, schemaRegistryClient);
 
         return new JsonWithSchemaDeserializer(groupId, schemaRegistryClient, config.getDecoders(),
                 encodingCache, config.isWriteEncodingHeader());
@@ -349,7 +349,7 @@ public class SerializerFactory {
         String groupId = config.getGroupId();
         SchemaRegistryClient schemaRegistryClient = initForDeserializer(config);
 
-        EncodingCache encodingCache = new EncodingCache(groupId, schemaRegistryClient);
+        EncodingCache encodingCache = new EncodingCache(config, schemaRegistryClient);
 
         Map<String, AbstractDeserializer<T>> deserializerMap = schemas
                 .values().stream().collect(Collectors.toMap(x -> x.getSchemaInfo().getType(),
@@ -50,16 +50,16 @@ public class WithSchema<T> {
     private final BiFunction<SerializationFormat, Object, T> transform;
     
     WithSchema(SchemaInfo schemaInfo, Object obj, BiFunction<SerializationFormat, Object, T> transform) {
+        this(schemaInfo == null ? null : convertToSchema(schemaInfo), obj, transform);
+    }
+
+    WithSchema(Schema schema, Object obj, BiFunction<SerializationFormat, Object, T> transform) {
         this.object = obj;
         this.transform = transform;
-        if (schemaInfo != null) {
-            this.schema = convertToSchema(schemaInfo);
-        } else {
-            this.schema = null;
-        }
+        this.schema = schema;
     }
 
-    private Schema convertToSchema(SchemaInfo schemaInfo) {
+    static Schema convertToSchema(SchemaInfo schemaInfo) {
         Schema schema;
         switch (schemaInfo.getSerializationFormat()) {
             case Avro:
@@ -215,7 +215,7 @@ public class WithSchema<T> {
     public static <T> WithSchema<T> avro(T object, AvroSchema<T> avroSchema) {
         Preconditions.checkNotNull(object, "object cannot be null");
         Preconditions.checkNotNull(avroSchema, "schema cannot be null");
-        return new WithSchema<>(avroSchema.getSchemaInfo(), object, (x, y) -> object);
+        return new WithSchema<>(avroSchema, object, (x, y) -> object);
     }
 
     /**
@@ -229,7 +229,7 @@ public class WithSchema<T> {
     public static <T extends GeneratedMessageV3> WithSchema<T> proto(T object, ProtobufSchema<T> protobufSchema) {
         Preconditions.checkNotNull(object, "object cannot be null");
         Preconditions.checkNotNull(protobufSchema, "schema cannot be null");
-        return new WithSchema<>(protobufSchema.getSchemaInfo(), object, (x, y) -> object);
+        return new WithSchema<>(protobufSchema, object, (x, y) -> object);
     }
 
     /**
@@ -243,6 +243,6 @@ public class WithSchema<T> {
     public static <T> WithSchema<T> json(T object, JSONSchema<T> jsonSchema) {
         Preconditions.checkNotNull(object, "object cannot be null");
         Preconditions.checkNotNull(jsonSchema, "schema cannot be null");
-        return new WithSchema<>(jsonSchema.getSchemaInfo(), object, (x, y) -> object);
+        return new WithSchema<>(jsonSchema, object, (x, y) -> object);
     }
 }
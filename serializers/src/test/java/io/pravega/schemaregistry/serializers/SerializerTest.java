@@ -35,6 +35,7 @@ import java.nio.ByteBuffer;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.any;
@@ -137,4 +138,29 @@ public class SerializerTest {
         deserialized = deserializer.deserialize(buf);
         assertEquals(deserialized, message);
     }
+
+    @Test
+    public void testWriterSchemaParsedOnce() {
+        SchemaRegistryClient client = mock(SchemaRegistryClient.class);
+        doAnswer(x -> GroupProperties.builder().serializationFormat(SerializationFormat.Any).build())
+                .when(client).getGroupProperties(anyString());
+        VersionInfo versionInfo = new VersionInfo("avro", SerializationFormat.Avro.getFullTypeName(), 0, 0);
+        AvroSchema<Test1> schema = AvroSchema.of(Test1.class);
+        doAnswer(x -> versionInfo).when(client).getVersionForSchema(anyString(), eq(schema.getSchemaInfo()));
+        doAnswer(x -> new EncodingId(0)).when(client).getEncodingId(anyString(), eq(versionInfo), any());
+        doAnswer(x -> new EncodingInfo(versionInfo, schema.getSchemaInfo(), Codecs.None.getCodec().getCodecType())).when(client).getEncodingInfo(anyString(), eq(new EncodingId(0)));
+        doAnswer(x -> true).when(client).canReadUsing(anyString(), any());
+
+        SerializerConfig config = SerializerConfig.builder().registryClient(client).groupId("groupId").build();
+        Serializer<Test1> serializer = SerializerFactory.avroSerializer(config, schema);
+        Test1 test1 = new Test1("name", 1);
+
+        Serializer<WithSchema<Object>> deserializer = SerializerFactory.deserializerWithSchema(config);
+        WithSchema<Object> first = deserializer.deserialize(serializer.serialize(test1));
+        WithSchema<Object> second = deserializer.deserialize(serializer.serialize(test1));
+        assertTrue(first.hasAvroSchema());
+        assertEquals(schema.getSchema(), first.getAvroSchema());
+        // both events share the schema that was parsed for the first one
+        assertSame(first.getSchema(), second.getSchema());
+    }
 }
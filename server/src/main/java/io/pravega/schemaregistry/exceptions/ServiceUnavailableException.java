@@ -0,0 +1,20 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.exceptions;
+
+/**
+ * Exception thrown when the service cannot accept a request at this time, for example because too many writes to the 
+ * group are already queued. The request can be retried. 
+ */
+public class ServiceUnavailableException extends RegistryServiceException {
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
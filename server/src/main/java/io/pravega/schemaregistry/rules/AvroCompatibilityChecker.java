@@ -10,14 +10,21 @@
 package io.pravega.schemaregistry.rules;
 
 import com.google.common.base.Charsets;
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import io.pravega.schemaregistry.common.HashUtil;
 import io.pravega.schemaregistry.contract.data.SchemaInfo;
 import io.pravega.schemaregistry.contract.data.SerializationFormat;
+import io.pravega.schemaregistry.service.Config;
 import org.apache.avro.Schema;
 import org.apache.avro.SchemaValidationException;
 import org.apache.avro.SchemaValidator;
 import org.apache.avro.SchemaValidatorBuilder;
 
+import java.math.BigInteger;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -29,6 +36,24 @@ public class AvroCompatibilityChecker implements CompatibilityChecker {
     private static final SchemaValidator CAN_BE_READ = new SchemaValidatorBuilder().canBeReadStrategy().validateAll();
     private static final SchemaValidator MUTUAL_READ = new SchemaValidatorBuilder().mutualReadStrategy().validateAll();
 
+    /**
+     * Parsed avro schemas keyed by the fingerprint of the schema binary. Parsed schemas are not modified by validation 
+     * and are safely shared across all compatibility checks. 
+     */
+    private final Cache<BigInteger, Schema> schemas;
+
+    public AvroCompatibilityChecker() {
+        this(Config.AVRO_SCHEMA_CACHE_SIZE);
+    }
+
+    @VisibleForTesting
+    AvroCompatibilityChecker(int cacheSize) {
+        this.schemas = CacheBuilder.newBuilder()
+                                   .maximumSize(cacheSize)
+                                   .recordStats()
+                                   .build();
+    }
+
     public boolean canRead(SchemaInfo readUsing, List<SchemaInfo> writtenUsing) {
         Schema schema = parseSchema(readUsing);
         List<Schema> writtenUsingSchemas = parseSchemas(writtenUsing);
@@ -62,17 +87,36 @@ public class AvroCompatibilityChecker implements CompatibilityChecker {
         return true;
     }
 
+    /**
+     * Hit and miss counts of the parsed schema cache. 
+     * 
+     * @return Stats of the parsed schema cache. 
+     */
+    public CacheStats getCacheStats() {
+        return schemas.stats();
+    }
+
     private Schema parseSchema(SchemaInfo schema) {
         Preconditions.checkArgument(schema != null && schema.getSerializationFormat().equals(SerializationFormat.Avro),
                 "Schema should be avro.");
-        Schema.Parser parser = new Schema.Parser();
-        return parser.parse(new String(schema.getSchemaData().array(), Charsets.UTF_8));
+        return getOrParse(schema);
     }
 
     private List<Schema> parseSchemas(List<SchemaInfo> schemaList) {
         Preconditions.checkArgument(schemaList != null && schemaList.stream().allMatch(x -> x.getSerializationFormat().equals(SerializationFormat.Avro)),
                 "All schemas to compare against should be avro.");
-        return schemaList.stream().map(x -> new Schema.Parser().parse(new String(x.getSchemaData().array(), Charsets.UTF_8)))
-                                .collect(Collectors.toList());
+        return schemaList.stream().map(this::getOrParse).collect(Collectors.toList());
+    }
+
+    private Schema getOrParse(SchemaInfo schemaInfo) {
+        byte[] schemaData = schemaInfo.getSchemaData().array();
+        BigInteger fingerprint = HashUtil.getFingerprint(schemaData);
+        Schema schema = schemas.getIfPresent(fingerprint);
+        if (schema == null) {
+            // parse outside of the cache loader so that parse failures surface to the caller unwrapped.
+            schema = new Schema.Parser().parse(new String(schemaData, Charsets.UTF_8));
+            schemas.put(fingerprint, schema);
+        }
+        return schema;
     }
 }
@@ -19,9 +19,11 @@ import java.util.concurrent.TimeUnit;
 import javax.ws.rs.core.UriBuilder;
 
 import io.pravega.common.security.JKSHelper;
+import io.pravega.schemaregistry.contract.v1.SmileProvider;
 import io.pravega.schemaregistry.server.rest.auth.AuthHandlerManager;
 import io.pravega.schemaregistry.server.rest.filter.AuthenticationFilter;
 import io.pravega.schemaregistry.server.rest.filter.NamespaceRedirectFilter;
+import io.pravega.schemaregistry.server.rest.filter.VaryAcceptFilter;
 import io.pravega.schemaregistry.server.rest.resources.GroupResourceImpl;
 import io.pravega.schemaregistry.server.rest.resources.PingImpl;
 import io.pravega.schemaregistry.server.rest.resources.SchemaResourceImpl;
@@ -55,6 +57,7 @@ public class RestServer extends AbstractIdleService {
         AuthHandlerManager authManager = new AuthHandlerManager(restServerConfig);
         resourceObjs.add(new AuthenticationFilter(restServerConfig.isAuthEnabled(), authManager));
         resourceObjs.add(new NamespaceRedirectFilter());
+        resourceObjs.add(new VaryAcceptFilter());
         resourceObjs.add(new PingImpl());
         resourceObjs.add(new GroupResourceImpl(registryService, restServerConfig, authManager, executor()));
         resourceObjs.add(new SchemaResourceImpl(registryService, restServerConfig, authManager, executor()));
@@ -64,6 +67,7 @@ public class RestServer extends AbstractIdleService {
         this.resourceConfig.property(ServerProperties.BV_SEND_ERROR_IN_RESPONSE, true);
 
         this.resourceConfig.register(new CustomJsonParser());
+        this.resourceConfig.register(new SmileProvider());
     }
 
     /**
@@ -39,10 +39,19 @@ public class ServiceConfig implements ServerConfig {
     private final boolean disablePasswordAuth;
     @ToString.Exclude
     private final String userPasswordFilePath;
+    /**
+     * Maximum number of authenticated credentials and authorization decisions that are cached.
+     */
+    private final int authCacheSize;
+    /**
+     * Duration for which authenticated credentials and authorization decisions are cached. 
+     * Changes to users and their permissions take effect for cached credentials after this duration. 
+     */
+    private final int authCacheTtlMillis;
 
     private ServiceConfig(String host, int port, boolean tlsEnabled, String tlsCertFilePath, 
                           String tlsKeyStoreFilePath, String tlsKeyStorePasswordFilePath, boolean authEnabled, 
-                          boolean disablePasswordAuth, String userPasswordFilePath) {
+                          boolean disablePasswordAuth, String userPasswordFilePath, int authCacheSize, int authCacheTtlMillis) {
         Exceptions.checkNotNullOrEmpty(host, "host");
         Exceptions.checkArgument(port > 0, "port", "Should be positive integer");
         if (tlsEnabled) {
@@ -62,6 +71,8 @@ public class ServiceConfig implements ServerConfig {
         this.authEnabled = authEnabled;
         this.disablePasswordAuth = disablePasswordAuth;
         this.userPasswordFilePath = userPasswordFilePath;
+        this.authCacheSize = authCacheSize;
+        this.authCacheTtlMillis = authCacheTtlMillis;
     }
 
     public static final class ServiceConfigBuilder {
@@ -70,6 +81,8 @@ public class ServiceConfig implements ServerConfig {
         private boolean tlsEnabled = false;
         private boolean authEnabled = false;
         private boolean disablePasswordAuth = false;
+        private int authCacheSize = 1000;
+        private int authCacheTtlMillis = 60000;
     }
 
     @Override
@@ -23,16 +23,19 @@ import java.util.concurrent.atomic.AtomicReference;
  */
 @Slf4j
 public class AuthContext implements SecurityContext {
+    private final AuthHandlerManager manager;
     private final AuthHandler handler;
     private final String token;
     private final AtomicReference<Principal> principal = new AtomicReference<>();
 
-    AuthContext(AuthHandler handler, String token) {
+    AuthContext(AuthHandlerManager manager, AuthHandler handler, String token) {
+        this.manager = manager;
         this.handler = handler;
         this.token = token;
     }
 
-    AuthContext(AuthHandler handler, Principal principal) {
+    AuthContext(AuthHandlerManager manager, AuthHandler handler, Principal principal) {
+        this.manager = manager;
         this.handler = handler;
         this.principal.set(principal);
         this.token = null;
@@ -44,7 +47,7 @@ public class AuthContext implements SecurityContext {
      * @throws AuthenticationException if an authentication failure occurred.
      */
     public void authenticate() throws AuthenticationException {
-        principal.compareAndSet(null, handler.authenticate(token));
+        principal.compareAndSet(null, manager.authenticate(handler, token));
     }
 
     /**
@@ -59,7 +62,7 @@ public class AuthContext implements SecurityContext {
         Preconditions.checkNotNull(resource);
         Preconditions.checkNotNull(level);
         Preconditions.checkNotNull(principal.get(), "Authentication should have been called before authorization");
-        return handler.authorize(resource, principal.get()).ordinal() >= level.ordinal();
+        return manager.authorize(handler, resource, principal.get()).ordinal() >= level.ordinal();
     }
 
     @Override
@@ -10,33 +10,53 @@
 package io.pravega.schemaregistry.server.rest.auth;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Charsets;
 import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
 import io.pravega.auth.AuthConstants;
 import io.pravega.auth.AuthHandler;
 import io.pravega.auth.AuthenticationException;
 import io.pravega.schemaregistry.server.rest.ServiceConfig;
+import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
 
 import javax.ws.rs.core.SecurityContext;
+import java.security.Principal;
 import java.util.Collections;
 import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 import static io.pravega.schemaregistry.common.AuthHelper.extractMethodAndToken;
 
 /**
  * Manages instances of {@link AuthHandler}.
+ * Authenticated principals and authorization decisions are cached for {@link ServiceConfig#getAuthCacheTtlMillis()} so 
+ * that handlers (for example password verification with the basic handler) are not invoked on every request. 
+ * Credentials are cached by their digest and failed authentications are never cached. 
  */
 @Slf4j
 public class AuthHandlerManager {
     private final ServiceConfig serverConfig;
     
     private final ConcurrentHashMap<String, AuthHandler> handlerMap;
+    private final Cache<CredentialsKey, Principal> principals;
+    private final Cache<AuthorizationKey, AuthHandler.Permissions> permissions;
 
     public AuthHandlerManager(ServiceConfig serverConfig) {
         this.serverConfig = serverConfig;
         this.handlerMap = new ConcurrentHashMap<>();
+        this.principals = CacheBuilder.newBuilder()
+                                      .maximumSize(serverConfig.getAuthCacheSize())
+                                      .expireAfterWrite(serverConfig.getAuthCacheTtlMillis(), TimeUnit.MILLISECONDS)
+                                      .build();
+        this.permissions = CacheBuilder.newBuilder()
+                                       .maximumSize(serverConfig.getAuthCacheSize())
+                                       .expireAfterWrite(serverConfig.getAuthCacheTtlMillis(), TimeUnit.MILLISECONDS)
+                                       .build();
         this.loadHandlers();
     }
 
@@ -82,7 +102,7 @@ public class AuthHandlerManager {
             throw new AuthenticationException("Handler does not exist for method " + method);
         }
 
-        return new AuthContext(handler, token);
+        return new AuthContext(this, handler, token);
     }
 
     /**
@@ -102,7 +122,53 @@ public class AuthHandlerManager {
             throw new AuthenticationException("Handler does not exist for method " + securityContext.getAuthenticationScheme());
         }
 
-        return new AuthContext(handler, securityContext.getUserPrincipal());
+        return new AuthContext(this, handler, securityContext.getUserPrincipal());
+    }
+
+    /**
+     * Authenticates the token with the handler. If the same token was authenticated by the handler within the cache ttl,
+     * the cached principal is returned. 
+     * 
+     * @param handler handler to authenticate with.
+     * @param token token to authenticate. 
+     * @return Principal for the token. 
+     * @throws AuthenticationException if the authentication fails. 
+     */
+    Principal authenticate(AuthHandler handler, String token) throws AuthenticationException {
+        CredentialsKey key = new CredentialsKey(handler.getHandlerName(), digest(token));
+        Principal principal = principals.getIfPresent(key);
+        if (principal == null) {
+            principal = handler.authenticate(token);
+            if (principal != null) {
+                principals.put(key, principal);
+            }
+        }
+        return principal;
+    }
+
+    /**
+     * Gets the permissions that the handler grants to the principal on the resource. Decisions are cached by principal
+     * name and resource. 
+     * 
+     * @param handler handler to authorize with. 
+     * @param resource resource. 
+     * @param principal authenticated principal. 
+     * @return Permissions of the principal on the resource. 
+     */
+    AuthHandler.Permissions authorize(AuthHandler handler, String resource, Principal principal) {
+        AuthorizationKey key = new AuthorizationKey(handler.getHandlerName(), principal.getName(), resource);
+        AuthHandler.Permissions granted = permissions.getIfPresent(key);
+        if (granted == null) {
+            granted = handler.authorize(resource, principal);
+            if (granted != null) {
+                permissions.put(key, granted);
+            }
+        }
+        return granted;
+    }
+
+    private static String digest(String token) {
+        return Hashing.sha256().hashString(token, Charsets.UTF_8).toString();
     }
     
     /**
@@ -126,4 +192,17 @@ public class AuthHandlerManager {
     Map<String, AuthHandler> getHandlerMap() {
         return Collections.unmodifiableMap(handlerMap);
     }
+
+    @Data
+    private static class CredentialsKey {
+        private final String method;
+        private final String digest;
+    }
+
+    @Data
+    private static class AuthorizationKey {
+        private final String method;
+        private final String principal;
+        private final String resource;
+    }
 }
@@ -0,0 +1,43 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.server.rest.filter;
+
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.ext.Provider;
+
+/**
+ * A response filter that adds "Vary: Accept" to responses. 
+ * 
+ * The resources produce both json and smile, and the representation is negotiated from the Accept header of the request.
+ * Caches have to key the stored responses on the Accept header so that a client is not served a representation it 
+ * did not ask for. 
+ */
+@Provider
+public class VaryAcceptFilter implements ContainerResponseFilter {
+    @Override
+    public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+        String vary = responseContext.getHeaderString(HttpHeaders.VARY);
+        if (vary == null || !varies(vary)) {
+            responseContext.getHeaders().add(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        }
+    }
+
+    private static boolean varies(String vary) {
+        for (String header : vary.split(",")) {
+            if (header.trim().equalsIgnoreCase(HttpHeaders.ACCEPT) || header.trim().equals("*")) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
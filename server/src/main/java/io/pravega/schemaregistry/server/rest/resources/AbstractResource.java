@@ -16,13 +16,21 @@ import io.pravega.auth.AuthException;
 import io.pravega.auth.AuthHandler;
 import io.pravega.auth.AuthorizationException;
 import io.pravega.common.Exceptions;
+import io.pravega.common.concurrent.Futures;
+import io.pravega.common.util.RetriesExhaustedException;
+import io.pravega.schemaregistry.contract.data.EncodingInfo;
+import io.pravega.schemaregistry.contract.data.SchemaInfo;
+import io.pravega.schemaregistry.contract.v1.SmileProvider;
+import io.pravega.schemaregistry.common.HashUtil;
 import io.pravega.schemaregistry.exceptions.CodecTypeNotRegisteredException;
 import io.pravega.schemaregistry.exceptions.IncompatibleSchemaException;
 import io.pravega.schemaregistry.exceptions.PreconditionFailedException;
 import io.pravega.schemaregistry.exceptions.SerializationFormatMismatchException;
+import io.pravega.schemaregistry.exceptions.ServiceUnavailableException;
 import io.pravega.schemaregistry.server.rest.ServiceConfig;
 import io.pravega.schemaregistry.server.rest.auth.AuthContext;
 import io.pravega.schemaregistry.server.rest.auth.AuthHandlerManager;
+import io.pravega.schemaregistry.service.Config;
 import io.pravega.schemaregistry.service.SchemaRegistryService;
 import io.pravega.schemaregistry.storage.StoreExceptions;
 import lombok.Getter;
@@ -30,11 +38,15 @@ import lombok.extern.slf4j.Slf4j;
 
 import javax.ws.rs.container.AsyncResponse;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.SecurityContext;
 import java.io.UnsupportedEncodingException;
+import java.math.BigInteger;
 import java.net.URLEncoder;
+import java.nio.ByteBuffer;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.Executor;
@@ -49,6 +61,10 @@ import static io.pravega.schemaregistry.server.rest.resources.AuthResources.NAME
 
 @Slf4j
 abstract class AbstractResource {
+    // seconds after which a client may resend a write that failed because of concurrent writes to the group. 
+    private static final int RETRY_AFTER_SECONDS = 1;
+    private static final MediaType SMILE = MediaType.valueOf(SmileProvider.APPLICATION_SMILE);
+    
     @Context
     HttpHeaders headers;
 
@@ -73,8 +89,15 @@ abstract class AbstractResource {
                                                   Supplier<CompletableFuture<Response>> future,
                                                   SecurityContext securityContext, 
                                                   Supplier<String> logSupplier) {
-        return CompletableFuture.runAsync(() -> authorize(securityContext, resource, permissions), executorService)
-                         .thenCompose(v -> future.get())
+        // authorization decisions are cached by the auth handler manager, so authorize inline on the request thread.
+        CompletableFuture<Void> authorized;
+        try {
+            authorize(securityContext, resource, permissions);
+            authorized = CompletableFuture.completedFuture(null);
+        } catch (Exception e) {
+            authorized = Futures.failedFuture(e);
+        }
+        return authorized.thenCompose(v -> future.get())
                          .exceptionally(e -> {
                              Throwable unwrap = Exceptions.unwrap(e);
                              response.resume(handleExceptions(unwrap, logSupplier));
@@ -158,7 +181,150 @@ abstract class AbstractResource {
         }
     }
 
-    Response handleExceptions(Throwable unwrap, Supplier<String> logSupplier) {
+    /**
+     * Reads the If-None-Match header of the current request. This must be called on the request thread before the 
+     * request is processed asynchronously. 
+     * 
+     * @return value of If-None-Match header or null if the header is not present.
+     */
+    String getIfNoneMatch() {
+        return headers == null ? null : headers.getHeaderString(HttpHeaders.IF_NONE_MATCH);
+    }
+
+    /**
+     * Selects the media type of the response from the Accept header of the current request for resources that produce 
+     * json and smile. The most preferred acceptable type is used and json is preferred over smile if the client 
+     * accepts both equally. This must be called on the request thread before the request is processed asynchronously. 
+     * 
+     * @return media type of the response. 
+     */
+    MediaType getResponseMediaType() {
+        if (headers != null) {
+            for (MediaType acceptable : headers.getAcceptableMediaTypes()) {
+                if (acceptable.isCompatible(MediaType.APPLICATION_JSON_TYPE)) {
+                    return MediaType.APPLICATION_JSON_TYPE;
+                } else if (acceptable.isCompatible(SMILE)) {
+                    return SMILE;
+                }
+            }
+        }
+        return MediaType.APPLICATION_JSON_TYPE;
+    }
+
+    /**
+     * Builds the response for a resource that never changes once it has been written. The response carries a strong 
+     * validator computed from the resource's content and the media type of the representation, and allows caches to 
+     * store and reuse it without revalidation. If the request's If-None-Match header matches the validator, a 304 
+     * response without entity is returned instead. 
+     * 
+     * @param entity entity of the response.
+     * @param fingerprint fingerprint of the content of the entity. 
+     * @param mediaType media type of the response, see {@link #getResponseMediaType()}. 
+     * @param ifNoneMatch If-None-Match header of the request. 
+     * @return Response.
+     */
+    Response immutableResponse(Object entity, BigInteger fingerprint, MediaType mediaType, String ifNoneMatch) {
+        String cacheControl = String.format("%s, max-age=%d, immutable", config.isAuthEnabled() ? "private" : "public",
+                Config.REST_IMMUTABLE_MAX_AGE_SECONDS);
+        // json and smile representations of the same content are different byte sequences and need different strong tags.
+        String representation = String.format("%s%n%s", fingerprint.toString(16), mediaType);
+        EntityTag tag = new EntityTag(HashUtil.getFingerprint(representation.getBytes(Charsets.UTF_8)).toString(16));
+        Response.ResponseBuilder builder = isNotModified(ifNoneMatch, tag) ? Response.notModified() 
+                : Response.status(Response.Status.OK).entity(entity).type(mediaType);
+        return builder.tag(tag).header(HttpHeaders.CACHE_CONTROL, cacheControl).build();
+    }
+
+    /**
+     * Runs the request for a resource of the group that changes when the group is updated. The group's entity tag is 
+     * read before the resource and returned as a weak validator with the response. Caches may store the response but 
+     * have to revalidate it on every use. If the request's If-None-Match header matches the group's current entity tag, 
+     * a 304 response is returned without reading the resource. 
+     * 
+     * @param namespace namespace of the group. 
+     * @param group group.
+     * @param ifNoneMatch If-None-Match header of the request.
+     * @param future supplier of the response for the resource.
+     * @return CompletableFuture which when completed will hold the response.
+     */
+    CompletableFuture<Response> withGroupValidator(String namespace, String group, String ifNoneMatch, 
+                                                   Supplier<CompletableFuture<Response>> future) {
+        String cacheControl = config.isAuthEnabled() ? "private, no-cache" : "no-cache";
+        return registryService.getGroupEtag(namespace, group)
+                              .thenCompose(etag -> {
+                                  // the group's id is part of the validator as the etag of a recreated group may 
+                                  // repeat an etag of the deleted group.
+                                  String validator = String.format("%s/%s", etag.getGroupId(), etag.etag());
+                                  EntityTag tag = new EntityTag(HashUtil.getFingerprint(
+                                          validator.getBytes(Charsets.UTF_8)).toString(16), true);
+                                  if (isNotModified(ifNoneMatch, tag)) {
+                                      return CompletableFuture.completedFuture(Response.notModified(tag)
+                                                                                       .header(HttpHeaders.CACHE_CONTROL, cacheControl).build());
+                                  }
+                                  return future.get().thenApply(response -> {
+                                      if (response.getStatus() != Response.Status.OK.getStatusCode()) {
+                                          return response;
+                                      }
+                                      return Response.fromResponse(response).tag(tag)
+                                                     .header(HttpHeaders.CACHE_CONTROL, cacheControl).build();
+                                  });
+                              });
+    }
+
+    /**
+     * Computes a fingerprint of the content of the encoding info.
+     * 
+     * @param encodingInfo encoding info.
+     * @return fingerprint.
+     */
+    static BigInteger fingerprint(EncodingInfo encodingInfo) {
+        String content = String.format("%s%n%s%n%s", encodingInfo.getVersionInfo(), encodingInfo.getCodecType(), 
+                fingerprint(encodingInfo.getSchemaInfo()).toString(16));
+        return HashUtil.getFingerprint(content.getBytes(Charsets.UTF_8));
+    }
+
+    /**
+     * Computes a fingerprint of the content of the schema.
+     * 
+     * @param schemaInfo schema.
+     * @return fingerprint.
+     */
+    static BigInteger fingerprint(SchemaInfo schemaInfo) {
+        byte[] header = String.format("%s%n%s%n%s%n", schemaInfo.getType(), 
+                schemaInfo.getSerializationFormat().getFullTypeName(), schemaInfo.getProperties()).getBytes(Charsets.UTF_8);
+        ByteBuffer schemaData = schemaInfo.getSchemaData().duplicate();
+        byte[] content = new byte[header.length + schemaData.remaining()];
+        System.arraycopy(header, 0, content, 0, header.length);
+        schemaData.get(content, header.length, schemaData.remaining());
+        return HashUtil.getFingerprint(content);
+    }
+
+    /**
+     * If-None-Match uses the weak comparison function. A tag matches if its opaque value matches regardless of whether 
+     * either tag is weak. 
+     */
+    private static boolean isNotModified(String ifNoneMatch, EntityTag tag) {
+        if (Strings.isNullOrEmpty(ifNoneMatch)) {
+            return false;
+        }
+        for (String value : ifNoneMatch.split(",")) {
+            String trimmed = value.trim();
+            if (trimmed.equals("*")) {
+                return true;
+            }
+            if (trimmed.startsWith("W/")) {
+                trimmed = trimmed.substring(2);
+            }
+            if (trimmed.equals("\"" + tag.getValue() + "\"")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    Response handleExceptions(Throwable exception, Supplier<String> logSupplier) {
+        // writes that keep conflicting with concurrent writes are only retried a bounded number of times. 
+        Throwable unwrap = exception instanceof RetriesExhaustedException && exception.getCause() != null 
+                ? Exceptions.unwrap(exception.getCause()) : exception;
         Response response;
         if (unwrap instanceof AuthException) {
             log.warn("Auth failed for request {}.", logSupplier.get(), unwrap);
@@ -172,6 +338,16 @@ abstract class AbstractResource {
         } else if (unwrap instanceof IncompatibleSchemaException) {
             log.warn("Request {} failed with Incompatible Schema.", logSupplier.get());
             response = Response.status(Response.Status.CONFLICT).build();
+        } else if (unwrap instanceof StoreExceptions.WriteConflictException) {
+            // the write kept conflicting with concurrent writes to the group. Unlike the other conflicts, the request 
+            // can succeed if it is sent again. 
+            log.warn("Request {} failed with write conflict.", logSupplier.get());
+            response = Response.status(Response.Status.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                               .entity(unwrap.getMessage()).build();
+        } else if (unwrap instanceof ServiceUnavailableException) {
+            log.warn("Request {} rejected as the service is unavailable.", logSupplier.get());
+            response = Response.status(Response.Status.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                               .entity(unwrap.getMessage()).build();
         } else if (unwrap instanceof StoreExceptions.DataNotFoundException || unwrap instanceof StoreExceptions.DataContainerNotFoundException) {
             log.warn("Request {} failed with resource not found. ", logSupplier.get());
             response = Response.status(Response.Status.NOT_FOUND).build();
@@ -16,18 +16,24 @@ import io.pravega.common.Exceptions;
 import io.pravega.schemaregistry.common.FuturesUtility;
 import io.pravega.schemaregistry.contract.data.Compatibility;
 import io.pravega.schemaregistry.contract.data.GroupProperties;
+import io.pravega.schemaregistry.contract.generated.rest.model.AddSchemaAndGetEncodingIdRequest;
+import io.pravega.schemaregistry.contract.generated.rest.model.AddSchemasRequest;
+import io.pravega.schemaregistry.contract.generated.rest.model.AddSchemasResponse;
 import io.pravega.schemaregistry.contract.generated.rest.model.CanRead;
 import io.pravega.schemaregistry.contract.generated.rest.model.CodecType;
 import io.pravega.schemaregistry.contract.generated.rest.model.CodecTypes;
 import io.pravega.schemaregistry.contract.generated.rest.model.CreateGroupRequest;
 import io.pravega.schemaregistry.contract.generated.rest.model.EncodingId;
+import io.pravega.schemaregistry.contract.generated.rest.model.EncodingIds;
 import io.pravega.schemaregistry.contract.generated.rest.model.EncodingInfo;
+import io.pravega.schemaregistry.contract.generated.rest.model.EncodingInfoList;
 import io.pravega.schemaregistry.contract.generated.rest.model.GetEncodingIdRequest;
+import io.pravega.schemaregistry.contract.generated.rest.model.GetEncodingIdsRequest;
 import io.pravega.schemaregistry.contract.generated.rest.model.GroupHistory;
+import io.pravega.schemaregistry.contract.generated.rest.model.GroupIncarnation;
 import io.pravega.schemaregistry.contract.generated.rest.model.ListGroupsResponse;
 import io.pravega.schemaregistry.contract.generated.rest.model.SchemaInfo;
 import io.pravega.schemaregistry.contract.generated.rest.model.SchemaVersionsList;
-import io.pravega.schemaregistry.contract.generated.rest.model.SchemaWithVersion;
 import io.pravega.schemaregistry.contract.generated.rest.model.UpdateCompatibilityRequest;
 import io.pravega.schemaregistry.contract.generated.rest.model.Valid;
 import io.pravega.schemaregistry.contract.generated.rest.model.ValidateRequest;
@@ -42,6 +48,7 @@ import io.pravega.schemaregistry.storage.ContinuationToken;
 import lombok.extern.slf4j.Slf4j;
 
 import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.SecurityContext;
 import java.util.AbstractMap;
@@ -64,6 +71,7 @@ import static javax.ws.rs.core.Response.Status;
 @Slf4j
 public class GroupResourceImpl extends AbstractResource implements ApiV1.GroupsApiAsync {
     private static final int DEFAULT_LIST_GROUPS_LIMIT = 100;
+    private static final int MAX_ENCODING_INFOS_LIMIT = 100;
     
     public GroupResourceImpl(SchemaRegistryService registryService, ServiceConfig config, 
                              AuthHandlerManager authHandlerManager, Executor executor) {
@@ -157,12 +165,14 @@ public class GroupResourceImpl extends AbstractResource implements ApiV1.GroupsA
                                    SecurityContext securityContext, AsyncResponse asyncResponse) {
         String resource = Strings.isNullOrEmpty(namespace) ? getGroupResource(group) : 
                 getGroupResource(group, namespace);
+        String ifNoneMatch = getIfNoneMatch();
         withAuthorization(READ, resource, asyncResponse,
-                () -> getRegistryService().getGroupProperties(namespace, group)
+                () -> withGroupValidator(namespace, group, ifNoneMatch, 
+                        () -> getRegistryService().getGroupProperties(namespace, group)
                                      .thenApply(groupProperty -> {
                                          log.info("Group {} {} property found are {}", namespace, group, groupProperty);
                                          return Response.status(Status.OK).entity(ModelHelper.encode(groupProperty)).build();
-                                     }), 
+                                     })), 
                 securityContext, () -> String.format("getGroupProperties for group %s %s failed with exception:", namespace, group))
                 .thenApply(response -> {
                     asyncResponse.resume(response);
@@ -171,19 +181,46 @@ public class GroupResourceImpl extends AbstractResource implements ApiV1.GroupsA
     }
     
     @Override
-    public void getGroupHistory(String namespace, String group, SecurityContext securityContext, AsyncResponse asyncResponse) {
-        log.info("Get group history called for group {} {}", namespace, group);
+    public void getGroupIncarnation(String namespace, String group,
+                                    SecurityContext securityContext, AsyncResponse asyncResponse) {
+        String resource = Strings.isNullOrEmpty(namespace) ? getGroupResource(group) : 
+                getGroupResource(group, namespace);
+        withAuthorization(READ, resource, asyncResponse,
+                () -> getRegistryService().getGroupIncarnation(namespace, group)
+                                          .thenApply(incarnationId -> {
+                                              log.info("Group {} {} incarnation is {}", namespace, group, incarnationId);
+                                              return Response.status(Status.OK).entity(new GroupIncarnation().incarnationId(incarnationId)).build();
+                                          }), 
+                securityContext, () -> String.format("getGroupIncarnation for group %s %s failed with exception:", namespace, group))
+                .thenApply(response -> {
+                    asyncResponse.resume(response);
+                    return response;
+                });
+    }
+
+    @Override
+    public void getGroupHistory(String namespace, String group, String continuationToken, Integer limit,
+                                SecurityContext securityContext, AsyncResponse asyncResponse) {
+        log.info("Get group history called for group {} {} with limit {} and continuation token {}", namespace, group, limit, continuationToken);
         String resource = Strings.isNullOrEmpty(namespace) ? getGroupResource(group) :
                 getGroupResource(group, namespace);
+        String ifNoneMatch = getIfNoneMatch();
         withAuthorization(READ, resource, asyncResponse,
-                () -> getRegistryService().getGroupHistory(namespace, group, null)
-                                     .thenApply(history -> {
+                () -> withGroupValidator(namespace, group, ifNoneMatch, 
+                        // without a limit the rest of the history after the continuation token is built and returned as a 
+                        // single entity. It is not streamed; clients that need bounded responses pass a limit. 
+                        () -> getRegistryService().getGroupHistory(namespace, group, null, ContinuationToken.fromString(continuationToken),
+                                limit == null ? Integer.MAX_VALUE : limit)
+                                     .thenApply(page -> {
                                          GroupHistory list = new GroupHistory()
-                                                 .history(history.stream().map(ModelHelper::encode)
+                                                 .history(page.getList().stream().map(ModelHelper::encode)
                                                                  .collect(Collectors.toList()));
+                                         if (limit != null) {
+                                             list.setContinuationToken(page.getToken().toString());
+                                         }
                                          log.info("getGroupHistory: {} schemas found for group {} {}", list.getHistory().size(), namespace, group);
                                          return Response.status(Status.OK).entity(list).build();
-                                     }), 
+                                     })), 
                 securityContext, () -> String.format("getGroupHistory for group %s %s failed with exception:", namespace, group))
                 .thenApply(response -> {
                     asyncResponse.resume(response);
@@ -234,22 +271,29 @@ public class GroupResourceImpl extends AbstractResource implements ApiV1.GroupsA
     }
 
     @Override
-    public void getSchemaVersions(String namespace, String group, String type, SecurityContext securityContext, AsyncResponse asyncResponse) {
-        log.info("Get group schemas called for group {} {}", namespace, group);
+    public void getSchemaVersions(String namespace, String group, String type, String continuationToken, Integer limit,
+                                  SecurityContext securityContext, AsyncResponse asyncResponse) {
+        log.info("Get group schemas called for group {} {} with limit {} and continuation token {}", namespace, group, limit, continuationToken);
         String resource = Strings.isNullOrEmpty(namespace) ? getGroupResource(group) :
                 getGroupResource(group, namespace);
 
+        String ifNoneMatch = getIfNoneMatch();
         withAuthorization(READ, resource, asyncResponse,
-                () -> getRegistryService().getGroupHistory(namespace, group, type)
-                                     .thenApply(history -> {
+                () -> withGroupValidator(namespace, group, ifNoneMatch, 
+                        // without a limit all versions after the continuation token are built and returned as a single entity. 
+                        // It is not streamed; clients that need bounded responses pass a limit. 
+                        () -> getRegistryService().getSchemaVersions(namespace, group, type, ContinuationToken.fromString(continuationToken),
+                                limit == null ? Integer.MAX_VALUE : limit)
+                                     .thenApply(page -> {
                                          SchemaVersionsList list = new SchemaVersionsList()
-                                                 .schemas(history.stream().map(x -> new SchemaWithVersion()
-                                                         .schemaInfo(ModelHelper.encode(x.getSchemaInfo()))
-                                                         .versionInfo(ModelHelper.encode(x.getVersionInfo())))
+                                                 .schemas(page.getList().stream().map(ModelHelper::encode)
                                                                  .collect(Collectors.toList()));
+                                         if (limit != null) {
+                                             list.setContinuationToken(page.getToken().toString());
+                                         }
                                          log.info("getSchemaVersions: {} schemas found for group {} {}", list.getSchemas().size(), namespace, group);
                                          return Response.status(Status.OK).entity(list).build();
-                                     }), 
+                                     })), 
                 securityContext, () -> String.format("getSchemaVersions for group %s %s failed with exception:", namespace, group))
                 .thenApply(response -> {
                     asyncResponse.resume(response);
@@ -280,6 +324,32 @@ public class GroupResourceImpl extends AbstractResource implements ApiV1.GroupsA
         });
     }
 
+    @Override
+    public void addSchemas(String namespace, String group, AddSchemasRequest addSchemasRequest,
+                           SecurityContext securityContext, AsyncResponse asyncResponse) {
+        Preconditions.checkNotNull(addSchemasRequest);
+        log.info("Add schemas to group called for group {} {}", namespace, group);
+        String resource = Strings.isNullOrEmpty(namespace) ? getGroupSchemaResource(group) :
+                getGroupSchemaResource(group, namespace);
+
+        withAuthorization(READ_UPDATE, resource, asyncResponse,
+                () -> {
+                    List<io.pravega.schemaregistry.contract.data.SchemaInfo> schemas = addSchemasRequest
+                            .getSchemas().stream().map(ModelHelper::decode).collect(Collectors.toList());
+                    return getRegistryService().addSchemas(namespace, group, schemas)
+                                          .thenApply(versionInfos -> {
+                                              AddSchemasResponse versions = new AddSchemasResponse()
+                                                      .versions(versionInfos.stream().map(ModelHelper::encode).collect(Collectors.toList()));
+                                              log.info("schemas added to group {} {} with versions {}", namespace, group, versionInfos);
+                                              return Response.status(Status.CREATED).entity(versions).build();
+                                          });
+                }, securityContext, () -> String.format("addSchemas for group %s %s failed with exception:", namespace, group))
+                .thenApply(response -> {
+            asyncResponse.resume(response);
+            return response;
+        });
+    }
+
     @Override
     public void validate(String namespace, String group, ValidateRequest validateRequest, SecurityContext securityContext, AsyncResponse asyncResponse) {
         Preconditions.checkNotNull(validateRequest);
@@ -328,12 +398,14 @@ public class GroupResourceImpl extends AbstractResource implements ApiV1.GroupsA
         String resource = Strings.isNullOrEmpty(namespace) ? getGroupResource(group) :
                 getGroupResource(group, namespace);
 
+        String ifNoneMatch = getIfNoneMatch();
+        MediaType mediaType = getResponseMediaType();
         withAuthorization(READ, resource, asyncResponse,
                 () -> getRegistryService().getSchema(namespace, group, schemaId)
                                      .thenApply(schemaWithVersion -> {
                                          SchemaInfo schema = ModelHelper.encode(schemaWithVersion);
                                          log.info("Schema for version {} for group {} {} found.", schemaId, namespace, group);
-                                         return Response.status(Status.OK).entity(schema).build();
+                                         return immutableResponse(schema, fingerprint(schemaWithVersion), mediaType, ifNoneMatch);
                                      }), securityContext, () -> String.format("getSchemaForId %d for group %s %s failed with exception:", schemaId, namespace, group))
                 .thenApply(response -> {
                     asyncResponse.resume(response);
@@ -348,12 +420,14 @@ public class GroupResourceImpl extends AbstractResource implements ApiV1.GroupsA
         String resource = Strings.isNullOrEmpty(namespace) ? getGroupResource(group) :
                 getGroupResource(group, namespace);
 
+        String ifNoneMatch = getIfNoneMatch();
+        MediaType mediaType = getResponseMediaType();
         withAuthorization(READ, resource, asyncResponse,
                 () -> getRegistryService().getSchema(namespace, group, serializationFormat, schemaType, version)
                                                                     .thenApply(schemaWithVersion -> {
                                                                         SchemaInfo schema = ModelHelper.encode(schemaWithVersion);
                                                                         log.info("Schema for version {} for group {} {} found.", version, namespace, group);
-                                                                        return Response.status(Status.OK).entity(schema).build();
+                                                                        return immutableResponse(schema, fingerprint(schemaWithVersion), mediaType, ifNoneMatch);
                                                                     }), 
                 securityContext, () -> String.format("getSchemaFromVersion %s %d for group %s %s failed with exception:", schemaType, version, namespace, group))
                 .thenApply(response -> {
@@ -430,6 +504,62 @@ public class GroupResourceImpl extends AbstractResource implements ApiV1.GroupsA
         });
     }
 
+    @Override
+    public void getEncodingIds(String namespace, String group, GetEncodingIdsRequest getEncodingIdsRequest,
+                               SecurityContext securityContext, AsyncResponse asyncResponse) {
+        Preconditions.checkNotNull(getEncodingIdsRequest);
+        log.info("getEncodingIds called for group {} {} with {} pairs", namespace, group, getEncodingIdsRequest.getRequests().size());
+        String resource = Strings.isNullOrEmpty(namespace) ? getGroupResource(group) :
+                getGroupResource(group, namespace);
+
+        withAuthorization(READ, resource, asyncResponse,
+                () -> {
+                    List<Map.Entry<io.pravega.schemaregistry.contract.data.VersionInfo, String>> encodings = getEncodingIdsRequest
+                            .getRequests().stream()
+                            .map(x -> new AbstractMap.SimpleEntry<>(ModelHelper.decode(x.getVersionInfo()), x.getCodecType()))
+                            .collect(Collectors.toList());
+                    return getRegistryService().getEncodingIds(namespace, group, encodings)
+                                          .thenApply(encodingIds -> {
+                                              EncodingIds ids = new EncodingIds()
+                                                      .encodingIds(encodingIds.stream().map(ModelHelper::encode).collect(Collectors.toList()));
+                                              log.info("For group {} {}, returning encoding ids {}", namespace, group, encodingIds);
+                                              return Response.status(Status.OK).entity(ids).build();
+                                          });
+                }, securityContext, () -> String.format("getEncodingIds for group %s %s failed with exception:", namespace, group))
+                .thenApply(response -> {
+            asyncResponse.resume(response);
+            return response;
+        });
+    }
+
+    @Override
+    public void addSchemaAndGetEncodingId(String namespace, String group, AddSchemaAndGetEncodingIdRequest addSchemaAndGetEncodingIdRequest,
+                                          SecurityContext securityContext, AsyncResponse asyncResponse) {
+        Preconditions.checkNotNull(addSchemaAndGetEncodingIdRequest);
+        log.info("addSchemaAndGetEncodingId called for group {} {} with codec {}", namespace, group, 
+                addSchemaAndGetEncodingIdRequest.getCodecType());
+        String resource = Strings.isNullOrEmpty(namespace) ? getGroupSchemaResource(group) :
+                getGroupSchemaResource(group, namespace);
+
+        withAuthorization(READ_UPDATE, resource, asyncResponse,
+                () -> {
+                    io.pravega.schemaregistry.contract.data.SchemaInfo schemaInfo = ModelHelper.decode(addSchemaAndGetEncodingIdRequest.getSchemaInfo());
+                    String codecType = addSchemaAndGetEncodingIdRequest.getCodecType();
+                    return getRegistryService().addSchemaAndGetEncodingId(namespace, group, schemaInfo, codecType)
+                                          .thenApply(encodingId -> {
+                                              EncodingId id = ModelHelper.encode(encodingId);
+                                              log.info("For group {} {} with schema {} and codec {}, returning encoding id {}", namespace, group,
+                                                      schemaInfo.getType(), codecType, id);
+                                              return Response.status(Status.OK).entity(id).build();
+                                          });
+                }, securityContext, () -> String.format("addSchemaAndGetEncodingId %s group %s %s failed with exception:", 
+                        addSchemaAndGetEncodingIdRequest.getCodecType(), namespace, group))
+                .thenApply(response -> {
+            asyncResponse.resume(response);
+            return response;
+        });
+    }
+
     @Override
     public void getSchemaVersion(String namespace, String group, SchemaInfo schemaInfo, SecurityContext securityContext, AsyncResponse asyncResponse) {
         Preconditions.checkNotNull(schemaInfo);
@@ -457,15 +587,17 @@ public class GroupResourceImpl extends AbstractResource implements ApiV1.GroupsA
         String resource = Strings.isNullOrEmpty(namespace) ? getGroupResource(group) :
                 getGroupResource(group, namespace);
 
+        String ifNoneMatch = getIfNoneMatch();
         withAuthorization(READ, resource, asyncResponse,
-                () -> getRegistryService().getSchemas(namespace, group, type)
+                () -> withGroupValidator(namespace, group, ifNoneMatch, 
+                        () -> getRegistryService().getSchemas(namespace, group, type)
                           .thenApply(schemas -> {
                               SchemaVersionsList schemaList = new SchemaVersionsList()
                                       .schemas(schemas.stream().map(ModelHelper::encode).collect(Collectors.toList()));
                               List<String> types = schemaList.getSchemas().stream().map(x -> x.getSchemaInfo().getType()).collect(Collectors.toList());
                               log.info("Found schemas {} for group {} {} ", types, namespace, namespace, group);
                               return Response.status(Status.OK).entity(schemaList).build();
-                          }), 
+                          })), 
                 securityContext, () -> String.format("getSchemas for group %s %s failed with exception:", namespace, group))
                 .thenApply(response -> {
                     asyncResponse.resume(response);
@@ -479,6 +611,8 @@ public class GroupResourceImpl extends AbstractResource implements ApiV1.GroupsA
         String resource = Strings.isNullOrEmpty(namespace) ? getGroupResource(group) :
                 getGroupResource(group, namespace);
 
+        String ifNoneMatch = getIfNoneMatch();
+        MediaType mediaType = getResponseMediaType();
         withAuthorization(READ, resource, asyncResponse,
                 () -> {
                     io.pravega.schemaregistry.contract.data.EncodingId id = new io.pravega.schemaregistry.contract.data.EncodingId(encodingId);
@@ -486,7 +620,7 @@ public class GroupResourceImpl extends AbstractResource implements ApiV1.GroupsA
                                           .thenApply(encodingInfo -> {
                                               EncodingInfo encoding = ModelHelper.encode(encodingInfo);
                                               log.info("group {} {} encoding id {} encodingInfo {}", namespace, group, encodingId, encoding);
-                                              return Response.status(Status.OK).entity(encoding).build();
+                                              return immutableResponse(encoding, fingerprint(encodingInfo), mediaType, ifNoneMatch);
                                           });
                 }, securityContext, () -> String.format("getEncodingInfo for group %s %s failed with exception:", namespace, group))
                 .thenApply(response -> {
@@ -495,6 +629,30 @@ public class GroupResourceImpl extends AbstractResource implements ApiV1.GroupsA
         });
     }
 
+    @Override
+    public void getEncodingInfos(String namespace, String group, Integer fromId, Integer limit, SecurityContext securityContext, AsyncResponse asyncResponse) {
+        log.info("getEncodingInfos called for group {} {} from {} with limit {}", namespace, group, fromId, limit);
+        String resource = Strings.isNullOrEmpty(namespace) ? getGroupResource(group) :
+                getGroupResource(group, namespace);
+
+        // the number of encodings returned in one response is capped so that a single request cannot read the whole group.
+        int from = fromId == null ? 0 : fromId;
+        int toFetch = limit == null ? MAX_ENCODING_INFOS_LIMIT : Math.min(limit, MAX_ENCODING_INFOS_LIMIT);
+        withAuthorization(READ, resource, asyncResponse,
+                () -> getRegistryService().getEncodingInfos(namespace, group, from, toFetch)
+                                          .thenApply(list -> {
+                                              EncodingInfoList encodingInfoList = new EncodingInfoList()
+                                                      .encodingInfos(list.stream().map(ModelHelper::encode).collect(Collectors.toList()));
+                                              log.info("group {} {} returning {} encodings from {}", namespace, group, list.size(), from);
+                                              return Response.status(Status.OK).entity(encodingInfoList).build();
+                                          }), 
+                securityContext, () -> String.format("getEncodingInfos for group %s %s failed with exception:", namespace, group))
+                .thenApply(response -> {
+            asyncResponse.resume(response);
+            return response;
+        });
+    }
+
 
     @Override
     public void getCodecTypesList(String namespace, String group, SecurityContext securityContext, AsyncResponse asyncResponse) {
@@ -502,14 +660,16 @@ public class GroupResourceImpl extends AbstractResource implements ApiV1.GroupsA
         String resource = Strings.isNullOrEmpty(namespace) ? getGroupResource(group) :
                 getGroupResource(group, namespace);
 
+        String ifNoneMatch = getIfNoneMatch();
         withAuthorization(READ, resource, asyncResponse,
-                () -> getRegistryService().getCodecTypes(namespace, group)
+                () -> withGroupValidator(namespace, group, ifNoneMatch, 
+                        () -> getRegistryService().getCodecTypes(namespace, group)
                                      .thenApply(list -> {
                                          CodecTypes codecsList = new CodecTypes()
                                                  .codecTypes(list.stream().map(ModelHelper::encode).collect(Collectors.toList()));
                                          log.info("group {} {}, codecTypes {} ", namespace, group, codecsList);
                                          return Response.status(Status.OK).entity(codecsList).build();
-                                     }), 
+                                     })), 
                 securityContext, () -> String.format("getCodecTypesList for group %s %s failed with exception:", namespace, group))
                 .thenApply(response -> {
                     asyncResponse.resume(response);
@@ -50,6 +50,15 @@ public final class Config {
     public static final int MAX_CHUNK_SIZE_BYTES;
     public static final int TABLE_ENTRIES_CACHE_SIZE;
     public static final int TABLE_SEGMENT_CACHE_SIZE;
+    public static final int GROUP_METADATA_CACHE_TTL_MILLIS;
+    public static final int GROUP_SCHEMA_HISTORY_CACHE_MAX_BYTES;
+    public static final int AVRO_SCHEMA_CACHE_SIZE;
+    public static final int GROUPS_CACHE_SIZE;
+    public static final int GROUPS_CACHE_TTL_MILLIS;
+    public static final int GROUP_COMMIT_MAX_SCHEMAS;
+    public static final int GROUP_WRITE_MAX_QUEUED;
+    public static final int WRITE_CONFLICT_MAX_ATTEMPTS;
+    public static final int REST_IMMUTABLE_MAX_AGE_SECONDS;
 
     public static final String PRAVEGA_CONTROLLER_URI;
     public static final String PRAVEGA_CREDENTIALS_AUTH_METHOD;
@@ -68,6 +77,8 @@ public final class Config {
     public static final String GROUP_RESOURCE_QUALIFIER;
     public static final String USER_PASSWORD_FILE;
     public static final boolean DISABLE_BASIC_AUTHENTICATION;
+    public static final int AUTH_CACHE_SIZE;
+    public static final int AUTH_CACHE_TTL_MILLIS;
 
     public static final ServiceConfig SERVICE_CONFIG;
 
@@ -90,6 +101,17 @@ public final class Config {
 
     private static final Property<Integer> PROPERTY_TABLE_SEGMENT_CACHE_SIZE = Property.named("store.pravega.tableSegment.chacheSize", 1000);
     private static final Property<Integer> PROPERTY_TABLE_ENTRIES_CACHE_SIZE = Property.named("store.pravega.tableStore.chacheSize", 10000);
+    // Disabled by default. When set, reads of a group's properties, compatibility, latest schemas and codec types may 
+    // miss an update made through another registry service instance for up to this many milliseconds. 
+    private static final Property<Integer> PROPERTY_GROUP_METADATA_CACHE_TTL_MILLIS = Property.named("store.group.metadataCache.ttl.millis", 0);
+    private static final Property<Integer> PROPERTY_GROUP_SCHEMA_HISTORY_CACHE_MAX_BYTES = Property.named("store.group.schemaHistoryCache.maxBytes", 10 * 1024 * 1024);
+    private static final Property<Integer> PROPERTY_GROUPS_CACHE_SIZE = Property.named("store.pravega.groups.cacheSize", 1000);
+    private static final Property<Integer> PROPERTY_GROUPS_CACHE_TTL_MILLIS = Property.named("store.pravega.groups.cache.ttl.millis", 30000);
+    private static final Property<Integer> PROPERTY_AVRO_SCHEMA_CACHE_SIZE = Property.named("compatibility.avro.schemaCache.size", 1000);
+    private static final Property<Integer> PROPERTY_GROUP_COMMIT_MAX_SCHEMAS = Property.named("service.groupCommit.maxSchemas", 100);
+    private static final Property<Integer> PROPERTY_GROUP_WRITE_MAX_QUEUED = Property.named("service.groupWrite.maxQueued", 1000);
+    private static final Property<Integer> PROPERTY_WRITE_CONFLICT_MAX_ATTEMPTS = Property.named("service.writeConflict.retry.maxAttempts", 20);
+    private static final Property<Integer> PROPERTY_REST_IMMUTABLE_MAX_AGE_SECONDS = Property.named("service.rest.cache.immutable.maxAge.seconds", 86400);
 
     private static final Property<Boolean> PROPERTY_TLS_ENABLED = Property.named("security.tls.enable", false);
     private static final Property<String> PROPERTY_TLS_CERT_FILE = Property.named("security.tls.server.certificate.location", "");
@@ -102,6 +124,8 @@ public final class Config {
     private static final Property<String> PROPERTY_NAMESPACE_RESOURCE_QUALIFIER = Property.named("security.auth.resource.identifier.namespace", "namespace");
     private static final Property<String> PROPERTY_GROUP_RESOURCE_QUALIFIER = Property.named("security.auth.resource.identifier.group", "group");
     private static final Property<Boolean> PROPERTY_DISABLE_BASIC_AUTHENTICATION = Property.named("security.auth.method.basic.disable", false);
+    private static final Property<Integer> PROPERTY_AUTH_CACHE_SIZE = Property.named("security.auth.cache.size", 1000);
+    private static final Property<Integer> PROPERTY_AUTH_CACHE_TTL_MILLIS = Property.named("security.auth.cache.ttl.millis", 60000);
 
     private static final String COMPONENT_CODE = "schemaRegistry";
 
@@ -127,6 +151,15 @@ public final class Config {
         MAX_CHUNK_SIZE_BYTES = p.getInt(PROPERTY_MAX_CHUNK_SIZE_BYTES);
         TABLE_SEGMENT_CACHE_SIZE = p.getInt(PROPERTY_TABLE_SEGMENT_CACHE_SIZE);
         TABLE_ENTRIES_CACHE_SIZE = p.getInt(PROPERTY_TABLE_ENTRIES_CACHE_SIZE);
+        GROUP_METADATA_CACHE_TTL_MILLIS = p.getInt(PROPERTY_GROUP_METADATA_CACHE_TTL_MILLIS);
+        GROUP_SCHEMA_HISTORY_CACHE_MAX_BYTES = p.getInt(PROPERTY_GROUP_SCHEMA_HISTORY_CACHE_MAX_BYTES);
+        AVRO_SCHEMA_CACHE_SIZE = p.getInt(PROPERTY_AVRO_SCHEMA_CACHE_SIZE);
+        GROUPS_CACHE_SIZE = p.getInt(PROPERTY_GROUPS_CACHE_SIZE);
+        GROUPS_CACHE_TTL_MILLIS = p.getInt(PROPERTY_GROUPS_CACHE_TTL_MILLIS);
+        GROUP_COMMIT_MAX_SCHEMAS = p.getInt(PROPERTY_GROUP_COMMIT_MAX_SCHEMAS);
+        GROUP_WRITE_MAX_QUEUED = p.getInt(PROPERTY_GROUP_WRITE_MAX_QUEUED);
+        WRITE_CONFLICT_MAX_ATTEMPTS = p.getInt(PROPERTY_WRITE_CONFLICT_MAX_ATTEMPTS);
+        REST_IMMUTABLE_MAX_AGE_SECONDS = p.getInt(PROPERTY_REST_IMMUTABLE_MAX_AGE_SECONDS);
 
         TLS_ENABLED = p.getBoolean(PROPERTY_TLS_ENABLED);
         TLS_KEY_FILE = p.get(PROPERTY_TLS_KEY_FILE);
@@ -139,6 +172,8 @@ public final class Config {
         NAMESPACE_RESOURCE_QUALIFIER = p.get(PROPERTY_NAMESPACE_RESOURCE_QUALIFIER);
         GROUP_RESOURCE_QUALIFIER = p.get(PROPERTY_GROUP_RESOURCE_QUALIFIER);
         USER_PASSWORD_FILE = p.get(PROPERTY_AUTH_PASSWORD_FILE);
+        AUTH_CACHE_SIZE = p.getInt(PROPERTY_AUTH_CACHE_SIZE);
+        AUTH_CACHE_TTL_MILLIS = p.getInt(PROPERTY_AUTH_CACHE_TTL_MILLIS);
 
         SERVICE_CONFIG = createServiceConfig();
     }
@@ -234,6 +269,8 @@ public final class Config {
                                    .tlsKeyStoreFilePath(Config.TLS_KEY_FILE)
                                    .tlsKeyStorePasswordFilePath(Config.TLS_KEY_PASSWORD_FILE)
                                    .disablePasswordAuth(Config.DISABLE_BASIC_AUTHENTICATION)
+                                   .authCacheSize(Config.AUTH_CACHE_SIZE)
+                                   .authCacheTtlMillis(Config.AUTH_CACHE_TTL_MILLIS)
                                    .build();
     }
 
@@ -0,0 +1,240 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.service;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import io.pravega.common.concurrent.Futures;
+import io.pravega.schemaregistry.contract.data.SchemaInfo;
+import io.pravega.schemaregistry.contract.data.VersionInfo;
+import io.pravega.schemaregistry.exceptions.ServiceUnavailableException;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Sequences writes to a group within this service instance.
+ * Every write to a group conditionally updates the group's etag, so concurrent writes to the same group would otherwise
+ * fail with write conflicts and be retried with backoff. Instead, writes to a group are queued and executed one at a time.
+ * Consecutive schema additions that queue up behind an in-flight write are group committed with a single batch write.
+ * If the batch fails, its schemas are added one at a time so that a failing schema does not fail the other schemas in
+ * the batch. Other writes, such as creating encoding ids, adding codec types, updating compatibility and deleting
+ * schemas, are only sequenced and each of them is executed with its own write.
+ * At most maxQueued writes wait in the queue of a group. Further writes are rejected with
+ * {@link ServiceUnavailableException} so that a burst of writes to a group does not queue up without bound. 
+ * Writes from other service instances are still detected through the etag and retried by the callers.
+ */
+@Slf4j
+class GroupWriteSequencer {
+    private final ConcurrentHashMap<GroupKey, GroupQueue> queues;
+    private final Executor executor;
+    private final int maxSchemasPerBatch;
+    private final int maxQueued;
+
+    GroupWriteSequencer(Executor executor, int maxSchemasPerBatch, int maxQueued) {
+        Preconditions.checkArgument(maxQueued > 0, "maxQueued should be positive");
+        this.queues = new ConcurrentHashMap<>();
+        this.executor = executor;
+        this.maxSchemasPerBatch = maxSchemasPerBatch;
+        this.maxQueued = maxQueued;
+    }
+
+    /**
+     * Runs the write after all previously queued writes to the group have completed.
+     *
+     * @param namespace namespace
+     * @param group group
+     * @param write write to run
+     * @param <T> type of result
+     * @return CompletableFuture which is completed with the result of the write. It fails with 
+     * {@link ServiceUnavailableException} if the queue of the group is full.
+     */
+    <T> CompletableFuture<T> run(String namespace, String group, Supplier<CompletableFuture<T>> write) {
+        Task<T> task = new Task<>(write);
+        submit(new GroupKey(namespace, group), task);
+        return task.getResult();
+    }
+
+    /**
+     * Adds the schema after all previously queued writes to the group have completed. Schema additions that are queued
+     * together are added with a single call to the batch writer. If the batch write fails, each schema in the batch is
+     * added individually with the single writer.
+     *
+     * @param namespace namespace
+     * @param group group
+     * @param schemaInfo schema to add
+     * @param batchWriter writer that adds a list of schemas and returns their versions in the same order.
+     * @param singleWriter writer that adds a single schema.
+     * @return CompletableFuture which is completed with the version of the schema. It fails with 
+     * {@link ServiceUnavailableException} if the queue of the group is full.
+     */
+    CompletableFuture<VersionInfo> addSchema(String namespace, String group, SchemaInfo schemaInfo,
+                                             Function<List<SchemaInfo>, CompletableFuture<List<VersionInfo>>> batchWriter,
+                                             Function<SchemaInfo, CompletableFuture<VersionInfo>> singleWriter) {
+        SchemaAddition addition = new SchemaAddition(schemaInfo, batchWriter, singleWriter);
+        submit(new GroupKey(namespace, group), addition);
+        return addition.getResult();
+    }
+
+    @VisibleForTesting
+    int getQueueCount() {
+        return queues.size();
+    }
+
+    private void submit(GroupKey key, PendingWrite write) {
+        boolean[] start = new boolean[1];
+        boolean[] rejected = new boolean[1];
+        queues.compute(key, (k, queue) -> {
+            GroupQueue q = queue == null ? new GroupQueue() : queue;
+            if (q.pending.size() >= maxQueued) {
+                rejected[0] = true;
+                return q;
+            }
+            q.pending.add(write);
+            start[0] = !q.running;
+            q.running = true;
+            return q;
+        });
+        if (rejected[0]) {
+            log.warn("Write to group {} {} rejected as {} writes are already queued.", key.getNamespace(), key.getGroup(), maxQueued);
+            write.getResult().completeExceptionally(new ServiceUnavailableException(
+                    String.format("Too many writes queued for group %s.", key.getGroup())));
+        } else if (start[0]) {
+            executor.execute(() -> drain(key));
+        }
+    }
+
+    /**
+     * Takes the next batch of writes from the queue of the group and executes it. Once the batch completes, the next
+     * batch is taken. The queue is removed when it has no pending writes.
+     */
+    private void drain(GroupKey key) {
+        List<PendingWrite> batch = new ArrayList<>();
+        queues.computeIfPresent(key, (k, q) -> {
+            PendingWrite head = q.pending.poll();
+            if (head == null) {
+                return null;
+            }
+            batch.add(head);
+            if (head instanceof SchemaAddition) {
+                while (batch.size() < maxSchemasPerBatch && q.pending.peek() instanceof SchemaAddition) {
+                    batch.add(q.pending.poll());
+                }
+            }
+            return q;
+        });
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        CompletableFuture<Void> future = batch.get(0) instanceof SchemaAddition
+                ? addSchemas(batch.stream().map(x -> (SchemaAddition) x).collect(Collectors.toList()))
+                : ((Task<?>) batch.get(0)).execute();
+        future.whenCompleteAsync((r, e) -> drain(key), executor);
+    }
+
+    private CompletableFuture<Void> addSchemas(List<SchemaAddition> batch) {
+        if (batch.size() == 1) {
+            return batch.get(0).executeSingle();
+        }
+        List<SchemaInfo> schemas = batch.stream().map(SchemaAddition::getSchemaInfo).collect(Collectors.toList());
+        CompletableFuture<List<VersionInfo>> batchFuture;
+        try {
+            batchFuture = batch.get(0).getBatchWriter().apply(schemas);
+        } catch (Exception e) {
+            batchFuture = Futures.failedFuture(e);
+        }
+        return batchFuture.handle((versions, e) -> {
+            if (e == null) {
+                for (int i = 0; i < batch.size(); i++) {
+                    batch.get(i).getResult().complete(versions.get(i));
+                }
+                return CompletableFuture.<Void>completedFuture(null);
+            } else {
+                // resolve the schemas one at a time so that only the schemas that cannot be added fail.
+                log.debug("group commit of {} schemas failed. adding schemas individually.", batch.size(), e);
+                CompletableFuture<Void> chain = CompletableFuture.completedFuture(null);
+                for (SchemaAddition addition : batch) {
+                    chain = chain.thenCompose(v -> addition.executeSingle());
+                }
+                return chain;
+            }
+        }).thenCompose(x -> x);
+    }
+
+    private static <T> CompletableFuture<Void> execute(Supplier<CompletableFuture<T>> write, CompletableFuture<T> result) {
+        CompletableFuture<T> future;
+        try {
+            future = write.get();
+        } catch (Exception e) {
+            future = Futures.failedFuture(e);
+        }
+        return future.handle((r, e) -> {
+            if (e == null) {
+                result.complete(r);
+            } else {
+                result.completeExceptionally(e);
+            }
+            return null;
+        });
+    }
+
+    @Data
+    private static class GroupKey {
+        private final String namespace;
+        private final String group;
+    }
+
+    private static class GroupQueue {
+        private final LinkedList<PendingWrite> pending = new LinkedList<>();
+        private boolean running = false;
+    }
+
+    private interface PendingWrite {
+        CompletableFuture<?> getResult();
+    }
+
+    @Data
+    private static class Task<T> implements PendingWrite {
+        private final Supplier<CompletableFuture<T>> write;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+
+        /**
+         * Executes the write and completes the result. The returned future always completes normally.
+         */
+        CompletableFuture<Void> execute() {
+            return GroupWriteSequencer.execute(write, result);
+        }
+    }
+
+    @Data
+    private static class SchemaAddition implements PendingWrite {
+        private final SchemaInfo schemaInfo;
+        private final Function<List<SchemaInfo>, CompletableFuture<List<VersionInfo>>> batchWriter;
+        private final Function<SchemaInfo, CompletableFuture<VersionInfo>> singleWriter;
+        private final CompletableFuture<VersionInfo> result = new CompletableFuture<>();
+
+        /**
+         * Adds the schema with the single writer and completes the result. The returned future always completes normally.
+         */
+        CompletableFuture<Void> executeSingle() {
+            return execute(() -> singleWriter.apply(schemaInfo), result);
+        }
+    }
+}
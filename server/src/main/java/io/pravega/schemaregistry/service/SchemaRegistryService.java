@@ -43,6 +43,7 @@ import io.pravega.schemaregistry.exceptions.SerializationFormatMismatchException
 import io.pravega.schemaregistry.rules.CompatibilityChecker;
 import io.pravega.schemaregistry.rules.CompatibilityCheckerFactory;
 import io.pravega.schemaregistry.storage.ContinuationToken;
+import io.pravega.schemaregistry.storage.Etag;
 import io.pravega.schemaregistry.storage.SchemaStore;
 import io.pravega.schemaregistry.storage.StoreExceptions;
 import lombok.extern.slf4j.Slf4j;
@@ -57,12 +58,16 @@ import java.io.IOException;
 import java.math.BigInteger;
 import java.nio.ByteBuffer;
 import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static io.pravega.schemaregistry.contract.data.BackwardAndForward.BackwardTransitive;
 import static io.pravega.schemaregistry.contract.data.BackwardAndForward.ForwardTransitive;
@@ -76,7 +81,7 @@ import static io.pravega.schemaregistry.contract.data.BackwardAndForward.Backwar
  */
 @Slf4j
 public class SchemaRegistryService {
-    private static final Retry.RetryAndThrowConditionally RETRY = Retry.withExpBackoff(1, 2, Integer.MAX_VALUE, 100)
+    private static final Retry.RetryAndThrowConditionally RETRY = Retry.withExpBackoff(1, 2, Config.WRITE_CONFLICT_MAX_ATTEMPTS, 100)
                                                                        .retryWhen(x -> Exceptions.unwrap(x) instanceof StoreExceptions.WriteConflictException);
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
     private static final VersionInfo EMPTY_VERSION = new VersionInfo("", "", -1, -1);
@@ -89,10 +94,13 @@ public class SchemaRegistryService {
     private final SchemaStore store;
 
     private final ScheduledExecutorService executor;
+    
+    private final GroupWriteSequencer writeSequencer;
 
     public SchemaRegistryService(SchemaStore store, ScheduledExecutorService executor) {
         this.store = store;
         this.executor = executor;
+        this.writeSequencer = new GroupWriteSequencer(executor, Config.GROUP_COMMIT_MAX_SCHEMAS, Config.GROUP_WRITE_MAX_QUEUED);
     }
 
     /**
@@ -110,13 +118,10 @@ public class SchemaRegistryService {
                         store.listGroups(namespace, c, l)
                              .thenCompose(reply -> {
                                  List<String> list = reply.getList();
-                                 return Futures.allOfWithResults(list.stream().map(x -> 
-                                         Futures.exceptionallyExpecting(store.getGroupProperties(namespace, x),
-                                         e -> Exceptions.unwrap(e) instanceof StoreExceptions.DataNotFoundException,
-                                         null)
-                                                .thenApply(prop -> new AbstractMap.SimpleEntry<>(x, prop)))
-                                                                     .collect(Collectors.toList()))
-                                               .thenApply(result -> new AbstractMap.SimpleEntry<>(reply.getToken(), result));
+                                 return store.getGroupsProperties(namespace, list)
+                                             .thenApply(properties -> list.stream().map(x -> new AbstractMap.SimpleEntry<>(x, properties.get(x)))
+                                                                          .collect(Collectors.toList()))
+                                             .thenApply(result -> new AbstractMap.SimpleEntry<>(reply.getToken(), result));
                              }),
                 x -> x.getValue() != null, continuationToken, limit, executor)
                              .thenApply(groupsList -> {
@@ -156,6 +161,43 @@ public class SchemaRegistryService {
                     });
     }
 
+    /**
+     * Gets the entity tag of the group. The entity tag changes with every update to the group and can be used by callers 
+     * to detect whether the group's schemas, codec types or properties may have changed since they were last read. 
+     *
+     * @param namespace namespace for which the request is scoped to.
+     * @param group Name of group.
+     * @return CompletableFuture which when completed will hold the entity tag of the group.
+     */
+    public CompletableFuture<Etag> getGroupEtag(String namespace, String group) {
+        Preconditions.checkArgument(group != null);
+        return store.getGroupEtag(namespace, group);
+    }
+
+    /**
+     * Gets the id of the incarnation of the group. A group that is deleted and recreated with the same name gets a new 
+     * incarnation id, while its encoding ids and schema versions are assigned afresh starting from the same values. 
+     * Callers that keep encoding ids of a group beyond the lifetime of a single client can use it to detect that the 
+     * group was recreated. 
+     *
+     * @param namespace namespace for which the request is scoped to.
+     * @param group Name of group.
+     * @return CompletableFuture which when completed will hold the incarnation id of the group.
+     */
+    public CompletableFuture<String> getGroupIncarnation(String namespace, String group) {
+        Preconditions.checkArgument(group != null);
+        log.debug("getGroupIncarnation called for group {} {}.", namespace, group);
+        return store.getGroupEtag(namespace, group)
+                    .thenApply(Etag::getGroupId)
+                    .whenComplete((r, e) -> {
+                        if (e == null) {
+                            log.debug("Group {} {} incarnation {}.", namespace, group, r);
+                        } else {
+                            log.warn("getGroupIncarnation for group {} {} request failed with error", namespace, group, e);
+                        }
+                    });
+    }
+
     /**
      * Gets group's properties.
      * {@link GroupProperties#getSerializationFormat()} which identifies the serialization format used to describe the schema.
@@ -196,7 +238,7 @@ public class SchemaRegistryService {
         Preconditions.checkArgument(group != null);
         Preconditions.checkArgument(compatibility != null);
         log.debug("updateCompatibility called for group {} {}. New compatibility {}", namespace, group, compatibility);
-        return RETRY.runAsync(() -> store.getGroupEtag(namespace, group)
+        return writeSequencer.run(namespace, group, () -> RETRY.runAsync(() -> store.getGroupEtag(namespace, group)
                                          .thenCompose(pos -> {
                                              return store.getGroupProperties(namespace, group)
                                                          .thenCompose(prop -> {
@@ -217,7 +259,7 @@ public class SchemaRegistryService {
                                              } else {
                                                  log.warn("getGroupProperties for group {} {} request failed with error", namespace, group, e);
                                              }
-                                         }), executor);
+                                         }), executor));
     }
 
     /**
@@ -265,6 +307,23 @@ public class SchemaRegistryService {
         Preconditions.checkArgument(schemaInfo != null);
         log.debug("addSchema called for group {} {}. schema {}", namespace, group, schemaInfo.getType());
         SchemaInfo schema = normalizeSchemaBinary(schemaInfo);
+        // Schemas that are already registered are returned without queueing behind writes to the group. 
+        // New schemas are added through the group's write sequencer which group commits concurrently added schemas.
+        return Futures.exceptionallyComposeExpecting(store.getSchemaVersion(namespace, group, schema, getFingerprint(schema)),
+                e -> Exceptions.unwrap(e) instanceof StoreExceptions.DataNotFoundException,
+                () -> writeSequencer.addSchema(namespace, group, schemaInfo,
+                        schemas -> writeSchemas(namespace, group, schemas),
+                        x -> writeSchema(namespace, group, schemaInfo, schema)))
+                    .whenComplete((r, e) -> {
+                        if (e == null) {
+                            log.debug("Group {} {}, schema {} added successfully.", namespace, group, schema.getType());
+                        } else {
+                            log.warn("Group {} {}, schema {} add failed with error", namespace, group, e);
+                        }
+                    });
+    }
+
+    private CompletableFuture<VersionInfo> writeSchema(String namespace, String group, SchemaInfo schemaInfo, SchemaInfo schema) {
         // 1. get group policy
         // 2. get checker for serialization format.
         // validate schema against group compatibility policy on schema
@@ -288,14 +347,90 @@ public class SchemaRegistryService {
                                                                       getFingerprint(schema), prop, etag);
                                                           });
                                               });
-                                  })), executor)
-                    .whenComplete((r, e) -> {
-                        if (e == null) {
-                            log.debug("Group {} {}, schema {} added successfully.", namespace, group, schema.getType());
-                        } else {
-                            log.warn("Group {} {}, schema {} add failed with error", namespace, group, e);
-                        }
-                    });
+                                  })), executor);
+    }
+
+    /**
+     * Adds schemas to the group. Schemas are validated in the order in which they are supplied against the schemas 
+     * in the group and the schemas that precede them in the list, subject to the group's compatibility policy. 
+     * All new schemas are then added to the group in a single conditional update. Schemas that are already registered 
+     * are not added again and their existing versions are returned. 
+     * If any of the schemas is incompatible, none of the schemas are added. 
+     *
+     * @param namespace namespace for which the request is scoped to.
+     * @param group     Name of group.
+     * @param schemaInfos    Schemas to add.
+     * @return CompletableFuture that holds versionInfos for the schemas in the same order as schemaInfos.
+     */
+    public CompletableFuture<List<VersionInfo>> addSchemas(String namespace, String group, List<SchemaInfo> schemaInfos) {
+        Preconditions.checkArgument(group != null);
+        Preconditions.checkArgument(schemaInfos != null && !schemaInfos.isEmpty());
+        log.debug("addSchemas called for group {} {}. number of schemas {}", namespace, group, schemaInfos.size());
+        List<SchemaInfo> schemas = schemaInfos.stream().map(this::normalizeSchemaBinary).collect(Collectors.toList());
+        return writeSequencer.run(namespace, group, () -> writeSchemas(namespace, group, schemaInfos, schemas))
+                             .whenComplete((r, e) -> {
+                                 if (e == null) {
+                                     log.debug("Group {} {}, schemas added successfully.", namespace, group);
+                                 } else {
+                                     log.warn("Group {} {}, schemas add failed with error", namespace, group, e);
+                                 }
+                             });
+    }
+
+    private CompletableFuture<List<VersionInfo>> writeSchemas(String namespace, String group, List<SchemaInfo> schemaInfos) {
+        return writeSchemas(namespace, group, schemaInfos, 
+                schemaInfos.stream().map(this::normalizeSchemaBinary).collect(Collectors.toList()));
+    }
+
+    private CompletableFuture<List<VersionInfo>> writeSchemas(String namespace, String group, List<SchemaInfo> schemaInfos, 
+                                                              List<SchemaInfo> schemas) {
+        // 1. get group policy
+        // 2. get versions of schemas that are already registered
+        // 3. validate remaining schemas against group compatibility policy 
+        // 4. conditionally update all new schemas
+        return RETRY.runAsync(() ->
+                store.getGroupEtag(namespace, group)
+                     .thenCompose(etag ->
+                             store.getGroupProperties(namespace, group)
+                                  .thenCompose(prop -> Futures.allOfWithResults(schemas.stream().map(schema -> 
+                                          Futures.exceptionallyExpecting(store.getSchemaVersion(namespace, group, schema, getFingerprint(schema)),
+                                                  e -> Exceptions.unwrap(e) instanceof StoreExceptions.DataNotFoundException, EMPTY_VERSION))
+                                                                                              .collect(Collectors.toList()))
+                                          .thenCompose(existing -> {
+                                              // schemas that are not registered yet. duplicates within the list are added once. 
+                                              Map<SchemaInfo, Integer> toAdd = new LinkedHashMap<>();
+                                              for (int i = 0; i < schemas.size(); i++) {
+                                                  if (existing.get(i).equals(EMPTY_VERSION)) {
+                                                      toAdd.putIfAbsent(schemas.get(i), i);
+                                                  }
+                                              }
+                                              if (toAdd.isEmpty()) {
+                                                  return CompletableFuture.completedFuture(existing);
+                                              }
+                                              List<SchemaInfo> normalized = new ArrayList<>(toAdd.keySet());
+                                              return validateSchemas(namespace, group, normalized, prop)
+                                                      .thenCompose(v -> {
+                                                          // we will compute the fingerprint from normalized form.
+                                                          List<SchemaInfo> withTypes = toAdd.entrySet().stream().map(x -> {
+                                                              SchemaInfo schemaInfo = schemaInfos.get(x.getValue());
+                                                              return new SchemaInfo(x.getKey().getType(), schemaInfo.getSerializationFormat(), 
+                                                                      schemaInfo.getSchemaData(), schemaInfo.getProperties());
+                                                          }).collect(Collectors.toList());
+                                                          List<BigInteger> fingerprints = normalized.stream().map(this::getFingerprint)
+                                                                                                    .collect(Collectors.toList());
+                                                          return store.addSchemas(namespace, group, withTypes, normalized, fingerprints, prop, etag);
+                                                      })
+                                                      .thenApply(added -> {
+                                                          Map<SchemaInfo, VersionInfo> addedVersions = new HashMap<>();
+                                                          for (int i = 0; i < normalized.size(); i++) {
+                                                              addedVersions.put(normalized.get(i), added.get(i));
+                                                          }
+                                                          return IntStream.range(0, schemas.size())
+                                                                          .mapToObj(i -> existing.get(i).equals(EMPTY_VERSION) ? 
+                                                                                  addedVersions.get(schemas.get(i)) : existing.get(i))
+                                                                          .collect(Collectors.toList());
+                                                      });
+                                          }))), executor);
     }
 
     /**
@@ -352,7 +487,7 @@ public class SchemaRegistryService {
      */
     public CompletableFuture<Void> deleteSchema(String namespace, String group, int schemaId) {
         log.debug("Group {} {}, delete schema for version {} .", namespace, group, schemaId);
-        return RETRY.runAsync(() -> store.getGroupEtag(namespace, group)
+        return writeSequencer.run(namespace, group, () -> RETRY.runAsync(() -> store.getGroupEtag(namespace, group)
                                          .thenCompose(etag ->
                                                  store.deleteSchema(namespace, group, schemaId, etag)
                                                       .whenComplete((r, e) -> {
@@ -361,7 +496,7 @@ public class SchemaRegistryService {
                                                           } else {
                                                               log.warn("Group {} {}, get schema version {} failed with error", namespace, group, schemaId, e);
                                                           }
-                                                      })), executor);
+                                                      })), executor));
     }
 
     /**
@@ -376,7 +511,7 @@ public class SchemaRegistryService {
      */
     public CompletableFuture<Void> deleteSchema(String namespace, String group, String serializationFormat, String schemaType, int version) {
         log.debug("Group {} {}, delete schema for version {}/{}.", namespace, group, schemaType, version);
-        return RETRY.runAsync(() -> store.getGroupEtag(namespace, group)
+        return writeSequencer.run(namespace, group, () -> RETRY.runAsync(() -> store.getGroupEtag(namespace, group)
                                          .thenCompose(etag ->
                                                  store.deleteSchema(namespace, group, schemaType, version, serializationFormat, etag)
                                                       .whenComplete((r, e) -> {
@@ -385,7 +520,7 @@ public class SchemaRegistryService {
                                                           } else {
                                                               log.warn("Group {} {}, get schema version {}/{} failed with error", namespace, group, schemaType, version, e);
                                                           }
-                                                      })), executor);
+                                                      })), executor));
     }
 
     /**
@@ -413,6 +548,34 @@ public class SchemaRegistryService {
                     });
     }
 
+    /**
+     * Gets the encoding infos of consecutive encoding ids starting at fromId, which lets callers load the encodings of 
+     * a group with a few requests instead of one request per encoding id. Encoding ids of a group are assigned 
+     * consecutively starting at zero, so the list ends before the first encoding id that does not exist. 
+     *
+     * @param namespace  namespace for which the request is scoped to.
+     * @param group      Name of group.
+     * @param fromId     first encoding id.
+     * @param limit      maximum number of encoding ids.
+     * @return CompletableFuture that holds the encoding infos of encoding ids fromId, fromId + 1 ...
+     */
+    public CompletableFuture<List<EncodingInfo>> getEncodingInfos(String namespace, String group, int fromId, int limit) {
+        Preconditions.checkArgument(group != null);
+        Preconditions.checkArgument(fromId >= 0, "fromId should not be negative");
+        Preconditions.checkArgument(limit > 0, "limit should be positive");
+
+        log.debug("Group {} {}, getEncodingInfos from {} with limit {}.", namespace, group, fromId, limit);
+
+        return store.getEncodingInfos(namespace, group, fromId, limit)
+                    .whenComplete((r, e) -> {
+                        if (e == null) {
+                            log.debug("Group {} {}, getEncodingInfos returning {} encodings.", namespace, group, r.size());
+                        } else {
+                            log.warn("Group {} {}, getEncodingInfos from {} failed with error", namespace, group, fromId, e);
+                        }
+                    });
+    }
+
     /**
      * Gets an encoding id that uniquely identifies a combination of Schema version and codec type.
      *
@@ -428,16 +591,23 @@ public class SchemaRegistryService {
         Preconditions.checkArgument(codecType != null);
         log.debug("Group {} {}, getEncodingId for {} {}.", namespace, group, version, codecType);
 
-        return RETRY.runAsync(() -> {
-            return store.getEncodingId(namespace, group, version, codecType)
-                        .thenCompose(response -> {
-                            if (response.isLeft()) {
-                                return CompletableFuture.completedFuture(response.getLeft());
-                            } else {
-                                return store.createEncodingId(namespace, group, version, codecType, response.getRight());
-                            }
-                        });
-        }, executor)
+        // Existing encoding ids are returned without queueing behind writes to the group. 
+        return store.getEncodingId(namespace, group, version, codecType)
+                    .thenCompose(existing -> {
+                        if (existing.isLeft()) {
+                            return CompletableFuture.completedFuture(existing.getLeft());
+                        }
+                        return writeSequencer.run(namespace, group, () -> RETRY.runAsync(() -> {
+                            return store.getEncodingId(namespace, group, version, codecType)
+                                        .thenCompose(response -> {
+                                            if (response.isLeft()) {
+                                                return CompletableFuture.completedFuture(response.getLeft());
+                                            } else {
+                                                return store.createEncodingId(namespace, group, version, codecType, response.getRight());
+                                            }
+                                        });
+                        }, executor));
+                    })
                     .whenComplete((r, e) -> {
                         if (e == null) {
                             log.debug("Group {} {}, getEncodingId for {} {}. returning {}.", namespace, group, version, codecType, r);
@@ -447,6 +617,66 @@ public class SchemaRegistryService {
                     });
     }
 
+    /**
+     * Gets encoding ids for a list of combinations of schema version and codec type. Encoding ids that do not exist yet 
+     * are generated as a contiguous range with a single update to the group.
+     *
+     * @param namespace namespace for which the request is scoped to.
+     * @param group     Name of group.
+     * @param encodings list of pairs of schema version and codec type.
+     * @return CompletableFuture that holds encoding ids in the same order as the pairs of version and codec type.
+     */
+    public CompletableFuture<List<EncodingId>> getEncodingIds(String namespace, String group, 
+                                                              List<Map.Entry<VersionInfo, String>> encodings) {
+        Preconditions.checkArgument(group != null);
+        Preconditions.checkArgument(encodings != null && !encodings.isEmpty());
+        Preconditions.checkArgument(encodings.stream().allMatch(x -> x.getKey() != null && x.getValue() != null));
+        log.debug("Group {} {}, getEncodingIds for {} encodings.", namespace, group, encodings.size());
+
+        // Existing encoding ids are returned without queueing behind writes to the group. 
+        return store.getEncodingIds(namespace, group, encodings)
+                    .thenCompose(existing -> {
+                        if (existing.isLeft()) {
+                            return CompletableFuture.completedFuture(existing.getLeft());
+                        }
+                        return writeSequencer.run(namespace, group, () -> RETRY.runAsync(() -> {
+                            return store.getEncodingIds(namespace, group, encodings)
+                                        .thenCompose(response -> {
+                                            if (response.isLeft()) {
+                                                return CompletableFuture.completedFuture(response.getLeft());
+                                            } else {
+                                                return store.createEncodingIds(namespace, group, encodings, response.getRight());
+                                            }
+                                        });
+                        }, executor));
+                    })
+                    .whenComplete((r, e) -> {
+                        if (e == null) {
+                            log.debug("Group {} {}, getEncodingIds returning {}.", namespace, group, r);
+                        } else {
+                            log.warn("Group {} {}, getEncodingIds failed with error", namespace, group, e);
+                        }
+                    });
+    }
+
+    /**
+     * Adds schema to the group if it is not already added and gets the encoding id for the combination of the schema's 
+     * version and the codec type. 
+     * This allows a writer to register its schema and obtain the encoding id for it with a single request. 
+     *
+     * @param namespace  namespace for which the request is scoped to.
+     * @param group      Name of group.
+     * @param schemaInfo Schema to add.
+     * @param codecType  codec type
+     * @return CompletableFuture that holds Encoding id for the pair of the schema's version and codec type.
+     */
+    public CompletableFuture<EncodingId> addSchemaAndGetEncodingId(String namespace, String group, SchemaInfo schemaInfo, 
+                                                                   String codecType) {
+        Preconditions.checkArgument(codecType != null);
+        return addSchema(namespace, group, schemaInfo)
+                .thenCompose(version -> getEncodingId(namespace, group, version, codecType));
+    }
+
     /**
      * Gets all schemas with corresponding versions for the group (or type, if specified).
      * If type is not specified all schemas with their respective versions in the group are listed.
@@ -484,6 +714,45 @@ public class SchemaRegistryService {
         }
     }
 
+    /**
+     * Gets a page of the group's history (or of the type's history, if type is specified) with pagination. 
+     * The order in the list matches the order in which schemas were evolved within the group.
+     *
+     * @param namespace         namespace for which the request is scoped to.
+     * @param group             Name of group.
+     * @param type              Object type identified by {@link SchemaInfo#getType()}.
+     * @param continuationToken continuation token.
+     * @param limit             max number of records to return.
+     * @return CompletableFuture that holds the page of history records and the continuation token for the next page.
+     */
+    public CompletableFuture<ResultPage<GroupHistoryRecord, ContinuationToken>> getGroupHistory(String namespace, String group, @Nullable String type,
+                                                                                                ContinuationToken continuationToken, int limit) {
+        Preconditions.checkArgument(group != null);
+        Preconditions.checkArgument(limit > 0, "limit should be positive");
+        log.debug("Group {} {}, getGroupHistory for {} from {} with limit {}.", namespace, group, type, continuationToken, limit);
+        return store.getGroupHistory(namespace, group, type, continuationToken, limit);
+    }
+
+    /**
+     * Gets a page of schemas with corresponding versions for the group (or type, if specified) with pagination. 
+     * This is the same as {@link #getGroupHistory(String, String, String, ContinuationToken, int)} without the 
+     * compatibility policies and string representations of the schemas. 
+     *
+     * @param namespace         namespace for which the request is scoped to.
+     * @param group             Name of group.
+     * @param type              Object type identified by {@link SchemaInfo#getType()}.
+     * @param continuationToken continuation token.
+     * @param limit             max number of schemas to return.
+     * @return CompletableFuture that holds the page of schemas with versions and the continuation token for the next page.
+     */
+    public CompletableFuture<ResultPage<SchemaWithVersion, ContinuationToken>> getSchemaVersions(String namespace, String group, @Nullable String type,
+                                                                                                 ContinuationToken continuationToken, int limit) {
+        Preconditions.checkArgument(group != null);
+        Preconditions.checkArgument(limit > 0, "limit should be positive");
+        log.debug("Group {} {}, getSchemaVersions for {} from {} with limit {}.", namespace, group, type, continuationToken, limit);
+        return store.getSchemaVersions(namespace, group, type, continuationToken, limit);
+    }
+
     /**
      * Gets version corresponding to the schema.
      * For each unique {@link SchemaInfo#getSchemaData()}, there will be a unique monotonically increasing version assigned.
@@ -633,7 +902,7 @@ public class SchemaRegistryService {
 
         log.debug("Group {} {}, addCodecType {}.", namespace, group, codecType);
 
-        return store.addCodecType(namespace, group, codecType)
+        return writeSequencer.run(namespace, group, () -> store.addCodecType(namespace, group, codecType))
                     .whenComplete((r, e) -> {
                         if (e == null) {
                             log.debug("Group {} {}, addCodecType {} successful", namespace, group, codecType);
@@ -681,6 +950,73 @@ public class SchemaRegistryService {
         }
     }
 
+    /**
+     * Validates schemas that are added together. Each schema is validated against the schemas in the group and against 
+     * the schemas that precede it in the list, as if the preceding schemas had already been added to the group.
+     */
+    private CompletableFuture<Void> validateSchemas(String namespace, String group, List<SchemaInfo> schemas, GroupProperties prop) {
+        for (SchemaInfo schema : schemas) {
+            if (!prop.getSerializationFormat().equals(SerializationFormat.Any) &&
+                    !schema.getSerializationFormat().equals(prop.getSerializationFormat())) {
+                throw new SerializationFormatMismatchException(schema.getSerializationFormat().name());
+            }
+        }
+        // schemas in the group are fetched once per type when the group allows multiple types, and once otherwise. 
+        Map<String, CompletableFuture<List<SchemaWithVersion>>> storedSchemas = new HashMap<>();
+        List<CompletableFuture<List<SchemaWithVersion>>> futures = schemas
+                .stream().map(schema -> storedSchemas.computeIfAbsent(prop.isAllowMultipleTypes() ? schema.getType() : "",
+                        k -> getSchemasForValidation(namespace, group, schema, prop)))
+                .collect(Collectors.toList());
+        return Futures.allOfWithResults(futures)
+                      .thenAccept(stored -> {
+                          for (int i = 0; i < schemas.size(); i++) {
+                              SchemaInfo schema = schemas.get(i);
+                              List<SchemaInfo> preceding = schemas.subList(0, i).stream()
+                                                                  .filter(x -> !prop.isAllowMultipleTypes() || x.getType().equals(schema.getType()))
+                                                                  .collect(Collectors.toList());
+                              if (!checkCompatibility(schema, prop, withPrecedingSchemas(stored.get(i), preceding, prop.getCompatibility()))) {
+                                  throw new IncompatibleSchemaException(String.format("%s is incompatible", schema.getType()));
+                              }
+                          }
+                      });
+    }
+
+    /**
+     * Combines the schemas fetched from the group for validation with the schemas that precede a schema in a batch. 
+     * Preceding schemas are newer than any schema in the group, so for policies that only compare with the latest schema 
+     * the last preceding schema replaces the schemas from the group. 
+     */
+    private List<SchemaWithVersion> withPrecedingSchemas(List<SchemaWithVersion> stored, List<SchemaInfo> preceding, 
+                                                         Compatibility compatibility) {
+        if (preceding.isEmpty()) {
+            return stored;
+        }
+        // preceding schemas are not assigned versions yet. they are given the highest version so that they are 
+        // included by the till policies. 
+        List<SchemaWithVersion> precedingWithVersion = preceding
+                .stream().map(x -> new SchemaWithVersion(x, new VersionInfo(x.getType(), 
+                        x.getSerializationFormat().getFullTypeName(), Integer.MAX_VALUE, Integer.MAX_VALUE)))
+                .collect(Collectors.toList());
+        switch (compatibility.getType()) {
+            case AllowAny:
+            case DenyAll:
+                break;
+            default:
+                BackwardAndForward backwardAndForward = convertToBackwardAndForward(compatibility);
+                BackwardPolicy backward = backwardAndForward.getBackwardPolicy();
+                ForwardPolicy forward = backwardAndForward.getForwardPolicy();
+                boolean latestOnly = !(backward instanceof BackwardTransitive || forward instanceof ForwardTransitive
+                        || backward instanceof BackwardTill || forward instanceof ForwardTill);
+                if (latestOnly) {
+                    return Collections.singletonList(precedingWithVersion.get(precedingWithVersion.size() - 1));
+                }
+                break;
+        }
+        List<SchemaWithVersion> result = new ArrayList<>(stored);
+        result.addAll(precedingWithVersion);
+        return result;
+    }
+
     private CompletableFuture<List<SchemaWithVersion>> getSchemasForBackwardAndForwardPolicy(String namespace, String group, SchemaInfo schema, GroupProperties groupProperties) {
         CompletableFuture<List<SchemaWithVersion>> schemasFuture;
 
@@ -16,4 +16,14 @@ package io.pravega.schemaregistry.storage;
  */
 public interface Etag<T> {
     T etag();
+
+    /**
+     * Identifies the incarnation of the group the entity tag was read from. A group that is deleted and recreated with 
+     * the same name gets a new id, while its entity tags may repeat those of the deleted group. 
+     * 
+     * @return id of the group, or empty string if it is not known.
+     */
+    default String getGroupId() {
+        return "";
+    }
 }
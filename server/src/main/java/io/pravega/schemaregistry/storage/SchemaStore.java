@@ -24,6 +24,7 @@ import io.pravega.schemaregistry.contract.data.VersionInfo;
 import javax.annotation.Nullable;
 import java.math.BigInteger;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -90,6 +91,18 @@ public interface SchemaStore {
      */
     CompletableFuture<GroupProperties> getGroupProperties(String namespace, String group);
 
+    /**
+     * Gets the group properties for a batch of groups in the namespace. This is the bulk equivalent of 
+     * {@link #getGroupProperties} for listing groups. The properties of each group are read atomically but there is no 
+     * atomicity across groups. 
+     * 
+     * @param namespace namespace 
+     * @param groups groups
+     * @return Completable Future which will hold group properties keyed by group name upon completion. Groups that do 
+     * not exist are not included. 
+     */
+    CompletableFuture<Map<String, GroupProperties>> getGroupsProperties(String namespace, List<String> groups);
+
     /**
      * Updates the compatibility policy for the group conditionally (etag). This should be updated atomically. 
      * 
@@ -248,6 +261,23 @@ public interface SchemaStore {
     CompletableFuture<VersionInfo> addSchema(String namespace, String group, SchemaInfo schemaInfo, SchemaInfo normalized,
                                              BigInteger fingerprint, GroupProperties prop, Etag etag);
 
+    /**
+     * Add new schemas to the group atomically. All schemas are assigned ids and versions in the order in which they are 
+     * supplied and are committed with a single conditional update on the group. 
+     *
+     * @param namespace namespace 
+     * @param group group 
+     * @param schemaInfos schemas to add
+     * @param normalized normalized forms of schemas to add, in the same order as schemaInfos.
+     * @param fingerprints 256 bit sha hashes of schema binaries, in the same order as schemaInfos. 
+     * @param prop group properties applied at the time of schema addition.
+     * @param etag entity tag for the group. 
+     * @return Completablefuture that holds version infos for the schemas that are added in the same order as schemaInfos.  
+     */
+    CompletableFuture<List<VersionInfo>> addSchemas(String namespace, String group, List<SchemaInfo> schemaInfos, 
+                                                    List<SchemaInfo> normalized, List<BigInteger> fingerprints, 
+                                                    GroupProperties prop, Etag etag);
+
     /**
      * Get the version corresponding to the schema.  
      *
@@ -285,6 +315,32 @@ public interface SchemaStore {
      */
     CompletableFuture<EncodingId> createEncodingId(String namespace, String group, VersionInfo versionInfo, String codecType, Etag etag);
 
+    /**
+     * Get the encoding ids corresponding to the pairs of versioninfo and codectype. It returns Etag for the group if the 
+     * encoding id does not exist for any of the pairs. 
+     *
+     * @param namespace namespace 
+     * @param group group 
+     * @param encodings list of pairs of versioninfo and codectype
+     * @return Completablefuture that holds encodingIds in the order of the pairs. If any encoding id doesnt exist it returns 
+     * the entity tag identifying the entity state when the encoding id did not exist
+     */
+    CompletableFuture<Either<List<EncodingId>, Etag>> getEncodingIds(String namespace, String group, 
+                                                                     List<Map.Entry<VersionInfo, String>> encodings);
+
+    /**
+     * Create new encoding ids for all pairs that do not have an encoding id atomically. The new encoding ids are 
+     * allocated as a contiguous range. 
+     *
+     * @param namespace namespace 
+     * @param group group 
+     * @param encodings list of pairs of versioninfo and codectype
+     * @param etag entity tag for the group. 
+     * @return Completablefuture that holds encodingIds in the order of the pairs. 
+     */
+    CompletableFuture<List<EncodingId>> createEncodingIds(String namespace, String group, List<Map.Entry<VersionInfo, String>> encodings, 
+                                                          Etag etag);
+
     /**
      * Get encoding id corresponding to the encoding id.    
      * @param namespace namespace 
@@ -294,6 +350,18 @@ public interface SchemaStore {
      */
     CompletableFuture<EncodingInfo> getEncodingInfo(String namespace, String group, EncodingId encodingId);
 
+    /**
+     * Gets the encoding infos of consecutive encoding ids starting at fromId. The list ends before the first encoding 
+     * id that does not exist. 
+     * 
+     * @param namespace namespace 
+     * @param group group 
+     * @param fromId first encoding id 
+     * @param limit maximum number of encoding ids 
+     * @return CompletableFuture that holds the encoding infos of encoding ids fromId, fromId + 1 ... 
+     */
+    CompletableFuture<List<EncodingInfo>> getEncodingInfos(String namespace, String group, int fromId, int limit);
+
     /**
      * Gets list of codec types added to the group atomically. 
      *
@@ -334,6 +402,34 @@ public interface SchemaStore {
      */
     CompletableFuture<List<GroupHistoryRecord>> getGroupHistoryForType(String namespace, String group, String type);
 
+    /**
+     * Gets a page of the schema evolution history of the group starting at the position identified by the continuation 
+     * token. The history is ordered by the order in which schemas were added. 
+     *
+     * @param namespace namespace 
+     * @param group group 
+     * @param type type of schema. If null, schemas of all types are included. 
+     * @param token continuation token identifying the position in history to start from.
+     * @param limit maximum number of records to return. 
+     * @return CompletableFuture that holds the page of group history records and the continuation token for the next page.  
+     */
+    CompletableFuture<ResultPage<GroupHistoryRecord, ContinuationToken>> getGroupHistory(String namespace, String group, @Nullable String type,
+                                                                                         ContinuationToken token, int limit);
+
+    /**
+     * Gets a page of schemas with their versions in the order in which they were added to the group starting at the 
+     * position identified by the continuation token. 
+     *
+     * @param namespace namespace 
+     * @param group group 
+     * @param type type of schema. If null, schemas of all types are included. 
+     * @param token continuation token identifying the position in history to start from.
+     * @param limit maximum number of schemas to return. 
+     * @return CompletableFuture that holds the page of schemas with versions and the continuation token for the next page.  
+     */
+    CompletableFuture<ResultPage<SchemaWithVersion, ContinuationToken>> getSchemaVersions(String namespace, String group, @Nullable String type,
+                                                                                          ContinuationToken token, int limit);
+
     /**
      * Gets list of groups in the given namespace that use the specified schema. 
      * 
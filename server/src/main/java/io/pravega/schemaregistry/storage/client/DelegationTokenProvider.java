@@ -0,0 +1,146 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.storage.client;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Charsets;
+import com.google.common.base.Strings;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Internal class that is responsible for handing out delegation tokens for table segments without blocking the caller.
+ * Tokens are cached per table and at most one token request per table is outstanding at any time. A token that is about
+ * to expire is refreshed in the background while callers continue to be handed the current token until it expires.
+ */
+@Slf4j
+class DelegationTokenProvider {
+    private static final long REFRESH_THRESHOLD_MILLIS = Duration.ofSeconds(30).toMillis();
+    private static final Pattern EXPIRY = Pattern.compile("\"exp\"\\s*:\\s*(\\d+)");
+
+    private final Function<String, CompletableFuture<String>> tokenSupplier;
+    private final Cache<String, Token> tokens;
+    private final LongSupplier clock;
+
+    DelegationTokenProvider(Function<String, CompletableFuture<String>> tokenSupplier, int cacheSize) {
+        this(tokenSupplier, cacheSize, System::currentTimeMillis);
+    }
+
+    @VisibleForTesting
+    DelegationTokenProvider(Function<String, CompletableFuture<String>> tokenSupplier, int cacheSize, LongSupplier clock) {
+        this.tokenSupplier = tokenSupplier;
+        this.clock = clock;
+        this.tokens = CacheBuilder.newBuilder()
+                                  .maximumSize(cacheSize)
+                                  .build();
+    }
+
+    /**
+     * Gets the delegation token for the table.
+     *
+     * @param tableName table name.
+     * @return CompletableFuture which when completed will hold the delegation token for the table.
+     */
+    CompletableFuture<String> getToken(String tableName) {
+        long now = clock.getAsLong();
+        return tokens.asMap().compute(tableName, (k, v) -> {
+            if (v == null || v.getFuture().isCompletedExceptionally()) {
+                return new Token(fetch(k), null);
+            } else if (!v.getFuture().isDone()) {
+                return v;
+            }
+            TokenValue current = v.getFuture().join();
+            if (current.getExpiry() - now > REFRESH_THRESHOLD_MILLIS) {
+                return v;
+            }
+            // refresh the token. Until the new token is available, callers are handed the current token if it has
+            // not expired yet.
+            log.debug("refreshing delegation token for table {}", k);
+            return new Token(fetch(k), current.getExpiry() > now ? current : null);
+        }).get(now);
+    }
+
+    /**
+     * Removes the token for the table so that the next call to {@link #getToken(String)} fetches a new token.
+     *
+     * @param tableName table name.
+     */
+    void invalidate(String tableName) {
+        tokens.invalidate(tableName);
+    }
+
+    private CompletableFuture<TokenValue> fetch(String tableName) {
+        try {
+            return tokenSupplier.apply(tableName).thenApply(token -> new TokenValue(token, getExpiry(token)));
+        } catch (Exception e) {
+            CompletableFuture<TokenValue> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            return failed;
+        }
+    }
+
+    /**
+     * Reads the expiry time from the "exp" claim of a JWT delegation token. Tokens that are empty or do not carry an
+     * expiry never expire.
+     *
+     * @param token delegation token
+     * @return expiry time in milliseconds since epoch.
+     */
+    @VisibleForTesting
+    static long getExpiry(String token) {
+        if (Strings.isNullOrEmpty(token)) {
+            return Long.MAX_VALUE;
+        }
+        String[] parts = token.split("\\.");
+        if (parts.length < 2) {
+            return Long.MAX_VALUE;
+        }
+        try {
+            String payload = new String(Base64.getUrlDecoder().decode(parts[1]), Charsets.UTF_8);
+            Matcher matcher = EXPIRY.matcher(payload);
+            return matcher.find() ? Duration.ofSeconds(Long.parseLong(matcher.group(1))).toMillis() : Long.MAX_VALUE;
+        } catch (IllegalArgumentException | ArithmeticException e) {
+            log.warn("unable to read expiry from delegation token", e);
+            return Long.MAX_VALUE;
+        }
+    }
+
+    @Data
+    private static class TokenValue {
+        private final String token;
+        private final long expiry;
+    }
+
+    @Data
+    private static class Token {
+        private final CompletableFuture<TokenValue> future;
+        /**
+         * Previous token which has not yet expired and can be used while the new token is being fetched.
+         */
+        private final TokenValue previous;
+
+        CompletableFuture<String> get(long now) {
+            if (!future.isDone() && previous != null && previous.getExpiry() > now) {
+                return CompletableFuture.completedFuture(previous.getToken());
+            }
+            return future.thenApply(TokenValue::getToken);
+        }
+    }
+}
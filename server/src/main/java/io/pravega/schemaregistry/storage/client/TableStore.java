@@ -14,6 +14,7 @@ import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.util.concurrent.AbstractService;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
 import io.netty.buffer.Unpooled;
 import io.netty.util.ReferenceCountUtil;
 import io.pravega.client.ClientConfig;
@@ -26,6 +27,7 @@ import io.pravega.client.tables.impl.TableSegmentKey;
 import io.pravega.client.tables.impl.TableSegmentKeyVersion;
 import io.pravega.common.Exceptions;
 import io.pravega.common.concurrent.Futures;
+import io.pravega.common.util.ByteArraySegment;
 import io.pravega.common.util.ContinuationTokenAsyncIterator;
 import io.pravega.common.util.Retry;
 import io.pravega.schemaregistry.ResultPage;
@@ -34,11 +36,12 @@ import io.pravega.schemaregistry.storage.StoreExceptions;
 import io.pravega.shared.security.auth.AccessOperation;
 import lombok.Data;
 import lombok.NonNull;
-import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.InputStream;
 import java.time.Duration;
 import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
@@ -46,8 +49,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
-import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -79,14 +83,15 @@ public class TableStore extends AbstractService {
      */
     private final Cache<TableCacheKey, VersionedRecord<?>> cache;
     /**
-     * Function to get delegation token to talk to segment store.
+     * Reads of cacheable records that are in flight, so that concurrent readers of the same key in a table share one 
+     * request to the store instead of each issuing their own. 
      */
-    private final Function<String, String> tokenSupplier;
+    private final ConcurrentHashMap<TableCacheKey, CompletableFuture<? extends VersionedRecord<?>>> inFlightReads;
     /**
-     * cache to store the delegation token by segment store instance so that we continue to reuse the token until it 
-     * expires, which is when it should be invalidated from the cache explicitly. 
+     * Provides delegation tokens to talk to segment store. Tokens are cached by table and reused until they are about
+     * to expire or are invalidated explicitly. 
      */
-    private final Cache<String, String> tokenCache;
+    private final DelegationTokenProvider tokenProvider;
 
     public TableStore(ClientConfig clientConfig, ScheduledExecutorService executor) {
         this(new WireCommandClient(new ConnectionPoolImpl(clientConfig, new SocketConnectionFactoryImpl(clientConfig)), 
@@ -101,18 +106,15 @@ public class TableStore extends AbstractService {
         this.wireCommandClient = wireCommandClient;
         this.hostStore = wireCommandClient.getHostStore();
         this.executor = executor;
-        this.tokenSupplier = x -> {
+        this.tokenProvider = new DelegationTokenProvider(x -> {
             String[] splits = x.split("/");
-            return hostStore.getController().getOrRefreshDelegationTokenFor(splits[0], splits[1], AccessOperation.READ_WRITE).join();
-        };
+            return hostStore.getController().getOrRefreshDelegationTokenFor(splits[0], splits[1], AccessOperation.READ_WRITE);
+        }, Config.TABLE_SEGMENT_CACHE_SIZE);
         numOfRetries = retryCount;
+        this.inFlightReads = new ConcurrentHashMap<>();
         this.cache = CacheBuilder.newBuilder()
                                  .maximumSize(Config.TABLE_SEGMENT_CACHE_SIZE)
                                  .build();
-
-        tokenCache = CacheBuilder.newBuilder()
-                    .maximumSize(Config.TABLE_SEGMENT_CACHE_SIZE)
-                    .build(); 
     }
 
     @Override
@@ -129,7 +131,8 @@ public class TableStore extends AbstractService {
 
     @Override
     protected void doStop() {
-        
+        wireCommandClient.close();
+        notifyStopped();
     }
 
     private CompletableFuture<Void> createScope() {
@@ -140,8 +143,8 @@ public class TableStore extends AbstractService {
     public CompletableFuture<Void> createTable(String tableName) {
         log.debug("create table called for table: {}", tableName);
 
-        return Futures.toVoid(withRetries(() -> wireCommandClient.createTableSegment(
-                tableName, getToken(tableName)),
+        return Futures.toVoid(withRetries(() -> getToken(tableName).thenCompose(token -> 
+                        wireCommandClient.createTableSegment(tableName, token)),
                 () -> String.format("create table: %s", tableName), tableName))
                       .whenComplete((r, e) -> {
                           if (e != null) {
@@ -154,8 +157,8 @@ public class TableStore extends AbstractService {
 
     public CompletableFuture<Void> deleteTable(String tableName, boolean mustBeEmpty) {
         log.debug("delete table called for table: {}", tableName);
-        return withRetries(() -> wireCommandClient.deleteTableSegment(
-                tableName, mustBeEmpty, getToken(tableName)),
+        return withRetries(() -> getToken(tableName).thenCompose(token -> 
+                        wireCommandClient.deleteTableSegment(tableName, mustBeEmpty, token)),
                 () -> String.format("delete table: %s", tableName), tableName)
                 .exceptionally(e -> {
                     if (Exceptions.unwrap(e) instanceof StoreExceptions.DataContainerNotFoundException) {
@@ -190,7 +193,31 @@ public class TableStore extends AbstractService {
                     TableSegmentEntry.notExists(x.getKey(), x.getValue().getRecord()) :
                     TableSegmentEntry.versioned(x.getKey(), x.getValue().getRecord(), x.getValue().getVersion().toLong());
         }).collect(Collectors.toList());
-        return wireCommandClient.updateTableEntries(tableName, entries, getToken(tableName))
+        return updateTableEntries(tableName, entries);
+    }
+
+    /**
+     * Updates the entries in the table. The serialized keys and values are wrapped and sent to the store without being 
+     * copied.
+     *
+     * @param tableName name of table.
+     * @param batch     entries to update, in order. An entry with null version is only added if the key does not exist.
+     * @return CompletableFuture which when completed will have the new versions of the entries in the order of the batch.
+     */
+    public CompletableFuture<List<Version>> updateEntries(String tableName, List<VersionedEntry<ByteArraySegment, ByteArraySegment>> batch) {
+        Preconditions.checkNotNull(batch);
+        List<TableSegmentEntry> entries = batch.stream().map(x -> {
+            ByteBuf key = wrap(x.getKey());
+            ByteBuf value = wrap(x.getValue().getRecord());
+            return x.getValue().getVersion() == null ?
+                    TableSegmentEntry.notExists(key, value) :
+                    TableSegmentEntry.versioned(key, value, x.getValue().getVersion().toLong());
+        }).collect(Collectors.toList());
+        return updateTableEntries(tableName, entries);
+    }
+
+    private CompletableFuture<List<Version>> updateTableEntries(String tableName, List<TableSegmentEntry> entries) {
+        return getToken(tableName).thenCompose(token -> wireCommandClient.updateTableEntries(tableName, entries, token))
                                 .thenApply(list -> list.stream().map(x -> new Version(x.getSegmentVersion()))
                                                    .collect(Collectors.toList()))
                                 .whenComplete((r, e) -> {
@@ -207,27 +234,54 @@ public class TableStore extends AbstractService {
     }
 
     public CompletableFuture<List<VersionedRecord<byte[]>>> getEntries(String tableName, List<byte[]> tableKeys, boolean throwOnNotFound) {
+        return readEntries(tableName, tableKeys, throwOnNotFound, (index, buf) -> getArray(buf));
+    }
+
+    /**
+     * Reads the entries for the keys and deserializes the values directly from the buffers received from the store, 
+     * without first copying them into intermediate arrays. 
+     *
+     * @param tableName       name of table.
+     * @param tableKeys       keys to read.
+     * @param throwOnNotFound whether to throw data not found if a key does not exist.
+     * @param fromStream      function that deserializes the value of the key at the given position in tableKeys 
+     *                        from the supplied stream. The stream is only valid for the duration of the call.
+     * @param <T>             Type of deserialized value.
+     * @return CompletableFuture which when completed will have the deserialized values with their versions. Keys
+     * that do not exist have null value and {@link Version#NON_EXISTENT} version.
+     */
+    public <T> CompletableFuture<List<VersionedRecord<T>>> getEntries(String tableName, List<byte[]> tableKeys, boolean throwOnNotFound,
+                                                                     BiFunction<Integer, InputStream, T> fromStream) {
+        return readEntries(tableName, tableKeys, throwOnNotFound, 
+                (index, buf) -> fromStream.apply(index, new ByteBufInputStream(buf.duplicate())));
+    }
+
+    private <T> CompletableFuture<List<VersionedRecord<T>>> readEntries(String tableName, List<byte[]> tableKeys, boolean throwOnNotFound,
+                                                                        ValueReader<T> fromBuffer) {
         log.info("get entries called for : {} key : {}", tableName, tableKeys);
         List<TableSegmentKey> keys = tableKeys.stream().map(TableSegmentKey::unversioned).collect(Collectors.toList());
 
-        CompletableFuture<List<VersionedRecord<byte[]>>> result = new CompletableFuture<>();
+        CompletableFuture<List<VersionedRecord<T>>> result = new CompletableFuture<>();
         String message = "get entries for table: %s";
-        withRetries(() -> wireCommandClient.readTable(tableName, keys, getToken(tableName)),
+        withRetries(() -> getToken(tableName).thenCompose(token -> wireCommandClient.readTable(tableName, keys, token)),
                 () -> String.format(message, tableName), tableName)
                 .thenApply(entriesFromStore -> {
                     try {
-                        return entriesFromStore.stream().map(y -> {
+                        List<VersionedRecord<T>> records = new ArrayList<>(entriesFromStore.size());
+                        for (int i = 0; i < entriesFromStore.size(); i++) {
+                            TableSegmentEntry y = entriesFromStore.get(i);
                             TableSegmentKeyVersion version = y.getKey().getVersion();
                             if (version.equals(TableSegmentKeyVersion.NOT_EXISTS)) {
                                 if (throwOnNotFound) {
                                     throw StoreExceptions.create(StoreExceptions.Type.DATA_NOT_FOUND, "key not found");
                                 } else {
-                                    return new VersionedRecord<>((byte[]) null, Version.NON_EXISTENT);
+                                    records.add(new VersionedRecord<>(null, Version.NON_EXISTENT));
                                 }
                             } else {
-                                return new VersionedRecord<>(getArray(y.getValue()), new Version(version.getSegmentVersion()));
+                                records.add(new VersionedRecord<>(fromBuffer.apply(i, y.getValue()), new Version(version.getSegmentVersion())));
                             }
-                        }).collect(Collectors.toList());
+                        }
+                        return records;
                     } finally {
                         releaseEntries(entriesFromStore);
                     }
@@ -246,8 +300,8 @@ public class TableStore extends AbstractService {
     public CompletableFuture<Void> removeEntry(String tableName, byte[] key) {
         log.trace("remove entry called for : {} key : {}", tableName, key);
         List<TableSegmentKey> keys = Collections.singletonList(TableSegmentKey.unversioned(key));
-        return withRetries(() -> wireCommandClient.removeTableKeys(
-                tableName, keys, getToken(tableName)),
+        return withRetries(() -> getToken(tableName).thenCompose(token -> 
+                        wireCommandClient.removeTableKeys(tableName, keys, token)),
                 () -> String.format("remove entry: table: %s", tableName), tableName)
                 .thenAccept(v -> log.trace("entry for key {} removed from table {}", key, tableName))
                 .exceptionally(e -> {
@@ -313,13 +367,33 @@ public class TableStore extends AbstractService {
         cache.invalidate(new TableCacheKey<>(table, key));
     }
 
+    /**
+     * Registers a read of the key as in flight so that concurrent readers of the same key can share its result. 
+     * The caller that registers the read must complete it and then remove it with {@link #deregisterRead}.
+     *
+     * @param table name of table.
+     * @param key   key being read.
+     * @param read  future that will be completed with the record read from the store. 
+     * @param <K>   Type of key.
+     * @param <T>   Type of record.
+     * @return The read already in flight for the key, or null if the supplied read was registered. 
+     */
+    @SuppressWarnings("unchecked")
+    public <K, T> CompletableFuture<VersionedRecord<T>> registerRead(String table, K key, CompletableFuture<VersionedRecord<T>> read) {
+        return (CompletableFuture<VersionedRecord<T>>) inFlightReads.putIfAbsent(new TableCacheKey<>(table, key), read);
+    }
+
+    public <K, T> void deregisterRead(String table, K key, CompletableFuture<VersionedRecord<T>> read) {
+        inFlightReads.remove(new TableCacheKey<>(table, key), read);
+    }
+
     public <K> CompletableFuture<ResultPage<K, ByteBuf>> getKeysPaginated(String tableName, ByteBuf continuationToken, int limit,
                                                                           Function<byte[], K> fromByteKey) {
         log.trace("get keys paginated called for : {}", tableName);
 
         return withRetries(() ->
-                        wireCommandClient.readTableKeys(tableName, limit, IteratorStateImpl.fromBytes(continuationToken),
-                                getToken(tableName)),
+                        getToken(tableName).thenCompose(token -> 
+                                wireCommandClient.readTableKeys(tableName, limit, IteratorStateImpl.fromBytes(continuationToken), token)),
                 () -> String.format("get keys paginated for table: %s", tableName), tableName)
                 .thenApply(result -> {
                     try {
@@ -337,8 +411,8 @@ public class TableStore extends AbstractService {
             String tableName, ByteBuf continuationToken, int limit, Function<byte[], K> fromBytesKey,
             Function<byte[], T> fromBytesValue) {
         log.trace("get entries paginated called for : {}", tableName);
-        return withRetries(() -> wireCommandClient.readTableEntries(tableName, limit,
-                IteratorStateImpl.fromBytes(continuationToken), getToken(tableName)),
+        return withRetries(() -> getToken(tableName).thenCompose(token -> wireCommandClient.readTableEntries(tableName, limit,
+                IteratorStateImpl.fromBytes(continuationToken), token)),
                 () -> String.format("get entries paginated for table: %s", tableName), tableName)
                 .thenApply(result -> {
                     try {
@@ -370,7 +444,7 @@ public class TableStore extends AbstractService {
                 if (cause instanceof StoreExceptions.StoreConnectionException) {
                     hostStore.invalidateCache(tableName);
                 } else if (cause instanceof StoreExceptions.TokenException) {
-                    tokenCache.invalidate(tableName);
+                    tokenProvider.invalidate(tableName);
                 }
             } else {
                 log.warn("exception of unknown type thrown {} ", errorMessage, cause);
@@ -391,11 +465,8 @@ public class TableStore extends AbstractService {
                     }).runAsync(exceptionalCallback(futureSupplier, errorMessage, tableName), executor);
     }
     
-    @SneakyThrows(ExecutionException.class)
-    private String getToken(String tableName) {
-        return tokenCache.get(tableName, () ->  {
-            return tokenSupplier.apply(tableName);
-        });
+    private CompletableFuture<String> getToken(String tableName) {
+        return tokenProvider.getToken(tableName);
     }
     
     @Data
@@ -404,6 +475,15 @@ public class TableStore extends AbstractService {
         private final K key;
     }
 
+    private ByteBuf wrap(ByteArraySegment segment) {
+        return Unpooled.wrappedBuffer(segment.array(), segment.arrayOffset(), segment.getLength());
+    }
+
+    @FunctionalInterface
+    private interface ValueReader<T> {
+        T apply(int index, ByteBuf buf);
+    }
+
     private byte[] getArray(ByteBuf buf) {
         final byte[] bytes = new byte[buf.readableBytes()];
         final int readerIndex = buf.readerIndex();
@@ -12,9 +12,11 @@ package io.pravega.schemaregistry.storage.client;
 import io.pravega.client.tables.impl.TableSegmentKeyVersion;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
+import lombok.ToString;
 
 @AllArgsConstructor
 @EqualsAndHashCode
+@ToString
 public class Version {
     public static final Version NON_EXISTENT = new Version(TableSegmentKeyVersion.NOT_EXISTS.getSegmentVersion());
     public static final Version NO_VERSION = new Version(TableSegmentKeyVersion.NO_VERSION.getSegmentVersion());
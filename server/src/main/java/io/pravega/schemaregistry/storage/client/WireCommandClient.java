@@ -9,6 +9,7 @@
  */
 package io.pravega.schemaregistry.storage.client;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import io.netty.buffer.Unpooled;
@@ -24,9 +25,11 @@ import io.pravega.client.tables.impl.TableSegmentEntry;
 import io.pravega.client.tables.impl.TableSegmentKey;
 import io.pravega.client.tables.impl.TableSegmentKeyVersion;
 import io.pravega.common.Exceptions;
+import io.pravega.common.tracing.RequestTag;
 import io.pravega.common.tracing.TagLogger;
 import io.pravega.schemaregistry.storage.StoreExceptions;
 import io.pravega.shared.protocol.netty.ConnectionFailedException;
+import io.pravega.shared.protocol.netty.PravegaNodeUri;
 import io.pravega.shared.protocol.netty.Reply;
 import io.pravega.shared.protocol.netty.Request;
 import io.pravega.shared.protocol.netty.WireCommand;
@@ -42,14 +45,18 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static io.pravega.controller.stream.api.grpc.v1.Controller.NodeUri;
 
 /**
  * Used for making wire command calls into Segment Store.  
+ * A single connection is kept open per segment store endpoint and all requests to the endpoint are pipelined over it. 
+ * A connection that fails is discarded and a new one is established by the next request to that endpoint. 
  */
-public class WireCommandClient {
+public class WireCommandClient implements AutoCloseable {
     private static final TagLogger log = new TagLogger(LoggerFactory.getLogger(WireCommandClient.class));
 
     private static final Map<Class<? extends Request>, Set<Class<? extends Reply>>> EXPECTED_SUCCESS_REPLIES =
@@ -79,11 +86,18 @@ public class WireCommandClient {
 
     @Getter(AccessLevel.PACKAGE)
     private final HostStore hostStore;
-    private final ConnectionPool connectionPool;
+    private final Function<PravegaNodeUri, RawClient> connectionFactory;
+    private final ConcurrentHashMap<PravegaNodeUri, RawClient> connections;
 
     WireCommandClient(final ConnectionPool connectionPool, HostStore hostStore) {
-        this.connectionPool = connectionPool;
+        this(hostStore, endpoint -> new RawClient(endpoint, connectionPool));
+    }
+
+    @VisibleForTesting
+    WireCommandClient(HostStore hostStore, Function<PravegaNodeUri, RawClient> connectionFactory) {
         this.hostStore = hostStore;
+        this.connectionFactory = connectionFactory;
+        this.connections = new ConcurrentHashMap<>();
     }
 
     CompletableFuture<NodeUri> getTableUri(final String tableName) {
@@ -105,11 +119,12 @@ public class WireCommandClient {
                 .thenCompose(uri -> {
                     final WireCommandType type = WireCommandType.CREATE_TABLE_SEGMENT;
 
-                    RawClient connection = new RawClient(ModelHelper.encode(uri), connectionPool);
-                    final long requestId = connection.getFlow().asLong();
+                    PravegaNodeUri endpoint = ModelHelper.encode(uri);
+                    RawClient connection = getConnection(endpoint);
+                    final long requestId = connection.getFlow().getNextSequenceNumber();
 
-                    return sendRequest(connection, requestId, new WireCommands.CreateTableSegment(requestId, tableName, false, delegationToken))
-                            .thenAccept(rpl -> handleReply(rpl, connection, tableName, WireCommands.CreateTableSegment.class, type));
+                    return sendRequest(endpoint, connection, requestId, new WireCommands.CreateTableSegment(requestId, tableName, false, delegationToken))
+                            .thenAccept(rpl -> handleReply(rpl, tableName, WireCommands.CreateTableSegment.class, type));
                 });
     }
 
@@ -130,11 +145,12 @@ public class WireCommandClient {
                 .thenCompose(uri -> {
                     final WireCommandType type = WireCommandType.DELETE_TABLE_SEGMENT;
 
-                    RawClient connection = new RawClient(ModelHelper.encode(uri), connectionPool);
-                    final long requestId = connection.getFlow().asLong();
+                    PravegaNodeUri endpoint = ModelHelper.encode(uri);
+                    RawClient connection = getConnection(endpoint);
+                    final long requestId = connection.getFlow().getNextSequenceNumber();
 
-                    return sendRequest(connection, requestId, new WireCommands.DeleteTableSegment(requestId, tableName, mustBeEmpty, delegationToken))
-                            .thenAccept(rpl -> handleReply(rpl, connection, tableName, WireCommands.DeleteTableSegment.class, type));
+                    return sendRequest(endpoint, connection, requestId, new WireCommands.DeleteTableSegment(requestId, tableName, mustBeEmpty, delegationToken))
+                            .thenAccept(rpl -> handleReply(rpl, tableName, WireCommands.DeleteTableSegment.class, type));
                 });
     }
 
@@ -160,14 +176,15 @@ public class WireCommandClient {
                 return new AbstractMap.SimpleImmutableEntry<>(key, value);
             }).collect(Collectors.toList());
 
-            RawClient connection = new RawClient(ModelHelper.encode(uri), connectionPool);
-            final long requestId = connection.getFlow().asLong();
+            PravegaNodeUri endpoint = ModelHelper.encode(uri);
+            RawClient connection = getConnection(endpoint);
+            final long requestId = connection.getFlow().getNextSequenceNumber();
             WireCommands.UpdateTableEntries request = new WireCommands.UpdateTableEntries(requestId, tableName, delegationToken,
                     new WireCommands.TableEntries(wireCommandEntries), WireCommands.NULL_TABLE_SEGMENT_OFFSET);
 
-            return sendRequest(connection, requestId, request)
+            return sendRequest(endpoint, connection, requestId, request)
                     .thenApply(rpl -> {
-                        handleReply(rpl, connection, tableName, WireCommands.UpdateTableEntries.class, type);
+                        handleReply(rpl, tableName, WireCommands.UpdateTableEntries.class, type);
                         return ((WireCommands.TableEntriesUpdated) rpl)
                                 .getUpdatedVersions().stream()
                                 .map(TableSegmentKeyVersion::from).collect(Collectors.toList());
@@ -194,14 +211,15 @@ public class WireCommandClient {
             final WireCommandType type = WireCommandType.REMOVE_TABLE_KEYS;
             List<WireCommands.TableKey> keyList = keys.stream().map(this::convertToWireCommand).collect(Collectors.toList());
 
-            RawClient connection = new RawClient(ModelHelper.encode(uri), connectionPool);
-            final long requestId = connection.getFlow().asLong();
+            PravegaNodeUri endpoint = ModelHelper.encode(uri);
+            RawClient connection = getConnection(endpoint);
+            final long requestId = connection.getFlow().getNextSequenceNumber();
 
             WireCommands.RemoveTableKeys request = new WireCommands.RemoveTableKeys(
                     requestId, tableName, delegationToken, keyList, WireCommands.NULL_TABLE_SEGMENT_OFFSET);
 
-            return sendRequest(connection, requestId, request)
-                    .thenAccept(rpl -> handleReply(rpl, connection, tableName, WireCommands.RemoveTableKeys.class, type));
+            return sendRequest(endpoint, connection, requestId, request)
+                    .thenAccept(rpl -> handleReply(rpl, tableName, WireCommands.RemoveTableKeys.class, type));
         });
     }
 
@@ -226,13 +244,14 @@ public class WireCommandClient {
                     .stream().map(k -> new WireCommands.TableKey(k.getKey(), k.getVersion().getSegmentVersion()))
                     .collect(Collectors.toList());
 
-            RawClient connection = new RawClient(ModelHelper.encode(uri), connectionPool);
-            final long requestId = connection.getFlow().asLong();
+            PravegaNodeUri endpoint = ModelHelper.encode(uri);
+            RawClient connection = getConnection(endpoint);
+            final long requestId = connection.getFlow().getNextSequenceNumber();
 
             WireCommands.ReadTable request = new WireCommands.ReadTable(requestId, tableName, delegationToken, keyList);
-            return sendRequest(connection, requestId, request)
+            return sendRequest(endpoint, connection, requestId, request)
                     .thenApply(rpl -> {
-                        handleReply(rpl, connection, tableName, WireCommands.ReadTable.class, type);
+                        handleReply(rpl, tableName, WireCommands.ReadTable.class, type);
                         return ((WireCommands.TableRead) rpl)
                                 .getEntries().getEntries().stream()
                                 .map(this::convertFromWireCommand)
@@ -257,16 +276,17 @@ public class WireCommandClient {
 
         return getTableUri(tableName).thenCompose(uri -> {
             final WireCommandType type = WireCommandType.READ_TABLE_KEYS;
-            RawClient connection = new RawClient(ModelHelper.encode(uri), connectionPool);
-            final long requestId = connection.getFlow().asLong();
+            PravegaNodeUri endpoint = ModelHelper.encode(uri);
+            RawClient connection = getConnection(endpoint);
+            final long requestId = connection.getFlow().getNextSequenceNumber();
 
             final IteratorStateImpl token = (state == null) ? IteratorStateImpl.EMPTY : state;
 
             WireCommands.ReadTableKeys request = new WireCommands.ReadTableKeys(requestId, tableName, delegationToken, suggestedKeyCount,
                     token.getToken(), Unpooled.EMPTY_BUFFER);
-            return sendRequest(connection, requestId, request)
+            return sendRequest(endpoint, connection, requestId, request)
                     .thenApply(rpl -> {
-                        handleReply(rpl, connection, tableName, WireCommands.ReadTableKeys.class, type);
+                        handleReply(rpl, tableName, WireCommands.ReadTableKeys.class, type);
                         WireCommands.TableKeysRead tableKeysRead = (WireCommands.TableKeysRead) rpl;
                         final IteratorState newState = IteratorStateImpl.fromBytes(tableKeysRead.getContinuationToken());
                         final List<TableSegmentKey> keys =
@@ -294,16 +314,17 @@ public class WireCommandClient {
 
         return getTableUri(tableName).thenCompose(uri -> {
             final WireCommandType type = WireCommandType.READ_TABLE_ENTRIES;
-            RawClient connection = new RawClient(ModelHelper.encode(uri), connectionPool);
-            final long requestId = connection.getFlow().asLong();
+            PravegaNodeUri endpoint = ModelHelper.encode(uri);
+            RawClient connection = getConnection(endpoint);
+            final long requestId = connection.getFlow().getNextSequenceNumber();
 
             final IteratorStateImpl token = (state == null) ? IteratorStateImpl.EMPTY : state;
 
             WireCommands.ReadTableEntries request = new WireCommands.ReadTableEntries(requestId, tableName, delegationToken,
                     suggestedEntryCount, token.getToken(), Unpooled.EMPTY_BUFFER);
-            return sendRequest(connection, requestId, request)
+            return sendRequest(endpoint, connection, requestId, request)
                     .thenApply(rpl -> {
-                        handleReply(rpl, connection, tableName, WireCommands.ReadTableEntries.class, type);
+                        handleReply(rpl, tableName, WireCommands.ReadTableEntries.class, type);
                         WireCommands.TableEntriesRead tableEntriesRead = (WireCommands.TableEntriesRead) rpl;
                         final IteratorState newState = IteratorStateImpl.fromBytes(tableEntriesRead.getContinuationToken());
                         final List<TableSegmentEntry> entries =
@@ -338,23 +359,60 @@ public class WireCommandClient {
         }
     }
     
-    private void closeConnection(Reply reply, RawClient client) {
-        log.debug("Closing connection as a result of receiving: {}", reply);
-        if (client != null) {
-            try {
-                client.close();
-            } catch (Exception e) {
-                log.warn("Exception tearing down connection: ", e);
-            }
+    /**
+     * Gets the connection to the segment store endpoint, creating it if there is no open connection to the endpoint.
+     * Requests are multiplexed over the connection and their replies are matched by request id.
+     *
+     * @param endpoint segment store endpoint.
+     * @return connection to the endpoint.
+     */
+    private RawClient getConnection(PravegaNodeUri endpoint) {
+        return connections.computeIfAbsent(endpoint, connectionFactory);
+    }
+
+    /**
+     * Removes the connection to the endpoint so that the next request to the endpoint establishes a new connection.
+     * The connection is removed only if it has not already been replaced by another caller. 
+     *
+     * @param endpoint   segment store endpoint.
+     * @param connection connection that failed.
+     */
+    private void invalidateConnection(PravegaNodeUri endpoint, RawClient connection) {
+        if (connections.remove(endpoint, connection)) {
+            closeConnection(connection);
+        }
+    }
+
+    private void closeConnection(RawClient client) {
+        log.debug(RequestTag.NON_EXISTENT_ID, "Closing connection {}", client.getFlow());
+        try {
+            client.close();
+        } catch (Exception e) {
+            log.warn(RequestTag.NON_EXISTENT_ID, "Exception tearing down connection: ", e);
         }
     }
 
-    private <T extends Request & WireCommand> CompletableFuture<Reply> sendRequest(RawClient connection, long requestId, T request) {
+    @Override
+    public void close() {
+        connections.forEach(this::invalidateConnection);
+    }
+
+    private <T extends Request & WireCommand> CompletableFuture<Reply> sendRequest(PravegaNodeUri endpoint, RawClient connection, 
+                                                                                   long requestId, T request) {
         return connection.sendRequest(requestId, request)
+                         .thenApply(reply -> {
+                             // the table has moved to another segment store. The connection is dropped along with the 
+                             // host cached for the table, so that the retry connects to the host that now owns it.
+                             if (reply instanceof WireCommands.WrongHost) {
+                                 invalidateConnection(endpoint, connection);
+                             }
+                             return reply;
+                         })
                          .exceptionally(e -> {
                              Throwable unwrap = Exceptions.unwrap(e);
                              if (unwrap instanceof ConnectionFailedException || unwrap instanceof ConnectionClosedException) {
                                  log.warn(requestId, "Connection dropped");
+                                 invalidateConnection(endpoint, connection);
                                  throw StoreExceptions.create(StoreExceptions.Type.CONNECTION_ERROR, request.getType().name());
                              } else if (unwrap instanceof AuthenticationException) {
                                  log.warn(requestId, "Authentication Exception");
@@ -369,23 +427,20 @@ public class WireCommandClient {
     /**
      * This method handle reply returned from RawClient.sendRequest.
      *  @param reply               actual reply received
-     * @param client              RawClient for sending request
      * @param qualifiedStreamSegmentName StreamSegmentName
      * @param requestType         request which reply need to be transformed
      */
     private void handleReply(Reply reply,
-                             RawClient client,
                              String qualifiedStreamSegmentName,
                              Class<? extends Request> requestType,
                              WireCommandType type) {
-        closeConnection(reply, client);
         Set<Class<? extends Reply>> expectedReplies = EXPECTED_SUCCESS_REPLIES.get(requestType);
         Set<Class<? extends Reply>> expectedFailingReplies = EXPECTED_FAILING_REPLIES.get(requestType);
         if (expectedReplies != null && expectedReplies.contains(reply.getClass())) {
-            log.info(io.pravega.common.tracing.RequestTag.NON_EXISTENT_ID, "{} {} {} {}.", requestType.getSimpleName(), qualifiedStreamSegmentName,
+            log.info(RequestTag.NON_EXISTENT_ID, "{} {} {} {}.", requestType.getSimpleName(), qualifiedStreamSegmentName,
                     reply.getClass().getSimpleName(), reply.getRequestId());
         } else if (expectedFailingReplies != null && expectedFailingReplies.contains(reply.getClass())) {
-            log.info(io.pravega.common.tracing.RequestTag.NON_EXISTENT_ID, "{} {} {} {}.", requestType.getSimpleName(), qualifiedStreamSegmentName,
+            log.info(RequestTag.NON_EXISTENT_ID, "{} {} {} {}.", requestType.getSimpleName(), qualifiedStreamSegmentName,
                     reply.getClass().getSimpleName(), reply.getRequestId());
             if (reply instanceof WireCommands.NoSuchSegment) {
                 throw StoreExceptions.create(StoreExceptions.Type.DATA_CONTAINER_NOT_FOUND, type.toString());
@@ -397,15 +452,15 @@ public class WireCommandClient {
                 throw StoreExceptions.create(StoreExceptions.Type.WRITE_CONFLICT, type.toString());
             }
         } else if (reply instanceof WireCommands.AuthTokenCheckFailed) {
-            log.warn(io.pravega.common.tracing.RequestTag.NON_EXISTENT_ID, "Auth Check Failed {} {} {} {}.", requestType.getSimpleName(), qualifiedStreamSegmentName,
+            log.warn(RequestTag.NON_EXISTENT_ID, "Auth Check Failed {} {} {} {}.", requestType.getSimpleName(), qualifiedStreamSegmentName,
                     reply.getClass().getSimpleName(), reply.getRequestId());
             throw StoreExceptions.create(StoreExceptions.Type.AUTH_ERROR, type.toString());
         } else if (reply instanceof WireCommands.WrongHost) {
-            log.warn(io.pravega.common.tracing.RequestTag.NON_EXISTENT_ID, "Wrong Host {} {} {} {}.", requestType.getSimpleName(), qualifiedStreamSegmentName,
+            log.warn(RequestTag.NON_EXISTENT_ID, "Wrong Host {} {} {} {}.", requestType.getSimpleName(), qualifiedStreamSegmentName,
                     reply.getClass().getSimpleName(), reply.getRequestId());
             throw StoreExceptions.create(StoreExceptions.Type.CONNECTION_ERROR, type.toString());
         } else {
-            log.error(io.pravega.common.tracing.RequestTag.NON_EXISTENT_ID, "Unexpected reply {} {} {} {}.", requestType.getSimpleName(), qualifiedStreamSegmentName,
+            log.error(RequestTag.NON_EXISTENT_ID, "Unexpected reply {} {} {} {}.", requestType.getSimpleName(), qualifiedStreamSegmentName,
                     reply.getClass().getSimpleName(), reply.getRequestId());
 
             throw StoreExceptions.create(StoreExceptions.Type.CONNECTION_ERROR, 
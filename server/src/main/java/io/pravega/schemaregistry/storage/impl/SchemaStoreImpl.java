@@ -9,6 +9,8 @@
  */
 package io.pravega.schemaregistry.storage.impl;
 
+import io.pravega.common.Exceptions;
+import io.pravega.common.concurrent.Futures;
 import io.pravega.schemaregistry.ResultPage;
 import io.pravega.schemaregistry.common.Either;
 import io.pravega.schemaregistry.contract.data.CodecType;
@@ -30,8 +32,13 @@ import io.pravega.schemaregistry.storage.impl.schemas.Schemas;
 
 import javax.annotation.Nullable;
 import java.math.BigInteger;
+import java.util.AbstractMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
 public class SchemaStoreImpl<T> implements SchemaStore {
     private final Groups<T> groups;
@@ -60,7 +67,7 @@ public class SchemaStoreImpl<T> implements SchemaStore {
 
     @Override
     public CompletableFuture<Etag> getGroupEtag(String namespace, String groupId) {
-        return getGroup(namespace, groupId).thenCompose(Group::getCurrentEtag);
+        return getGroupForUpdate(namespace, groupId).thenCompose(Group::getCurrentEtag);
     }
 
     @Override
@@ -68,9 +75,29 @@ public class SchemaStoreImpl<T> implements SchemaStore {
         return getGroup(namespace, groupId).thenCompose(Group::getGroupProperties);
     }
 
+    @Override
+    public CompletableFuture<Map<String, GroupProperties>> getGroupsProperties(String namespace, List<String> groupIds) {
+        // the properties of each group are served from the group's cached metadata if it is fresh, otherwise the 
+        // metadata of all the groups is read in parallel. 
+        return groups.getGroups(namespace, groupIds)
+                     .thenCompose(resolved -> Futures.allOfWithResults(resolved.entrySet().stream().map(x -> 
+                             Futures.exceptionallyExpecting(x.getValue().getGroupProperties(),
+                                     e -> Exceptions.unwrap(e) instanceof StoreExceptions.DataNotFoundException, null)
+                                    .thenApply(prop -> new AbstractMap.SimpleEntry<>(x.getKey(), prop)))
+                                                                        .collect(Collectors.toList())))
+                     .thenApply(entries -> {
+                         Map<String, GroupProperties> properties = new HashMap<>();
+                         entries.stream().filter(x -> x.getValue() != null).forEach(x -> properties.put(x.getKey(), x.getValue()));
+                         // return the properties in the order of the requested groups. 
+                         Map<String, GroupProperties> result = new LinkedHashMap<>();
+                         groupIds.stream().filter(properties::containsKey).forEach(x -> result.put(x, properties.get(x)));
+                         return result;
+                     });
+    }
+
     @Override
     public CompletableFuture<Void> updateCompatibility(String namespace, String groupId, Etag etag, Compatibility policy) {
-        return getGroup(namespace, groupId)
+        return getGroupForUpdate(namespace, groupId)
                 .thenCompose(grp -> grp.updateValidationPolicy(policy, etag));
     }
 
@@ -102,12 +129,12 @@ public class SchemaStoreImpl<T> implements SchemaStore {
 
     @Override
     public CompletableFuture<Void> deleteSchema(String namespace, String groupId, int schemaId, Etag etag) {
-        return getGroup(namespace, groupId).thenCompose(grp -> grp.deleteSchema(schemaId, etag));
+        return getGroupForUpdate(namespace, groupId).thenCompose(grp -> grp.deleteSchema(schemaId, etag));
     }
 
     @Override
     public CompletableFuture<Void> deleteSchema(String namespace, String groupId, String schemaType, int version, String serializationFormat, Etag etag) {
-        return getGroup(namespace, groupId).thenCompose(grp -> grp.deleteSchema(schemaType, version, serializationFormat, etag));
+        return getGroupForUpdate(namespace, groupId).thenCompose(grp -> grp.deleteSchema(schemaType, version, serializationFormat, etag));
     }
 
     @Override
@@ -135,7 +162,15 @@ public class SchemaStoreImpl<T> implements SchemaStore {
                                                     BigInteger fingerprint, GroupProperties prop, Etag etag) {
         // Store normalized form of schema with the global schemas while the original form is stored within the group.  
         return schemas.addSchema(normalized, namespace, groupId)
-                .thenCompose(v -> getGroup(namespace, groupId).thenCompose(grp -> grp.addSchema(schemaInfo, fingerprint, prop, etag)));
+                .thenCompose(v -> getGroupForUpdate(namespace, groupId).thenCompose(grp -> grp.addSchema(schemaInfo, fingerprint, prop, etag)));
+    }
+
+    @Override
+    public CompletableFuture<List<VersionInfo>> addSchemas(String namespace, String groupId, List<SchemaInfo> schemaInfos, 
+                                                           List<SchemaInfo> normalized, List<BigInteger> fingerprints, 
+                                                           GroupProperties prop, Etag etag) {
+        return Futures.allOf(normalized.stream().map(x -> schemas.addSchema(x, namespace, groupId)).collect(Collectors.toList()))
+                .thenCompose(v -> getGroupForUpdate(namespace, groupId).thenCompose(grp -> grp.addSchemas(schemaInfos, fingerprints, prop, etag)));
     }
 
     @Override
@@ -151,7 +186,19 @@ public class SchemaStoreImpl<T> implements SchemaStore {
     @Override
     public CompletableFuture<EncodingId> createEncodingId(String namespace, String groupId, VersionInfo versionInfo, String codecType, 
                                                           Etag etag) {
-        return getGroup(namespace, groupId).thenCompose(grp -> grp.createEncodingId(versionInfo, codecType, etag));
+        return getGroupForUpdate(namespace, groupId).thenCompose(grp -> grp.createEncodingId(versionInfo, codecType, etag));
+    }
+
+    @Override
+    public CompletableFuture<Either<List<EncodingId>, Etag>> getEncodingIds(String namespace, String groupId, 
+                                                                            List<Map.Entry<VersionInfo, String>> encodings) {
+        return getGroup(namespace, groupId).thenCompose(grp -> grp.getEncodingIds(encodings));
+    }
+
+    @Override
+    public CompletableFuture<List<EncodingId>> createEncodingIds(String namespace, String groupId, 
+                                                                 List<Map.Entry<VersionInfo, String>> encodings, Etag etag) {
+        return getGroupForUpdate(namespace, groupId).thenCompose(grp -> grp.createEncodingIds(encodings, etag));
     }
 
     @Override
@@ -159,6 +206,11 @@ public class SchemaStoreImpl<T> implements SchemaStore {
         return getGroup(namespace, groupId).thenCompose(grp -> grp.getEncodingInfo(encodingId));
     }
 
+    @Override
+    public CompletableFuture<List<EncodingInfo>> getEncodingInfos(String namespace, String groupId, int fromId, int limit) {
+        return getGroup(namespace, groupId).thenCompose(grp -> grp.getEncodingInfos(fromId, limit));
+    }
+
     @Override
     public CompletableFuture<List<CodecType>> listCodecTypes(String namespace, String groupId) {
         return getGroup(namespace, groupId).thenCompose(Group::getCodecTypes);
@@ -166,7 +218,7 @@ public class SchemaStoreImpl<T> implements SchemaStore {
 
     @Override
     public CompletableFuture<Void> addCodecType(String namespace, String groupId, CodecType codecType) {
-        return getGroup(namespace, groupId).thenCompose(grp -> grp.addCodecType(codecType));
+        return getGroupForUpdate(namespace, groupId).thenCompose(grp -> grp.addCodecType(codecType));
     }
 
     @Override
@@ -179,6 +231,18 @@ public class SchemaStoreImpl<T> implements SchemaStore {
         return getGroup(namespace, groupId).thenCompose(grp -> grp.getHistory(type));
     }
 
+    @Override
+    public CompletableFuture<ResultPage<GroupHistoryRecord, ContinuationToken>> getGroupHistory(String namespace, String groupId, @Nullable String type,
+                                                                                                ContinuationToken token, int limit) {
+        return getGroup(namespace, groupId).thenCompose(grp -> grp.getHistory(type, token, limit));
+    }
+
+    @Override
+    public CompletableFuture<ResultPage<SchemaWithVersion, ContinuationToken>> getSchemaVersions(String namespace, String groupId, @Nullable String type,
+                                                                                                 ContinuationToken token, int limit) {
+        return getGroup(namespace, groupId).thenCompose(grp -> grp.getSchemas(type, token, limit));
+    }
+
     @Override
     public CompletableFuture<List<String>> getGroupsUsing(String namespace, SchemaInfo schemaInfo) {
         return schemas.getGroupsUsing(namespace, schemaInfo);
@@ -187,13 +251,21 @@ public class SchemaStoreImpl<T> implements SchemaStore {
     // endregion
 
     private CompletableFuture<Group<T>> getGroup(String namespace, String groupId) {
-        return groups.getGroup(namespace, groupId).thenApply(grp -> {
-                                           if (grp == null) {
-                                               String errorMessage = String.format("group=%s/%s", namespace, groupId);
-                                               throw StoreExceptions.create(StoreExceptions.Type.DATA_NOT_FOUND, errorMessage);
-                                           }
-
-                                           return grp;
-                                       });
+        return checkGroup(namespace, groupId, groups.getGroup(namespace, groupId));
+    }
+
+    private CompletableFuture<Group<T>> getGroupForUpdate(String namespace, String groupId) {
+        return checkGroup(namespace, groupId, groups.getGroupForUpdate(namespace, groupId));
+    }
+
+    private CompletableFuture<Group<T>> checkGroup(String namespace, String groupId, CompletableFuture<Group<T>> future) {
+        return future.thenApply(grp -> {
+            if (grp == null) {
+                String errorMessage = String.format("group=%s/%s", namespace, groupId);
+                throw StoreExceptions.create(StoreExceptions.Type.DATA_NOT_FOUND, errorMessage);
+            }
+
+            return grp;
+        });
     }
 }
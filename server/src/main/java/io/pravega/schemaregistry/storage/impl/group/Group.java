@@ -10,6 +10,8 @@
 package io.pravega.schemaregistry.storage.impl.group;
 
 import com.google.common.base.Charsets;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
@@ -21,6 +23,7 @@ import io.pravega.common.Exceptions;
 import io.pravega.common.concurrent.Futures;
 import io.pravega.common.util.ByteArraySegment;
 import io.pravega.common.util.Retry;
+import io.pravega.schemaregistry.ResultPage;
 import io.pravega.schemaregistry.common.Either;
 import io.pravega.schemaregistry.contract.data.CodecType;
 import io.pravega.schemaregistry.contract.data.Compatibility;
@@ -34,25 +37,34 @@ import io.pravega.schemaregistry.contract.data.SerializationFormat;
 import io.pravega.schemaregistry.contract.data.VersionInfo;
 import io.pravega.schemaregistry.exceptions.CodecTypeNotRegisteredException;
 import io.pravega.schemaregistry.service.Config;
+import io.pravega.schemaregistry.storage.ContinuationToken;
 import io.pravega.schemaregistry.storage.Etag;
 import io.pravega.schemaregistry.storage.StoreExceptions;
 import io.pravega.schemaregistry.common.ChunkUtil;
 import io.pravega.schemaregistry.storage.impl.group.records.TableRecords;
+import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
 
+import javax.annotation.Nullable;
 import java.math.BigInteger;
+import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
@@ -103,16 +115,37 @@ public class Group<V> {
     private static final LatestSchemasKey LATEST_SCHEMAS_KEY = new LatestSchemasKey();
     private static final LatestEncodingIdKey LATEST_ENCODING_ID_KEY = new LatestEncodingIdKey();
     private static final Retry.RetryAndThrowConditionally WRITE_CONFLICT_RETRY = 
-            Retry.withExpBackoff(1, 2, Integer.MAX_VALUE, 100)
+            Retry.withExpBackoff(1, 2, Config.WRITE_CONFLICT_MAX_ATTEMPTS, 100)
                  .retryWhen(x -> Exceptions.unwrap(x) instanceof StoreExceptions.WriteConflictException);
     private static final CodecType NONE_CODEC_TYPE = new CodecType("");
+    private static final long METADATA_CACHE_TTL_NANOS = TimeUnit.MILLISECONDS.toNanos(Config.GROUP_METADATA_CACHE_TTL_MILLIS);
+    private static final long SCHEMA_HISTORY_MAX_BYTES = Config.GROUP_SCHEMA_HISTORY_CACHE_MAX_BYTES;
 
     private final GroupTable<V> groupTable;
     private final ScheduledExecutorService executor;
+    /**
+     * Materialized view of the group's mutable metadata records (properties, compatibility, latest schemas and codec 
+     * types) tagged with the version of the group's etag at which it was read or written. 
+     * Since every update to the group's metadata is a conditional update on the etag, the view is current as long as 
+     * the etag version has not changed. Requests that already hold an etag use the view without any reads. Other reads 
+     * revalidate the view by reading the etag, unless it was validated within {@link Config#GROUP_METADATA_CACHE_TTL_MILLIS}. 
+     * That window is 0 by default. A non zero window saves the etag read at the cost of reads missing updates made 
+     * through other service instances for up to the window. Updates through this instance are always visible.
+     */
+    private final AtomicReference<GroupMetadata<V>> metadata;
+    /**
+     * Id ordered prefix of the group's schema records (with their schema binaries assembled from chunks) that have been 
+     * read so far. This allows transitive compatibility checks and history requests to only read schemas added since 
+     * the last request. The prefix holds at most {@link Config#GROUP_SCHEMA_HISTORY_CACHE_MAX_BYTES} bytes of schemas, 
+     * records beyond it are read on every request. 
+     */
+    private final AtomicReference<SchemaHistory> schemaHistory;
 
     public Group(GroupTable<V> groupTable, ScheduledExecutorService executor) {
         this.groupTable = groupTable;
         this.executor = executor;
+        this.metadata = new AtomicReference<>();
+        this.schemaHistory = new AtomicReference<>(SchemaHistory.EMPTY);
     }
 
     public CompletableFuture<Boolean> create(SerializationFormat serializationFormat, ImmutableMap<String, String> properties,
@@ -151,11 +184,100 @@ public class Group<V> {
 
     public CompletableFuture<Etag> getCurrentEtag() {
         return groupTable.getEntryWithVersion(ETAG, TableRecords.Etag.class)
-                         .thenApply(record -> groupTable.toEtag(record.getVersion()));
+                         .thenApply(record -> {
+                             revalidateMetadata(record.getVersion());
+                             return groupTable.toEtag(record.getVersion());
+                         });
+    }
+
+    /**
+     * Gets the group metadata. If the cached metadata has been validated against the group's etag within the ttl, it is 
+     * returned without reading from the table. Otherwise the current etag is read and the metadata is reloaded if it has 
+     * changed. 
+     * 
+     * @return CompletableFuture which when completed will hold the group metadata. 
+     */
+    private CompletableFuture<GroupMetadata<V>> getMetadata() {
+        GroupMetadata<V> current = metadata.get();
+        if (current != null && current.isFresh()) {
+            return CompletableFuture.completedFuture(current);
+        }
+        return groupTable.getEntryWithVersion(ETAG, TableRecords.Etag.class)
+                         .thenCompose(record -> loadMetadata(record.getVersion()));
+    }
+
+    /**
+     * Gets the group metadata as of the supplied etag. If cached metadata was read at the same etag, no reads are 
+     * performed. 
+     * 
+     * @param etag etag that the caller has read. 
+     * @return CompletableFuture which when completed will hold the group metadata. 
+     */
+    private CompletableFuture<GroupMetadata<V>> getMetadata(Etag etag) {
+        return loadMetadata(groupTable.fromEtag(etag));
+    }
+
+    private CompletableFuture<GroupMetadata<V>> loadMetadata(V etagVersion) {
+        GroupMetadata<V> current = metadata.get();
+        if (current != null && Objects.equals(current.getEtagVersion(), etagVersion)) {
+            GroupMetadata<V> revalidated = current.revalidate();
+            metadata.compareAndSet(current, revalidated);
+            return CompletableFuture.completedFuture(revalidated);
+        }
+        
+        // The metadata is read after the etag has been read. So the records are at least as recent as the etag version.
+        // If they are more recent, the etag has moved on too and the metadata will be reloaded on next validation. 
+        List<TableKey> keys = Lists.newArrayList(GROUP_PROPERTY_KEY, VALIDATION_POLICY_KEY, LATEST_SCHEMAS_KEY, CODECS_TYPE_KEY);
+        return groupTable.getEntriesWithVersion(keys, TableValue.class)
+                         .thenApply(entries -> {
+                             GroupMetadata<V> loaded = new GroupMetadata<>(etagVersion,
+                                     (GroupPropertiesRecord) entries.get(0).getValue(),
+                                     new Value<>((ValidationRecord) entries.get(1).getValue(), entries.get(1).getVersion()),
+                                     new Value<>((LatestSchemasValue) entries.get(2).getValue(), entries.get(2).getVersion()),
+                                     new Value<>((CodecTypesListValue) entries.get(3).getValue(), entries.get(3).getVersion()),
+                                     System.nanoTime());
+                             // cache only metadata of a created group and only if it was not concurrently replaced.
+                             if (etagVersion != null) {
+                                 metadata.compareAndSet(current, loaded);
+                             }
+                             return loaded;
+                         });
+    }
+
+    private void revalidateMetadata(V etagVersion) {
+        GroupMetadata<V> current = metadata.get();
+        if (current != null) {
+            GroupMetadata<V> revalidated = Objects.equals(current.getEtagVersion(), etagVersion) ? current.revalidate() : null;
+            metadata.compareAndSet(current, revalidated);
+        }
+    }
+
+    /**
+     * Performs the conditional update on the group table and applies the updated metadata records to the cached 
+     * metadata. The cached metadata is only updated if it was current as of the etag that the update was conditioned on. 
+     * Otherwise it is discarded. 
+     * 
+     * @param entries entries to update. 
+     * @return CompletableFuture which when completed indicates that the entries have been updated. 
+     */
+    private CompletableFuture<Void> updateEntries(List<Entry<V>> entries) {
+        GroupMetadata<V> current = metadata.get();
+        return groupTable.updateEntries(entries)
+                         .handle((versions, e) -> {
+                             GroupMetadata<V> updated = null;
+                             if (e == null && current != null) {
+                                 updated = current.update(entries, versions);
+                             }
+                             metadata.compareAndSet(current, updated);
+                             if (e != null) {
+                                 throw new CompletionException(Exceptions.unwrap(e));
+                             }
+                             return null;
+                         });
     }
 
     public CompletableFuture<List<SchemaWithVersion>> getLatestSchemas() {
-        return groupTable.getEntry(LATEST_SCHEMAS_KEY, LatestSchemasValue.class)
+        return getMetadata().thenApply(m -> m.getLatestSchemas().getValue())
                          .thenCompose(types -> {
                              ImmutableMap<FormatAndType, SchemaTypeValue> schemas = types == null ? ImmutableMap.of() : types.getTypes();
                              List<SchemaIdKey> keys = schemas.values().stream().filter(x -> x.getLatestVersion() >= 0)
@@ -212,36 +334,81 @@ public class Group<V> {
     }
 
     private CompletableFuture<List<SchemaRecord>> getSchemaRecords(int fromPos) {
-        return groupTable.getEntry(LATEST_SCHEMAS_KEY, LatestSchemasValue.class)
+        return getMetadata().thenApply(m -> m.getLatestSchemas().getValue())
                          .thenCompose(latestSchemasValue -> {
                              if (latestSchemasValue == null) {
                                  return CompletableFuture.completedFuture(Collections.emptyList());
                              } else {
-                                 int endPos = latestSchemasValue.getNextId();
                                  Set<Integer> deleted = latestSchemasValue.getDeletedIds();
-                                 List<TableKey> keys = IntStream.range(fromPos, endPos)
-                                                                .boxed().map(SchemaIdKey::new).collect(Collectors.toList());
-                                 return groupTable.getEntriesWithVersion(keys, TableValue.class)
-                                                  .thenCompose(entries -> {
-                                                      List<SchemaRecord> schemaRecords = new ArrayList<>();
-
-                                                      for (Value<TableValue, V> entry : entries) {
-                                                          if (entry.getValue() instanceof SchemaRecord) {
-                                                              schemaRecords.add((SchemaRecord) entry.getValue());
-                                                          }
-                                                      }
-                                                      return Futures.allOfWithResults(schemaRecords
-                                                              .stream().filter(x -> !deleted.contains(x.getId()))
-                                                              .map(x -> getSchemaInfo(x)
-                                                                      .thenApply(schemaInfo -> new SchemaRecord(
-                                                                              schemaInfo, x.getId(), x.getVersion(),
-                                                                              x.getCompatibility(), x.getTimestamp())))
-                                                              .collect(Collectors.toList()));
-                                                  });
+                                 return getSchemaHistory(latestSchemasValue.getNextId())
+                                         .thenApply(history -> history.subList(Math.min(fromPos, history.size()), history.size())
+                                                                      .stream().filter(x -> !deleted.contains(x.getId()))
+                                                                      .collect(Collectors.toList()));
                              }
                          });
     }
 
+    /**
+     * Gets the id ordered list of schema records with ids less than endPos. Schema records are immutable once written, 
+     * so only the records beyond the cached prefix of the schema history are read from the table. 
+     * Deleted schemas are included in the history and should be filtered by the caller. Ids without a schema record are 
+     * skipped. 
+     * 
+     * @param endPos next schema id of the group.
+     * @return CompletableFuture which when completed will hold the schema records with ids in range [0, endPos). 
+     */
+    private CompletableFuture<List<SchemaRecord>> getSchemaHistory(int endPos) {
+        return getSchemaRange(0, endPos).thenApply(Group::present);
+    }
+
+    /**
+     * Gets the schema records with ids in range [fromPos, endPos), with empty placeholders for ids without a schema 
+     * record. Records in the cached prefix of the schema history are served from the cache. If the range starts 
+     * within or right after the cached prefix, the records read from the table extend the cache. Otherwise only the 
+     * records in the range are read and they are not cached. 
+     */
+    private CompletableFuture<List<Optional<SchemaRecord>>> getSchemaRange(int fromPos, int endPos) {
+        SchemaHistory current = schemaHistory.get();
+        int cached = current.getRecords().size();
+        if (cached >= endPos) {
+            return CompletableFuture.completedFuture(current.getRecords().subList(fromPos, endPos));
+        }
+        if (fromPos > cached) {
+            return readSchemaRecords(fromPos, endPos);
+        }
+        return readSchemaRecords(cached, endPos)
+                .thenApply(read -> {
+                    SchemaHistory updated = current.extend(read);
+                    if (updated != current) {
+                        schemaHistory.compareAndSet(current, updated);
+                    }
+                    List<Optional<SchemaRecord>> range = new ArrayList<>(current.getRecords().subList(fromPos, cached));
+                    range.addAll(read);
+                    return range;
+                });
+    }
+
+    /**
+     * Reads the schema records with ids in range [fromPos, endPos) with their schema binaries assembled from chunks. 
+     * An id whose schema record does not exist is returned as an empty placeholder so that the position of a record 
+     * in the returned list continues to identify its id. 
+     */
+    private CompletableFuture<List<Optional<SchemaRecord>>> readSchemaRecords(int fromPos, int endPos) {
+        List<TableKey> keys = IntStream.range(fromPos, endPos)
+                                       .boxed().map(SchemaIdKey::new).collect(Collectors.toList());
+        return groupTable.getEntries(keys, SchemaRecord.class)
+                         .thenCompose(entries -> Futures.allOfWithResults(entries
+                                 .stream().map(x -> x == null ? CompletableFuture.completedFuture(Optional.<SchemaRecord>empty()) :
+                                         getSchemaInfo(x).thenApply(schemaInfo -> Optional.of(new SchemaRecord(
+                                                 schemaInfo, x.getId(), x.getVersion(),
+                                                 x.getCompatibility(), x.getTimestamp()))))
+                                 .collect(Collectors.toList())));
+    }
+
+    private static List<SchemaRecord> present(List<Optional<SchemaRecord>> records) {
+        return records.stream().filter(Optional::isPresent).map(Optional::get).collect(Collectors.toList());
+    }
+
     private CompletableFuture<Integer> getSchemaId(String schemaType, int version, String serializationFormat) {
         return groupTable.getEntry(new IndexTypeVersionToIdKey(serializationFormat, schemaType, version), SchemaIdValue.class)
                 .thenApply(x -> {
@@ -261,8 +428,13 @@ public class Group<V> {
     public CompletableFuture<Void> deleteSchema(int id, Etag etag) {
         VersionDeletedRecord versionDeletedRecord = new VersionDeletedRecord(id);
         SchemaIdKey schemaIdKey = new SchemaIdKey(id);
-        return groupTable.getEntriesWithVersion(Lists.newArrayList(schemaIdKey, versionDeletedRecord, LATEST_SCHEMAS_KEY), TableValue.class)
-                .thenCompose(entries -> {
+        CompletableFuture<List<Value<TableValue, V>>> entriesFuture = 
+                groupTable.getEntriesWithVersion(Lists.newArrayList(schemaIdKey, versionDeletedRecord), TableValue.class);
+        CompletableFuture<GroupMetadata<V>> metadataFuture = getMetadata(etag);
+        return CompletableFuture.allOf(entriesFuture, metadataFuture)
+                .thenCompose(v -> {
+                    List<Value<TableValue, V>> entries = entriesFuture.join();
+                    Value<LatestSchemasValue, V> latestSchemas = metadataFuture.join().getLatestSchemas();
                     SchemaRecord schema = (SchemaRecord) entries.get(0).getValue();
                     TableValue versionDeletedRecordValue = entries.get(1).getValue();
                     if (schema == null) {
@@ -270,7 +442,7 @@ public class Group<V> {
                     }
                     String serializationFormat = schema.getSerializationFormat().getFullTypeName();
                     String type = schema.getType();
-                    LatestSchemasValue types = (LatestSchemasValue) entries.get(2).getValue();
+                    LatestSchemasValue types = latestSchemas.getValue();
                     SchemaTypeValue value = types.getTypes().entrySet().stream()
                                                  .filter(x -> x.getKey().getType().equals(type) && x.getKey().getSerializationFormat().equals(serializationFormat))
                                                  .findFirst().map(Map.Entry::getValue).orElse(null);
@@ -281,7 +453,7 @@ public class Group<V> {
                         toUpdate.add(new Entry<>(ETAG, ETAG, groupTable.fromEtag(etag)));
                         toUpdate.add(new Entry<>(versionDeletedRecord, versionDeletedRecord, null));
                         // update latest version if the deleted version was the latest.
-                        V typesVersion = entries.get(2).getVersion();
+                        V typesVersion = latestSchemas.getVersion();
                         // if we are deleting the latest schema for the type, we need to update the latest too. 
 
                         // add schema id to version entry to the deleted versions map.
@@ -329,7 +501,7 @@ public class Group<V> {
                             newTypes.put(new FormatAndType(serializationFormat, type), n);
                             toUpdate.add(new Entry<>(LATEST_SCHEMAS_KEY, 
                                     new LatestSchemasValue(newTypes.build(), types.getNextId(), deletedIds), typesVersion));
-                            return groupTable.updateEntries(toUpdate);
+                            return updateEntries(toUpdate);
                                 });
                     } else {
                         // already deleted. Idempotent case. 
@@ -386,7 +558,77 @@ public class Group<V> {
     }
 
     public CompletableFuture<EncodingId> createEncodingId(VersionInfo versionInfo, String codecType, Etag etag) {
-        return generateNewEncodingId(versionInfo, codecType, etag);
+        return createEncodingIds(Collections.singletonList(new AbstractMap.SimpleEntry<>(versionInfo, codecType)), etag)
+                .thenApply(ids -> ids.get(0));
+    }
+
+    /**
+     * Creates encoding ids for all pairs of version and codec type that do not have an encoding id yet. 
+     * The missing encoding ids are allocated as a contiguous range and added with a single conditional update on the etag. 
+     *
+     * @param encodings list of pairs of version and codec type.
+     * @param etag etag for the group.
+     * @return CompletableFuture which when completed will hold the encoding ids in the same order as the requested pairs.
+     */
+    public CompletableFuture<List<EncodingId>> createEncodingIds(List<Map.Entry<VersionInfo, String>> encodings, Etag etag) {
+        return readEncodingIds(encodings).thenCompose(existing -> {
+            // distinct encodings that do not have an encoding id yet, in the order in which they were requested. 
+            Map<EncodingInfoRecord, EncodingId> missing = new LinkedHashMap<>();
+            for (int i = 0; i < encodings.size(); i++) {
+                if (existing.get(i) == null) {
+                    missing.put(new EncodingInfoRecord(encodings.get(i).getKey(), encodings.get(i).getValue()), null);
+                }
+            }
+            if (missing.isEmpty()) {
+                return CompletableFuture.completedFuture(existing);
+            }
+            Set<Integer> schemaIds = missing.keySet().stream().map(x -> x.getVersionInfo().getId()).collect(Collectors.toSet());
+            return Futures.allOf(schemaIds.stream().map(id -> getSchema(id, true)).collect(Collectors.toList()))
+                          .thenCompose(v -> getMetadata(etag).thenApply(this::getCodecTypeNames))
+                          .thenCompose(codecTypes -> {
+                              for (EncodingInfoRecord record : missing.keySet()) {
+                                  String codecType = record.getCodecType();
+                                  if (codecType.length() != 0 && !codecTypes.contains(codecType)) {
+                                      throw new CodecTypeNotRegisteredException(String.format("codec %s not registered", codecType));
+                                  }
+                              }
+                              return groupTable.getEntryWithVersion(LATEST_ENCODING_ID_KEY, LatestEncodingIdValue.class)
+                                               .thenCompose(current -> {
+                                                   List<Entry<V>> entries = generateEncodingIds(missing, current, etag);
+                                                   return updateEntries(entries).thenApply(v -> {
+                                                       List<EncodingId> result = new ArrayList<>(encodings.size());
+                                                       for (int i = 0; i < encodings.size(); i++) {
+                                                           result.add(existing.get(i) != null ? existing.get(i) : missing.get(
+                                                                   new EncodingInfoRecord(encodings.get(i).getKey(), encodings.get(i).getValue())));
+                                                       }
+                                                       return result;
+                                                   });
+                                               });
+                          });
+        });
+    }
+
+    /**
+     * Assigns consecutive encoding ids, starting after the current latest encoding id, to the missing encodings and 
+     * returns the entries to update. 
+     */
+    private List<Entry<V>> generateEncodingIds(Map<EncodingInfoRecord, EncodingId> missing, 
+                                               Value<LatestEncodingIdValue, V> current, Etag etag) {
+        int next = current.getValue() == null ? 0 : current.getValue().getEncodingId().getId() + 1;
+        List<Entry<V>> entries = new LinkedList<>();
+        entries.add(new Entry<>(ETAG, ETAG, groupTable.fromEtag(etag)));
+        EncodingId latest = null;
+        for (Map.Entry<EncodingInfoRecord, EncodingId> entry : missing.entrySet()) {
+            latest = new EncodingId(next++);
+            entry.setValue(latest);
+            EncodingIdRecord idIndex = new EncodingIdRecord(latest);
+            // add new entries for encoding id and info
+            entries.add(new Entry<>(idIndex, entry.getKey(), null));
+            entries.add(new Entry<>(entry.getKey(), idIndex, null));
+        }
+        // update
+        entries.add(new Entry<>(LATEST_ENCODING_ID_KEY, new LatestEncodingIdValue(latest), current.getVersion()));
+        return entries;
     }
 
     public CompletableFuture<EncodingInfo> getEncodingInfo(EncodingId encodingId) {
@@ -397,17 +639,49 @@ public class Group<V> {
                                  throw StoreExceptions.create(StoreExceptions.Type.DATA_NOT_FOUND, 
                                          String.format("encoding id not found %s", encodingId.getId()));
                              }
-                             CompletableFuture<SchemaInfo> schemaFuture = getSchema(encodingInfo.getVersionInfo().getId());
-                             CompletableFuture<CodecType> codecFuture = getCodecType(encodingInfo.getCodecType());
-                             return CompletableFuture.allOf(schemaFuture, codecFuture)
-                                     .thenApply(v -> {
-                                         SchemaInfo schemaInfo = schemaFuture.join();
-                                         CodecType codecType = codecFuture.join();
-                                         return new EncodingInfo(encodingInfo.getVersionInfo(), schemaInfo, codecType);
-                                     });
+                             return toEncodingInfo(encodingInfo);
+                         });
+    }
+
+    /**
+     * Gets the encoding infos of consecutive encoding ids starting at fromId with a single read of the group table. 
+     * Encoding ids are assigned consecutively starting at zero, so the list ends before the first encoding id that 
+     * does not exist. 
+     * 
+     * @param fromId first encoding id. 
+     * @param limit maximum number of encoding ids. 
+     * @return CompletableFuture which when completed will hold the encoding infos of encoding ids fromId, fromId + 1 ...
+     */
+    public CompletableFuture<List<EncodingInfo>> getEncodingInfos(int fromId, int limit) {
+        Preconditions.checkArgument(fromId >= 0, "fromId should not be negative");
+        Preconditions.checkArgument(limit > 0, "limit should be positive");
+        int toId = (int) Math.min((long) fromId + limit, Integer.MAX_VALUE);
+        List<EncodingIdRecord> keys = IntStream.range(fromId, toId).mapToObj(id -> new EncodingIdRecord(new EncodingId(id)))
+                                               .collect(Collectors.toList());
+        return groupTable.getEntries(keys, EncodingInfoRecord.class)
+                         .thenCompose(records -> {
+                             List<CompletableFuture<EncodingInfo>> encodings = new ArrayList<>();
+                             for (EncodingInfoRecord record : records) {
+                                 if (record == null) {
+                                     break;
+                                 }
+                                 encodings.add(toEncodingInfo(record));
+                             }
+                             return Futures.allOfWithResults(encodings);
                          });
     }
 
+    private CompletableFuture<EncodingInfo> toEncodingInfo(EncodingInfoRecord encodingInfo) {
+        CompletableFuture<SchemaInfo> schemaFuture = getSchema(encodingInfo.getVersionInfo().getId());
+        CompletableFuture<CodecType> codecFuture = getCodecType(encodingInfo.getCodecType());
+        return CompletableFuture.allOf(schemaFuture, codecFuture)
+                                .thenApply(v -> {
+                                    SchemaInfo schemaInfo = schemaFuture.join();
+                                    CodecType codecType = codecFuture.join();
+                                    return new EncodingInfo(encodingInfo.getVersionInfo(), schemaInfo, codecType);
+                                });
+    }
+
     private CompletableFuture<CodecType> getCodecType(String codecType) {
         if (codecType.length() == 0) {
             return CompletableFuture.completedFuture(NONE_CODEC_TYPE);   
@@ -419,7 +693,7 @@ public class Group<V> {
     }
 
     public CompletableFuture<SchemaWithVersion> getLatestSchemaVersion() {
-        return groupTable.getEntry(LATEST_SCHEMAS_KEY, LatestSchemasValue.class)
+        return getMetadata().thenApply(m -> m.getLatestSchemas().getValue())
                          .thenApply(rec -> {
                              if (rec == null) {
                                  return null;
@@ -442,7 +716,7 @@ public class Group<V> {
     }
     
     public CompletableFuture<SchemaWithVersion> getLatestSchemaVersion(String type) {
-        return groupTable.getEntry(LATEST_SCHEMAS_KEY, LatestSchemasValue.class)
+        return getMetadata().thenApply(m -> m.getLatestSchemas().getValue())
                          .thenApply(rec -> {
                              if (rec == null) {
                                  return null;
@@ -474,22 +748,24 @@ public class Group<V> {
     }
 
     private CompletableFuture<List<String>> getCodecTypeNames() {
-        return groupTable.getEntry(CODECS_TYPE_KEY, CodecTypesListValue.class)
-                         .thenApply(codecTypes -> {
-                             if (codecTypes == null) {
-                                 return Collections.emptyList();
-                             } else {
-                                 return codecTypes.getCodecTypes();
-                             }
-                         });
+        return getMetadata().thenApply(this::getCodecTypeNames);
+    }
+
+    private List<String> getCodecTypeNames(GroupMetadata<V> groupMetadata) {
+        CodecTypesListValue codecTypes = groupMetadata.getCodecTypes().getValue();
+        if (codecTypes == null) {
+            return Collections.emptyList();
+        } else {
+            return codecTypes.getCodecTypes();
+        }
     }
 
     public CompletableFuture<Void> addCodecType(CodecType codecType) {
         // get all codecTypes. if codec doesnt exist, add it to the list of codecs. 
         // generate encoding id will only generate if the codec is already registered.
         return WRITE_CONFLICT_RETRY.runAsync(() -> getCurrentEtag()
-                .thenCompose(etag -> groupTable.getEntryWithVersion(CODECS_TYPE_KEY, CodecTypesListValue.class)
-                                               .thenCompose(rec -> addCodecType(codecType, etag, rec))), executor);
+                .thenCompose(etag -> getMetadata(etag)
+                        .thenCompose(m -> addCodecType(codecType, etag, m.getCodecTypes()))), executor);
     }
 
     private CompletionStage<Void> addCodecType(CodecType codecType, Etag etag, Value<CodecTypesListValue, V> rec) {
@@ -508,7 +784,7 @@ public class Group<V> {
             entries.add(new Entry<>(CODECS_TYPE_KEY, updated, version));
             entries.add(new Entry<>(new CodecTypeKey(codecType.getName()), new CodecTypeValue(codecType.getProperties()), null));
 
-            return groupTable.updateEntries(entries);
+            return updateEntries(entries);
         } else {
             return CompletableFuture.completedFuture(null);
         }
@@ -516,130 +792,245 @@ public class Group<V> {
 
     public CompletableFuture<List<GroupHistoryRecord>> getHistory() {
         return getSchemaRecords(0).thenApply(schemaRecords -> schemaRecords
-                .stream().map(x -> new GroupHistoryRecord(x.getSchemaInfo(), 
-                        new VersionInfo(x.getType(), x.getSerializationFormat().getFullTypeName(), x.getVersion(), x.getId()), 
-                        x.getCompatibility(), x.getTimestamp(), getSchemaString(x.getSchemaInfo())))
+                .stream().map(this::toHistoryRecord)
                 .collect(Collectors.toList()));
     }
     
     public CompletableFuture<List<GroupHistoryRecord>> getHistory(String type) {
-        return getHistory().thenApply(list ->
-                list.stream().filter(x -> x.getSchemaInfo().getType().equals(type))
-                    .collect(Collectors.toList()));
+        return getSchemaRecords(0).thenApply(schemaRecords -> schemaRecords
+                .stream().filter(x -> x.getType().equals(type))
+                .map(this::toHistoryRecord)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Gets a page of the group's history starting at the position identified by the continuation token. 
+     * Only the schema records from the position up to the last record in the page are read and converted to history 
+     * records, so the cost of a page does not grow with the size of the group's history. 
+     * 
+     * @param type type of schemas to include. If null, schemas of all types are included. 
+     * @param token continuation token returned with the previous page. Empty token starts with the first schema. 
+     * @param limit maximum number of records in the page. 
+     * @return CompletableFuture which when completed will hold the page of history records and the continuation token 
+     * for the next page. 
+     */
+    public CompletableFuture<ResultPage<GroupHistoryRecord, ContinuationToken>> getHistory(@Nullable String type, ContinuationToken token, int limit) {
+        return getSchemaRecords(type, token, limit)
+                .thenApply(page -> new ResultPage<>(page.getList().stream().map(this::toHistoryRecord).collect(Collectors.toList()), 
+                        page.getToken()));
+    }
+
+    /**
+     * Gets a page of schemas with their versions in the order in which they were added to the group starting at the 
+     * position identified by the continuation token. 
+     * 
+     * @param type type of schemas to include. If null, schemas of all types are included. 
+     * @param token continuation token returned with the previous page. Empty token starts with the first schema. 
+     * @param limit maximum number of schemas in the page. 
+     * @return CompletableFuture which when completed will hold the page of schemas and the continuation token for the 
+     * next page. 
+     */
+    public CompletableFuture<ResultPage<SchemaWithVersion, ContinuationToken>> getSchemas(@Nullable String type, ContinuationToken token, int limit) {
+        return getSchemaRecords(type, token, limit)
+                .thenApply(page -> new ResultPage<>(page.getList().stream().map(x -> new SchemaWithVersion(x.getSchemaInfo(),
+                        new VersionInfo(x.getType(), x.getSerializationFormat().getFullTypeName(), x.getVersion(), x.getId())))
+                                                        .collect(Collectors.toList()), page.getToken()));
+    }
+
+    /**
+     * The continuation token is the id of the next schema to include. Since schema ids are contiguous, the page is 
+     * collected by reading windows of ids that start at the token, each no larger than the number of records still 
+     * missing from the page. Only the ids up to the last record in the page are read, unless deleted schemas or, when 
+     * a type is given, schemas of other types are skipped over. 
+     */
+    private CompletableFuture<ResultPage<SchemaRecord, ContinuationToken>> getSchemaRecords(@Nullable String type, ContinuationToken token, int limit) {
+        Preconditions.checkArgument(limit > 0, "limit should be positive");
+        int fromPos = getPosition(token);
+        return getMetadata().thenApply(m -> m.getLatestSchemas().getValue())
+                            .thenCompose(latestSchemasValue -> {
+                                List<SchemaRecord> page = new ArrayList<>();
+                                AtomicInteger next = new AtomicInteger(fromPos);
+                                if (latestSchemasValue == null) {
+                                    return CompletableFuture.completedFuture(new ResultPage<>(page, 
+                                            ContinuationToken.create(Integer.toString(fromPos))));
+                                }
+                                int endPos = latestSchemasValue.getNextId();
+                                Set<Integer> deleted = latestSchemasValue.getDeletedIds();
+                                return Futures.loop(() -> page.size() < limit && next.get() < endPos, () -> {
+                                    int from = next.get();
+                                    // the limit may be as large as Integer.MAX_VALUE, so the window is computed in long.
+                                    int to = (int) Math.min((long) endPos, (long) from + limit - page.size());
+                                    return getSchemaRange(from, to).thenAccept(range -> {
+                                        present(range).stream().filter(x -> !deleted.contains(x.getId()))
+                                                      .filter(x -> type == null || x.getType().equals(type))
+                                                      .forEach(page::add);
+                                        next.set(to);
+                                    });
+                                }, executor).thenApply(v -> {
+                                    int nextPos = page.isEmpty() ? fromPos : page.get(page.size() - 1).getId() + 1;
+                                    return new ResultPage<>(page, ContinuationToken.create(Integer.toString(nextPos)));
+                                });
+                            });
+    }
+
+    private static int getPosition(ContinuationToken token) {
+        if (token == null || Strings.isNullOrEmpty(token.toString())) {
+            return 0;
+        }
+        try {
+            int position = Integer.parseInt(token.toString());
+            Preconditions.checkArgument(position >= 0, "invalid continuation token");
+            return position;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("invalid continuation token", e);
+        }
+    }
+
+    private GroupHistoryRecord toHistoryRecord(SchemaRecord record) {
+        return new GroupHistoryRecord(record.getSchemaInfo(),
+                new VersionInfo(record.getType(), record.getSerializationFormat().getFullTypeName(), record.getVersion(), record.getId()),
+                record.getCompatibility(), record.getTimestamp(), getSchemaString(record.getSchemaInfo()));
     }
 
     public CompletableFuture<VersionInfo> addSchema(SchemaInfo schemaInfo, BigInteger fingerprint, GroupProperties prop, Etag etag) {
-        List<TableKey> keys = new ArrayList<>();
-        keys.add(LATEST_SCHEMAS_KEY);
-        SchemaFingerprintKey schemaFingerprintKey = new SchemaFingerprintKey(fingerprint);
-        keys.add(schemaFingerprintKey);
+        return addSchemas(Collections.singletonList(schemaInfo), Collections.singletonList(fingerprint), prop, etag)
+                .thenApply(versions -> versions.get(0));
+    }
+
+    /**
+     * Adds all the supplied schemas to the group in a single conditional update. Schemas are assigned ids and versions
+     * in the order in which they are supplied. 
+     * 
+     * @param schemaInfos schemas to add.
+     * @param fingerprints fingerprints of the schemas, in the same order as the schemas. 
+     * @param prop group properties applied at the time of schema addition.
+     * @param etag entity tag for the group.
+     * @return Completablefuture that holds version infos for the schemas added in the same order as the schemas. 
+     */
+    public CompletableFuture<List<VersionInfo>> addSchemas(List<SchemaInfo> schemaInfos, List<BigInteger> fingerprints, 
+                                                           GroupProperties prop, Etag etag) {
+        Preconditions.checkArgument(!schemaInfos.isEmpty() && schemaInfos.size() == fingerprints.size());
+        List<SchemaFingerprintKey> fingerprintKeys = fingerprints.stream().map(SchemaFingerprintKey::new)
+                                                                 .collect(Collectors.toList());
+        CompletableFuture<List<Value<SchemaVersionList, V>>> schemaVersionListsFuture = 
+                groupTable.getEntriesWithVersion(fingerprintKeys, SchemaVersionList.class);
+        CompletableFuture<GroupMetadata<V>> metadataFuture = getMetadata(etag);
 
         // add or upadte following entries:
         // 0. etag
         // 1. schemaId -> record, index for type+verion -> id
         // 2. schemaIndex/fingerprint -> schema version list
-        // 3. latest schema types for this new schema (add or update)
-        return groupTable.getEntriesWithVersion(keys, TableValue.class).thenCompose(values -> {
-            LatestSchemasValue schemaTypes = (LatestSchemasValue) values.get(0).getValue();
-            V schemaTypesVersion = values.get(0).getVersion();
-            SchemaVersionList schemaVersionList = (SchemaVersionList) values.get(1).getValue();
-            V schemaIndexVersion = values.get(1).getVersion();
+        // 3. latest schema types for the new schemas (add or update)
+        return CompletableFuture.allOf(schemaVersionListsFuture, metadataFuture).thenCompose(v -> {
+            Value<LatestSchemasValue, V> latestSchemas = metadataFuture.join().getLatestSchemas();
+            LatestSchemasValue schemaTypes = latestSchemas.getValue();
+            V schemaTypesVersion = latestSchemas.getVersion();
+            List<Value<SchemaVersionList, V>> schemaVersionLists = schemaVersionListsFuture.join();
             // add or update schema types 
             // 1. get and update the next ordinal
             // 2. get and update the type specific next version
             int nextOrdinal;
             ImmutableSet<Integer> deletedSet;
-            SchemaTypeValue schemaTypeValue;
-
+            // the types are updated as schemas are added so that each schema in the batch sees the versions 
+            // assigned to the schemas before it. 
+            Map<FormatAndType, SchemaTypeValue> types = new LinkedHashMap<>();
             if (schemaTypes == null) {
                 nextOrdinal = 0;
                 deletedSet = ImmutableSet.of();
-                schemaTypeValue = null;
             } else {
                 nextOrdinal = schemaTypes.getNextId();
                 deletedSet = schemaTypes.getDeletedIds();
-                schemaTypeValue = schemaTypes.getTypes().entrySet().stream()
-                                             .filter(x -> x.getKey().getType().equals(schemaInfo.getType()) 
-                                                     && x.getKey().getSerializationFormat().equals(schemaInfo.getSerializationFormat().getFullTypeName()))
-                                             .findFirst().map(Map.Entry::getValue).orElse(null);
-            }
-            int nextVersion;
-            ImmutableSet<Integer> deletedVersions;
-            if (schemaTypeValue == null) {
-                nextVersion = 0;
-                deletedVersions = ImmutableSet.of();
-            } else {
-                nextVersion = schemaTypeValue.getNextVersion();
-                deletedVersions = schemaTypeValue.getDeletedVersions();
+                types.putAll(schemaTypes.getTypes());
             }
-            VersionInfo next = new VersionInfo(schemaInfo.getType(), schemaInfo.getSerializationFormat().getFullTypeName(), 
-                    nextVersion, nextOrdinal);
 
             List<Entry<V>> entries = new LinkedList<>();
             // 0. etag
             entries.add(new Entry<>(ETAG, ETAG, groupTable.fromEtag(etag)));
-            // 1. Schema id to schema record
-            // 1.1 index for version to id
-            String serializationFormat = schemaInfo.getSerializationFormat().getFullTypeName();
-            entries.add(new Entry<>(new IndexTypeVersionToIdKey(serializationFormat,
-                    next.getType(), next.getVersion()),
-                    new SchemaIdValue(next.getId()), null));
-            // break schema binary into smaller chunks.
-            List<ByteArraySegment> chunks = ChunkUtil.chunk(schemaInfo.getSchemaData(), Config.MAX_CHUNK_SIZE_BYTES);
-            entries.add(new Entry<>(new SchemaIdKey(next.getId()),
-                    SchemaRecord.builder()
-                                .type(schemaInfo.getType())
-                                .serializationFormat(schemaInfo.getSerializationFormat())
-                                .properties(schemaInfo.getProperties())
-                                .schemaChunk(chunks.get(0))
-                                .id(next.getId())
-                                .version(next.getVersion())
-                                .compatibility(prop.getCompatibility())
-                                .timestamp(System.currentTimeMillis())
-                                .maxChunkSize(Config.MAX_CHUNK_SIZE_BYTES)
-                                .numberOfChunks(chunks.size())
-                                .build(), null));
-
-            // Start from chunk 1 because we have already included chunk 0 in the schema record
-            for (int i = 1; i < chunks.size(); i++) { 
-                entries.add(new Entry<>(new SchemaIdChunkKey(next.getId(), i),
-                        new SchemaChunkRecord(chunks.get(i)), null));
-            } 
-
-            // 2. Schema fingerprint key
-            ImmutableList.Builder<VersionInfo> versionsBuilder = new ImmutableList.Builder<>();
-            if (schemaVersionList != null) {
-                versionsBuilder.addAll(new ArrayList<>(schemaVersionList.getVersions()));
+            
+            List<VersionInfo> added = new ArrayList<>(schemaInfos.size());
+            // fingerprint key to the existing version list and its version in the table. 
+            Map<SchemaFingerprintKey, Value<SchemaVersionList, V>> fingerprintValues = new LinkedHashMap<>();
+            Map<SchemaFingerprintKey, List<VersionInfo>> fingerprintVersions = new HashMap<>();
+            long timestamp = System.currentTimeMillis();
+            for (int i = 0; i < schemaInfos.size(); i++) {
+                SchemaInfo schemaInfo = schemaInfos.get(i);
+                String serializationFormat = schemaInfo.getSerializationFormat().getFullTypeName();
+                FormatAndType formatAndType = new FormatAndType(serializationFormat, schemaInfo.getType());
+                SchemaTypeValue schemaTypeValue = types.get(formatAndType);
+                int nextVersion;
+                ImmutableSet<Integer> deletedVersions;
+                if (schemaTypeValue == null) {
+                    nextVersion = 0;
+                    deletedVersions = ImmutableSet.of();
+                } else {
+                    nextVersion = schemaTypeValue.getNextVersion();
+                    deletedVersions = schemaTypeValue.getDeletedVersions();
+                }
+                VersionInfo next = new VersionInfo(schemaInfo.getType(), serializationFormat, nextVersion, nextOrdinal);
+                added.add(next);
+
+                // 1. Schema id to schema record
+                // 1.1 index for version to id
+                entries.add(new Entry<>(new IndexTypeVersionToIdKey(serializationFormat,
+                        next.getType(), next.getVersion()),
+                        new SchemaIdValue(next.getId()), null));
+                // break schema binary into smaller chunks.
+                List<ByteArraySegment> chunks = ChunkUtil.chunk(schemaInfo.getSchemaData(), Config.MAX_CHUNK_SIZE_BYTES);
+                entries.add(new Entry<>(new SchemaIdKey(next.getId()),
+                        SchemaRecord.builder()
+                                    .type(schemaInfo.getType())
+                                    .serializationFormat(schemaInfo.getSerializationFormat())
+                                    .properties(schemaInfo.getProperties())
+                                    .schemaChunk(chunks.get(0))
+                                    .id(next.getId())
+                                    .version(next.getVersion())
+                                    .compatibility(prop.getCompatibility())
+                                    .timestamp(timestamp)
+                                    .maxChunkSize(Config.MAX_CHUNK_SIZE_BYTES)
+                                    .numberOfChunks(chunks.size())
+                                    .build(), null));
+
+                // Start from chunk 1 because we have already included chunk 0 in the schema record
+                for (int j = 1; j < chunks.size(); j++) {
+                    entries.add(new Entry<>(new SchemaIdChunkKey(next.getId(), j),
+                            new SchemaChunkRecord(chunks.get(j)), null));
+                }
+
+                // 2. collect versions against the schema fingerprint. Schemas in the batch that share a fingerprint 
+                // are merged into a single entry.  
+                SchemaFingerprintKey fingerprintKey = fingerprintKeys.get(i);
+                fingerprintValues.putIfAbsent(fingerprintKey, schemaVersionLists.get(i));
+                fingerprintVersions.computeIfAbsent(fingerprintKey, k -> new ArrayList<>()).add(next);
+
+                // 3. update the latest and next versions for the schema type and next id for overall group. 
+                // the updated type is moved to the end to retain the order in which types were last updated.  
+                types.remove(formatAndType);
+                types.put(formatAndType, new SchemaTypeValue(nextVersion, nextOrdinal, nextVersion + 1, deletedVersions));
+                nextOrdinal++;
             }
-            versionsBuilder.add(next);
-            ImmutableList<VersionInfo> versions = versionsBuilder.build();
-            entries.add(new Entry<>(schemaFingerprintKey,
-                    new SchemaVersionList(versions), schemaIndexVersion));
-
-            // 3. add to latest schemas which updates the latest and next versions for the schema type
-            // and next id for overall group
-            ImmutableMap.Builder<FormatAndType, SchemaTypeValue> builder = ImmutableMap.builder();
-            if (schemaTypes != null) {
-                for (Map.Entry<FormatAndType, SchemaTypeValue> entry : schemaTypes.getTypes().entrySet()) {
-                    if (!(entry.getKey().getSerializationFormat().equals(serializationFormat) 
-                            && entry.getKey().getType().equals(schemaInfo.getType()))) {
-                        builder.put(entry.getKey(), entry.getValue());
-                    }
+
+            // 2. Schema fingerprint keys
+            for (Map.Entry<SchemaFingerprintKey, Value<SchemaVersionList, V>> entry : fingerprintValues.entrySet()) {
+                SchemaVersionList schemaVersionList = entry.getValue().getValue();
+                ImmutableList.Builder<VersionInfo> versionsBuilder = new ImmutableList.Builder<>();
+                if (schemaVersionList != null) {
+                    versionsBuilder.addAll(schemaVersionList.getVersions());
                 }
+                versionsBuilder.addAll(fingerprintVersions.get(entry.getKey()));
+                entries.add(new Entry<>(entry.getKey(),
+                        new SchemaVersionList(versionsBuilder.build()), entry.getValue().getVersion()));
             }
-            SchemaTypeValue newValue = new SchemaTypeValue(nextVersion, nextOrdinal, 
-                    nextVersion + 1, deletedVersions);
-            builder.put(new FormatAndType(serializationFormat, schemaInfo.getType()), newValue);
-            
+
+            // 3. add to latest schemas
             entries.add(new Entry<>(LATEST_SCHEMAS_KEY,
-                    new LatestSchemasValue(builder.build(), nextOrdinal + 1, deletedSet), schemaTypesVersion));
+                    new LatestSchemasValue(ImmutableMap.copyOf(types), nextOrdinal, deletedSet), schemaTypesVersion));
 
-            return groupTable.updateEntries(entries).thenApply(v -> next);
+            return updateEntries(entries).thenApply(x -> added);
         });
     }
 
     public CompletableFuture<Void> updateValidationPolicy(Compatibility policy, Etag etag) {
-        return groupTable.getEntryWithVersion(VALIDATION_POLICY_KEY, ValidationRecord.class)
+        return getMetadata(etag).thenApply(GroupMetadata::getValidationPolicy)
                          .thenCompose(entry -> {
                              if (entry.getValue().getCompatibility().equals(policy)) {
                                  return CompletableFuture.completedFuture(null);
@@ -650,54 +1041,22 @@ public class Group<V> {
                                  ValidationRecord updated = new ValidationRecord(policy);
                                  entries.add(new Entry<>(VALIDATION_POLICY_KEY, updated, entry.getVersion()));
 
-                                 return groupTable.updateEntries(entries);
+                                 return updateEntries(entries);
                              }
                          });
     }
 
     public CompletableFuture<GroupProperties> getGroupProperties() {
-        List<? extends TableKey> keys = Lists.newArrayList(GROUP_PROPERTY_KEY, VALIDATION_POLICY_KEY);
-        return groupTable.getEntries(keys, TableValue.class)
-                         .thenApply(entries -> {
-                             GroupPropertiesRecord properties = (GroupPropertiesRecord) entries.get(0);
-                             ValidationRecord validationRecord = (ValidationRecord) entries.get(1);
+        return getMetadata()
+                         .thenApply(m -> {
+                             GroupPropertiesRecord properties = m.getGroupProperties();
+                             ValidationRecord validationRecord = m.getValidationPolicy().getValue();
                              return new GroupProperties(properties.getSerializationFormat(), validationRecord.getCompatibility(),
                                      properties.isAllowMultipleTypes(),
                                      ImmutableMap.copyOf(properties.getProperties()));
                          });
     }
 
-    private CompletableFuture<EncodingId> generateNewEncodingId(VersionInfo versionInfo, String codecType, Etag etag) {
-        return getSchema(versionInfo.getId(), true)
-                .thenCompose(schema -> getCodecTypeNames()
-                .thenCompose(codecTypes -> {
-                    if (codecType.length() == 0 || codecTypes.contains(codecType)) {
-                        LatestEncodingIdKey key = new LatestEncodingIdKey();
-                        return groupTable.getEntryWithVersion(key, LatestEncodingIdValue.class).thenCompose(current -> {
-                            EncodingId nextEncodingId = current.getValue() == null ? new EncodingId(0) :
-                                    new EncodingId(current.getValue().getEncodingId().getId() + 1);
-                            V encodingIdVersion = current.getVersion();
-
-                            List<Entry<V>> entries = new LinkedList<>();
-
-                            entries.add(new Entry<>(ETAG, ETAG, groupTable.fromEtag(etag)));
-
-                            EncodingIdRecord idIndex = new EncodingIdRecord(nextEncodingId);
-                            EncodingInfoRecord infoIndex = new EncodingInfoRecord(versionInfo, codecType);
-                            // add new entries for encoding id and info
-                            entries.add(new Entry<>(idIndex, infoIndex, null));
-                            entries.add(new Entry<>(infoIndex, idIndex, null));
-                            // update
-                            entries.add(new Entry<>(LATEST_ENCODING_ID_KEY, new LatestEncodingIdValue(nextEncodingId), encodingIdVersion));
-                            return groupTable.updateEntries(entries)
-                                             .thenApply(v -> nextEncodingId);
-                        });
-                    } else {
-                        throw new CodecTypeNotRegisteredException(String.format("codec %s not registered", codecType));
-                    }
-                }));
-    }
-
     public CompletableFuture<Either<EncodingId, Etag>> getEncodingId(VersionInfo versionInfo, String codecType) {
         EncodingInfoRecord encodingInfoIndex = new EncodingInfoRecord(versionInfo, codecType);
         return groupTable.getEntry(encodingInfoIndex, EncodingIdRecord.class)
@@ -710,6 +1069,33 @@ public class Group<V> {
                          });
     }
 
+    /**
+     * Gets the encoding ids for the pairs of version and codec type. If any of the encoding ids does not exist, the current
+     * etag of the group is returned instead.
+     *
+     * @param encodings list of pairs of version and codec type.
+     * @return CompletableFuture which when completed will hold either the encoding ids in the same order as the requested
+     * pairs or the etag of the group if any encoding id does not exist.
+     */
+    public CompletableFuture<Either<List<EncodingId>, Etag>> getEncodingIds(List<Map.Entry<VersionInfo, String>> encodings) {
+        return readEncodingIds(encodings)
+                .thenCompose(ids -> {
+                    if (ids.contains(null)) {
+                        return getCurrentEtag().thenApply(Either::right);
+                    } else {
+                        return CompletableFuture.completedFuture(Either.left(ids));
+                    }
+                });
+    }
+
+    private CompletableFuture<List<EncodingId>> readEncodingIds(List<Map.Entry<VersionInfo, String>> encodings) {
+        List<EncodingInfoRecord> keys = encodings.stream().map(x -> new EncodingInfoRecord(x.getKey(), x.getValue()))
+                                                 .collect(Collectors.toList());
+        return groupTable.getEntries(keys, EncodingIdRecord.class)
+                         .thenApply(records -> records.stream().map(x -> x == null ? null : x.getEncodingId())
+                                                      .collect(Collectors.toList()));
+    }
+
     private CompletableFuture<VersionInfo> findVersion(List<VersionInfo> versions, SchemaInfo toFind) {
         AtomicReference<VersionInfo> found = new AtomicReference<>();
         Iterator<VersionInfo> iterator = versions.iterator();
@@ -758,4 +1144,87 @@ public class Group<V> {
         }
         return schemaString;
     }
+
+    /**
+     * Cached prefix of the schema history. The position of a record is its id, ids without a schema record are held as 
+     * empty placeholders. 
+     */
+    @Data
+    private static class SchemaHistory {
+        private static final SchemaHistory EMPTY = new SchemaHistory(ImmutableList.of(), 0L);
+        
+        private final ImmutableList<Optional<SchemaRecord>> records;
+        private final long sizeInBytes;
+
+        /**
+         * Appends the records that follow this prefix for as long as the cached schemas stay within 
+         * {@link Config#GROUP_SCHEMA_HISTORY_CACHE_MAX_BYTES}. Returns this history if none of the records fit.
+         */
+        private SchemaHistory extend(List<Optional<SchemaRecord>> next) {
+            ImmutableList.Builder<Optional<SchemaRecord>> builder = ImmutableList.builder();
+            builder.addAll(records);
+            long size = sizeInBytes;
+            int added = 0;
+            for (Optional<SchemaRecord> record : next) {
+                long recordSize = record.map(x -> (long) x.getSchemaInfo().getSchemaData().remaining()).orElse(0L);
+                if (size + recordSize > SCHEMA_HISTORY_MAX_BYTES) {
+                    break;
+                }
+                builder.add(record);
+                size += recordSize;
+                added++;
+            }
+            return added == 0 ? this : new SchemaHistory(builder.build(), size);
+        }
+    }
+
+    @Data
+    private static class GroupMetadata<V> {
+        private final V etagVersion;
+        private final GroupPropertiesRecord groupProperties;
+        private final Value<ValidationRecord, V> validationPolicy;
+        private final Value<LatestSchemasValue, V> latestSchemas;
+        private final Value<CodecTypesListValue, V> codecTypes;
+        private final long validationTime;
+
+        private boolean isFresh() {
+            return System.nanoTime() - validationTime < METADATA_CACHE_TTL_NANOS;
+        }
+
+        private GroupMetadata<V> revalidate() {
+            return new GroupMetadata<>(etagVersion, groupProperties, validationPolicy, latestSchemas, codecTypes, System.nanoTime());
+        }
+
+        /**
+         * Applies the batch written to the group table on top of this metadata. Returns null if this metadata was not 
+         * current as of the etag version the batch was conditioned on. 
+         */
+        private GroupMetadata<V> update(List<Entry<V>> entries, List<V> versions) {
+            V newEtagVersion = null;
+            boolean isCurrent = false;
+            GroupPropertiesRecord newGroupProperties = groupProperties;
+            Value<ValidationRecord, V> newValidationPolicy = validationPolicy;
+            Value<LatestSchemasValue, V> newLatestSchemas = latestSchemas;
+            Value<CodecTypesListValue, V> newCodecTypes = codecTypes;
+            for (int i = 0; i < entries.size(); i++) {
+                Entry<V> entry = entries.get(i);
+                V version = versions.get(i);
+                if (entry.getKey() instanceof TableRecords.Etag) {
+                    isCurrent = entry.getVersion() != null && entry.getVersion().equals(etagVersion);
+                    newEtagVersion = version;
+                } else if (entry.getKey() instanceof GroupPropertyKey) {
+                    newGroupProperties = (GroupPropertiesRecord) entry.getValue();
+                } else if (entry.getKey() instanceof ValidationPolicyKey) {
+                    newValidationPolicy = new Value<>((ValidationRecord) entry.getValue(), version);
+                } else if (entry.getKey() instanceof LatestSchemasKey) {
+                    newLatestSchemas = new Value<>((LatestSchemasValue) entry.getValue(), version);
+                } else if (entry.getKey() instanceof CodecTypesKey) {
+                    newCodecTypes = new Value<>((CodecTypesListValue) entry.getValue(), version);
+                }
+            }
+            
+            return isCurrent ? new GroupMetadata<>(newEtagVersion, newGroupProperties, newValidationPolicy, newLatestSchemas,
+                    newCodecTypes, System.nanoTime()) : null;
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,30 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.storage.impl.group;
+
+import io.pravega.schemaregistry.storage.Etag;
+import lombok.Data;
+
+/**
+ * Entity tag of a group table. The version of the group's etag record is used for conditional updates while the id 
+ * of the table identifies the incarnation of the group. 
+ * 
+ * @param <V> Type of version.
+ */
+@Data
+class GroupEtag<V> implements Etag<V> {
+    private final String groupId;
+    private final V version;
+
+    @Override
+    public V etag() {
+        return version;
+    }
+}
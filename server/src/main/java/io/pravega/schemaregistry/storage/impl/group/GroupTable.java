@@ -27,7 +27,14 @@ public interface GroupTable<V> {
 
     CompletableFuture<Void> updateEntry(TableKey key, TableValue value, V version);
 
-    CompletableFuture<Void> updateEntries(List<Entry<V>> entries);
+    /**
+     * Conditionally updates all entries in the batch atomically. 
+     * 
+     * @param entries entries to update. 
+     * @return CompletableFuture which when completed will have the new versions of the entries in the same order as 
+     * supplied in the batch. 
+     */
+    CompletableFuture<List<V>> updateEntries(List<Entry<V>> entries);
 
     <T extends TableValue> CompletableFuture<T> getEntry(TableKey key, Class<T> tClass);
 
@@ -21,6 +21,7 @@ import javax.annotation.concurrent.GuardedBy;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -32,6 +33,7 @@ import static io.pravega.schemaregistry.storage.impl.group.records.TableRecords.
  * In memory implementation of table. 
  */
 public class InMemoryGroupTable implements GroupTable<Integer> {
+    private final String id = UUID.randomUUID().toString();
     @GuardedBy("$lock")
     @Getter(AccessLevel.PACKAGE)
     private final Map<TableKey, Value<TableValue, Integer>> table = new HashMap<>();
@@ -67,20 +69,25 @@ public class InMemoryGroupTable implements GroupTable<Integer> {
     @Override
     @Synchronized
     public CompletableFuture<Void> updateEntry(TableKey key, TableValue value, Integer version) {
+        update(key, value, version);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    private int update(TableKey key, TableValue value, Integer version) {
         int currentVersion = table.containsKey(key) ? table.get(key).getVersion() : 0;
         if (version != null && currentVersion != version) {
             throw StoreExceptions.create(StoreExceptions.Type.WRITE_CONFLICT, key.getClass().toString());
         } else {
             int nextVersion = version == null ? 0 : version + 1;
             table.put(key, new Value<>(value, nextVersion));
+            return nextVersion;
         }
-        return CompletableFuture.completedFuture(null);
     }
 
     @Synchronized
     @Override
-    public CompletableFuture<Void> updateEntries(List<Entry<Integer>> updates) {
-        CompletableFuture<Void> ret = new CompletableFuture<>();
+    public CompletableFuture<List<Integer>> updateEntries(List<Entry<Integer>> updates) {
+        CompletableFuture<List<Integer>> ret = new CompletableFuture<>();
 
         boolean isValid = updates.stream().allMatch(update -> {
             TableKey key = update.getKey();
@@ -90,8 +97,8 @@ public class InMemoryGroupTable implements GroupTable<Integer> {
         });
 
         if (isValid) {
-            updates.forEach(update -> updateEntry(update.getKey(), update.getValue(), update.getVersion()));
-            ret.complete(null);
+            ret.complete(updates.stream().map(x -> update(x.getKey(), x.getValue(), x.getVersion()))
+                                .collect(Collectors.toList()));
         } else {
             ret.completeExceptionally(StoreExceptions.create(StoreExceptions.Type.WRITE_CONFLICT, "key"));
         }
@@ -135,7 +142,7 @@ public class InMemoryGroupTable implements GroupTable<Integer> {
 
     @Override
     public Etag toEtag(Integer version) {
-        return () -> version;
+        return new GroupEtag<>(id, version);
     }
 
     @Override
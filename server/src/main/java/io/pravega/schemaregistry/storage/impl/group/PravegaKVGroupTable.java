@@ -13,23 +13,26 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Lists;
 import io.pravega.common.Exceptions;
 import io.pravega.common.concurrent.Futures;
+import io.pravega.common.util.ByteArraySegment;
 import io.pravega.schemaregistry.storage.Etag;
-import io.pravega.schemaregistry.storage.StoreExceptions;
 import io.pravega.schemaregistry.storage.client.TableStore;
 import io.pravega.schemaregistry.storage.client.Version;
+import io.pravega.schemaregistry.storage.client.VersionedEntry;
 import io.pravega.schemaregistry.storage.client.VersionedRecord;
 import io.pravega.schemaregistry.storage.impl.group.records.TableKeySerializer;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import static io.pravega.schemaregistry.storage.impl.group.records.TableRecords.fromBytes;
+import static io.pravega.schemaregistry.storage.impl.group.records.TableRecords.fromStream;
 import static io.pravega.schemaregistry.storage.impl.group.records.TableRecords.SchemaIdKey;
 import static io.pravega.schemaregistry.storage.impl.group.records.TableRecords.TableValue;
 import static io.pravega.schemaregistry.storage.impl.group.records.TableRecords.VersionDeletedRecord;
@@ -57,10 +60,12 @@ public class PravegaKVGroupTable implements GroupTable<Version> {
                     GroupPropertyKey.class, EncodingIdRecord.class, EncodingInfoRecord.class);
 
     private final TableStore tablesStore;
+    private final String id;
     private final String tableName;
 
     public PravegaKVGroupTable(String id, TableStore tablesStore) {
         this.tablesStore = tablesStore;
+        this.id = id;
         this.tableName = getTableName(id);
     }
 
@@ -101,23 +106,22 @@ public class PravegaKVGroupTable implements GroupTable<Version> {
 
     @Override
     public CompletableFuture<Void> addEntry(TableKey key, TableValue value) {
-        return tablesStore.addNewEntryIfAbsent(tableName, KEY_SERIALIZER.toBytes(key), value.toBytes());
+        return tablesStore.addNewEntryIfAbsent(tableName, KEY_SERIALIZER.toBytes(key), value.toBytes().getCopy());
     }
 
     @Override
     public CompletableFuture<Void> updateEntry(TableKey key, TableValue value, Version version) {
-        byte[] keyBytes = KEY_SERIALIZER.toBytes(key);
-        return Futures.toVoid(tablesStore.updateEntry(tableName, keyBytes, value.toBytes(), version));
+        return Futures.toVoid(updateEntries(Collections.singletonList(new Entry<>(key, value, version))));
     }
 
     @Override
-    public CompletableFuture<Void> updateEntries(List<Entry<Version>> entries) {
-        Map<byte[], VersionedRecord<byte[]>> batch =
-                entries.stream().collect(Collectors.toMap(x -> KEY_SERIALIZER.toBytes(x.getKey()), x -> {
-                    TableValue value = x.getValue();
-                    return new VersionedRecord<>(value.toBytes(), x.getVersion());
-                }));
-        return Futures.toVoid(tablesStore.updateEntries(tableName, batch));
+    public CompletableFuture<List<Version>> updateEntries(List<Entry<Version>> entries) {
+        // serialized keys and values are handed to the store as is, so large schema chunks are not copied again.
+        List<VersionedEntry<ByteArraySegment, ByteArraySegment>> batch = entries
+                .stream().map(x -> new VersionedEntry<>(KEY_SERIALIZER.toSegment(x.getKey()), 
+                        new VersionedRecord<>(x.getValue().toBytes(), x.getVersion())))
+                .collect(Collectors.toList());
+        return tablesStore.updateEntries(tableName, batch);
     }
 
     @Override
@@ -128,23 +132,7 @@ public class PravegaKVGroupTable implements GroupTable<Version> {
 
     @Override
     public <T extends TableValue> CompletableFuture<Value<T, Version>> getEntryWithVersion(TableKey key, Class<T> tClass) {
-        if (IMMUTABLE_RECORDS.contains(key.getClass())) {
-            VersionedRecord<T> cachedValue = tablesStore.getCachedRecord(tableName, key, tClass);
-            if (cachedValue != null) {
-                return CompletableFuture.completedFuture(new Value<>(cachedValue.getRecord(), cachedValue.getVersion()));
-            }
-        }
-        return Futures.exceptionallyExpecting(
-                tablesStore.getEntry(tableName, KEY_SERIALIZER.toBytes(key), x -> fromBytes(key.getClass(), x, tClass))
-                           .thenApply(entry -> {
-                               T typedRecord = getTypedRecord(entry.getRecord());
-                               if (IMMUTABLE_RECORDS.contains(key.getClass())) {
-                                   tablesStore.cacheRecord(tableName, key, new VersionedRecord<>(typedRecord, entry.getVersion()));
-                               }
-                               return new Value<>(typedRecord, entry.getVersion());
-                           }),
-                e -> Exceptions.unwrap(e) instanceof StoreExceptions.DataNotFoundException,
-                new Value<>(null, null));
+        return getEntriesWithVersion(Collections.singletonList(key), tClass).thenApply(values -> values.get(0));
     }
 
     @Override
@@ -157,54 +145,107 @@ public class PravegaKVGroupTable implements GroupTable<Version> {
     public <T extends TableValue> CompletableFuture<List<Value<T, Version>>> getEntriesWithVersion(List<? extends TableKey> keys, Class<T> tClass) {
         List<Value<T, Version>> result = new ArrayList<>(keys.size());
         
-        List<TableKey> nonCachedKeys = new LinkedList<>();
+        List<TableKey> nonCachedKeys = new ArrayList<>();
         Map<TableKey, Integer> nonCachedKeysIndex = new HashMap<>();
+        // reads of immutable records that were registered by this call and are shared with concurrent readers. 
+        Map<TableKey, CompletableFuture<VersionedRecord<T>>> registeredReads = new HashMap<>();
+        // reads of immutable records that were already in flight and are shared by this call.
+        List<CompletableFuture<Void>> sharedReads = new ArrayList<>();
+        // positions of keys that are repeated in the request, mapped to the position of their first occurrence. 
+        // a repeated key is only read once.
+        Map<Integer, Integer> duplicates = new HashMap<>();
         for (int i = 0; i < keys.size(); i++) {
             result.add(null);
             TableKey key = keys.get(i);
+            Integer first = nonCachedKeysIndex.get(key);
+            if (first != null) {
+                duplicates.put(i, first);
+                continue;
+            }
             if (IMMUTABLE_RECORDS.contains(key.getClass())) {
                 VersionedRecord<T> record = tablesStore.getCachedRecord(tableName, key, tClass);
                 if (record != null) {
                     result.set(i, new Value<>(record.getRecord(), record.getVersion()));
-                } 
+                    continue;
+                }
+                CompletableFuture<VersionedRecord<T>> read = new CompletableFuture<>();
+                CompletableFuture<VersionedRecord<T>> inFlight = tablesStore.registerRead(tableName, key, read);
+                if (inFlight != null && inFlight != read) {
+                    int index = i;
+                    // only records that exist are shared. A miss may have been read before a write that completed 
+                    // before this call started, so the key is read again. 
+                    sharedReads.add(inFlight.thenCompose(r -> r.getVersion().equals(Version.NON_EXISTENT) ? 
+                            readEntry(key, tClass) : CompletableFuture.completedFuture(r))
+                                            .thenAccept(r -> result.set(index, toValue(r))));
+                    continue;
+                }
+                registeredReads.put(key, read);
             } 
-            if (result.get(i) == null) {
-                nonCachedKeysIndex.put(key, i);
-                nonCachedKeys.add(key);
-            }
+            nonCachedKeysIndex.put(key, i);
+            nonCachedKeys.add(key);
         }
-        return tablesStore.getEntries(tableName,
-                nonCachedKeys.stream().map(KEY_SERIALIZER::toBytes).collect(Collectors.toList()), false)
-                          .thenApply(values -> {
+        if (nonCachedKeys.isEmpty()) {
+            return Futures.allOf(sharedReads).thenApply(v -> result);
+        }
+        // values are deserialized straight from the buffers received from the store.
+        CompletableFuture<Void> read = tablesStore.getEntries(tableName,
+                nonCachedKeys.stream().map(KEY_SERIALIZER::toBytes).collect(Collectors.toList()), false,
+                (i, stream) -> fromStream(nonCachedKeys.get(i).getClass(), stream, tClass))
+                          .handle((values, e) -> {
+                              if (e != null) {
+                                  registeredReads.forEach((key, future) -> {
+                                      tablesStore.deregisterRead(tableName, key, future);
+                                      future.completeExceptionally(e);
+                                  });
+                                  throw new CompletionException(Exceptions.unwrap(e));
+                              }
                               for (int i = 0; i < nonCachedKeys.size(); i++) {
                                   TableKey key = nonCachedKeys.get(i);
                                   int index = nonCachedKeysIndex.get(key);
-                                  VersionedRecord<byte[]> versionedRecord = values.get(i);
-                                  if (!versionedRecord.getVersion().equals(Version.NON_EXISTENT)) {
-                                      T value = fromBytes(key.getClass(), versionedRecord.getRecord(), tClass);
-                                      Version version = versionedRecord.getVersion();
-                                      if (IMMUTABLE_RECORDS.contains(key.getClass())) {
-                                          tablesStore.cacheRecord(tableName, key, new VersionedRecord<>(value, versionedRecord.getVersion()));
+                                  VersionedRecord<T> versionedRecord = values.get(i);
+                                  if (IMMUTABLE_RECORDS.contains(key.getClass())) {
+                                      if (!versionedRecord.getVersion().equals(Version.NON_EXISTENT)) {
+                                          tablesStore.cacheRecord(tableName, key, versionedRecord);
                                       }
-
-                                      result.set(index, new Value<>(value, version));
-                                  } else {
-                                      result.set(index, new Value<>(null, null));
+                                      CompletableFuture<VersionedRecord<T>> future = registeredReads.get(key);
+                                      tablesStore.deregisterRead(tableName, key, future);
+                                      future.complete(versionedRecord);
                                   }
+                                  result.set(index, toValue(versionedRecord));
                               }
-                              return result;
+                              duplicates.forEach((index, first) -> result.set(index, result.get(first)));
+                              return null;
                           });
+        sharedReads.add(read);
+        return Futures.allOf(sharedReads).thenApply(v -> result);
     }
 
+    /**
+     * Reads an immutable record without sharing the read with concurrent readers. The record is cached if it exists. 
+     */
+    private <T extends TableValue> CompletableFuture<VersionedRecord<T>> readEntry(TableKey key, Class<T> tClass) {
+        return tablesStore.getEntries(tableName, Collections.singletonList(KEY_SERIALIZER.toBytes(key)), false,
+                (i, stream) -> fromStream(key.getClass(), stream, tClass))
+                          .thenApply(values -> {
+                              VersionedRecord<T> versionedRecord = values.get(0);
+                              if (!versionedRecord.getVersion().equals(Version.NON_EXISTENT)) {
+                                  tablesStore.cacheRecord(tableName, key, versionedRecord);
+                              }
+                              return versionedRecord;
+                          });
+    }
 
-    @SuppressWarnings("unchecked")
-    private <T extends TableValue> T getTypedRecord(TableValue value) {
-        return (T) value;
+    private <T extends TableValue> Value<T, Version> toValue(VersionedRecord<T> versionedRecord) {
+        if (versionedRecord.getVersion().equals(Version.NON_EXISTENT)) {
+            return new Value<>(null, null);
+        } else {
+            return new Value<>(versionedRecord.getRecord(), versionedRecord.getVersion());
+        }
     }
 
     @Override
     public Etag<Version> toEtag(Version version) {
-        return () -> version;
+        return new GroupEtag<>(id, version);
     }
 
     @Override
@@ -50,6 +50,17 @@ public class TableKeySerializer extends VersionedSerializer.MultiType<TableRecor
         return s.getCopy();
     }
     
+    /**
+     * Serializes the given {@link TableRecords.TableKey} without copying the serialization buffer.
+     *
+     * @param value The {@link TableRecords.TableKey} to serialize.
+     * @return A segment that contains the serialized key.
+     */
+    @SneakyThrows(IOException.class)
+    public ByteArraySegment toSegment(TableRecords.TableKey value) {
+        return serialize(value);
+    }
+
     /**
      * Deserializes the given buffer into a {@link TableRecords.TableKey} instance.
      *
@@ -31,6 +31,7 @@ import lombok.SneakyThrows;
 import java.io.DataInput;
 import java.io.DataOutput;
 import java.io.IOException;
+import java.io.InputStream;
 import java.math.BigInteger;
 import java.nio.ByteBuffer;
 import java.util.Map;
@@ -62,7 +63,12 @@ public interface TableRecords {
     }
 
     interface TableValue {
-        byte[] toBytes();
+        /**
+         * Serializes the value. The returned segment is a view over the serialization buffer and is not copied.
+         *
+         * @return serialized value.
+         */
+        ByteArraySegment toBytes();
     }
 
     @Data
@@ -111,8 +117,8 @@ public interface TableRecords {
         
         @Override
         @SneakyThrows(IOException.class)
-        public byte[] toBytes() {
-            return SERIALIZER.serialize(this).getCopy();
+        public ByteArraySegment toBytes() {
+            return SERIALIZER.serialize(this);
         }
 
         private static class GroupPropertiesRecordBuilder implements ObjectBuilder<GroupPropertiesRecord> {
@@ -193,8 +199,8 @@ public interface TableRecords {
 
         @Override
         @SneakyThrows(IOException.class)
-        public byte[] toBytes() {
-            return SERIALIZER.serialize(this).getCopy();
+        public ByteArraySegment toBytes() {
+            return SERIALIZER.serialize(this);
         }
 
         private static class ValidationRecordBuilder implements ObjectBuilder<ValidationRecord> {
@@ -234,8 +240,8 @@ public interface TableRecords {
 
         @Override
         @SneakyThrows(IOException.class)
-        public byte[] toBytes() {
-            return SERIALIZER.serialize(this).getCopy();
+        public ByteArraySegment toBytes() {
+            return SERIALIZER.serialize(this);
         }
 
         private static class EtagBuilder implements ObjectBuilder<Etag> {
@@ -313,8 +319,8 @@ public interface TableRecords {
         
         @SneakyThrows(IOException.class)
         @Override
-        public byte[] toBytes() {
-            return SERIALIZER.serialize(this).getCopy();
+        public ByteArraySegment toBytes() {
+            return SERIALIZER.serialize(this);
         }
 
         private static class SchemaVersionListBuilder implements ObjectBuilder<SchemaVersionList> {
@@ -480,8 +486,8 @@ public interface TableRecords {
 
         @SneakyThrows(IOException.class)
         @Override
-        public byte[] toBytes() {
-            return SERIALIZER.serialize(this).getCopy();
+        public ByteArraySegment toBytes() {
+            return SERIALIZER.serialize(this);
         }
 
         private static class VersionDeletedRecordBuilder implements ObjectBuilder<VersionDeletedRecord> {
@@ -587,8 +593,8 @@ public interface TableRecords {
 
         @Override
         @SneakyThrows(IOException.class)
-        public byte[] toBytes() {
-            return SERIALIZER.serialize(this).getCopy();
+        public ByteArraySegment toBytes() {
+            return SERIALIZER.serialize(this);
         }
         
         public static class SchemaRecordBuilder implements ObjectBuilder<SchemaRecord> {
@@ -655,8 +661,8 @@ public interface TableRecords {
         
         @Override
         @SneakyThrows(IOException.class)
-        public byte[] toBytes() {
-            return SERIALIZER.serialize(this).getCopy();
+        public ByteArraySegment toBytes() {
+            return SERIALIZER.serialize(this);
         }
 
         private static class SchemaChunkRecordBuilder implements ObjectBuilder<SchemaChunkRecord> {
@@ -731,8 +737,8 @@ public interface TableRecords {
 
         @SneakyThrows(IOException.class)
         @Override
-        public byte[] toBytes() {
-            return SERIALIZER.serialize(this).getCopy();
+        public ByteArraySegment toBytes() {
+            return SERIALIZER.serialize(this);
         }
 
         private static class CodecTypesListValueBuilder implements ObjectBuilder<CodecTypesListValue> {
@@ -813,8 +819,8 @@ public interface TableRecords {
 
         @SneakyThrows(IOException.class)
         @Override
-        public byte[] toBytes() {
-            return SERIALIZER.serialize(this).getCopy();
+        public ByteArraySegment toBytes() {
+            return SERIALIZER.serialize(this);
         }
 
         private static class CodecTypeValueBuilder implements ObjectBuilder<CodecTypeValue> {
@@ -893,8 +899,8 @@ public interface TableRecords {
         
         @SneakyThrows(IOException.class)
         @Override
-        public byte[] toBytes() {
-            return SERIALIZER.serialize(this).getCopy();
+        public ByteArraySegment toBytes() {
+            return SERIALIZER.serialize(this);
         }
 
         private static class LatestSchemasValueBuilder implements ObjectBuilder<LatestSchemasValue> {
@@ -1044,8 +1050,8 @@ public interface TableRecords {
 
         @SneakyThrows(IOException.class)
         @Override
-        public byte[] toBytes() {
-            return SERIALIZER.serialize(this).getCopy();
+        public ByteArraySegment toBytes() {
+            return SERIALIZER.serialize(this);
         }
 
         private static class EncodingInfoRecordBuilder implements ObjectBuilder<EncodingInfoRecord> {
@@ -1089,8 +1095,8 @@ public interface TableRecords {
 
         @SneakyThrows(IOException.class)
         @Override
-        public byte[] toBytes() {
-            return SERIALIZER.serialize(this).getCopy();
+        public ByteArraySegment toBytes() {
+            return SERIALIZER.serialize(this);
         }
 
         private static class EncodingIdRecordBuilder implements ObjectBuilder<EncodingIdRecord> {
@@ -1165,8 +1171,8 @@ public interface TableRecords {
 
         @SneakyThrows(IOException.class)
         @Override
-        public byte[] toBytes() {
-            return SERIALIZER.serialize(this).getCopy();
+        public ByteArraySegment toBytes() {
+            return SERIALIZER.serialize(this);
         }
 
         private static class LatestEncodingIdValueBuilder implements ObjectBuilder<LatestEncodingIdValue> {
@@ -1208,8 +1214,8 @@ public interface TableRecords {
 
         @SneakyThrows(IOException.class)
         @Override
-        public byte[] toBytes() {
-            return SERIALIZER.serialize(this).getCopy();
+        public ByteArraySegment toBytes() {
+            return SERIALIZER.serialize(this);
         }
 
         private static class SchemaIdValueBuilder implements ObjectBuilder<SchemaIdValue> {
@@ -1246,4 +1252,10 @@ public interface TableRecords {
     static <T extends TableValue> T fromBytes(Class<? extends TableKey> keyClass, byte[] bytes, Class<T> valueClass) {
         return (T) SERIALIZERS_BY_KEY_TYPE.get(keyClass).deserialize(bytes);
     }
+
+    @SneakyThrows(IOException.class)
+    @SuppressWarnings("unchecked")
+    static <T extends TableValue> T fromStream(Class<? extends TableKey> keyClass, InputStream stream, Class<T> valueClass) {
+        return (T) SERIALIZERS_BY_KEY_TYPE.get(keyClass).deserialize(stream);
+    }
 }
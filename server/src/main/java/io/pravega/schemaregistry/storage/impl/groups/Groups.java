@@ -14,6 +14,8 @@ import io.pravega.schemaregistry.contract.data.GroupProperties;
 import io.pravega.schemaregistry.storage.ContinuationToken;
 import io.pravega.schemaregistry.storage.impl.group.Group;
 
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -33,6 +35,29 @@ public interface Groups<T> {
      */
     CompletableFuture<Group<T>> getGroup(String namespace, String group);
 
+    /**
+     * Get a handle to the group identified by namespace and group for updating it. This is same as {@link #getGroup} 
+     * except that if the implementation caches group handles, the cached handle is validated against the groups table. 
+     * This ensures that updates are not applied to a previous incarnation of a group that was deleted or recreated 
+     * concurrently. 
+     * 
+     * @param namespace namespace 
+     * @param group group
+     * @return CompletableFuture which holds the handle to the group object. 
+     */
+    CompletableFuture<Group<T>> getGroupForUpdate(String namespace, String group);
+
+    /**
+     * Get handles to a batch of groups within the namespace. This is the bulk equivalent of {@link #getGroup} and the 
+     * implementation should resolve all the groups with as few reads as possible. 
+     * Groups that dont exist or are being created or deleted concurrently are not included in the result. 
+     * 
+     * @param namespace namespace 
+     * @param groups groups to resolve. 
+     * @return CompletableFuture which holds the handles to the groups that exist keyed by group name. 
+     */
+    CompletableFuture<Map<String, Group<T>>> getGroups(String namespace, List<String> groups);
+
     /**
      * Add a new group to the groups table. this implementation is idempotent. If a group has already been added previously,
      * this api will return false, true otherwise. Adding a group is non atomic action as it performs updates across
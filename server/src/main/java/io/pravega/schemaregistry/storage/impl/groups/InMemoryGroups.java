@@ -47,6 +47,24 @@ public class InMemoryGroups implements Groups<Integer> {
         return CompletableFuture.completedFuture(groups.get(new NamespaceAndGroup(namespace, group)));
     }
 
+    @Override
+    public CompletableFuture<Group<Integer>> getGroupForUpdate(String namespace, String group) {
+        return getGroup(namespace, group);
+    }
+
+    @Synchronized
+    @Override
+    public CompletableFuture<Map<String, Group<Integer>>> getGroups(String namespace, List<String> groupNames) {
+        Map<String, Group<Integer>> result = new HashMap<>();
+        groupNames.forEach(x -> {
+            Group<Integer> grp = groups.get(new NamespaceAndGroup(namespace, x));
+            if (grp != null) {
+                result.put(x, grp);
+            }
+        });
+        return CompletableFuture.completedFuture(result);
+    }
+
     @Synchronized
     @Override
     public CompletableFuture<Boolean> addNewGroup(String namespace, String group, GroupProperties groupProperties) {
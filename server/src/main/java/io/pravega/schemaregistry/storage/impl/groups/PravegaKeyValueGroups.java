@@ -9,6 +9,9 @@
  */
 package io.pravega.schemaregistry.storage.impl.groups;
 
+import com.google.common.base.Charsets;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
 import io.pravega.client.tables.impl.IteratorStateImpl;
@@ -17,6 +20,7 @@ import io.pravega.common.concurrent.Futures;
 import io.pravega.schemaregistry.ResultPage;
 import io.pravega.schemaregistry.common.FuturesUtility;
 import io.pravega.schemaregistry.contract.data.GroupProperties;
+import io.pravega.schemaregistry.service.Config;
 import io.pravega.schemaregistry.storage.ContinuationToken;
 import io.pravega.schemaregistry.storage.StoreExceptions;
 import io.pravega.schemaregistry.storage.client.TableStore;
@@ -25,14 +29,22 @@ import io.pravega.schemaregistry.storage.impl.group.Group;
 import io.pravega.schemaregistry.storage.impl.group.PravegaKVGroupTable;
 import io.pravega.schemaregistry.storage.impl.group.records.NamespaceAndGroup;
 import lombok.Data;
+import lombok.Synchronized;
+
+import javax.annotation.concurrent.GuardedBy;
 
 import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -40,19 +52,81 @@ import java.util.stream.Collectors;
 
 public class PravegaKeyValueGroups implements Groups<Version> {
     public static final String GROUPS = TableStore.SCHEMA_REGISTRY_SCOPE + "/groups/0";
+    /**
+     * Per namespace index of groups. Each namespace has its own table keyed by {@link NamespaceAndGroup} so that listing 
+     * the groups of a namespace only reads the groups of that namespace. The table name is derived from a name based 
+     * uuid of the namespace as namespaces may contain characters that are not allowed in table names. 
+     */
+    static final String NAMESPACE_TABLE_FORMAT = TableStore.SCHEMA_REGISTRY_SCOPE + "/%s.#.namespace/0";
+    /**
+     * Key of the namespace table that marks the index of the namespace as complete. Namespace tables without this key 
+     * are still being populated with the groups that were added before the namespace index was introduced. The key is 
+     * not a serialized {@link NamespaceAndGroup} so it never collides with the key of a group. 
+     */
+    static final byte[] NAMESPACE_INDEXED_KEY = "#.indexed".getBytes(Charsets.UTF_8);
+    /**
+     * Prefix of continuation tokens of listings that scan the groups table. 
+     */
+    static final String GROUPS_TOKEN_PREFIX = "groups:";
 
     private final TableStore tableStore;
     private final ScheduledExecutorService executor;
+    /**
+     * Cache of active groups resolved from the groups table. The group object is reused across requests so that its 
+     * cached metadata and schema history are retained. Entries are invalidated when the group is deleted or recreated 
+     * by this instance and expire after a short duration to bound staleness when groups are deleted by another instance.
+     * Updates always validate the cached entry against the groups table, see {@link #getGroupForUpdate}. 
+     */
+    private final Cache<NamespaceAndGroup, GroupObj> activeGroups;
+    /**
+     * Incremented whenever an entry of active groups is invalidated. A group resolved from the groups table is only 
+     * cached if no invalidation happened while it was being resolved, so that a resolution that raced with a delete 
+     * does not cache the deleted group. 
+     */
+    @GuardedBy("$lock")
+    private long invalidations;
 
     public PravegaKeyValueGroups(TableStore tableStore, ScheduledExecutorService executor) {
         this.tableStore = tableStore;
         this.executor = executor;
+        this.activeGroups = CacheBuilder.newBuilder()
+                                        .maximumSize(Config.GROUPS_CACHE_SIZE)
+                                        .expireAfterWrite(Config.GROUPS_CACHE_TTL_MILLIS, TimeUnit.MILLISECONDS)
+                                        .build();
     }
 
     @Override
     public CompletableFuture<Group<Version>> getGroup(String namespace, String group) {
+        NamespaceAndGroup namespaceAndGroup = new NamespaceAndGroup(namespace, group);
+        GroupObj cached = activeGroups.getIfPresent(namespaceAndGroup);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached.getGroup());
+        }
+        return resolveGroup(namespaceAndGroup, null);
+    }
+
+    /**
+     * Reads the group's entry from the groups table even if the group is cached. The cached group object is reused only 
+     * if it refers to the same incarnation of the group, so updates are never applied to the table of a group that 
+     * was deleted or recreated by another instance. 
+     */
+    @Override
+    public CompletableFuture<Group<Version>> getGroupForUpdate(String namespace, String group) {
+        NamespaceAndGroup namespaceAndGroup = new NamespaceAndGroup(namespace, group);
+        GroupObj cached = activeGroups.getIfPresent(namespaceAndGroup);
+        return resolveGroup(namespaceAndGroup, cached)
+                .whenComplete((r, e) -> {
+                    if (e != null && cached != null && Exceptions.unwrap(e) instanceof StoreExceptions.DataNotFoundException) {
+                        // the group was deleted by another instance. 
+                        invalidateGroup(namespaceAndGroup);
+                    }
+                });
+    }
+
+    private CompletableFuture<Group<Version>> resolveGroup(NamespaceAndGroup namespaceAndGroup, GroupObj cached) {
+        long generation = getInvalidations();
         return withCreateGroupsTableIfAbsent(() -> tableStore.getEntry(GROUPS, 
-                new NamespaceAndGroup(namespace, group).toBytes(), GroupsValue::fromBytes))
+                namespaceAndGroup.toBytes(), GroupsValue::fromBytes))
                 .thenCompose(entry -> {
                     if (entry.getRecord().getState().equals(GroupsValue.State.Creating)) {
                         // if a group is in creating state, we will throw data not found exception as this group is not 
@@ -60,13 +134,57 @@ public class PravegaKeyValueGroups implements Groups<Version> {
                         throw StoreExceptions.create(StoreExceptions.Type.DATA_NOT_FOUND, "group not created yet.");
                     } else if (entry.getRecord().getState().equals(GroupsValue.State.Deleting)) {
                         // if a get group request is made for a deleting group, we will delete it and throw data not found.
-                        return deleteGroup(namespace, group)
+                        return deleteGroup(namespaceAndGroup.getNamespace(), namespaceAndGroup.getGroupId())
                                 .thenApply(v -> {
                                     throw StoreExceptions.create(StoreExceptions.Type.DATA_NOT_FOUND, "group not found.");
                                 });
+                    } else if (cached != null && cached.getId().equals(entry.getRecord().getId())) {
+                        return CompletableFuture.completedFuture(cached.getGroup());
                     } else {
-                        return CompletableFuture.completedFuture(getGroupObject(entry.getRecord()).getGroup());
+                        GroupObj groupObject = getGroupObject(entry.getRecord());
+                        cacheGroup(namespaceAndGroup, groupObject, generation);
+                        return CompletableFuture.completedFuture(groupObject.getGroup());
+                    }
+                });
+    }
+
+    /**
+     * Resolves the groups from the cache of active groups and reads the entries of the remaining groups from the groups 
+     * table with a single read. Groups that are not active are skipped. 
+     */
+    @Override
+    public CompletableFuture<Map<String, Group<Version>>> getGroups(String namespace, List<String> groups) {
+        Map<String, Group<Version>> result = new HashMap<>();
+        List<NamespaceAndGroup> toRead = new ArrayList<>();
+        for (String group : groups) {
+            NamespaceAndGroup namespaceAndGroup = new NamespaceAndGroup(namespace, group);
+            GroupObj cached = activeGroups.getIfPresent(namespaceAndGroup);
+            if (cached != null) {
+                result.put(group, cached.getGroup());
+            } else {
+                toRead.add(namespaceAndGroup);
+            }
+        }
+        if (toRead.isEmpty()) {
+            return CompletableFuture.completedFuture(result);
+        }
+        List<byte[]> keys = toRead.stream().map(NamespaceAndGroup::toBytes).collect(Collectors.toList());
+        long generation = getInvalidations();
+        return withCreateGroupsTableIfAbsent(() -> tableStore.getEntries(GROUPS, keys, false))
+                .thenApply(entries -> {
+                    for (int i = 0; i < entries.size(); i++) {
+                        byte[] record = entries.get(i).getRecord();
+                        if (record == null) {
+                            continue;
+                        }
+                        GroupsValue value = GroupsValue.fromBytes(record);
+                        if (value.getState().equals(GroupsValue.State.Active)) {
+                            GroupObj groupObject = getGroupObject(value);
+                            cacheGroup(toRead.get(i), groupObject, generation);
+                            result.put(toRead.get(i).getGroupId(), groupObject.getGroup());
+                        }
                     }
+                    return result;
                 });
     }
 
@@ -79,8 +197,17 @@ public class PravegaKeyValueGroups implements Groups<Version> {
         // 4. update groups entry to active
         String id = UUID.randomUUID().toString();
         GroupsValue value = new GroupsValue(id, GroupsValue.State.Creating);
-        byte[] key = new NamespaceAndGroup(namespace, group).toBytes();
-        return withCreateGroupsTableIfAbsent(() -> tableStore.addNewEntryIfAbsent(GROUPS, key, value.toBytes()))
+        NamespaceAndGroup namespaceAndGroup = new NamespaceAndGroup(namespace, group);
+        byte[] key = namespaceAndGroup.toBytes();
+        invalidateGroup(namespaceAndGroup);
+        long generation = getInvalidations();
+        // the group is added to the namespace index before it is added to the groups table so that every group in the 
+        // groups table is listed. Index entries for groups that were not created are skipped when the groups are listed. 
+        String namespaceTable = getNamespaceTableName(namespaceAndGroup.getNamespace());
+        return withCreateNamespaceTableIfAbsent(namespaceAndGroup.getNamespace(), 
+                () -> tableStore.addNewEntryIfAbsent(namespaceTable, key, group.getBytes(Charsets.UTF_8)))
+                .thenCompose(v -> indexNamespace(namespaceAndGroup.getNamespace()))
+                .thenCompose(v -> withCreateGroupsTableIfAbsent(() -> tableStore.addNewEntryIfAbsent(GROUPS, key, value.toBytes())))
                 .thenCompose(v -> tableStore.getEntry(GROUPS, key, GroupsValue::fromBytes))
                 .thenCompose(entry -> {
                     if (entry.getRecord().getState().equals(GroupsValue.State.Creating)) {
@@ -96,32 +223,61 @@ public class PravegaKeyValueGroups implements Groups<Version> {
                                         byte[] newValue = new GroupsValue(entry.getRecord().getId(), GroupsValue.State.Active).toBytes();
                                         return tableStore.updateEntry(GROUPS, key, newValue, entry.getVersion());
                                     })
-                                    .thenApply(v -> toReturn);
+                                    .thenApply(v -> {
+                                        cacheGroup(namespaceAndGroup, groupObject, generation);
+                                        return toReturn;
+                                    });
                     } else {
                         return CompletableFuture.completedFuture(false);
                     }
                 });
     }
 
+    /**
+     * Lists the groups from the namespace index once the index of the namespace is complete. Until then the groups 
+     * table is scanned for the groups of the namespace. Continuation tokens of the scan of the groups table are prefixed 
+     * with {@link #GROUPS_TOKEN_PREFIX} so that a listing that started on the groups table continues on it. 
+     * Listing never creates tables; missing tables have no groups. 
+     */
     @Override
     public CompletableFuture<ResultPage<String, ContinuationToken>> listGroups(String nameSpace, ContinuationToken token, int limit) {
         String namespace = nameSpace == null ? "" : nameSpace;
+        String tokenString = token == null ? "" : token.toString();
+        if (tokenString.startsWith(GROUPS_TOKEN_PREFIX)) {
+            return listGroups(GROUPS, namespace, tokenString.substring(GROUPS_TOKEN_PREFIX.length()), limit, GROUPS_TOKEN_PREFIX);
+        } else if (!tokenString.isEmpty()) {
+            return listGroups(getNamespaceTableName(namespace), namespace, tokenString, limit, "");
+        }
+        return isNamespaceIndexed(namespace)
+                .thenCompose(indexed -> indexed 
+                        ? listGroups(getNamespaceTableName(namespace), namespace, tokenString, limit, "")
+                        : listGroups(GROUPS, namespace, tokenString, limit, GROUPS_TOKEN_PREFIX));
+    }
+
+    private CompletableFuture<ResultPage<String, ContinuationToken>> listGroups(String table, String namespace, String token, 
+                                                                               int limit, String tokenPrefix) {
         ByteBuf continuationToken;
-        if (token == null || token.equals(ContinuationToken.EMPTY)) {
+        if (token.isEmpty()) {
             continuationToken = IteratorStateImpl.EMPTY.getToken();
         } else {
-            byte[] bytes = Base64.getDecoder().decode(token.toString());
+            byte[] bytes = Base64.getDecoder().decode(token);
             continuationToken = Unpooled.wrappedBuffer(bytes);
         }
-        BiFunction<ByteBuf, Integer, CompletableFuture<Map.Entry<ByteBuf, List<NamespaceAndGroup>>>> function = 
-                (ByteBuf t, Integer l) -> withCreateGroupsTableIfAbsent(
-                        () -> tableStore.getKeysPaginated(GROUPS, t, l, NamespaceAndGroup::fromBytes)
-                                        .thenApply(page -> new AbstractMap.SimpleEntry<>(page.getToken(), page.getList())));
-        Predicate<NamespaceAndGroup> predicate = x -> x.getNamespace().equals(namespace);
+        BiFunction<ByteBuf, Integer, CompletableFuture<Map.Entry<ByteBuf, List<byte[]>>>> function = 
+                (ByteBuf t, Integer l) -> Futures.exceptionallyExpecting(
+                        tableStore.getKeysPaginated(table, t, l, x -> x)
+                                  .<Map.Entry<ByteBuf, List<byte[]>>>thenApply(page -> new AbstractMap.SimpleEntry<>(page.getToken(), page.getList())),
+                        e -> Exceptions.unwrap(e) instanceof StoreExceptions.DataContainerNotFoundException, 
+                        new AbstractMap.SimpleEntry<>(t, Collections.emptyList()));
+        // namespaces whose table names collide share the table. 
+        Predicate<byte[]> predicate = x -> !Arrays.equals(x, NAMESPACE_INDEXED_KEY) 
+                && NamespaceAndGroup.fromBytes(x).getNamespace().equals(namespace);
         return FuturesUtility.filteredWithTokenAndLimit(function, predicate, continuationToken, limit, executor)
                              .thenApply(result -> {
-                                             List<String> groups = result.getValue().stream().map(NamespaceAndGroup::getGroupId).collect(Collectors.toList());
-                                             ContinuationToken continuationTok = ContinuationToken.create(Base64.getEncoder().encodeToString(result.getKey().array()));
+                                             List<String> groups = result.getValue().stream().map(x -> NamespaceAndGroup.fromBytes(x).getGroupId())
+                                                                         .collect(Collectors.toList());
+                                             ContinuationToken continuationTok = ContinuationToken.create(
+                                                     tokenPrefix + Base64.getEncoder().encodeToString(result.getKey().array()));
                                              return new ResultPage<>(groups, continuationTok);
                                          });
     }
@@ -131,7 +287,9 @@ public class PravegaKeyValueGroups implements Groups<Version> {
         // 1. if group state is "active" or "deleting", mark group entry in groups table as deleting.
         // 2. call group.delete
         // 3. delete the entry in groups table
-        byte[] key = new NamespaceAndGroup(namespace, group).toBytes();
+        NamespaceAndGroup namespaceAndGroup = new NamespaceAndGroup(namespace, group);
+        byte[] key = namespaceAndGroup.toBytes();
+        invalidateGroup(namespaceAndGroup);
         return Futures.exceptionallyExpecting(
                 tableStore.getEntry(GROUPS, key, GroupsValue::fromBytes)
                           .thenCompose(entry -> {
@@ -141,7 +299,9 @@ public class PravegaKeyValueGroups implements Groups<Version> {
                                                    .thenCompose(version -> {
                                                        GroupObj grpObj = getGroupObject(newValue);
                                                        return grpObj.getGroupTable().delete()
-                                                                    .thenCompose(v -> tableStore.removeEntry(GROUPS, key));
+                                                                    .thenCompose(v -> tableStore.removeEntry(GROUPS, key))
+                                                                    .thenCompose(v -> removeFromNamespaceIndex(namespaceAndGroup))
+                                                                    .thenRun(() -> invalidateGroup(namespaceAndGroup));
                                                    });
                               } else {
                                   return CompletableFuture.completedFuture(null);
@@ -153,7 +313,71 @@ public class PravegaKeyValueGroups implements Groups<Version> {
     private GroupObj getGroupObject(GroupsValue value) {
         PravegaKVGroupTable groupTable = new PravegaKVGroupTable(value.getId(), tableStore);
         Group<Version> group = new Group<>(groupTable, executor);
-        return new GroupObj(group, groupTable);
+        return new GroupObj(value.getId(), group, groupTable);
+    }
+
+    @Synchronized
+    private long getInvalidations() {
+        return invalidations;
+    }
+
+    @Synchronized
+    private void cacheGroup(NamespaceAndGroup namespaceAndGroup, GroupObj groupObject, long generation) {
+        if (invalidations == generation) {
+            activeGroups.put(namespaceAndGroup, groupObject);
+        }
+    }
+
+    @Synchronized
+    private void invalidateGroup(NamespaceAndGroup namespaceAndGroup) {
+        invalidations++;
+        activeGroups.invalidate(namespaceAndGroup);
+    }
+
+    private CompletableFuture<Void> removeFromNamespaceIndex(NamespaceAndGroup namespaceAndGroup) {
+        return Futures.exceptionallyExpecting(
+                tableStore.removeEntry(getNamespaceTableName(namespaceAndGroup.getNamespace()), namespaceAndGroup.toBytes()),
+                e -> Exceptions.unwrap(e) instanceof StoreExceptions.DataContainerNotFoundException, null);
+    }
+
+    private static String getNamespaceTableName(String namespace) {
+        UUID id = UUID.nameUUIDFromBytes(namespace.getBytes(Charsets.UTF_8));
+        return String.format(NAMESPACE_TABLE_FORMAT, id);
+    }
+
+    private CompletableFuture<Boolean> isNamespaceIndexed(String namespace) {
+        return Futures.exceptionallyExpecting(
+                tableStore.getEntries(getNamespaceTableName(namespace), Collections.singletonList(NAMESPACE_INDEXED_KEY), false)
+                          .thenApply(entries -> entries.get(0).getRecord() != null),
+                e -> Exceptions.unwrap(e) instanceof StoreExceptions.DataContainerNotFoundException, false);
+    }
+
+    /**
+     * Completes the namespace index with the groups of the namespace that were added before the namespace index was 
+     * introduced. The groups are copied from the groups table into the namespace table and the completion marker is 
+     * written last, so an interrupted copy is resumed by the next group that is added to the namespace. This is a 
+     * one time scan of the groups table per namespace. 
+     */
+    private CompletableFuture<Void> indexNamespace(String namespace) {
+        String namespaceTable = getNamespaceTableName(namespace);
+        return isNamespaceIndexed(namespace)
+                .thenCompose(indexed -> {
+                    if (indexed) {
+                        return CompletableFuture.completedFuture(null);
+                    }
+                    return withCreateGroupsTableIfAbsent(() -> tableStore.getAllKeys(GROUPS, NamespaceAndGroup::fromBytes))
+                            .thenCompose(keys -> Futures.allOf(keys.stream().filter(x -> x.getNamespace().equals(namespace))
+                                                                   .map(x -> tableStore.addNewEntryIfAbsent(namespaceTable, x.toBytes(),
+                                                                           x.getGroupId().getBytes(Charsets.UTF_8)))
+                                                                   .collect(Collectors.toList())))
+                            .thenCompose(v -> tableStore.addNewEntryIfAbsent(namespaceTable, NAMESPACE_INDEXED_KEY, new byte[0]));
+                });
+    }
+
+    private <T> CompletableFuture<T> withCreateNamespaceTableIfAbsent(String namespace, Supplier<CompletableFuture<T>> supplier) {
+        return Futures.exceptionallyComposeExpecting(supplier.get(),
+                e -> Exceptions.unwrap(e) instanceof StoreExceptions.DataContainerNotFoundException,
+                () -> tableStore.createTable(getNamespaceTableName(namespace)).thenCompose(v -> supplier.get()));
     }
 
     private <T> CompletableFuture<T> withCreateGroupsTableIfAbsent(Supplier<CompletableFuture<T>> supplier) {
@@ -164,6 +388,7 @@ public class PravegaKeyValueGroups implements Groups<Version> {
 
     @Data
     private static class GroupObj {
+        private final String id;
         private final Group<Version> group;
         private final PravegaKVGroupTable groupTable;
     }
@@ -0,0 +1,62 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.rules;
+
+import com.google.common.base.Charsets;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import io.pravega.schemaregistry.contract.data.SchemaInfo;
+import io.pravega.schemaregistry.contract.data.SerializationFormat;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class AvroCompatibilityCheckerTest {
+    @Test
+    public void testParsedSchemaCache() {
+        AvroCompatibilityChecker checker = new AvroCompatibilityChecker(10);
+        Schema schema1 = SchemaBuilder.record("MyTest").fields().name("a").type(Schema.create(Schema.Type.STRING))
+                                      .noDefault().endRecord();
+        Schema schema2 = SchemaBuilder.record("MyTest").fields().name("a").type(Schema.create(Schema.Type.STRING))
+                                      .noDefault().name("b").type(Schema.create(Schema.Type.STRING))
+                                      .withDefault("").endRecord();
+        Schema schema3 = SchemaBuilder.record("MyTest").fields().name("a").type(Schema.create(Schema.Type.STRING))
+                                      .noDefault().name("c").type(Schema.create(Schema.Type.STRING))
+                                      .noDefault().endRecord();
+        SchemaInfo schemaInfo1 = toSchemaInfo(schema1);
+        SchemaInfo schemaInfo2 = toSchemaInfo(schema2);
+        SchemaInfo schemaInfo3 = toSchemaInfo(schema3);
+
+        assertTrue(checker.canRead(schemaInfo2, Lists.newArrayList(schemaInfo1)));
+        assertEquals(0, checker.getCacheStats().hitCount());
+        assertEquals(2, checker.getCacheStats().missCount());
+
+        // previously parsed schemas should be served from the cache. 
+        assertFalse(checker.canRead(schemaInfo3, Lists.newArrayList(schemaInfo1, schemaInfo2)));
+        assertEquals(2, checker.getCacheStats().hitCount());
+        assertEquals(3, checker.getCacheStats().missCount());
+
+        assertTrue(checker.canBeRead(schemaInfo1, Lists.newArrayList(schemaInfo2)));
+        assertTrue(checker.canMutuallyRead(schemaInfo1, Lists.newArrayList(schemaInfo2)));
+        assertEquals(6, checker.getCacheStats().hitCount());
+        assertEquals(3, checker.getCacheStats().missCount());
+    }
+
+    private SchemaInfo toSchemaInfo(Schema schema) {
+        return new SchemaInfo(schema.getFullName(), SerializationFormat.Avro,
+                ByteBuffer.wrap(schema.toString().getBytes(Charsets.UTF_8)), ImmutableMap.of());
+    }
+}
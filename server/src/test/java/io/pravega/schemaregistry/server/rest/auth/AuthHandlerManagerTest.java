@@ -10,18 +10,31 @@
 package io.pravega.schemaregistry.server.rest.auth;
 
 import io.pravega.auth.AuthConstants;
+import io.pravega.auth.AuthHandler;
+import io.pravega.auth.AuthenticationException;
 import io.pravega.schemaregistry.server.rest.ServiceConfig;
 import io.pravega.shared.security.crypto.StrongPasswordProcessor;
+import io.pravega.test.common.AssertExtensions;
 import org.junit.Test;
 
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.security.NoSuchAlgorithmException;
+import java.security.Principal;
 import java.security.spec.InvalidKeySpecException;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 
 public class AuthHandlerManagerTest {
@@ -40,6 +53,42 @@ public class AuthHandlerManagerTest {
         assertFalse(manager.getHandlerMap().containsKey(AuthConstants.BASIC));
     }
 
+    @Test
+    public void testAuthCache() throws Exception {
+        ServiceConfig serviceConfig = ServiceConfig.builder().authEnabled(true).disablePasswordAuth(true).build();
+        AuthHandlerManager manager = new AuthHandlerManager(serviceConfig);
+        AuthHandler handler = mock(AuthHandler.class);
+        Principal principal = () -> "admin";
+        doReturn("test").when(handler).getHandlerName();
+        doReturn(principal).when(handler).authenticate("token");
+        doThrow(new AuthenticationException("bad token")).when(handler).authenticate("bad");
+        doReturn(AuthHandler.Permissions.READ).when(handler).authorize(anyString(), any());
+        manager.registerHandler(handler);
+
+        // authenticated credentials are cached
+        AuthContext context = manager.getContext("test token");
+        context.authenticate();
+        assertEquals(principal, context.getUserPrincipal());
+        context = manager.getContext("test token");
+        context.authenticate();
+        assertEquals(principal, context.getUserPrincipal());
+        verify(handler, times(1)).authenticate("token");
+
+        // failed authentications are not cached
+        AssertExtensions.assertThrows("", () -> manager.getContext("test bad").authenticate(),
+                e -> e instanceof AuthenticationException);
+        AssertExtensions.assertThrows("", () -> manager.getContext("test bad").authenticate(),
+                e -> e instanceof AuthenticationException);
+        verify(handler, times(2)).authenticate("bad");
+
+        // authorization decisions are cached per principal and resource
+        assertTrue(context.authorize("prn::/namespace:ns", AuthHandler.Permissions.READ));
+        assertFalse(context.authorize("prn::/namespace:ns", AuthHandler.Permissions.READ_UPDATE));
+        verify(handler, times(1)).authorize(eq("prn::/namespace:ns"), any());
+        assertTrue(context.authorize("prn::/namespace:ns2", AuthHandler.Permissions.READ));
+        verify(handler, times(1)).authorize(eq("prn::/namespace:ns2"), any());
+    }
+
     private File createAuthFile() {
         try {
             File authFile = File.createTempFile("auth_file", ".txt");
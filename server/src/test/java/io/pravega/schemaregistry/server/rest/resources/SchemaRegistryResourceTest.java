@@ -12,6 +12,7 @@ package io.pravega.schemaregistry.server.rest.resources;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import io.pravega.common.concurrent.Futures;
+import io.pravega.common.util.RetriesExhaustedException;
 import io.pravega.schemaregistry.ResultPage;
 import io.pravega.schemaregistry.contract.data.CodecType;
 import io.pravega.schemaregistry.contract.data.Compatibility;
@@ -26,23 +27,31 @@ import io.pravega.schemaregistry.contract.generated.rest.model.AddedTo;
 import io.pravega.schemaregistry.contract.generated.rest.model.CanRead;
 import io.pravega.schemaregistry.contract.generated.rest.model.CodecTypes;
 import io.pravega.schemaregistry.contract.generated.rest.model.CreateGroupRequest;
+import io.pravega.schemaregistry.contract.generated.rest.model.EncodingInfoList;
 import io.pravega.schemaregistry.contract.generated.rest.model.GetEncodingIdRequest;
+import io.pravega.schemaregistry.contract.generated.rest.model.GroupHistory;
 import io.pravega.schemaregistry.contract.generated.rest.model.ListGroupsResponse;
 import io.pravega.schemaregistry.contract.generated.rest.model.SchemaVersionsList;
 import io.pravega.schemaregistry.contract.generated.rest.model.UpdateCompatibilityRequest;
 import io.pravega.schemaregistry.contract.generated.rest.model.Valid;
 import io.pravega.schemaregistry.contract.generated.rest.model.ValidateRequest;
 import io.pravega.schemaregistry.contract.transform.ModelHelper;
+import io.pravega.schemaregistry.contract.v1.SmileProvider;
 import io.pravega.schemaregistry.exceptions.CodecTypeNotRegisteredException;
 import io.pravega.schemaregistry.exceptions.IncompatibleSchemaException;
 import io.pravega.schemaregistry.exceptions.PreconditionFailedException;
 import io.pravega.schemaregistry.exceptions.SerializationFormatMismatchException;
+import io.pravega.schemaregistry.exceptions.ServiceUnavailableException;
 import io.pravega.schemaregistry.server.rest.RegistryApplication;
 import io.pravega.schemaregistry.server.rest.ServiceConfig;
 import io.pravega.schemaregistry.server.rest.auth.AuthHandlerManager;
 import io.pravega.schemaregistry.server.rest.filter.NamespaceRedirectFilter;
+import io.pravega.schemaregistry.server.rest.filter.VaryAcceptFilter;
 import io.pravega.schemaregistry.service.SchemaRegistryService;
+import io.pravega.schemaregistry.storage.ContinuationToken;
+import io.pravega.schemaregistry.storage.Etag;
 import io.pravega.schemaregistry.storage.StoreExceptions;
+import org.glassfish.jersey.client.ClientConfig;
 import org.glassfish.jersey.test.JerseyTest;
 import org.glassfish.jersey.test.TestProperties;
 import org.junit.After;
@@ -50,6 +59,8 @@ import org.junit.Test;
 
 import javax.ws.rs.client.Entity;
 import javax.ws.rs.core.Application;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import java.nio.ByteBuffer;
@@ -66,16 +77,23 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.stream.Collectors;
 
 import static io.pravega.schemaregistry.storage.StoreExceptions.Type;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 public class SchemaRegistryResourceTest extends JerseyTest {
     private static final String GROUPS = "v1/groups";
@@ -88,8 +106,12 @@ public class SchemaRegistryResourceTest extends JerseyTest {
         executor = Executors.newSingleThreadScheduledExecutor();
         forceSet(TestProperties.CONTAINER_PORT, "0");
         service = mock(SchemaRegistryService.class);
+        Etag etag = () -> 0;
+        doAnswer(x -> CompletableFuture.completedFuture(etag)).when(service).getGroupEtag(any(), anyString());
         final Set<Object> resourceObjs = new HashSet<>();
         resourceObjs.add(new NamespaceRedirectFilter());
+        resourceObjs.add(new VaryAcceptFilter());
+        resourceObjs.add(new SmileProvider());
         ServiceConfig config = ServiceConfig.builder().build();
         AuthHandlerManager authHandlerManager = new AuthHandlerManager(config);
         resourceObjs.add(new GroupResourceImpl(service, config, authHandlerManager, executor));
@@ -98,6 +120,11 @@ public class SchemaRegistryResourceTest extends JerseyTest {
         return new RegistryApplication(resourceObjs);
     }
 
+    @Override
+    protected void configureClient(ClientConfig config) {
+        config.register(new SmileProvider());
+    }
+
     @After
     public void tearDown() {
         executor.shutdownNow();
@@ -186,6 +213,36 @@ public class SchemaRegistryResourceTest extends JerseyTest {
         assertEquals(200, response.getStatus());
         assertEquals(ModelHelper.encode(SerializationFormat.Avro), response.readEntity(
                 io.pravega.schemaregistry.contract.generated.rest.model.GroupProperties.class).getSerializationFormat());
+        EntityTag tag = response.getEntityTag();
+        assertTrue(tag.isWeak());
+        assertEquals("no-cache", response.getHeaderString(HttpHeaders.CACHE_CONTROL));
+        // matching If-None-Match returns not modified.
+        response = target(GROUPS + "/" + groupName).request().header(HttpHeaders.IF_NONE_MATCH, tag.toString()).async().get().get();
+        assertEquals(304, response.getStatus());
+        assertEquals(tag, response.getEntityTag());
+        // group etag changes with updates to the group.
+        Etag updated = () -> 1;
+        doAnswer(x -> CompletableFuture.completedFuture(updated)).when(service).getGroupEtag(any(), anyString());
+        response = target(GROUPS + "/" + groupName).request().header(HttpHeaders.IF_NONE_MATCH, tag.toString()).async().get().get();
+        assertEquals(200, response.getStatus());
+        assertNotEquals(tag, response.getEntityTag());
+        // a recreated group whose etag repeats the etag of the deleted group is not considered unmodified.
+        tag = response.getEntityTag();
+        Etag recreated = new Etag<Integer>() {
+            @Override
+            public Integer etag() {
+                return 1;
+            }
+
+            @Override
+            public String getGroupId() {
+                return "recreated";
+            }
+        };
+        doAnswer(x -> CompletableFuture.completedFuture(recreated)).when(service).getGroupEtag(any(), anyString());
+        response = target(GROUPS + "/" + groupName).request().header(HttpHeaders.IF_NONE_MATCH, tag.toString()).async().get().get();
+        assertEquals(200, response.getStatus());
+        assertNotEquals(tag, response.getEntityTag());
         // GroupNotFound Exception
         doAnswer(x -> Futures.failedFuture(StoreExceptions.create(Type.DATA_NOT_FOUND, "Group Not Found"))).when(
                 service).getGroupProperties(any(), anyString());
@@ -198,6 +255,21 @@ public class SchemaRegistryResourceTest extends JerseyTest {
         assertEquals(500, response.getStatus());
     }
 
+    @Test
+    public void testGetGroupIncarnation() throws ExecutionException, InterruptedException {
+        String groupName = "mygroup";
+        doAnswer(x -> CompletableFuture.completedFuture("incarnation")).when(service).getGroupIncarnation(any(), anyString());
+        Response response = target(GROUPS).path(groupName).path("incarnation").request().async().get().get();
+        assertEquals(200, response.getStatus());
+        assertEquals("incarnation", response.readEntity(
+                io.pravega.schemaregistry.contract.generated.rest.model.GroupIncarnation.class).getIncarnationId());
+        // GroupNotFound Exception
+        doAnswer(x -> Futures.failedFuture(StoreExceptions.create(Type.DATA_NOT_FOUND, "Group Not Found"))).when(
+                service).getGroupIncarnation(any(), anyString());
+        response = target(GROUPS).path(groupName).path("incarnation").request().async().get().get();
+        assertEquals(404, response.getStatus());
+    }
+
     @Test
     public void testCanRead() throws ExecutionException, InterruptedException {
         doAnswer(x -> CompletableFuture.completedFuture(true)).when(service).canRead(any(), anyString(), any());
@@ -268,8 +340,8 @@ public class SchemaRegistryResourceTest extends JerseyTest {
                 Compatibility.allowAny(), 100, "describeSchema");
         List<GroupHistoryRecord> groupHistoryRecords = new ArrayList<>();
         groupHistoryRecords.add(groupHistoryRecord);
-        doAnswer(x -> CompletableFuture.completedFuture(groupHistoryRecords)).when(service).getGroupHistory(
-                any(), anyString(), any());
+        doAnswer(x -> CompletableFuture.completedFuture(toSchemaVersionsPage(groupHistoryRecords))).when(service).getSchemaVersions(
+                any(), anyString(), any(), any(), anyInt());
         String groupName = "mygroup";
         Response response = target(GROUPS + "/" + groupName + "/schemas" + "/versions").request().async().get().get();
         assertEquals(5,
@@ -277,12 +349,12 @@ public class SchemaRegistryResourceTest extends JerseyTest {
         assertEquals(200, response.getStatus());
         // GroupNotFound Exception
         doAnswer(x -> Futures.failedFuture(StoreExceptions.create(Type.DATA_NOT_FOUND, "Group Not Found"))).when(
-                service).getGroupHistory(any(), anyString(), any());
+                service).getSchemaVersions(any(), anyString(), any(), any(), anyInt());
         response = target(GROUPS + "/" + groupName + "/schemas/versions").request().async().get().get();
         assertEquals(404, response.getStatus());
         // Runtime Exception
-        doAnswer(x -> Futures.failedFuture(new RuntimeException())).when(service).getGroupHistory(any(), anyString(),
-                any());
+        doAnswer(x -> Futures.failedFuture(new RuntimeException())).when(service).getSchemaVersions(any(), anyString(),
+                any(), any(), anyInt());
         response = target(GROUPS + "/" + groupName + "/schemas" + "/versions").request().async().get().get();
         assertEquals(500, response.getStatus());
     }
@@ -301,6 +373,13 @@ public class SchemaRegistryResourceTest extends JerseyTest {
         Response response = target(GROUPS + "/" + groupName + "/schemas").request().async().post(
                 Entity.entity(ModelHelper.encode(schemaInfo), MediaType.APPLICATION_JSON)).get();
         assertEquals(201, response.getStatus());
+        assertEquals(5, response.readEntity(
+                io.pravega.schemaregistry.contract.generated.rest.model.VersionInfo.class).getVersion().intValue());
+        // binary encoded request
+        response = target(GROUPS + "/" + groupName + "/schemas").request(SmileProvider.APPLICATION_SMILE).async().post(
+                Entity.entity(ModelHelper.encode(schemaInfo), SmileProvider.APPLICATION_SMILE)).get();
+        assertEquals(201, response.getStatus());
+        assertEquals(SmileProvider.APPLICATION_SMILE, response.getMediaType().toString());
         assertEquals(5, response.readEntity(
                 io.pravega.schemaregistry.contract.generated.rest.model.VersionInfo.class).getVersion().intValue());
         // GroupNotFound Exception
@@ -315,6 +394,21 @@ public class SchemaRegistryResourceTest extends JerseyTest {
                 GROUPS + "/" + groupName + "/schemas").request().async().post(
                 Entity.entity(ModelHelper.encode(schemaInfo), MediaType.APPLICATION_JSON)).get();
         assertEquals(500, response.getStatus());
+        // Write conflicts that persist beyond the retries
+        doAnswer(x -> Futures.failedFuture(new RetriesExhaustedException(
+                StoreExceptions.create(Type.WRITE_CONFLICT, "Write Conflict")))).when(service).addSchema(any(), anyString(), any());
+        response = target(
+                GROUPS + "/" + groupName + "/schemas").request().async().post(
+                Entity.entity(ModelHelper.encode(schemaInfo), MediaType.APPLICATION_JSON)).get();
+        assertEquals(503, response.getStatus());
+        assertEquals("1", response.getHeaderString(HttpHeaders.RETRY_AFTER));
+        // Writes rejected as too many writes to the group are queued
+        doAnswer(x -> Futures.failedFuture(new ServiceUnavailableException("Too many writes"))).when(service).addSchema(any(), anyString(), any());
+        response = target(
+                GROUPS + "/" + groupName + "/schemas").request().async().post(
+                Entity.entity(ModelHelper.encode(schemaInfo), MediaType.APPLICATION_JSON)).get();
+        assertEquals(503, response.getStatus());
+        assertEquals("1", response.getHeaderString(HttpHeaders.RETRY_AFTER));
         // IncompatibleSchema Exception
         doAnswer(x ->
                 Futures.failedFuture(new IncompatibleSchemaException("Incompatible Schema"))
@@ -470,8 +564,8 @@ public class SchemaRegistryResourceTest extends JerseyTest {
                 Compatibility.allowAny(), 100, "describeSchema");
         List<GroupHistoryRecord> groupHistoryRecords = new ArrayList<>();
         groupHistoryRecords.add(groupHistoryRecord);
-        doAnswer(x -> CompletableFuture.completedFuture(groupHistoryRecords)).when(service).getGroupHistory(
-                any(), anyString(), eq(null));
+        doAnswer(x -> CompletableFuture.completedFuture(toSchemaVersionsPage(groupHistoryRecords))).when(service).getSchemaVersions(
+                any(), anyString(), eq(null), any(), anyInt());
         Response response = target(GROUPS + "/" + groupName + "/schemas/versions").request().async().get().get();
         assertEquals(200, response.getStatus());
         assertEquals(ModelHelper.encode(SerializationFormat.Avro),
@@ -479,12 +573,12 @@ public class SchemaRegistryResourceTest extends JerseyTest {
                         0).getSchemaInfo().getSerializationFormat());
         // GroupNotFound Exception
         doAnswer(x -> Futures.failedFuture(StoreExceptions.create(Type.DATA_NOT_FOUND, "Group Not Found"))).when(
-                service).getGroupHistory(any(), anyString(), eq(null));
+                service).getSchemaVersions(any(), anyString(), eq(null), any(), anyInt());
         response = target(GROUPS + "/" + groupName + "/schemas/versions").request().async().get().get();
         assertEquals(404, response.getStatus());
         //Runtime Exception
-        doAnswer(x -> Futures.failedFuture(new RuntimeException())).when(service).getGroupHistory(any(), anyString(),
-                eq(null));
+        doAnswer(x -> Futures.failedFuture(new RuntimeException())).when(service).getSchemaVersions(any(), anyString(),
+                eq(null), any(), anyInt());
         response = target(GROUPS + "/" + groupName + "/schemas/versions").request().async().get().get();
         assertEquals(500, response.getStatus());
     }
@@ -503,8 +597,8 @@ public class SchemaRegistryResourceTest extends JerseyTest {
                 Compatibility.allowAny(), 100, "describeSchema");
         List<GroupHistoryRecord> groupHistoryRecords = new ArrayList<>();
         groupHistoryRecords.add(groupHistoryRecord);
-        doAnswer(x -> CompletableFuture.completedFuture(groupHistoryRecords)).when(service).getGroupHistory(
-                any(), anyString(), any());
+        doAnswer(x -> CompletableFuture.completedFuture(toSchemaVersionsPage(groupHistoryRecords))).when(service).getSchemaVersions(
+                any(), anyString(), any(), any(), anyInt());
         Response response = target(GROUPS + "/" + groupName + "/schemas/versions").queryParam("schemaName",
                 schemaName).request().async().get().get();
         assertEquals(200, response.getStatus());
@@ -513,13 +607,13 @@ public class SchemaRegistryResourceTest extends JerseyTest {
                         0).getSchemaInfo().getSerializationFormat());
         // GroupNotFound Exception
         doAnswer(x -> Futures.failedFuture(StoreExceptions.create(Type.DATA_NOT_FOUND, "Group Not Found"))).when(
-                service).getGroupHistory(any(), anyString(), any());
+                service).getSchemaVersions(any(), anyString(), any(), any(), anyInt());
         response = target(GROUPS + "/" + groupName + "/schemas/versions").queryParam("schemaName",
                 schemaName).request().async().get().get();
         assertEquals(404, response.getStatus());
         //Runtime Exception
-        doAnswer(x -> Futures.failedFuture(new RuntimeException())).when(service).getGroupHistory(any(), anyString(),
-                any());
+        doAnswer(x -> Futures.failedFuture(new RuntimeException())).when(service).getSchemaVersions(any(), anyString(),
+                any(), any(), anyInt());
         response = target(GROUPS + "/" + groupName + "/schemas/versions").queryParam("schemaName",
                 schemaName).request().async().get().get();
         assertEquals(500, response.getStatus());
@@ -545,6 +639,13 @@ public class SchemaRegistryResourceTest extends JerseyTest {
                         SchemaVersionsList.class).getSchemas();
         assertEquals("schemaName", schemaWithVersionList1.get(0).getSchemaInfo().getType());
         assertEquals(1, schemaWithVersionList1.size());
+        assertTrue(MediaType.APPLICATION_JSON_TYPE.isCompatible(response.getMediaType()));
+        // binary encoding is served when preferred by the client.
+        response = target(GROUPS + "/" + groupName + "/schemas").request()
+                .header(HttpHeaders.ACCEPT, SmileProvider.APPLICATION_SMILE + ", " + MediaType.APPLICATION_JSON + ";q=0.5")
+                .async().get().get();
+        assertEquals(SmileProvider.APPLICATION_SMILE, response.getMediaType().toString());
+        assertEquals(schemaWithVersionList1, response.readEntity(SchemaVersionsList.class).getSchemas());
         // GroupNotFound Exception
         doAnswer(x -> Futures.failedFuture(StoreExceptions.create(Type.DATA_NOT_FOUND, "Group Not Found"))).when(
                 service).getSchemas(any(), anyString(), any());
@@ -573,6 +674,10 @@ public class SchemaRegistryResourceTest extends JerseyTest {
         assertEquals(200, response.getStatus());
         assertEquals("gzip", response.readEntity(
                 io.pravega.schemaregistry.contract.generated.rest.model.EncodingInfo.class).getCodecType().getName());
+        EntityTag tag = response.getEntityTag();
+        response = target(GROUPS + "/" + groupName + "/encodings/" + encodingId).request()
+                .header(HttpHeaders.IF_NONE_MATCH, tag.toString()).async().get().get();
+        assertEquals(304, response.getStatus());
         // GroupNotFound Exception
         doAnswer(x -> Futures.failedFuture(StoreExceptions.create(Type.DATA_NOT_FOUND, "Group Not Found"))).when(
                 service).getEncodingInfo(any(), anyString(), any());
@@ -585,6 +690,47 @@ public class SchemaRegistryResourceTest extends JerseyTest {
         assertEquals(500, response.getStatus());
     }
 
+    @Test
+    public void testGetEncodingInfos() throws ExecutionException, InterruptedException {
+        String groupName = "mygroup";
+        VersionInfo versionInfo = new VersionInfo("myschema", SerializationFormat.Avro.getFullTypeName(), 5, 5);
+        io.pravega.schemaregistry.contract.data.SchemaInfo schemaInfo =
+                new io.pravega.schemaregistry.contract.data.SchemaInfo(
+                        "schemaName", SerializationFormat.Avro, ByteBuffer.wrap(new byte[0]),
+                        ImmutableMap.of());
+        EncodingInfo encodingInfo = new EncodingInfo(versionInfo, schemaInfo, new CodecType("gzip"));
+        EncodingInfo encodingInfo2 = new EncodingInfo(versionInfo, schemaInfo, new CodecType("snappy"));
+        doAnswer(x -> CompletableFuture.completedFuture(Lists.newArrayList(encodingInfo, encodingInfo2)))
+                .when(service).getEncodingInfos(any(), anyString(), anyInt(), anyInt());
+        Response response = target(GROUPS + "/" + groupName + "/encodings").queryParam("fromId", 3)
+                                                                           .queryParam("limit", 10).request().async().get().get();
+        assertEquals(200, response.getStatus());
+        EncodingInfoList list = response.readEntity(EncodingInfoList.class);
+        assertEquals(2, list.getEncodingInfos().size());
+        assertEquals("gzip", list.getEncodingInfos().get(0).getCodecType().getName());
+        assertEquals("snappy", list.getEncodingInfos().get(1).getCodecType().getName());
+        verify(service).getEncodingInfos(any(), eq(groupName), eq(3), eq(10));
+
+        // without a from id and limit the first page is returned, and the limit is capped
+        response = target(GROUPS + "/" + groupName + "/encodings").request().async().get().get();
+        assertEquals(200, response.getStatus());
+        verify(service).getEncodingInfos(any(), eq(groupName), eq(0), eq(100));
+        response = target(GROUPS + "/" + groupName + "/encodings").queryParam("limit", 1000).request().async().get().get();
+        assertEquals(200, response.getStatus());
+        verify(service, times(2)).getEncodingInfos(any(), eq(groupName), eq(0), eq(100));
+
+        // GroupNotFound Exception
+        doAnswer(x -> Futures.failedFuture(StoreExceptions.create(Type.DATA_NOT_FOUND, "Group Not Found"))).when(
+                service).getEncodingInfos(any(), anyString(), anyInt(), anyInt());
+        response = target(GROUPS + "/" + groupName + "/encodings").request().async().get().get();
+        assertEquals(404, response.getStatus());
+        //Runtime Exception
+        doAnswer(x -> Futures.failedFuture(new RuntimeException())).when(service).getEncodingInfos(any(), anyString(),
+                anyInt(), anyInt());
+        response = target(GROUPS + "/" + groupName + "/encodings").request().async().get().get();
+        assertEquals(500, response.getStatus());
+    }
+
     @Test
     public void testGetCodecsList() throws ExecutionException, InterruptedException {
         String groupName = "mygroup";
@@ -734,6 +880,30 @@ public class SchemaRegistryResourceTest extends JerseyTest {
         io.pravega.schemaregistry.contract.generated.rest.model.SchemaInfo schemaInfo1 = response.readEntity(
                 io.pravega.schemaregistry.contract.generated.rest.model.SchemaInfo.class);
         assertTrue(Objects.equals(schemaInfo1, ModelHelper.encode(schemaInfo)));
+        EntityTag tag = response.getEntityTag();
+        assertFalse(tag.isWeak());
+        assertTrue(response.getHeaderString(HttpHeaders.CACHE_CONTROL).contains("immutable"));
+        // matching If-None-Match returns not modified without entity.
+        response = target(GROUPS + "/" + groupName + "/schemas/schema/" + ordinal).request()
+                .header(HttpHeaders.IF_NONE_MATCH, "\"other\", " + tag.toString()).async().get().get();
+        assertEquals(304, response.getStatus());
+        assertFalse(response.hasEntity());
+        response = target(GROUPS + "/" + groupName + "/schemas/schema/" + ordinal).request()
+                .header(HttpHeaders.IF_NONE_MATCH, "\"other\"").async().get().get();
+        assertEquals(200, response.getStatus());
+        assertEquals(tag, response.getEntityTag());
+        assertEquals(HttpHeaders.ACCEPT, response.getHeaderString(HttpHeaders.VARY));
+        // the smile representation has a different strong tag and does not match the json tag.
+        response = target(GROUPS + "/" + groupName + "/schemas/schema/" + ordinal).request(SmileProvider.APPLICATION_SMILE)
+                .header(HttpHeaders.IF_NONE_MATCH, tag.toString()).async().get().get();
+        assertEquals(200, response.getStatus());
+        assertEquals(SmileProvider.APPLICATION_SMILE, response.getMediaType().toString());
+        assertNotEquals(tag, response.getEntityTag());
+        assertEquals(HttpHeaders.ACCEPT, response.getHeaderString(HttpHeaders.VARY));
+        EntityTag smileTag = response.getEntityTag();
+        response = target(GROUPS + "/" + groupName + "/schemas/schema/" + ordinal).request(SmileProvider.APPLICATION_SMILE)
+                .header(HttpHeaders.IF_NONE_MATCH, smileTag.toString()).async().get().get();
+        assertEquals(304, response.getStatus());
         // GroupNotFound Exception
         doAnswer(x -> Futures.failedFuture(StoreExceptions.create(Type.DATA_NOT_FOUND, "Group Not Found"))).when(
                 service).getSchema(any(), anyString(), anyInt());
@@ -760,8 +930,8 @@ public class SchemaRegistryResourceTest extends JerseyTest {
         GroupHistoryRecord groupHistoryRecord = new GroupHistoryRecord(schemaInfo, versionInfo,
                 Compatibility.backward(), 100, "dummy");
         groupHistoryRecordList.add(groupHistoryRecord);
-        doAnswer(x -> CompletableFuture.completedFuture(groupHistoryRecordList)).when(service).getGroupHistory(any(),
-                anyString(), any());
+        doAnswer(x -> CompletableFuture.completedFuture(toSchemaVersionsPage(groupHistoryRecordList))).when(service).getSchemaVersions(any(),
+                anyString(), any(), any(), anyInt());
         Response response = target(GROUPS + "/" + groupName + "/schemas/versions").queryParam("type",
                 schemaName).request().async().get().get();
         assertEquals(200, response.getStatus());
@@ -773,15 +943,71 @@ public class SchemaRegistryResourceTest extends JerseyTest {
         assertTrue(schemaWithVersionList.get(0).getSchemaInfo().equals(ModelHelper.encode(schemaInfo)));
         // GroupNotFound Exception
         doAnswer(x -> Futures.failedFuture(StoreExceptions.create(Type.DATA_NOT_FOUND, "Group Not Found"))).when(
-                service).getGroupHistory(any(), anyString(), any());
+                service).getSchemaVersions(any(), anyString(), any(), any(), anyInt());
         response = target(GROUPS + "/" + groupName + "/schemas/versions").queryParam("type",
                 schemaName).request().async().get().get();
         assertEquals(404, response.getStatus());
         //Runtime Exception
-        doAnswer(x -> Futures.failedFuture(new RuntimeException())).when(service).getGroupHistory(any(), anyString(),
-                any());
+        doAnswer(x -> Futures.failedFuture(new RuntimeException())).when(service).getSchemaVersions(any(), anyString(),
+                any(), any(), anyInt());
         response = target(GROUPS + "/" + groupName + "/schemas/versions").queryParam("type",
                 schemaName).request().async().get().get();
         assertEquals(500, response.getStatus());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testGetGroupHistoryWithPagination() throws ExecutionException, InterruptedException {
+        String groupName = "mygroup";
+        io.pravega.schemaregistry.contract.data.SchemaInfo schemaInfo =
+                new io.pravega.schemaregistry.contract.data.SchemaInfo(
+                        "schemaName", SerializationFormat.Avro, ByteBuffer.wrap(new byte[0]),
+                        ImmutableMap.of());
+        GroupHistoryRecord record = new GroupHistoryRecord(schemaInfo, new VersionInfo("schemaName",
+                SerializationFormat.Avro.getFullTypeName(), 0, 0), Compatibility.allowAny(), 100, "describeSchema");
+        doAnswer(x -> CompletableFuture.completedFuture(new ResultPage<>(Collections.singletonList(record), 
+                ContinuationToken.fromString("1")))).when(service).getGroupHistory(any(), anyString(), any(), any(), anyInt());
+        
+        // without limit the entire history is returned without continuation token.
+        Response response = target(GROUPS + "/" + groupName + "/history").request().async().get().get();
+        assertEquals(200, response.getStatus());
+        GroupHistory history = response.readEntity(GroupHistory.class);
+        assertEquals(1, history.getHistory().size());
+        assertNull(history.getContinuationToken());
+        verify(service).getGroupHistory(any(), eq(groupName), eq(null), eq(ContinuationToken.EMPTY), eq(Integer.MAX_VALUE));
+        // without limit the rest of the history after the continuation token is returned.
+        response = target(GROUPS + "/" + groupName + "/history").queryParam("continuationToken", "5").request().async().get().get();
+        assertEquals(200, response.getStatus());
+        history = response.readEntity(GroupHistory.class);
+        assertNull(history.getContinuationToken());
+        verify(service).getGroupHistory(any(), eq(groupName), eq(null), argThat(x -> x.toString().equals("5")), eq(Integer.MAX_VALUE));
+
+        response = target(GROUPS + "/" + groupName + "/history").queryParam("limit", 1)
+                                                                 .queryParam("continuationToken", "0").request().async().get().get();
+        assertEquals(200, response.getStatus());
+        history = response.readEntity(GroupHistory.class);
+        assertEquals(1, history.getHistory().size());
+        assertEquals("1", history.getContinuationToken());
+        verify(service).getGroupHistory(any(), eq(groupName), eq(null), argThat(x -> x.toString().equals("0")), eq(1));
+
+        // schema versions
+        doAnswer(x -> CompletableFuture.completedFuture(toSchemaVersionsPage(Collections.singletonList(record))))
+                .when(service).getSchemaVersions(any(), anyString(), any(), any(), anyInt());
+        response = target(GROUPS + "/" + groupName + "/schemas/versions").queryParam("limit", 1).request().async().get().get();
+        assertEquals(200, response.getStatus());
+        SchemaVersionsList list = response.readEntity(SchemaVersionsList.class);
+        assertEquals(1, list.getSchemas().size());
+        assertEquals(ContinuationToken.EMPTY.toString(), list.getContinuationToken());
+        verify(service).getSchemaVersions(any(), eq(groupName), eq(null), eq(ContinuationToken.EMPTY), eq(1));
+        
+        // invalid limit
+        doAnswer(x -> Futures.failedFuture(new IllegalArgumentException("limit should be positive")))
+                .when(service).getGroupHistory(any(), anyString(), any(), any(), anyInt());
+        response = target(GROUPS + "/" + groupName + "/history").queryParam("limit", 0).request().async().get().get();
+        assertEquals(400, response.getStatus());
+    }
+
+    private ResultPage<SchemaWithVersion, ContinuationToken> toSchemaVersionsPage(List<GroupHistoryRecord> records) {
+        return new ResultPage<>(records.stream().map(x -> new SchemaWithVersion(x.getSchemaInfo(), x.getVersionInfo()))
+                                       .collect(Collectors.toList()), ContinuationToken.EMPTY);
+    }
+}
@@ -0,0 +1,177 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.service;
+
+import com.google.common.collect.ImmutableMap;
+import io.pravega.common.concurrent.Futures;
+import io.pravega.schemaregistry.contract.data.SchemaInfo;
+import io.pravega.schemaregistry.contract.data.SerializationFormat;
+import io.pravega.schemaregistry.contract.data.VersionInfo;
+import io.pravega.schemaregistry.exceptions.IncompatibleSchemaException;
+import io.pravega.schemaregistry.exceptions.ServiceUnavailableException;
+import io.pravega.test.common.AssertExtensions;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class GroupWriteSequencerTest {
+    private ScheduledExecutorService executor;
+    private GroupWriteSequencer sequencer;
+
+    @Before
+    public void setUp() {
+        executor = Executors.newScheduledThreadPool(5);
+        sequencer = new GroupWriteSequencer(executor, 10, 10);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test(timeout = 10000)
+    public void testWritesAreSequenced() throws Exception {
+        CompletableFuture<Integer> first = new CompletableFuture<>();
+        AtomicInteger started = new AtomicInteger();
+        CompletableFuture<Integer> result1 = sequencer.run("ns", "group", () -> {
+            started.incrementAndGet();
+            return first;
+        });
+        CompletableFuture<Integer> result2 = sequencer.run("ns", "group", () -> {
+            started.incrementAndGet();
+            return CompletableFuture.completedFuture(2);
+        });
+        // writes to other groups are not blocked.
+        assertEquals(3, (int) sequencer.run("ns", "other", () -> CompletableFuture.completedFuture(3)).join());
+
+        AssertExtensions.assertEventuallyEquals(1, started::get, 5000);
+        assertFalse(result2.isDone());
+        first.complete(1);
+        assertEquals(1, (int) result1.join());
+        assertEquals(2, (int) result2.join());
+        assertEquals(2, started.get());
+        AssertExtensions.assertEventuallyEquals(0, sequencer::getQueueCount, 5000);
+    }
+
+    @Test(timeout = 10000)
+    public void testFailedWriteDoesNotBlockQueue() {
+        CompletableFuture<Integer> result1 = sequencer.run("ns", "group", () -> {
+            throw new IllegalStateException();
+        });
+        CompletableFuture<Integer> result2 = sequencer.run("ns", "group", () -> Futures.failedFuture(new RuntimeException()));
+        CompletableFuture<Integer> result3 = sequencer.run("ns", "group", () -> CompletableFuture.completedFuture(3));
+        AssertExtensions.assertThrows("", result1::join, e -> e instanceof IllegalStateException);
+        AssertExtensions.assertThrows("", result2::join, e -> e instanceof RuntimeException);
+        assertEquals(3, (int) result3.join());
+    }
+
+    @Test(timeout = 10000)
+    public void testGroupCommit() throws Exception {
+        CompletableFuture<Void> blocker = new CompletableFuture<>();
+        sequencer.run("ns", "group", () -> blocker);
+
+        List<List<SchemaInfo>> batches = Collections.synchronizedList(new ArrayList<>());
+        Function<List<SchemaInfo>, CompletableFuture<List<VersionInfo>>> batchWriter = schemas -> {
+            batches.add(schemas);
+            return CompletableFuture.completedFuture(schemas.stream().map(x -> new VersionInfo(x.getType(), "custom", 0, 0))
+                                                            .collect(Collectors.toList()));
+        };
+        AtomicInteger singleWrites = new AtomicInteger();
+        Function<SchemaInfo, CompletableFuture<VersionInfo>> singleWriter = schema -> {
+            singleWrites.incrementAndGet();
+            return CompletableFuture.completedFuture(new VersionInfo(schema.getType(), "custom", 0, 0));
+        };
+
+        List<CompletableFuture<VersionInfo>> results = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            results.add(sequencer.addSchema("ns", "group", schema("type" + i), batchWriter, singleWriter));
+        }
+        blocker.complete(null);
+        for (int i = 0; i < 3; i++) {
+            assertEquals("type" + i, results.get(i).join().getType());
+        }
+        // all schemas queued behind the blocking write are committed together.
+        assertEquals(1, batches.size());
+        assertEquals(3, batches.get(0).size());
+        assertEquals(0, singleWrites.get());
+
+        // a single schema is added with the single writer.
+        assertEquals("type3", sequencer.addSchema("ns", "group", schema("type3"), batchWriter, singleWriter).join().getType());
+        assertEquals(1, batches.size());
+        assertEquals(1, singleWrites.get());
+    }
+
+    @Test(timeout = 10000)
+    public void testGroupCommitFailure() {
+        CompletableFuture<Void> blocker = new CompletableFuture<>();
+        sequencer.run("ns", "group", () -> blocker);
+
+        Function<List<SchemaInfo>, CompletableFuture<List<VersionInfo>>> batchWriter =
+                schemas -> Futures.failedFuture(new IncompatibleSchemaException("incompatible"));
+        Function<SchemaInfo, CompletableFuture<VersionInfo>> singleWriter = schema -> {
+            if (schema.getType().equals("bad")) {
+                return Futures.failedFuture(new IncompatibleSchemaException("incompatible"));
+            }
+            return CompletableFuture.completedFuture(new VersionInfo(schema.getType(), "custom", 0, 0));
+        };
+        CompletableFuture<VersionInfo> good1 = sequencer.addSchema("ns", "group", schema("good1"), batchWriter, singleWriter);
+        CompletableFuture<VersionInfo> bad = sequencer.addSchema("ns", "group", schema("bad"), batchWriter, singleWriter);
+        CompletableFuture<VersionInfo> good2 = sequencer.addSchema("ns", "group", schema("good2"), batchWriter, singleWriter);
+        blocker.complete(null);
+
+        // only the schema that cannot be added fails.
+        assertEquals("good1", good1.join().getType());
+        assertEquals("good2", good2.join().getType());
+        AssertExtensions.assertThrows("", bad::join, e -> e instanceof IncompatibleSchemaException);
+    }
+
+    @Test(timeout = 10000)
+    public void testQueueIsBounded() {
+        GroupWriteSequencer bounded = new GroupWriteSequencer(executor, 10, 2);
+        CompletableFuture<Integer> blocker = new CompletableFuture<>();
+        AtomicInteger started = new AtomicInteger();
+        CompletableFuture<Integer> result1 = bounded.run("ns", "group", () -> {
+            started.incrementAndGet();
+            return blocker;
+        });
+        AssertExtensions.assertEventuallyEquals(1, started::get, 5000);
+        CompletableFuture<Integer> result2 = bounded.run("ns", "group", () -> CompletableFuture.completedFuture(2));
+        CompletableFuture<Integer> result3 = bounded.run("ns", "group", () -> CompletableFuture.completedFuture(3));
+        // the queue of the group is full.
+        CompletableFuture<Integer> rejected = bounded.run("ns", "group", () -> CompletableFuture.completedFuture(4));
+        AssertExtensions.assertThrows("", rejected::join, e -> e instanceof ServiceUnavailableException);
+        // other groups are not affected.
+        assertEquals(5, (int) bounded.run("ns", "other", () -> CompletableFuture.completedFuture(5)).join());
+        
+        blocker.complete(1);
+        assertEquals(1, (int) result1.join());
+        assertEquals(2, (int) result2.join());
+        assertEquals(3, (int) result3.join());
+        assertEquals(6, (int) bounded.run("ns", "group", () -> CompletableFuture.completedFuture(6)).join());
+    }
+
+    private SchemaInfo schema(String type) {
+        return new SchemaInfo(type, SerializationFormat.Custom, ByteBuffer.wrap(new byte[0]), ImmutableMap.of());
+    }
+}
@@ -48,7 +48,10 @@ import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.AbstractMap;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
@@ -141,19 +144,19 @@ public class SchemaRegistryServiceTest {
         doAnswer(x -> {
             return CompletableFuture.completedFuture(new ResultPage<>(groups, null));
         }).when(store).listGroups(any(), any(), anyInt());
+        // grp2 does not exist and is not included in the properties. 
         doAnswer(x -> {
-            return CompletableFuture.completedFuture(new GroupProperties(SerializationFormat.Avro,
-                    Compatibility.backward(), false));
-        }).when(store).getGroupProperties(any(), eq("grp1"));
-
-        doAnswer(x -> {
-            return Futures.failedFuture(
-                    StoreExceptions.create(StoreExceptions.Type.DATA_NOT_FOUND, "group prop not found"));
-        }).when(store).getGroupProperties(any(), eq("grp2"));
+            return CompletableFuture.completedFuture(ImmutableMap.of("grp1", new GroupProperties(SerializationFormat.Avro,
+                    Compatibility.backward(), false)));
+        }).when(store).getGroupsProperties(any(), eq(groups));
 
         ResultPage<Map.Entry<String, GroupProperties>, ContinuationToken> result = service.listGroups(null, null,
                 100).join();
         assertEquals(result.getList().size(), 1);
+        assertEquals("grp1", result.getList().get(0).getKey());
+        // properties are fetched for the page of groups with a single call. 
+        verify(store, times(1)).getGroupsProperties(any(), any());
+        verify(store, never()).getGroupProperties(any(), anyString());
     }
 
     @Test
@@ -323,6 +326,9 @@ public class SchemaRegistryServiceTest {
         AssertExtensions.assertThrows("An exception should have been thrown",
                 () -> service.addSchema(null, "mygroup", schemaInfo).join(), e -> e instanceof RuntimeException);
         //GroupNotFound Exception
+        doAnswer(x -> Futures.failedFuture(
+                StoreExceptions.create(StoreExceptions.Type.DATA_NOT_FOUND, "Group Not Found"))).when(
+                store).getSchemaVersion(any(), anyString(), any(), any());
         doAnswer(x -> Futures.failedFuture(
                 StoreExceptions.create(StoreExceptions.Type.DATA_NOT_FOUND, "Group Not Found"))).when(
                 store).getGroupEtag(any(), anyString());
@@ -331,6 +337,50 @@ public class SchemaRegistryServiceTest {
                 e -> e instanceof StoreExceptions.DataNotFoundException);
     }
 
+    @Test
+    public void testAddSchemas() {
+        doAnswer(x -> CompletableFuture.completedFuture(new InMemoryGroupTable().toEtag(5)))
+                .when(store).getGroupEtag(any(), anyString());
+        SerializationFormat format = SerializationFormat.custom("custom1");
+        doAnswer(x -> CompletableFuture.completedFuture(
+                GroupProperties.builder().allowMultipleTypes(Boolean.FALSE).properties(
+                        ImmutableMap.<String, String>builder().build()).serializationFormat(
+                        format).compatibility(
+                        Compatibility.allowAny()).build())).when(store).getGroupProperties(any(), anyString());
+        SchemaInfo existing = new SchemaInfo("type", format, ByteBuffer.wrap(new byte[0]), ImmutableMap.of());
+        SchemaInfo schemaInfo = new SchemaInfo("type", format, ByteBuffer.wrap(new byte[1]), ImmutableMap.of());
+        VersionInfo existingVersion = new VersionInfo("type", format.getFullTypeName(), 0, 0);
+        VersionInfo newVersion = new VersionInfo("type", format.getFullTypeName(), 1, 1);
+        // only the schema that is not registered yet should be added to the store. 
+        doAnswer(x -> x.getArgument(2).equals(existing) ? CompletableFuture.completedFuture(existingVersion) :
+                Futures.failedFuture(StoreExceptions.create(StoreExceptions.Type.DATA_NOT_FOUND, "Schema Not Found")))
+                .when(store).getSchemaVersion(any(), anyString(), any(), any());
+        doAnswer(x -> CompletableFuture.completedFuture(Collections.singletonList(new SchemaWithVersion(existing, existingVersion))))
+                .when(store).listLatestSchemas(any(), anyString());
+        doAnswer(x -> {
+            List<SchemaInfo> toAdd = x.getArgument(2);
+            assertEquals(Collections.singletonList(schemaInfo), toAdd);
+            return CompletableFuture.completedFuture(Collections.singletonList(newVersion));
+        }).when(store).addSchemas(any(), anyString(), any(), any(), any(), any(), any());
+        List<VersionInfo> versions = service.addSchemas(null, "mygroup", Lists.newArrayList(existing, schemaInfo, existing)).join();
+        assertEquals(Lists.newArrayList(existingVersion, newVersion, existingVersion), versions);
+
+        // IncompatibleSchema Exception. With deny all, the second schema is incompatible with the first schema in the list.
+        doAnswer(x -> CompletableFuture.completedFuture(
+                GroupProperties.builder().allowMultipleTypes(Boolean.FALSE).properties(
+                        ImmutableMap.<String, String>builder().build()).serializationFormat(
+                        format).compatibility(
+                        Compatibility.denyAll()).build())).when(store).getGroupProperties(any(), anyString());
+        doAnswer(x -> Futures.failedFuture(StoreExceptions.create(StoreExceptions.Type.DATA_NOT_FOUND, "Schema Not Found")))
+                .when(store).getSchemaVersion(any(), anyString(), any(), any());
+        doAnswer(x -> CompletableFuture.completedFuture(Collections.emptyList()))
+                .when(store).listLatestSchemas(any(), anyString());
+        AssertExtensions.assertThrows("An exception should have been thrown",
+                () -> service.addSchemas(null, "mygroup", Lists.newArrayList(existing, schemaInfo)).join(),
+                e -> e instanceof IncompatibleSchemaException);
+        verify(store, times(1)).addSchemas(any(), anyString(), any(), any(), any(), any(), any());
+    }
+
     @Test
     public void testGetSchema() {
         byte[] schemaData = new byte[0];
@@ -419,6 +469,51 @@ public class SchemaRegistryServiceTest {
                 e -> e instanceof RuntimeException);
     }
 
+    @Test
+    public void testGetEncodingIds() {
+        Etag etag = new InMemoryGroupTable().toEtag(5);
+        VersionInfo versionInfo = new VersionInfo("objectType", "a", 5, 5);
+        List<Map.Entry<VersionInfo, String>> encodings = Arrays.asList(new AbstractMap.SimpleEntry<>(versionInfo, "gzip"),
+                new AbstractMap.SimpleEntry<>(versionInfo, ""));
+        List<EncodingId> encodingIds = Arrays.asList(new EncodingId(7), new EncodingId(8));
+        // Either - left
+        doAnswer(x -> CompletableFuture.completedFuture(Either.left(encodingIds))).when(
+                store).getEncodingIds(any(), anyString(), any());
+        assertEquals(encodingIds, service.getEncodingIds(null, "mygroup", encodings).join());
+        verify(store, never()).createEncodingIds(any(), anyString(), any(), any());
+        // createEncodingIds - Right
+        doAnswer(x -> CompletableFuture.completedFuture(Either.right(etag))).when(store).getEncodingIds(
+                any(), anyString(), any());
+        doAnswer(x -> CompletableFuture.completedFuture(encodingIds)).when(store).createEncodingIds(any(), anyString(),
+                any(), any());
+        assertEquals(encodingIds, service.getEncodingIds(null, "mygroup", encodings).join());
+        verify(store, times(1)).createEncodingIds(any(), anyString(), eq(encodings), eq(etag));
+        // CodecNotRegistered Exception
+        doAnswer(x -> Futures.failedFuture(new CodecTypeNotRegisteredException("Codec not registered"))).when(
+                store).createEncodingIds(any(), anyString(), any(), any());
+        AssertExtensions.assertThrows("An Exception should have been thrown",
+                () -> service.getEncodingIds(null, "mygroup", encodings).join(),
+                e -> e instanceof CodecTypeNotRegisteredException);
+    }
+
+    @Test
+    public void testAddSchemaAndGetEncodingId() {
+        SchemaInfo schemaInfo = new SchemaInfo("type", SerializationFormat.Custom, ByteBuffer.wrap(new byte[0]), 
+                ImmutableMap.of());
+        VersionInfo versionInfo = new VersionInfo("type", SerializationFormat.Custom.getFullTypeName(), 0, 3);
+        doAnswer(x -> CompletableFuture.completedFuture(versionInfo)).when(store).getSchemaVersion(any(), anyString(),
+                any(), any());
+        doAnswer(x -> CompletableFuture.completedFuture(Either.left(new EncodingId(7)))).when(
+                store).getEncodingId(any(), anyString(), eq(versionInfo), eq("gzip"));
+        assertEquals(7, service.addSchemaAndGetEncodingId(null, "mygroup", schemaInfo, "gzip").join().getId());
+        // schema not added
+        doAnswer(x -> Futures.failedFuture(new IncompatibleSchemaException("incompatible"))).when(store).getSchemaVersion(
+                any(), anyString(), any(), any());
+        AssertExtensions.assertThrows("An Exception should have been thrown",
+                () -> service.addSchemaAndGetEncodingId(null, "mygroup", schemaInfo, "gzip").join(),
+                e -> e instanceof IncompatibleSchemaException);
+    }
+
     @Test
     public void testGetGroupHistory() {
         // objectTypeName=null
@@ -0,0 +1,87 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.storage.client;
+
+import com.google.common.base.Charsets;
+import io.pravega.test.common.AssertExtensions;
+import org.junit.Test;
+
+import java.util.Base64;
+import java.util.LinkedList;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class DelegationTokenProviderTest {
+    private static final String TABLE = "scope/table";
+
+    @Test
+    public void testGetToken() {
+        AtomicInteger requests = new AtomicInteger();
+        Queue<CompletableFuture<String>> pending = new LinkedList<>();
+        AtomicLong clock = new AtomicLong(0L);
+        DelegationTokenProvider provider = new DelegationTokenProvider(x -> {
+            requests.incrementAndGet();
+            CompletableFuture<String> future = new CompletableFuture<>();
+            pending.add(future);
+            return future;
+        }, 10, clock::get);
+
+        // concurrent requests for a table should result in a single token request.
+        CompletableFuture<String> token1 = provider.getToken(TABLE);
+        CompletableFuture<String> token2 = provider.getToken(TABLE);
+        assertFalse(token1.isDone());
+        assertEquals(1, requests.get());
+        String first = jwt(100);
+        pending.remove().complete(first);
+        assertEquals(first, token1.join());
+        assertEquals(first, token2.join());
+        assertEquals(first, provider.getToken(TABLE).join());
+        assertEquals(1, requests.get());
+
+        // token about to expire should be refreshed in the background while the current token is still handed out.
+        clock.set(90 * 1000L);
+        assertEquals(first, provider.getToken(TABLE).join());
+        assertEquals(first, provider.getToken(TABLE).join());
+        assertEquals(2, requests.get());
+        String second = jwt(1000);
+        pending.remove().complete(second);
+        assertEquals(second, provider.getToken(TABLE).join());
+        assertEquals(2, requests.get());
+
+        // failed request should be retried on next call
+        provider.invalidate(TABLE);
+        CompletableFuture<String> failed = provider.getToken(TABLE);
+        pending.remove().completeExceptionally(new RuntimeException());
+        AssertExtensions.assertThrows("", failed::join, e -> e instanceof RuntimeException);
+        CompletableFuture<String> token3 = provider.getToken(TABLE);
+        assertEquals(4, requests.get());
+        pending.remove().complete(second);
+        assertEquals(second, token3.join());
+    }
+
+    @Test
+    public void testGetExpiry() {
+        assertEquals(Long.MAX_VALUE, DelegationTokenProvider.getExpiry(""));
+        assertEquals(Long.MAX_VALUE, DelegationTokenProvider.getExpiry("token"));
+        assertEquals(100 * 1000L, DelegationTokenProvider.getExpiry(jwt(100)));
+        assertEquals(Long.MAX_VALUE, DelegationTokenProvider.getExpiry("a.b!.c"));
+    }
+
+    private String jwt(long expirySeconds) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return encoder.encodeToString("{\"alg\":\"HS512\"}".getBytes(Charsets.UTF_8)) + "."
+                + encoder.encodeToString(("{\"sub\":\"user\",\"exp\":" + expirySeconds + "}").getBytes(Charsets.UTF_8)) + ".signature";
+    }
+}
@@ -0,0 +1,190 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.storage.client;
+
+import io.pravega.client.connection.impl.RawClient;
+import io.pravega.client.control.impl.ControllerImpl;
+import io.pravega.common.Exceptions;
+import io.pravega.common.concurrent.ExecutorServiceHelpers;
+import io.pravega.common.concurrent.Futures;
+import io.pravega.controller.stream.api.grpc.v1.Controller;
+import io.pravega.schemaregistry.storage.StoreExceptions;
+import io.pravega.shared.protocol.netty.ConnectionFailedException;
+import io.pravega.shared.protocol.netty.PravegaNodeUri;
+import io.pravega.shared.protocol.netty.WireCommands;
+import io.pravega.test.common.AssertExtensions;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class WireCommandClientTest {
+    private static final String TABLE = "_schemaregistry/table";
+    private static final Controller.NodeUri HOST1 = Controller.NodeUri.newBuilder().setEndpoint("localhost").setPort(12345).build();
+    private static final Controller.NodeUri HOST2 = Controller.NodeUri.newBuilder().setEndpoint("localhost").setPort(12346).build();
+
+    private ScheduledExecutorService executor;
+    private HostStore hostStore;
+    private List<RawClient> connections;
+    /**
+     * Endpoints whose connections fail every request with a connection failure.
+     */
+    private Set<Integer> failingPorts;
+    /**
+     * Endpoints that reply to every request that they do not own the table.
+     */
+    private Set<Integer> wrongHostPorts;
+    private WireCommandClient client;
+
+    @Before
+    public void setup() {
+        executor = Executors.newScheduledThreadPool(2);
+        hostStore = mock(HostStore.class);
+        doReturn(CompletableFuture.completedFuture(HOST1)).when(hostStore).getHostForTableSegment(anyString());
+        ControllerImpl controller = mock(ControllerImpl.class);
+        doReturn(CompletableFuture.completedFuture("")).when(controller).getOrRefreshDelegationTokenFor(anyString(), anyString(), any());
+        doReturn(controller).when(hostStore).getController();
+
+        connections = Collections.synchronizedList(new ArrayList<>());
+        failingPorts = ConcurrentHashMap.newKeySet();
+        wrongHostPorts = ConcurrentHashMap.newKeySet();
+        client = new WireCommandClient(hostStore, this::createConnection);
+    }
+
+    @After
+    public void tearDown() {
+        client.close();
+        ExecutorServiceHelpers.shutdown(executor);
+    }
+
+    private RawClient createConnection(PravegaNodeUri endpoint) {
+        RawClient connection = mock(RawClient.class, RETURNS_DEEP_STUBS);
+        doAnswer(x -> {
+            if (failingPorts.contains(endpoint.getPort())) {
+                return Futures.failedFuture(new ConnectionFailedException());
+            }
+            long requestId = x.getArgument(0);
+            if (wrongHostPorts.contains(endpoint.getPort())) {
+                return CompletableFuture.completedFuture(new WireCommands.WrongHost(requestId, TABLE, "", ""));
+            }
+            if (x.getArgument(1) instanceof WireCommands.DeleteTableSegment) {
+                return CompletableFuture.completedFuture(new WireCommands.SegmentDeleted(requestId, TABLE));
+            }
+            return CompletableFuture.completedFuture(new WireCommands.SegmentCreated(requestId, TABLE));
+        }).when(connection).sendRequest(anyLong(), any());
+        connections.add(connection);
+        return connection;
+    }
+
+    @Test
+    public void testConnectionIsReused() {
+        client.createTableSegment(TABLE, "").join();
+        client.createTableSegment(TABLE, "").join();
+        client.deleteTableSegment(TABLE, false, "").join();
+        assertEquals(1, connections.size());
+        verify(connections.get(0), times(3)).sendRequest(anyLong(), any());
+        verify(connections.get(0), never()).close();
+
+        client.close();
+        verify(connections.get(0), times(1)).close();
+    }
+
+    @Test
+    public void testReconnectOnFailure() {
+        failingPorts.add(HOST1.getPort());
+        AssertExtensions.assertFutureThrows("connection failure should be reported as connection error",
+                client.createTableSegment(TABLE, ""),
+                e -> Exceptions.unwrap(e) instanceof StoreExceptions.StoreConnectionException);
+        assertEquals(1, connections.size());
+        // the failed connection is closed and discarded.
+        verify(connections.get(0), times(1)).close();
+
+        // the next request establishes a new connection to the endpoint.
+        failingPorts.clear();
+        client.createTableSegment(TABLE, "").join();
+        assertEquals(2, connections.size());
+        client.createTableSegment(TABLE, "").join();
+        assertEquals(2, connections.size());
+        verify(connections.get(1), times(2)).sendRequest(anyLong(), any());
+        verify(connections.get(1), never()).close();
+    }
+
+    @Test
+    public void testReconnectToNewHostAfterHostInvalidation() {
+        // the table is served by the second host once the cached host for the table has been invalidated.
+        AtomicBoolean invalidated = new AtomicBoolean(false);
+        doAnswer(x -> CompletableFuture.completedFuture(invalidated.get() ? HOST2 : HOST1))
+                .when(hostStore).getHostForTableSegment(anyString());
+        doAnswer(x -> {
+            invalidated.set(true);
+            return null;
+        }).when(hostStore).invalidateCache(anyString());
+        failingPorts.add(HOST1.getPort());
+
+        TableStore tableStore = new TableStore(client, executor, 3);
+        tableStore.createTable(TABLE).join();
+
+        verify(hostStore, times(1)).invalidateCache(TABLE);
+        assertEquals(2, connections.size());
+        verify(connections.get(0), times(1)).close();
+        verify(connections.get(1), times(1)).sendRequest(anyLong(), any());
+        verify(connections.get(1), never()).close();
+    }
+
+    @Test
+    public void testReconnectToNewHostAfterWrongHost() {
+        // the table has moved from the first host to the second host.
+        AtomicBoolean invalidated = new AtomicBoolean(false);
+        doAnswer(x -> CompletableFuture.completedFuture(invalidated.get() ? HOST2 : HOST1))
+                .when(hostStore).getHostForTableSegment(anyString());
+        doAnswer(x -> {
+            invalidated.set(true);
+            return null;
+        }).when(hostStore).invalidateCache(anyString());
+        wrongHostPorts.add(HOST1.getPort());
+
+        AssertExtensions.assertFutureThrows("wrong host should be reported as connection error",
+                client.createTableSegment(TABLE, ""),
+                e -> Exceptions.unwrap(e) instanceof StoreExceptions.StoreConnectionException);
+        // the connection to the wrong host is closed and discarded.
+        assertEquals(1, connections.size());
+        verify(connections.get(0), times(1)).close();
+
+        TableStore tableStore = new TableStore(client, executor, 3);
+        tableStore.createTable(TABLE).join();
+
+        verify(hostStore, times(1)).invalidateCache(TABLE);
+        assertEquals(3, connections.size());
+        verify(connections.get(1), times(1)).close();
+        verify(connections.get(2), times(1)).sendRequest(anyLong(), any());
+        verify(connections.get(2), never()).close();
+    }
+}
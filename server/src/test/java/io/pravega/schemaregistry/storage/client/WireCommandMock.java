@@ -295,6 +295,10 @@ public class WireCommandMock {
         return helper;
     }
     
+    public static TableStore getTableStore(ScheduledExecutorService executor) {
+        return new TableStore(getMock(executor), executor);
+    }
+
     public static WireCommandClient getFailingMock(Supplier<? extends Exception> exceptionSupplier) {
         WireCommandClient helper = spy(new WireCommandClient(mock(ConnectionPool.class), mock(HostStore.class)));
 
@@ -12,6 +12,8 @@ package io.pravega.schemaregistry.storage.impl.group;
 
 import com.google.common.collect.ImmutableMap;
 import io.pravega.client.ClientConfig;
+import io.pravega.common.Exceptions;
+import io.pravega.schemaregistry.ResultPage;
 import io.pravega.schemaregistry.common.Either;
 import io.pravega.schemaregistry.common.HashUtil;
 import io.pravega.schemaregistry.contract.data.CodecType;
@@ -25,6 +27,7 @@ import io.pravega.schemaregistry.contract.data.SchemaWithVersion;
 import io.pravega.schemaregistry.contract.data.SerializationFormat;
 import io.pravega.schemaregistry.contract.data.VersionInfo;
 import io.pravega.schemaregistry.pravegastandalone.PravegaStandaloneUtils;
+import io.pravega.schemaregistry.storage.ContinuationToken;
 import io.pravega.schemaregistry.storage.Etag;
 import io.pravega.schemaregistry.storage.StoreExceptions;
 import io.pravega.schemaregistry.storage.client.TableStore;
@@ -43,9 +46,13 @@ import org.junit.Test;
 import java.math.BigInteger;
 import java.net.URI;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Function;
@@ -425,6 +432,39 @@ public class GroupPravegaTest {
         assertEquals(encodingId, encodingIdRecord.getEncodingId());
     }
 
+    @Test
+    public void testCreateEncodingIdsWithDuplicates() {
+        GroupProperties groupProperties = GroupProperties.builder().allowMultipleTypes(Boolean.FALSE).properties(
+                ImmutableMap.<String, String>builder().build()).serializationFormat(
+                SerializationFormat.custom("custom1")).compatibility(
+                Compatibility.forward()).build();
+        pravegaKeyValueGroups.addNewGroup(null, groupName, groupProperties).join();
+        Group<Version> group = pravegaKeyValueGroups.getGroup(null, groupName).join();
+        group.create(SerializationFormat.Custom, ImmutableMap.of(), Boolean.TRUE, Compatibility.backward()).join();
+        SchemaInfo schemaInfo = new SchemaInfo("anygroup", SerializationFormat.Custom, ByteBuffer.wrap(new byte[0]),
+                ImmutableMap.of());
+        BigInteger fingerprint = HashUtil.getFingerprint(schemaInfo.getSchemaData().array());
+        group.addSchema(schemaInfo, fingerprint, groupProperties, group.getCurrentEtag().join()).join();
+        VersionInfo versionInfo = group.getVersion(schemaInfo, fingerprint).join();
+        group.addCodecType(new CodecType("gzip")).join();
+
+        // repeated pairs are read from the store once and get the same encoding id.
+        List<Map.Entry<VersionInfo, String>> encodings = Arrays.asList(
+                new AbstractMap.SimpleEntry<>(versionInfo, "gzip"),
+                new AbstractMap.SimpleEntry<>(versionInfo, ""),
+                new AbstractMap.SimpleEntry<>(versionInfo, "gzip"));
+        Either<List<EncodingId>, Etag> idsOrEtag = group.getEncodingIds(encodings).join();
+        assertTrue(idsOrEtag.isRight());
+        List<EncodingId> encodingIds = group.createEncodingIds(encodings, idsOrEtag.getRight()).join();
+        assertEquals(Arrays.asList(new EncodingId(0), new EncodingId(1), new EncodingId(0)), encodingIds);
+
+        idsOrEtag = group.getEncodingIds(encodings).join();
+        assertTrue(idsOrEtag.isLeft());
+        assertEquals(encodingIds, idsOrEtag.getLeft());
+        // existing ids are returned for repeated pairs without allocating new ids.
+        assertEquals(encodingIds, group.createEncodingIds(encodings, group.getCurrentEtag().join()).join());
+    }
+
     @Test
     public void testGetEncodingInfo() {
         GroupProperties groupProperties = GroupProperties.builder().allowMultipleTypes(Boolean.FALSE).properties(
@@ -781,4 +821,120 @@ public class GroupPravegaTest {
                         versionInfo1.getType(), 
                         100, schemaInfo.getSerializationFormat().getFullTypeName()).join(), e -> e instanceof RuntimeException);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testListGroupsInNamespace() {
+        GroupProperties groupProperties = GroupProperties.builder().allowMultipleTypes(Boolean.FALSE).properties(
+                ImmutableMap.<String, String>builder().build()).serializationFormat(
+                SerializationFormat.custom("custom1")).compatibility(
+                Compatibility.forward()).build();
+        pravegaKeyValueGroups.addNewGroup(null, groupName, groupProperties).join();
+        pravegaKeyValueGroups.addNewGroup("ns1", anygroup, groupProperties).join();
+        pravegaKeyValueGroups.addNewGroup("ns1", anygroup1, groupProperties).join();
+        pravegaKeyValueGroups.addNewGroup("ns2", anygroup, groupProperties).join();
+
+        List<String> groups = pravegaKeyValueGroups.listGroups("ns1", ContinuationToken.EMPTY, 10).join().getList();
+        assertEquals(2, groups.size());
+        assertTrue(groups.contains(anygroup));
+        assertTrue(groups.contains(anygroup1));
+        groups = pravegaKeyValueGroups.listGroups(null, ContinuationToken.EMPTY, 10).join().getList();
+        assertEquals(1, groups.size());
+        assertEquals(groupName, groups.get(0));
+
+        // paginated listing of the namespace
+        ResultPage<String, ContinuationToken> page = pravegaKeyValueGroups.listGroups("ns1", ContinuationToken.EMPTY, 1).join();
+        assertEquals(1, page.getList().size());
+        page = pravegaKeyValueGroups.listGroups("ns1", page.getToken(), 10).join();
+        assertEquals(1, page.getList().size());
+
+        // deleted groups are removed from the namespace index
+        pravegaKeyValueGroups.deleteGroup("ns1", anygroup).join();
+        groups = pravegaKeyValueGroups.listGroups("ns1", ContinuationToken.EMPTY, 10).join().getList();
+        assertEquals(1, groups.size());
+        assertEquals(anygroup1, groups.get(0));
+        pravegaKeyValueGroups.deleteGroup("ns1", anygroup1).join();
+        pravegaKeyValueGroups.deleteGroup("ns2", anygroup).join();
+    }
+
+    @Test
+    public void testListGroupsBeforeNamespaceIsIndexed() {
+        GroupProperties groupProperties = GroupProperties.builder().allowMultipleTypes(Boolean.FALSE).properties(
+                ImmutableMap.<String, String>builder().build()).serializationFormat(
+                SerializationFormat.custom("custom1")).compatibility(
+                Compatibility.forward()).build();
+        String namespaceTable = String.format(TableStore.SCHEMA_REGISTRY_SCOPE + "/%s.#.namespace/0", 
+                UUID.nameUUIDFromBytes("ns3".getBytes(StandardCharsets.UTF_8)));
+        // a group that was added before the namespace index was introduced. 
+        pravegaKeyValueGroups.addNewGroup(null, groupName, groupProperties).join();
+        byte[] legacyKey = new NamespaceAndGroup("ns3", anygroup).toBytes();
+        tableStore.addNewEntryIfAbsent(GROUPS, legacyKey, new GroupsValue("legacy", GroupsValue.State.Active).toBytes()).join();
+
+        // listing scans the groups table and does not create the namespace table.
+        ResultPage<String, ContinuationToken> page = pravegaKeyValueGroups.listGroups("ns3", ContinuationToken.EMPTY, 10).join();
+        assertEquals(1, page.getList().size());
+        assertEquals(anygroup, page.getList().get(0));
+        AssertExtensions.assertFutureThrows("listing should not create the namespace table", 
+                tableStore.getEntries(namespaceTable, Collections.singletonList(legacyKey), false),
+                e -> Exceptions.unwrap(e) instanceof StoreExceptions.DataContainerNotFoundException);
+        
+        // adding a group to the namespace indexes the groups of the namespace. 
+        pravegaKeyValueGroups.addNewGroup("ns3", anygroup1, groupProperties).join();
+        List<String> groups = pravegaKeyValueGroups.listGroups("ns3", ContinuationToken.EMPTY, 10).join().getList();
+        assertEquals(2, groups.size());
+        assertTrue(groups.contains(anygroup));
+        assertTrue(groups.contains(anygroup1));
+        assertNotNull(tableStore.getEntries(namespaceTable, Collections.singletonList(legacyKey), false).join().get(0).getRecord());
+
+        pravegaKeyValueGroups.deleteGroup("ns3", anygroup1).join();
+        tableStore.removeEntry(GROUPS, legacyKey).join();
+    }
+
+    @Test
+    public void testDeleteAndRecreateGroup() {
+        GroupProperties groupProperties = GroupProperties.builder().allowMultipleTypes(Boolean.FALSE).properties(
+                ImmutableMap.<String, String>builder().build()).serializationFormat(
+                SerializationFormat.custom("custom1")).compatibility(
+                Compatibility.forward()).build();
+        pravegaKeyValueGroups.addNewGroup(null, groupName, groupProperties).join();
+        Group<Version> group = pravegaKeyValueGroups.getGroup(null, groupName).join();
+        assertSame(group, pravegaKeyValueGroups.getGroup(null, groupName).join());
+        // another service instance that shares the tables. 
+        PravegaKeyValueGroups other = new PravegaKeyValueGroups(tableStore, executor);
+        Group<Version> otherGroup = other.getGroup(null, groupName).join();
+
+        // delete and recreate through this instance. 
+        pravegaKeyValueGroups.deleteGroup(null, groupName).join();
+        AssertExtensions.assertThrows("deleted group should not be found",
+                () -> pravegaKeyValueGroups.getGroup(null, groupName).join(),
+                e -> e instanceof StoreExceptions.DataNotFoundException);
+        GroupProperties newGroupProperties = GroupProperties.builder().allowMultipleTypes(Boolean.FALSE).properties(
+                ImmutableMap.<String, String>builder().build()).serializationFormat(
+                SerializationFormat.custom("custom1")).compatibility(
+                Compatibility.backward()).build();
+        pravegaKeyValueGroups.addNewGroup(null, groupName, newGroupProperties).join();
+        Group<Version> recreated = pravegaKeyValueGroups.getGroup(null, groupName).join();
+        assertNotSame(group, recreated);
+        assertEquals(Compatibility.backward(), recreated.getGroupProperties().join().getCompatibility());
+
+        // the other instance still holds the handle to the deleted group. updates should resolve the recreated group.
+        assertSame(otherGroup, other.getGroup(null, groupName).join());
+        Group<Version> forUpdate = other.getGroupForUpdate(null, groupName).join();
+        assertNotSame(otherGroup, forUpdate);
+        assertSame(forUpdate, other.getGroup(null, groupName).join());
+        Etag etag = forUpdate.getCurrentEtag().join();
+        forUpdate.updateValidationPolicy(Compatibility.full(), etag).join();
+        assertEquals(Compatibility.full(), pravegaKeyValueGroups.getGroupForUpdate(null, groupName).join()
+                                                                .getGroupProperties().join().getCompatibility());
+        // the handle is reused as long as the group is not recreated. 
+        assertSame(forUpdate, other.getGroupForUpdate(null, groupName).join());
+
+        // delete through the other instance. 
+        other.deleteGroup(null, groupName).join();
+        AssertExtensions.assertThrows("deleted group should not be found",
+                () -> pravegaKeyValueGroups.getGroupForUpdate(null, groupName).join(),
+                e -> e instanceof StoreExceptions.DataNotFoundException);
+        AssertExtensions.assertThrows("deleted group should not be found",
+                () -> pravegaKeyValueGroups.getGroup(null, groupName).join(),
+                e -> e instanceof StoreExceptions.DataNotFoundException);
+    }
+}
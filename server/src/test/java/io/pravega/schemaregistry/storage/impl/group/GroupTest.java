@@ -10,6 +10,8 @@
 package io.pravega.schemaregistry.storage.impl.group;
 
 import com.google.common.collect.ImmutableMap;
+import io.pravega.common.Exceptions;
+import io.pravega.schemaregistry.ResultPage;
 import io.pravega.schemaregistry.common.Either;
 import io.pravega.schemaregistry.common.HashUtil;
 import io.pravega.schemaregistry.contract.data.CodecType;
@@ -22,6 +24,8 @@ import io.pravega.schemaregistry.contract.data.SchemaInfo;
 import io.pravega.schemaregistry.contract.data.SchemaWithVersion;
 import io.pravega.schemaregistry.contract.data.SerializationFormat;
 import io.pravega.schemaregistry.contract.data.VersionInfo;
+import io.pravega.schemaregistry.exceptions.CodecTypeNotRegisteredException;
+import io.pravega.schemaregistry.storage.ContinuationToken;
 import io.pravega.schemaregistry.storage.Etag;
 import io.pravega.schemaregistry.storage.StoreExceptions;
 import io.pravega.schemaregistry.storage.impl.group.records.TableRecords;
@@ -32,6 +36,7 @@ import org.junit.Test;
 
 import java.math.BigInteger;
 import java.nio.ByteBuffer;
+import java.util.AbstractMap;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -45,6 +50,12 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 public class GroupTest {
     private String groupId;
@@ -184,6 +195,52 @@ public class GroupTest {
         assertTrue(fn.apply(anygroup).getDeletedVersions().isEmpty());
     }
 
+    @Test
+    public void testAddSchemas() {
+        inMemoryGroup.create(SerializationFormat.Custom, ImmutableMap.of(), Boolean.TRUE,
+                Compatibility.backward()).join();
+        Etag eTag = inMemoryGroup.getCurrentEtag().join();
+        GroupProperties groupProperties = GroupProperties.builder().allowMultipleTypes(Boolean.TRUE).properties(
+                ImmutableMap.<String, String>builder().build()).serializationFormat(
+                SerializationFormat.Custom).compatibility(
+                Compatibility.backward()).build();
+        SchemaInfo schemaInfo = new SchemaInfo(anygroup, SerializationFormat.Custom, ByteBuffer.wrap(new byte[]{0}),
+                ImmutableMap.of());
+        SchemaInfo schemaInfo1 = new SchemaInfo(anygroup1, SerializationFormat.Custom, ByteBuffer.wrap(new byte[]{1}),
+                ImmutableMap.of());
+        SchemaInfo schemaInfo2 = new SchemaInfo(anygroup, SerializationFormat.Custom, ByteBuffer.wrap(new byte[]{2}),
+                ImmutableMap.of());
+        List<SchemaInfo> schemas = Arrays.asList(schemaInfo, schemaInfo1, schemaInfo2);
+        List<BigInteger> fingerprints = schemas.stream().map(x -> HashUtil.getFingerprint(x.getSchemaData().array()))
+                                               .collect(Collectors.toList());
+        List<VersionInfo> versions = inMemoryGroup.addSchemas(schemas, fingerprints, groupProperties, eTag).join();
+        assertEquals(new VersionInfo(anygroup, SerializationFormat.Custom.getFullTypeName(), 0, 0), versions.get(0));
+        assertEquals(new VersionInfo(anygroup1, SerializationFormat.Custom.getFullTypeName(), 0, 1), versions.get(1));
+        assertEquals(new VersionInfo(anygroup, SerializationFormat.Custom.getFullTypeName(), 1, 2), versions.get(2));
+        for (int i = 0; i < schemas.size(); i++) {
+            assertEquals(versions.get(i), inMemoryGroup.getVersion(schemas.get(i), fingerprints.get(i)).join());
+        }
+
+        List<SchemaWithVersion> latest = inMemoryGroup.getLatestSchemas().join();
+        assertEquals(2, latest.size());
+        assertEquals(versions.get(1), latest.get(0).getVersionInfo());
+        assertEquals(versions.get(2), latest.get(1).getVersionInfo());
+        
+        // all schemas are added with a single update, so the etag used for the batch is now stale. 
+        Etag staleEtag = eTag;
+        SchemaInfo schemaInfo3 = new SchemaInfo(anygroup, SerializationFormat.Custom, ByteBuffer.wrap(new byte[]{3}),
+                ImmutableMap.of());
+        AssertExtensions.assertThrows("stale etag should have been rejected",
+                () -> inMemoryGroup.addSchemas(Collections.singletonList(schemaInfo3), 
+                        Collections.singletonList(HashUtil.getFingerprint(schemaInfo3.getSchemaData().array())), 
+                        groupProperties, staleEtag).join(),
+                e -> e instanceof StoreExceptions.WriteConflictException);
+        eTag = inMemoryGroup.getCurrentEtag().join();
+        VersionInfo version = inMemoryGroup.addSchema(schemaInfo3, HashUtil.getFingerprint(schemaInfo3.getSchemaData().array()), 
+                groupProperties, eTag).join();
+        assertEquals(new VersionInfo(anygroup, SerializationFormat.Custom.getFullTypeName(), 2, 3), version);
+    }
+
     @Test
     public void testGetSchemas() {
         inMemoryGroup.create(SerializationFormat.Custom, ImmutableMap.of(), Boolean.TRUE,
@@ -231,6 +288,54 @@ public class GroupTest {
         assertEquals(2, objectTypesListValue.getTypes().size());
     }
 
+    @Test
+    public void testSchemaHistory() {
+        inMemoryGroup.create(SerializationFormat.Custom, ImmutableMap.of(), Boolean.TRUE,
+                Compatibility.backward()).join();
+        Etag eTag = inMemoryGroup.getCurrentEtag().join();
+        GroupProperties groupProperties = GroupProperties.builder().allowMultipleTypes(Boolean.TRUE).properties(
+                ImmutableMap.<String, String>builder().build()).serializationFormat(
+                SerializationFormat.Custom).compatibility(
+                Compatibility.backward()).build();
+        SchemaInfo schemaInfo = new SchemaInfo(anygroup, SerializationFormat.Custom, ByteBuffer.wrap(new byte[0]),
+                ImmutableMap.of());
+        SchemaInfo schemaInfo1 = new SchemaInfo(anygroup1, SerializationFormat.Custom, ByteBuffer.wrap(new byte[1]),
+                ImmutableMap.of());
+        SchemaInfo schemaInfo2 = new SchemaInfo(anygroup, SerializationFormat.Custom, ByteBuffer.wrap(new byte[2]),
+                ImmutableMap.of());
+        inMemoryGroup.addSchema(schemaInfo, HashUtil.getFingerprint(schemaInfo.getSchemaData().array()), groupProperties, eTag).join();
+        assertEquals(1, inMemoryGroup.getSchemas().join().size());
+
+        // a schema added through another group object should be included in the history. 
+        Group<Integer> other = new Group<>(inMemoryGroupTable, executor);
+        eTag = other.getCurrentEtag().join();
+        other.addSchema(schemaInfo1, HashUtil.getFingerprint(schemaInfo1.getSchemaData().array()), groupProperties, eTag).join();
+        eTag = inMemoryGroup.getCurrentEtag().join();
+        inMemoryGroup.addSchema(schemaInfo2, HashUtil.getFingerprint(schemaInfo2.getSchemaData().array()), groupProperties, eTag).join();
+        List<SchemaWithVersion> schemas = inMemoryGroup.getSchemas().join();
+        assertEquals(3, schemas.size());
+        assertEquals(Arrays.asList(0, 1, 2), schemas.stream().map(x -> x.getVersionInfo().getId()).collect(Collectors.toList()));
+        assertEquals(anygroup1, schemas.get(1).getSchemaInfo().getType());
+        assertEquals(1, inMemoryGroup.getSchemas(anygroup1).join().size());
+        assertEquals(3, inMemoryGroup.getHistory().join().size());
+        assertEquals(schemas, other.getSchemas().join());
+
+        // deleted schemas are excluded even after they have been read into the history.
+        eTag = inMemoryGroup.getCurrentEtag().join();
+        inMemoryGroup.deleteSchema(0, eTag).join();
+        schemas = inMemoryGroup.getSchemas().join();
+        assertEquals(Arrays.asList(1, 2), schemas.stream().map(x -> x.getVersionInfo().getId()).collect(Collectors.toList()));
+        assertEquals(2, other.getHistory().join().size());
+        
+        // an id without a schema record should not hide the schemas that were added after it. 
+        inMemoryGroupTable.getTable().remove(new TableRecords.SchemaIdKey(1));
+        Group<Integer> fresh = new Group<>(inMemoryGroupTable, executor);
+        schemas = fresh.getSchemas().join();
+        assertEquals(1, schemas.size());
+        assertEquals(2, schemas.get(0).getVersionInfo().getId());
+        assertEquals(schemaInfo2, schemas.get(0).getSchemaInfo());
+    }
+
     @Test
     public void testGetVersion() {
         inMemoryGroup.create(SerializationFormat.Custom, ImmutableMap.of(), Boolean.TRUE,
@@ -339,6 +444,35 @@ public class GroupTest {
         assertEquals(SerializationFormat.Custom, encodingInfo.getSchemaInfo().getSerializationFormat());
     }
 
+    @Test
+    public void testGetEncodingInfos() {
+        inMemoryGroup.create(SerializationFormat.Custom, ImmutableMap.of(), Boolean.TRUE,
+                Compatibility.backward()).join();
+        Etag eTag = inMemoryGroup.getCurrentEtag().join();
+        GroupProperties groupProperties = GroupProperties.builder().allowMultipleTypes(Boolean.TRUE).properties(
+                ImmutableMap.<String, String>builder().build()).serializationFormat(
+                SerializationFormat.Custom).compatibility(Compatibility.backward()).build();
+        SchemaInfo schemaInfo = new SchemaInfo(anygroup, SerializationFormat.Custom, ByteBuffer.wrap(new byte[0]),
+                ImmutableMap.of());
+        BigInteger fingerprint = HashUtil.getFingerprint(schemaInfo.getSchemaData().array());
+        inMemoryGroup.addSchema(schemaInfo, fingerprint, groupProperties, eTag).join();
+        VersionInfo versionInfo = inMemoryGroup.getVersion(schemaInfo, fingerprint).join();
+        inMemoryGroup.addCodecType(new CodecType("gzip")).join();
+        inMemoryGroup.addCodecType(new CodecType("snappy")).join();
+        eTag = inMemoryGroup.getCurrentEtag().join();
+        inMemoryGroup.createEncodingId(versionInfo, "gzip", eTag).join();
+        eTag = inMemoryGroup.getCurrentEtag().join();
+        inMemoryGroup.createEncodingId(versionInfo, "snappy", eTag).join();
+
+        // encoding infos are returned in the order of their ids and stop at the first id that was not generated
+        List<EncodingInfo> encodingInfos = inMemoryGroup.getEncodingInfos(0, 10).join();
+        assertEquals(2, encodingInfos.size());
+        assertEquals(inMemoryGroup.getEncodingInfo(new EncodingId(0)).join(), encodingInfos.get(0));
+        assertEquals(new CodecType("snappy"), encodingInfos.get(1).getCodecType());
+        assertEquals(1, inMemoryGroup.getEncodingInfos(1, 1).join().size());
+        assertTrue(inMemoryGroup.getEncodingInfos(2, 10).join().isEmpty());
+    }
+
     @Test
     public void testGetLatestSchemaVersion() {
         // null case
@@ -442,6 +576,71 @@ public class GroupTest {
                 groupHistoryRecords.get(0).getSchemaInfo().getSchemaData().array()));
         assertTrue(Arrays.equals(ByteBuffer.wrap(schemaData1).array(),
                 groupHistoryRecords.get(1).getSchemaInfo().getSchemaData().array()));
+
+        // pagination
+        ResultPage<GroupHistoryRecord, ContinuationToken> page = inMemoryGroup.getHistory(null, ContinuationToken.EMPTY, 2).join();
+        assertEquals(2, page.getList().size());
+        assertEquals(anygroup, page.getList().get(0).getSchemaInfo().getType());
+        page = inMemoryGroup.getHistory(null, page.getToken(), 2).join();
+        assertEquals(1, page.getList().size());
+        assertEquals(2, page.getList().get(0).getVersionInfo().getId());
+        page = inMemoryGroup.getHistory(null, page.getToken(), 2).join();
+        assertTrue(page.getList().isEmpty());
+        // pagination for type
+        page = inMemoryGroup.getHistory(anygroup1, ContinuationToken.EMPTY, 1).join();
+        assertEquals(1, page.getList().get(0).getVersionInfo().getId());
+        page = inMemoryGroup.getHistory(anygroup1, page.getToken(), 1).join();
+        assertEquals(2, page.getList().get(0).getVersionInfo().getId());
+        ResultPage<SchemaWithVersion, ContinuationToken> schemas = inMemoryGroup.getSchemas(anygroup1, page.getToken(), 1).join();
+        assertTrue(schemas.getList().isEmpty());
+        schemas = inMemoryGroup.getSchemas(null, ContinuationToken.fromString("1"), 5).join();
+        assertEquals(2, schemas.getList().size());
+        // a token without a limit returns the rest of the schemas after the token
+        schemas = inMemoryGroup.getSchemas(null, ContinuationToken.fromString("1"), Integer.MAX_VALUE).join();
+        assertEquals(2, schemas.getList().size());
+        assertEquals(1, schemas.getList().get(0).getVersionInfo().getId());
+        page = inMemoryGroup.getHistory(null, ContinuationToken.fromString("2"), Integer.MAX_VALUE).join();
+        assertEquals(1, page.getList().size());
+        assertEquals("3", page.getToken().toString());
+        AssertExtensions.assertThrows(IllegalArgumentException.class, 
+                () -> inMemoryGroup.getHistory(null, ContinuationToken.fromString("invalid"), 1));
+    }
+
+    @Test
+    public void testGetSchemasPageReadsOnlyPage() {
+        InMemoryGroupTable table = spy(new InMemoryGroupTable());
+        Group<Integer> group = new Group<>(table, executor);
+        group.create(SerializationFormat.Custom, ImmutableMap.of(), Boolean.TRUE, Compatibility.allowAny()).join();
+        GroupProperties groupProperties = GroupProperties.builder().allowMultipleTypes(Boolean.TRUE).properties(
+                ImmutableMap.<String, String>builder().build()).serializationFormat(
+                SerializationFormat.Custom).compatibility(Compatibility.allowAny()).build();
+        for (int i = 0; i < 10; i++) {
+            SchemaInfo schemaInfo = new SchemaInfo(i % 2 == 0 ? anygroup : anygroup1, SerializationFormat.Custom,
+                    ByteBuffer.wrap(new byte[i]), ImmutableMap.of());
+            group.addSchema(schemaInfo, HashUtil.getFingerprint(schemaInfo.getSchemaData().array()), groupProperties,
+                    group.getCurrentEtag().join()).join();
+        }
+
+        // only the schema records in the page are read.
+        clearInvocations(table);
+        Group<Integer> fresh = new Group<>(table, executor);
+        ResultPage<SchemaWithVersion, ContinuationToken> page = fresh.getSchemas(null, ContinuationToken.fromString("6"), 2).join();
+        assertEquals(Arrays.asList(6, 7), page.getList().stream().map(x -> x.getVersionInfo().getId()).collect(Collectors.toList()));
+        assertEquals("8", page.getToken().toString());
+        verify(table, times(1)).getEntries(anyList(), eq(TableRecords.SchemaRecord.class));
+        verify(table, times(1)).getEntries(eq(Arrays.asList(new TableRecords.SchemaIdKey(6), new TableRecords.SchemaIdKey(7))),
+                eq(TableRecords.SchemaRecord.class));
+
+        // schemas of other types and deleted schemas are skipped until the page is full.
+        group.deleteSchema(3, group.getCurrentEtag().join()).join();
+        fresh = new Group<>(table, executor);
+        page = fresh.getSchemas(anygroup1, ContinuationToken.EMPTY, 2).join();
+        assertEquals(Arrays.asList(1, 5), page.getList().stream().map(x -> x.getVersionInfo().getId()).collect(Collectors.toList()));
+        assertEquals("6", page.getToken().toString());
+        page = fresh.getSchemas(anygroup1, page.getToken(), 5).join();
+        assertEquals(Arrays.asList(7, 9), page.getList().stream().map(x -> x.getVersionInfo().getId()).collect(Collectors.toList()));
+        page = fresh.getSchemas(anygroup1, page.getToken(), 5).join();
+        assertTrue(page.getList().isEmpty());
     }
 
     @Test
@@ -461,6 +660,34 @@ public class GroupTest {
         assertNull(inMemoryGroup.updateValidationPolicy(Compatibility.forward(), eTag).join());
     }
 
+    @Test
+    public void testMetadataCache() {
+        inMemoryGroup.create(SerializationFormat.Custom, ImmutableMap.of(), Boolean.TRUE,
+                Compatibility.backward()).join();
+        Etag eTag = inMemoryGroup.getCurrentEtag().join();
+        assertEquals(Compatibility.backward(), inMemoryGroup.getGroupProperties().join().getCompatibility());
+        // update through the same group object. cached metadata is updated from the written batch.
+        inMemoryGroup.updateValidationPolicy(Compatibility.forward(), eTag).join();
+        assertEquals(Compatibility.forward(), inMemoryGroup.getGroupProperties().join().getCompatibility());
+        Etag staleEtag = eTag;
+
+        // update the same table through another group object.
+        Group<Integer> other = new Group<>(inMemoryGroupTable, executor);
+        eTag = other.getCurrentEtag().join();
+        other.updateValidationPolicy(Compatibility.full(), eTag).join();
+
+        // a write with stale etag should fail.
+        AssertExtensions.assertThrows("stale etag should have been rejected",
+                () -> inMemoryGroup.updateValidationPolicy(Compatibility.backward(), staleEtag).join(),
+                e -> e instanceof StoreExceptions.WriteConflictException);
+
+        // revalidating against the current etag should reload the metadata.
+        eTag = inMemoryGroup.getCurrentEtag().join();
+        assertEquals(Compatibility.full(), inMemoryGroup.getGroupProperties().join().getCompatibility());
+        inMemoryGroup.updateValidationPolicy(Compatibility.backward(), eTag).join();
+        assertEquals(Compatibility.backward(), inMemoryGroup.getGroupProperties().join().getCompatibility());
+    }
+
     @Test
     public void testGetGroupProperties() {
         inMemoryGroup.create(SerializationFormat.Custom, ImmutableMap.of(), Boolean.TRUE,
@@ -510,6 +737,56 @@ public class GroupTest {
         assertEquals(encodingId1, idEtagEither.getLeft());
     }
 
+    @Test
+    public void testGetEncodingIds() {
+        inMemoryGroup.create(SerializationFormat.Custom, ImmutableMap.of(), Boolean.TRUE,
+                Compatibility.allowAny()).join();
+        GroupProperties groupProperties = inMemoryGroup.getGroupProperties().join();
+        Etag eTag = inMemoryGroup.getCurrentEtag().join();
+        SchemaInfo schemaInfo = new SchemaInfo(anygroup, SerializationFormat.Custom, ByteBuffer.wrap(new byte[0]),
+                ImmutableMap.of());
+        SchemaInfo schemaInfo1 = new SchemaInfo(anygroup1, SerializationFormat.Custom, ByteBuffer.wrap(new byte[5]),
+                ImmutableMap.of());
+        List<VersionInfo> versions = inMemoryGroup.addSchemas(Arrays.asList(schemaInfo, schemaInfo1),
+                Arrays.asList(HashUtil.getFingerprint(schemaInfo.getSchemaData().array()), 
+                        HashUtil.getFingerprint(schemaInfo1.getSchemaData().array())), groupProperties, eTag).join();
+        inMemoryGroup.addCodecType(new CodecType("gzip")).join();
+        
+        eTag = inMemoryGroup.getCurrentEtag().join();
+        EncodingId existing = inMemoryGroup.createEncodingId(versions.get(0), "", eTag).join();
+        assertEquals(0, existing.getId());
+
+        List<Map.Entry<VersionInfo, String>> encodings = Arrays.asList(
+                new AbstractMap.SimpleEntry<>(versions.get(1), "gzip"),
+                new AbstractMap.SimpleEntry<>(versions.get(0), ""),
+                new AbstractMap.SimpleEntry<>(versions.get(0), "gzip"),
+                new AbstractMap.SimpleEntry<>(versions.get(1), "gzip"));
+        Either<List<EncodingId>, Etag> idsEtagEither = inMemoryGroup.getEncodingIds(encodings).join();
+        assertTrue(idsEtagEither.isRight());
+
+        // missing encoding ids are allocated as a contiguous range. duplicate pairs get the same encoding id. 
+        List<EncodingId> encodingIds = inMemoryGroup.createEncodingIds(encodings, idsEtagEither.getRight()).join();
+        assertEquals(Arrays.asList(new EncodingId(1), existing, new EncodingId(2), new EncodingId(1)), encodingIds);
+        idsEtagEither = inMemoryGroup.getEncodingIds(encodings).join();
+        assertTrue(idsEtagEither.isLeft());
+        assertEquals(encodingIds, idsEtagEither.getLeft());
+        assertEquals(versions.get(0), inMemoryGroup.getEncodingInfo(new EncodingId(2)).join().getVersionInfo());
+
+        // the next encoding id follows the range
+        eTag = inMemoryGroup.getCurrentEtag().join();
+        assertEquals(3, inMemoryGroup.createEncodingId(versions.get(1), "", eTag).join().getId());
+
+        // codec not registered
+        AssertExtensions.assertFutureThrows("", inMemoryGroup.createEncodingIds(Collections.singletonList(
+                new AbstractMap.SimpleEntry<>(versions.get(0), "snappy")), eTag),
+                e -> Exceptions.unwrap(e) instanceof CodecTypeNotRegisteredException);
+        // stale etag
+        inMemoryGroup.addCodecType(new CodecType("snappy")).join();
+        AssertExtensions.assertFutureThrows("", inMemoryGroup.createEncodingIds(Collections.singletonList(
+                new AbstractMap.SimpleEntry<>(versions.get(0), "snappy")), eTag),
+                e -> Exceptions.unwrap(e) instanceof StoreExceptions.WriteConflictException);
+    }
+
     @Test
     public void testDeleteSchema() {
         inMemoryGroup.create(SerializationFormat.Custom, ImmutableMap.of(), Boolean.TRUE,
@@ -0,0 +1,102 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.storage.impl.group;
+
+import io.pravega.common.concurrent.ExecutorServiceHelpers;
+import io.pravega.schemaregistry.storage.client.TableStore;
+import io.pravega.schemaregistry.storage.client.WireCommandMock;
+import io.pravega.schemaregistry.storage.impl.group.records.TableRecords;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.BiFunction;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class PravegaKVGroupTableTest {
+    private ScheduledExecutorService executor;
+    private TableStore tableStore;
+    private PravegaKVGroupTable groupTable;
+    /**
+     * Reads from the store are performed right away but their results are only delivered once the gate is opened.
+     */
+    private CompletableFuture<Void> gate;
+
+    @Before
+    public void setUp() {
+        executor = Executors.newScheduledThreadPool(5);
+        gate = new CompletableFuture<>();
+        tableStore = spy(WireCommandMock.getTableStore(executor));
+        doAnswer(x -> {
+            Object records = ((CompletableFuture<?>) x.callRealMethod()).join();
+            return gate.thenApply(v -> records);
+        }).when(tableStore).getEntries(anyString(), anyList(), anyBoolean(), any(BiFunction.class));
+        groupTable = new PravegaKVGroupTable("group", tableStore);
+        groupTable.create().join();
+    }
+
+    @After
+    public void tearDown() {
+        ExecutorServiceHelpers.shutdown(executor);
+    }
+
+    @Test
+    public void testConcurrentReadsOfImmutableRecordAreCoalesced() {
+        TableRecords.VersionDeletedRecord key = new TableRecords.VersionDeletedRecord(0);
+        groupTable.addEntry(key, key).join();
+
+        CompletableFuture<TableRecords.VersionDeletedRecord> first = groupTable.getEntry(key, TableRecords.VersionDeletedRecord.class);
+        CompletableFuture<TableRecords.VersionDeletedRecord> second = groupTable.getEntry(key, TableRecords.VersionDeletedRecord.class);
+        assertFalse(first.isDone());
+        assertFalse(second.isDone());
+        // the second reader joins the read in flight.
+        verify(tableStore, times(1)).getEntries(anyString(), anyList(), anyBoolean(), any(BiFunction.class));
+
+        gate.complete(null);
+        assertEquals(key, first.join());
+        assertEquals(key, second.join());
+
+        // the record is cached once read.
+        assertEquals(key, groupTable.getEntry(key, TableRecords.VersionDeletedRecord.class).join());
+        verify(tableStore, times(1)).getEntries(anyString(), anyList(), anyBoolean(), any(BiFunction.class));
+    }
+
+    @Test
+    public void testMissIsNotShared() {
+        TableRecords.VersionDeletedRecord key = new TableRecords.VersionDeletedRecord(0);
+        // the read is issued before the record is written.
+        CompletableFuture<TableRecords.VersionDeletedRecord> first = groupTable.getEntry(key, TableRecords.VersionDeletedRecord.class);
+        groupTable.addEntry(key, key).join();
+
+        // a reader that starts after the write completed should observe the write even though a read that was issued
+        // before the write is still in flight.
+        CompletableFuture<TableRecords.VersionDeletedRecord> second = groupTable.getEntry(key, TableRecords.VersionDeletedRecord.class);
+        verify(tableStore, times(1)).getEntries(anyString(), anyList(), anyBoolean(), any(BiFunction.class));
+
+        gate.complete(null);
+        assertNull(first.join());
+        assertEquals(key, second.join());
+        verify(tableStore, times(2)).getEntries(anyString(), anyList(), anyBoolean(), any(BiFunction.class));
+    }
+}